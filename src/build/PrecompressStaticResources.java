@@ -0,0 +1,79 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+/**
+ * Writes brotli (.br) and gzip (.gz) copies next to each text static resource, so the resource
+ * chain's EncodedResourceResolver can serve them without compressing on every request.
+ * Run by the build once resources are copied:
+ * java -classpath <brotli4j> src/build/PrecompressStaticResources.java target/classes/static
+ */
+public class PrecompressStaticResources {
+
+    private static final Set<String> EXTENSIONS = Set.of("css", "js", "svg", "html", "json", "txt");
+
+    public static void main(String[] args) throws IOException {
+        Path root = Path.of(args[0]);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        Brotli4jLoader.ensureAvailability();
+        Encoder.Parameters brotliParameters = new Encoder.Parameters().setQuality(11);
+
+        List<Path> resources;
+        try (Stream<Path> files = Files.walk(root)) {
+            resources = files.filter(Files::isRegularFile).filter(PrecompressStaticResources::isCompressible).toList();
+        }
+
+        for (Path resource : resources) {
+            byte[] original = Files.readAllBytes(resource);
+            write(resource, ".br", Encoder.compress(original, brotliParameters), original.length);
+            write(resource, ".gz", gzip(original), original.length);
+        }
+
+        System.out.println("Precompressed " + resources.size() + " static resources in " + root);
+    }
+
+    private static boolean isCompressible(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 && EXTENSIONS.contains(name.substring(dot + 1));
+    }
+
+    // A copy that is not smaller would only cost the client a decode, so it is left out
+    private static void write(Path resource, String suffix, byte[] compressed, int originalLength) throws IOException {
+        Path target = resource.resolveSibling(resource.getFileName() + suffix);
+        if (compressed.length < originalLength) {
+            Files.write(target, compressed);
+        } else {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    private static byte[] gzip(byte[] original) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (OutputStream gzip = new BestCompressionGZIPOutputStream(output)) {
+            gzip.write(original);
+        }
+        return output.toByteArray();
+    }
+
+    private static class BestCompressionGZIPOutputStream extends GZIPOutputStream {
+
+        BestCompressionGZIPOutputStream(OutputStream output) throws IOException {
+            super(output);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
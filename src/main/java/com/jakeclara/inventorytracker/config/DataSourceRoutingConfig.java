@@ -0,0 +1,88 @@
+package com.jakeclara.inventorytracker.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.jakeclara.inventorytracker.datasource.ReadYourWritesFilter;
+import com.jakeclara.inventorytracker.datasource.ReadYourWritesTracker;
+import com.jakeclara.inventorytracker.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Routes read-only transactions to a replica when {@code inventory.datasource.replica.url} is set.
+ * That includes Spring Data's read-only repository methods when they run outside a service transaction.
+ * The primary keeps the standard {@code spring.datasource.*} settings; the replica pool is
+ * configured under {@code inventory.datasource.replica.hikari.*}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("inventory.datasource.replica.hikari")
+    HikariDataSource replicaDataSource(
+        @Value("${inventory.datasource.replica.url}") String url,
+        @Value("${inventory.datasource.replica.username:${spring.datasource.username:}}") String username,
+        @Value("${inventory.datasource.replica.password:${spring.datasource.password:}}") String password
+    ) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(
+        HikariDataSource primaryDataSource,
+        HikariDataSource replicaDataSource,
+        ReadYourWritesTracker readYourWritesTracker
+    ) {
+        return new LazyConnectionDataSourceProxy(
+            new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, readYourWritesTracker)
+        );
+    }
+
+    @Bean
+    FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+        ReadYourWritesTracker readYourWritesTracker,
+        @Value("${inventory.datasource.replica.read-your-writes-window:5s}") Duration window
+    ) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+            new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWritesTracker, window));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -11,18 +11,30 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
 
+import com.jakeclara.inventorytracker.service.InventoryItemService;
+import com.jakeclara.inventorytracker.service.MovementRollupService;
+
 @Configuration
 @Profile("development")
 public class DevelopmentDataConfig {
 
     private static final Logger logger = LoggerFactory.getLogger(DevelopmentDataConfig.class);
     @Bean
-	CommandLineRunner runSql(DataSource dataSource) {
+	CommandLineRunner runSql(
+        DataSource dataSource,
+        InventoryItemService inventoryItemService,
+        MovementRollupService movementRollupService
+    ) {
         return args -> {
             try {
                 ClassPathResource resource = new ClassPathResource("seed.sql");
                 ScriptUtils.executeSqlScript(dataSource.getConnection(), resource);
                 logger.info("✅ Database seeded successfully from seed.sql");
+
+                int rebuiltItems = inventoryItemService.rebuildQuantitiesOnHand();
+                logger.info("✅ Rebuilt quantity on hand for {} items", rebuiltItems);
+
+                movementRollupService.rebuild();
             } catch (Exception e) {
                 logger.error("Error executing seed.sql", e);
             }
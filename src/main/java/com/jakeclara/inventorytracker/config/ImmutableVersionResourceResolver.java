@@ -0,0 +1,137 @@
+package com.jakeclara.inventorytracker.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Caches the assets requested by their content-hashed URL for good, leaving those requested
+ * by their plain URL to the handler's own cache control.
+ * Goes first in the chain, so it also wraps the encoded copy of a hashed asset; the headers of an
+ * {@link HttpResource} override the handler's.
+ */
+class ImmutableVersionResourceResolver extends AbstractResourceResolver {
+
+    private final CacheControl cacheControl;
+
+    ImmutableVersionResourceResolver(CacheControl cacheControl) {
+        this.cacheControl = cacheControl;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+            List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        // Only the VersionResourceResolver resolves a path to another file name, and only while
+        // the hash in the path matches that file's content
+        boolean versioned = resource != null
+            && !StringUtils.getFilename(requestPath).equals(resource.getFilename());
+        return versioned ? new ImmutableResource(resource) : resource;
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    // Described apart from the plain resource, as transformed resources are cached by description
+    private final class ImmutableResource extends AbstractResource implements HttpResource {
+
+        private final Resource versioned;
+
+        private ImmutableResource(Resource versioned) {
+            this.versioned = versioned;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            if (versioned instanceof HttpResource httpResource) {
+                headers.putAll(httpResource.getResponseHeaders());
+            }
+            headers.setCacheControl(cacheControl);
+            return headers;
+        }
+
+        @Override
+        public boolean exists() {
+            return versioned.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return versioned.isReadable();
+        }
+
+        @Override
+        public boolean isFile() {
+            return versioned.isFile();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return versioned.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return versioned.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return versioned.getFile();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return versioned.getInputStream();
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return versioned.readableChannel();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return versioned.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return versioned.lastModified();
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            return versioned.createRelative(relativePath);
+        }
+
+        @Override
+        public String getFilename() {
+            return versioned.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return "immutable " + versioned.getDescription();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.jakeclara.inventorytracker.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jakeclara.inventorytracker.metrics.QueryCountFilter;
+import com.jakeclara.inventorytracker.metrics.QueryCountingStatementInspector;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    QueryCountingStatementInspector queryCountingStatementInspector() {
+        return new QueryCountingStatementInspector();
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer statementInspectorCustomizer(
+        QueryCountingStatementInspector statementInspector
+    ) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementInspector);
+    }
+
+    @Bean
+    FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+        QueryCountingStatementInspector statementInspector,
+        MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<QueryCountFilter> registration =
+            new FilterRegistrationBean<>(new QueryCountFilter(statementInspector, meterRegistry));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
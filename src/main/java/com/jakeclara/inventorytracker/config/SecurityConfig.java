@@ -2,9 +2,12 @@ package com.jakeclara.inventorytracker.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -13,20 +16,55 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SecurityConfig {
     public static final int PASSWORD_ENCODER_STRENGTH = 11;
 
+    /**
+     * Actuator endpoints other than health are limited to admins, with HTTP Basic
+     * so a metrics scraper can authenticate without the login form.
+     */
+    @Bean
+    @Order(1)
+    SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        return http
+            .securityMatcher("/actuator/**")
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/actuator/health").permitAll()
+                .anyRequest().hasRole("ADMIN")
+            )
+            .httpBasic(Customizer.withDefaults())
+            .build();
+    }
+
+    /**
+     * Static assets are public and hold no user data, so they skip the session lookup,
+     * CSRF token and saved-request handling of the main chain, and keep the
+     * Cache-Control set by {@link StaticResourceConfig} instead of the no-cache default.
+     */
+    @Bean
+    @Order(2)
+    SecurityFilterChain staticResourceSecurityFilterChain(HttpSecurity http) throws Exception {
+        return http
+            .securityMatcher(StaticResourceConfig.ASSET_PATTERNS)
+            .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+            .securityContext(AbstractHttpConfigurer::disable)
+            .sessionManagement(AbstractHttpConfigurer::disable)
+            .requestCache(AbstractHttpConfigurer::disable)
+            .csrf(AbstractHttpConfigurer::disable)
+            .headers(headers -> headers.cacheControl(cache -> cache.disable()))
+            .build();
+    }
+
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/css/**", "/icons/**").permitAll()
                 .requestMatchers("/login").permitAll()
-                .requestMatchers("/actuator/health").permitAll()
                 .requestMatchers(
                     "/items/new",
                     "/items/*/deactivate",
                     "/items/*/activate",
                     "/items/*/edit",
-                    "/items/inactive").hasRole("ADMIN") 
-                .requestMatchers(HttpMethod.POST, "/items").hasRole("ADMIN")
+                    "/items/inactive",
+                    "/movements/import").hasRole("ADMIN") 
+                .requestMatchers(HttpMethod.POST, "/items", "/api/items/batch").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .formLogin(form -> form
@@ -0,0 +1,54 @@
+package com.jakeclara.inventorytracker.config;
+
+import java.time.Duration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+/**
+ * Serves the app's assets from content-hashed URLs, so they can be cached for good.
+ * Links written with {@code @{...}} in templates are rewritten to the hashed URL
+ * (e.g. /css/app-&lt;md5&gt;.css), and a changed file gets a new URL rather than a stale cache hit.
+ * The plain URLs still work, but are fetched again on every use.
+ * The .br and .gz copies written by the build are served to clients that accept them.
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    public static final String[] ASSET_PATTERNS = { "/css/**", "/icons/**", "/js/**" };
+
+    private static final CacheControl VERSIONED_ASSET_CACHE_CONTROL =
+        CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private static final CacheControl UNVERSIONED_ASSET_CACHE_CONTROL = CacheControl.noCache();
+
+    // Rewrites the URLs Thymeleaf writes for @{...} links to their hashed form
+    @Bean
+    ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String pattern : ASSET_PATTERNS) {
+            String directory = pattern.substring(0, pattern.length() - "**".length());
+
+            // Only a hashed URL is immutable; its content never changes, so there is nothing to
+            // revalidate against
+            registry.addResourceHandler(pattern)
+                .addResourceLocations("classpath:/static" + directory)
+                .setCacheControl(UNVERSIONED_ASSET_CACHE_CONTROL)
+                .setUseLastModified(false)
+                .resourceChain(true)
+                .addResolver(new ImmutableVersionResourceResolver(VERSIONED_ASSET_CACHE_CONTROL))
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.jakeclara.inventorytracker.controller;
+
+import java.util.Set;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jakeclara.inventorytracker.dto.InventoryDashboardQuery;
+import com.jakeclara.inventorytracker.dto.InventoryDashboardView;
+import com.jakeclara.inventorytracker.service.DashboardService;
+import com.jakeclara.inventorytracker.service.DashboardStreamService;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardApiController {
+
+    // Clients may keep a copy but must revalidate it with its ETag before each use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final DashboardService dashboardService;
+    private final DashboardStreamService dashboardStreamService;
+
+    public DashboardApiController(
+        DashboardService dashboardService,
+        DashboardStreamService dashboardStreamService
+    ) {
+        this.dashboardService = dashboardService;
+        this.dashboardStreamService = dashboardStreamService;
+    }
+
+    /**
+     * Returns a dashboard page, sorted and filtered like the HTML dashboard, with a strong ETag from
+     * the inventory revision. A matching If-None-Match is answered with 304 Not Modified before the
+     * page is read.
+     */
+    @GetMapping
+    public ResponseEntity<InventoryDashboardView> getInventoryDashboard(
+        @RequestParam(defaultValue = "0") int page,
+        @ModelAttribute InventoryDashboardQuery query,
+        WebRequest request
+    ) {
+        String eTag = "dashboard-" + dashboardService.getDashboardRevision();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(REVALIDATE)
+            .body(dashboardService.getInventoryDashboard(page, query));
+    }
+
+    /**
+     * Streams committed changes as server-sent events: an "item" event with the new quantity of
+     * each given item (every item when none are given), "low-stock-count" when the count changes,
+     * and "resync" before closing a connection that fell too far behind to catch up.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamInventoryUpdates(@RequestParam(required = false) Set<Long> itemIds) {
+        return dashboardStreamService.subscribe(itemIds == null ? Set.of() : itemIds);
+    }
+}
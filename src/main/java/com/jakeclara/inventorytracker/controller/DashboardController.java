@@ -3,9 +3,12 @@ package com.jakeclara.inventorytracker.controller;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import com.jakeclara.inventorytracker.dto.InventoryDashboardQuery;
 import com.jakeclara.inventorytracker.dto.InventoryDashboardView;
 import com.jakeclara.inventorytracker.service.DashboardService;
 
@@ -22,13 +25,32 @@ public class DashboardController {
     @GetMapping
     public String getInventoryDashboard(
         @RequestParam (defaultValue = "0") int page,
+        @ModelAttribute("query") InventoryDashboardQuery query,
         Model model
     ) {
+        // Read first, so the live updates script can tell whether anything changed since this page
+        String dashboardRevision = dashboardService.getDashboardRevision();
         InventoryDashboardView dashboard = 
-            dashboardService.getInventoryDashboard(page);
+            dashboardService.getInventoryDashboard(page, query);
         
         model.addAttribute("dashboard", dashboard);
+        model.addAttribute("dashboardRevision", dashboardRevision);
+        model.addAttribute("dashboardUrl", dashboardUrl(query));
         
         return "dashboard/dashboard";
     }
+
+    // Keeps the sort and filters on the pagination links
+    private static String dashboardUrl(InventoryDashboardQuery query) {
+        UriComponentsBuilder url = UriComponentsBuilder.fromPath("/dashboard")
+            .queryParam("sort", query.sort())
+            .queryParam("direction", query.direction());
+        if (query.lowStockOnly()) {
+            url.queryParam("lowStockOnly", true);
+        }
+        if (query.unit() != null) {
+            url.queryParam("unit", query.unit());
+        }
+        return url.encode().toUriString();
+    }
 }
@@ -0,0 +1,98 @@
+package com.jakeclara.inventorytracker.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.jakeclara.inventorytracker.exception.InvalidReportRangeException;
+import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.service.InventoryExportService;
+import com.jakeclara.inventorytracker.service.InventoryItemService;
+
+/**
+ * CSV downloads, written on an async request thread while the rows are streamed from the database.
+ * The item and range are checked before the response starts, so those errors still get a status code.
+ */
+@RestController
+@RequestMapping("/exports")
+public class InventoryExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final InventoryExportService inventoryExportService;
+    private final InventoryItemService inventoryItemService;
+
+    public InventoryExportController(
+        InventoryExportService inventoryExportService,
+        InventoryItemService inventoryItemService
+    ) {
+        this.inventoryExportService = inventoryExportService;
+        this.inventoryItemService = inventoryItemService;
+    }
+
+    @GetMapping("/items/{itemId}/movements")
+    public ResponseEntity<StreamingResponseBody> exportItemMovements(@PathVariable Long itemId) {
+        InventoryItem item = inventoryItemService.getInventoryItemById(itemId);
+
+        return csv(
+            "movements-" + item.getSku() + ".csv",
+            output -> inventoryExportService.writeMovementsForItem(itemId, output)
+        );
+    }
+
+    @GetMapping("/movements")
+    public ResponseEntity<StreamingResponseBody> exportMovements(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        inventoryExportService.validateRange(from, to);
+
+        return csv(
+            "movements-" + from + "-to-" + to + ".csv",
+            output -> inventoryExportService.writeMovementsBetween(from, to, output)
+        );
+    }
+
+    @GetMapping("/inventory")
+    public ResponseEntity<StreamingResponseBody> exportInventory() {
+        return csv(
+            "inventory-" + LocalDate.now() + ".csv",
+            inventoryExportService::writeInventorySnapshot
+        );
+    }
+
+    private static ResponseEntity<StreamingResponseBody> csv(String filename, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .contentType(TEXT_CSV)
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString()
+            )
+            .body(body);
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ProblemDetail handleResourceNotFoundException(ResourceNotFoundException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidReportRangeException.class)
+    public ProblemDetail handleInvalidReportRangeException(InvalidReportRangeException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+}
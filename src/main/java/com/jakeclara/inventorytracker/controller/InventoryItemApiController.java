@@ -0,0 +1,127 @@
+package com.jakeclara.inventorytracker.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
+import com.jakeclara.inventorytracker.dto.InventoryItemBatchResult;
+import com.jakeclara.inventorytracker.dto.InventoryItemDetailsView;
+import com.jakeclara.inventorytracker.dto.InventoryItemForm;
+import com.jakeclara.inventorytracker.dto.InventoryMovementHistoryPage;
+import com.jakeclara.inventorytracker.dto.InventoryQuantityAsOfView;
+import com.jakeclara.inventorytracker.exception.ArchivedLedgerException;
+import com.jakeclara.inventorytracker.exception.DuplicateNameException;
+import com.jakeclara.inventorytracker.exception.DuplicateSkuException;
+import com.jakeclara.inventorytracker.exception.InvalidCursorException;
+import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
+import com.jakeclara.inventorytracker.service.InventoryItemBatchService;
+import com.jakeclara.inventorytracker.service.InventoryItemService;
+import com.jakeclara.inventorytracker.service.InventoryMovementService;
+
+@RestController
+@RequestMapping("/api/items")
+public class InventoryItemApiController {
+
+    // Clients may keep a copy but must revalidate it with its ETag before each use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final InventoryItemService inventoryItemService;
+    private final InventoryMovementService inventoryMovementService;
+    private final InventoryItemBatchService inventoryItemBatchService;
+
+    public InventoryItemApiController(
+        InventoryItemService inventoryItemService,
+        InventoryMovementService inventoryMovementService,
+        InventoryItemBatchService inventoryItemBatchService
+    ) {
+        this.inventoryItemService = inventoryItemService;
+        this.inventoryMovementService = inventoryMovementService;
+        this.inventoryItemBatchService = inventoryItemBatchService;
+    }
+
+    /**
+     * Creates a catalog of items with one batched insert. Items that are invalid or whose name
+     * or SKU is taken are reported by their index in the request and the rest are created.
+     */
+    @PostMapping("/batch")
+    public InventoryItemBatchResult createItems(@RequestBody List<InventoryItemForm> forms) {
+        return inventoryItemBatchService.createBatch(forms);
+    }
+
+    /**
+     * Type-ahead search of active items by name or SKU, returning the ten best matches.
+     */
+    @GetMapping("/search")
+    public List<InventoryDashboardItem> searchItems(@RequestParam(defaultValue = "") String q) {
+        return inventoryItemService.searchItems(q);
+    }
+
+    /**
+     * Returns the item's details with a strong ETag from the item's revision.
+     * A matching If-None-Match is answered with 304 Not Modified before the details are read.
+     */
+    @GetMapping("/{itemId}")
+    public ResponseEntity<InventoryItemDetailsView> getItemDetails(@PathVariable Long itemId, WebRequest request) {
+        String eTag = "item-" + itemId + "-" + inventoryItemService.getItemRevision(itemId);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(REVALIDATE)
+            .body(inventoryItemService.getItemDetails(itemId));
+    }
+
+    @GetMapping("/{itemId}/movements")
+    public InventoryMovementHistoryPage getMovementHistory(
+        @PathVariable Long itemId,
+        @RequestParam(required = false) String cursor
+    ) {
+        return inventoryMovementService.getMovementsForItem(itemId, cursor);
+    }
+
+    @GetMapping("/{itemId}/quantity")
+    public InventoryQuantityAsOfView getQuantityAsOf(
+        @PathVariable Long itemId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf
+    ) {
+        return new InventoryQuantityAsOfView(itemId, asOf, inventoryItemService.getQuantityAsOf(itemId, asOf));
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ProblemDetail handleResourceNotFoundException(ResourceNotFoundException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    // An item with the same name or SKU was created while the batch was being written
+    @ExceptionHandler({ DuplicateNameException.class, DuplicateSkuException.class })
+    public ProblemDetail handleDuplicateItemException(RuntimeException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursorException(InvalidCursorException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(ArchivedLedgerException.class)
+    public ProblemDetail handleArchivedLedgerException(ArchivedLedgerException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+}
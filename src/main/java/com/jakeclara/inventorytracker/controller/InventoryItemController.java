@@ -7,8 +7,8 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import com.jakeclara.inventorytracker.dto.InventoryDashboardView;
 import com.jakeclara.inventorytracker.dto.InventoryItemForm;
 import com.jakeclara.inventorytracker.dto.InventoryMovementForm;
-import com.jakeclara.inventorytracker.dto.InventoryMovementView;
-import com.jakeclara.inventorytracker.dto.common.Pagination;
+import com.jakeclara.inventorytracker.dto.InventoryMovementHistoryPage;
+import com.jakeclara.inventorytracker.exception.ArchivedLedgerException;
 import com.jakeclara.inventorytracker.exception.DuplicateNameException;
 import com.jakeclara.inventorytracker.exception.DuplicateSkuException;
 import com.jakeclara.inventorytracker.exception.InsufficientStockException;
@@ -19,7 +19,6 @@ import com.jakeclara.inventorytracker.service.InventoryMovementService;
 import jakarta.validation.Valid;
 
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -35,7 +34,6 @@ public class InventoryItemController {
     private static final String REDIRECT_ITEM_DETAILS = "redirect:/items/{itemId}";
     private static final String ITEM_DETAILS_VIEW = "items/item-details";
     private static final String ITEM_FORM_VIEW = "items/item-form";
-    private static final int INITIAL_PAGE = 0;
     
     private final InventoryItemService inventoryItemService;
     private final InventoryMovementService inventoryMovementService;
@@ -84,11 +82,11 @@ public class InventoryItemController {
     @GetMapping("/{itemId}")
     public String getInventoryItemDetails(
         @PathVariable Long itemId,
-        @RequestParam(defaultValue = "0") int page, 
+        @RequestParam(required = false) String cursor,
         Model model
     ) {
         model.addAttribute("movementForm", InventoryMovementForm.empty());
-        prepareDetailsData(itemId, page, model);
+        prepareDetailsData(itemId, cursor, model);
         return ITEM_DETAILS_VIEW;
     }
 
@@ -146,7 +144,7 @@ public class InventoryItemController {
         Model model
     ) {
         if (bindingResult.hasErrors()) {
-            prepareDetailsData(itemId, INITIAL_PAGE,model);
+            prepareDetailsData(itemId, null, model);
             return ITEM_DETAILS_VIEW;
         }
         try {
@@ -154,7 +152,11 @@ public class InventoryItemController {
             return REDIRECT_ITEM_DETAILS;
         } catch (InsufficientStockException e) {
             bindingResult.rejectValue("quantity", "insufficient", e.getMessage());
-            prepareDetailsData(itemId, INITIAL_PAGE, model);
+            prepareDetailsData(itemId, null, model);
+            return ITEM_DETAILS_VIEW;
+        } catch (ArchivedLedgerException e) {
+            bindingResult.rejectValue("movementDate", "archived", e.getMessage());
+            prepareDetailsData(itemId, null, model);
             return ITEM_DETAILS_VIEW;
         }
     }
@@ -171,11 +173,11 @@ public class InventoryItemController {
         return "items/inactive-items";
     }
 
-    private void prepareDetailsData(Long itemId, int page, Model model) {
+    private void prepareDetailsData(Long itemId, String cursor, Model model) {
         model.addAttribute("itemDetails", inventoryItemService.getItemDetails(itemId));
-        Page<InventoryMovementView> inventoryMovementsPage = inventoryMovementService.getMovementsForItem(itemId, page);
-        model.addAttribute("movementHistory", inventoryMovementsPage.getContent());
-        model.addAttribute("movementPagination", Pagination.from(inventoryMovementsPage));
+        InventoryMovementHistoryPage movementPage = inventoryMovementService.getMovementsForItem(itemId, cursor);
+        model.addAttribute("movementHistory", movementPage.movements());
+        model.addAttribute("movementPage", movementPage);
         model.addAttribute("movementTypes", inventoryMovementService.getAllowedMovementTypes());
     }
 }
@@ -0,0 +1,55 @@
+package com.jakeclara.inventorytracker.controller;
+
+import java.io.IOException;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.jakeclara.inventorytracker.exception.InvalidImportFileException;
+import com.jakeclara.inventorytracker.service.InventoryMovementImportService;
+
+@Controller
+@RequestMapping("/movements/import")
+public class InventoryMovementImportController {
+    private static final String IMPORT_VIEW = "movements/movement-import";
+
+    private final InventoryMovementImportService inventoryMovementImportService;
+
+    public InventoryMovementImportController(InventoryMovementImportService inventoryMovementImportService) {
+        this.inventoryMovementImportService = inventoryMovementImportService;
+    }
+
+    @GetMapping
+    public String showImportForm() {
+        return IMPORT_VIEW;
+    }
+
+    @PostMapping
+    public String importMovements(
+        @RequestParam("file") MultipartFile file,
+        Model model
+    ) {
+        if (file.isEmpty()) {
+            model.addAttribute("errorMessage", "Choose a CSV file to import");
+            return IMPORT_VIEW;
+        }
+
+        try {
+            model.addAttribute(
+                "importResult",
+                inventoryMovementImportService.importMovements(file.getInputStream())
+            );
+        } catch (InvalidImportFileException e) {
+            model.addAttribute("errorMessage", e.getMessage());
+        } catch (IOException e) {
+            model.addAttribute("errorMessage", "Import file could not be read");
+        }
+
+        return IMPORT_VIEW;
+    }
+}
@@ -0,0 +1,52 @@
+package com.jakeclara.inventorytracker.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jakeclara.inventorytracker.dto.MovementReportPeriod;
+import com.jakeclara.inventorytracker.dto.MovementReportRow;
+import com.jakeclara.inventorytracker.exception.InvalidReportRangeException;
+import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.service.MovementReportService;
+
+@RestController
+@RequestMapping("/api/reports")
+public class MovementReportApiController {
+
+    private final MovementReportService movementReportService;
+
+    public MovementReportApiController(MovementReportService movementReportService) {
+        this.movementReportService = movementReportService;
+    }
+
+    @GetMapping("/movements")
+    public List<MovementReportRow> getMovementTotals(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(defaultValue = "DAY") MovementReportPeriod period,
+        @RequestParam(name = "type", required = false, defaultValue = "") List<InventoryMovementType> types,
+        @RequestParam(required = false) Long itemId
+    ) {
+        return movementReportService.getMovementTotals(from, to, period, types, itemId);
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ProblemDetail handleResourceNotFoundException(ResourceNotFoundException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidReportRangeException.class)
+    public ProblemDetail handleInvalidReportRangeException(InvalidReportRangeException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+}
@@ -0,0 +1,62 @@
+package com.jakeclara.inventorytracker.datasource;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * Keeps a session's reads on the primary for a short window after it writes,
+ * so the page shown after a redirect reflects the write even while the replica lags.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String LAST_WRITE_ATTRIBUTE = ReadYourWritesFilter.class.getName() + ".lastWrite";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(ReadYourWritesTracker readYourWritesTracker, Duration window) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        readYourWritesTracker.start(wroteRecently(request.getSession(false)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (readYourWritesTracker.stop()) {
+                recordWrite(request);
+            }
+        }
+    }
+
+    private boolean wroteRecently(HttpSession session) {
+        if (session == null) {
+            return false;
+        }
+        Object lastWrite = session.getAttribute(LAST_WRITE_ATTRIBUTE);
+        // Wall clock rather than nanoTime, so the window holds when sessions are shared between instances
+        return lastWrite instanceof Long lastWriteMillis && System.currentTimeMillis() - lastWriteMillis < windowMillis;
+    }
+
+    private void recordWrite(HttpServletRequest request) {
+        // Login rotates the session, so read it back from the request rather than keeping the old one
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.setAttribute(LAST_WRITE_ATTRIBUTE, System.currentTimeMillis());
+        }
+    }
+}
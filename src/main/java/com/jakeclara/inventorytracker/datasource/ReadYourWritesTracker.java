@@ -0,0 +1,52 @@
+package com.jakeclara.inventorytracker.datasource;
+
+/**
+ * Tracks, per request thread, whether reads must stay on the primary database:
+ * either because the session wrote recently and the replica may not have caught up,
+ * or because the current request has already written.
+ * <p>
+ * Outside a tracked request, such as in scheduled jobs, read-only transactions always use the replica.
+ */
+public class ReadYourWritesTracker {
+
+    private final ThreadLocal<RequestState> requests = new ThreadLocal<>();
+
+    /**
+     * Starts tracking the current request.
+     *
+     * @param pinnedToPrimary whether the session wrote recently enough that reads must use the primary
+     */
+    public void start(boolean pinnedToPrimary) {
+        requests.set(new RequestState(pinnedToPrimary));
+    }
+
+    /**
+     * @return whether the current request wrote to the primary since {@link #start(boolean)}
+     */
+    public boolean stop() {
+        RequestState state = requests.get();
+        requests.remove();
+        return state != null && state.wrote;
+    }
+
+    void recordWrite() {
+        RequestState state = requests.get();
+        if (state != null) {
+            state.wrote = true;
+        }
+    }
+
+    boolean isPinnedToPrimary() {
+        RequestState state = requests.get();
+        return state != null && (state.pinnedToPrimary || state.wrote);
+    }
+
+    private static final class RequestState {
+        private final boolean pinnedToPrimary;
+        private boolean wrote;
+
+        private RequestState(boolean pinnedToPrimary) {
+            this.pinnedToPrimary = pinnedToPrimary;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.jakeclara.inventorytracker.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary,
+ * unless {@link ReadYourWritesTracker} pins the current request to the primary.
+ * <p>
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction is only marked read-only after it begins, so the target connection
+ * has to be fetched on first use rather than when the transaction starts.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(
+        DataSource primary,
+        DataSource replica,
+        ReadYourWritesTracker readYourWritesTracker
+    ) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.recordWrite();
+            }
+            return Target.PRIMARY;
+        }
+        return readYourWritesTracker.isPinnedToPrimary() ? Target.PRIMARY : Target.REPLICA;
+    }
+}
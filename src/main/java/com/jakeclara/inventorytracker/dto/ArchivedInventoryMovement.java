@@ -0,0 +1,34 @@
+package com.jakeclara.inventorytracker.dto;
+
+import java.time.LocalDate;
+
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+
+/**
+ * A movement removed from the ledger by compaction, as stored in the item's archive files.
+ */
+public record ArchivedInventoryMovement(
+    Long id,
+    LocalDate movementDate,
+    InventoryMovementType movementType,
+    int quantity,
+    String reference,
+    String note,
+    String createdBy,
+    long balanceAfter
+) {
+
+    public static ArchivedInventoryMovement from(InventoryMovement movement) {
+        return new ArchivedInventoryMovement(
+            movement.getId(),
+            movement.getMovementDate(),
+            movement.getMovementType(),
+            movement.getQuantity(),
+            movement.getReference(),
+            movement.getNote(),
+            movement.getCreatedBy().getUsername(),
+            movement.getBalanceAfter()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.jakeclara.inventorytracker.dto;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * How the dashboard's items are sorted and filtered, bound from request parameters.
+ * Missing values default to name order, ascending, with every item shown.
+ *
+ * @param sort the column to sort by
+ * @param direction the sort direction
+ * @param lowStockOnly whether to show only items below their reorder threshold
+ * @param unit the unit to show items of, or null for every unit
+ */
+public record InventoryDashboardQuery(
+    InventorySortField sort,
+    Sort.Direction direction,
+    Boolean lowStockOnly,
+    String unit
+) {
+    public static final InventoryDashboardQuery BY_NAME = new InventoryDashboardQuery(null, null, false, null);
+
+    public InventoryDashboardQuery {
+        sort = sort == null ? InventorySortField.NAME : sort;
+        direction = direction == null ? Sort.Direction.ASC : direction;
+        lowStockOnly = lowStockOnly != null && lowStockOnly;
+        unit = unit == null || unit.isBlank() ? null : unit.strip();
+    }
+}
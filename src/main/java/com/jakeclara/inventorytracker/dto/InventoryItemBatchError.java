@@ -0,0 +1,6 @@
+package com.jakeclara.inventorytracker.dto;
+
+public record InventoryItemBatchError(
+    int index,
+    String message
+) {}
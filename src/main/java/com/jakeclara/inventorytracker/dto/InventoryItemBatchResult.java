@@ -0,0 +1,8 @@
+package com.jakeclara.inventorytracker.dto;
+
+import java.util.List;
+
+public record InventoryItemBatchResult(
+    int createdItems,
+    List<InventoryItemBatchError> errors
+) {}
@@ -0,0 +1,64 @@
+package com.jakeclara.inventorytracker.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.jakeclara.inventorytracker.exception.InvalidCursorException;
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+
+/**
+ * Position in an item's movement history, ordered by movement date and id descending.
+ * An archived cursor keeps paging into compacted movements once the live ledger runs out.
+ * Clients only see the encoded form, so the key layout can change without breaking them.
+ */
+public record InventoryMovementCursor(
+    LocalDate movementDate,
+    Long id,
+    boolean archived
+) {
+    private static final String SEPARATOR = ":";
+    private static final String ARCHIVED_MARKER = "archived";
+
+    public InventoryMovementCursor(LocalDate movementDate, Long id) {
+        this(movementDate, id, false);
+    }
+
+    public static InventoryMovementCursor from(InventoryMovement movement) {
+        return new InventoryMovementCursor(movement.getMovementDate(), movement.getId());
+    }
+
+    public InventoryMovementCursor withArchived() {
+        return new InventoryMovementCursor(movementDate, id, true);
+    }
+
+    /**
+     * Whether a movement at the given position comes after this cursor in newest-first order.
+     */
+    public boolean isAfter(LocalDate otherDate, long otherId) {
+        int dateComparison = otherDate.compareTo(movementDate);
+        return dateComparison < 0 || (dateComparison == 0 && otherId < id);
+    }
+
+    public String encode() {
+        String key = movementDate + SEPARATOR + id + (archived ? SEPARATOR + ARCHIVED_MARKER : "");
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static InventoryMovementCursor decode(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = key.split(SEPARATOR);
+            boolean archived = parts.length == 3 && parts[2].equals(ARCHIVED_MARKER);
+            if (parts.length != 2 && !archived) {
+                throw new InvalidCursorException("Invalid movement history cursor");
+            }
+            return new InventoryMovementCursor(LocalDate.parse(parts[0]), Long.valueOf(parts[1]), archived);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid movement history cursor");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.jakeclara.inventorytracker.dto;
+
+import java.util.List;
+
+/**
+ * A page of movement history. {@code archivedCursor} is set on the last page of the live ledger
+ * when the item has compacted movements, and continues the history into the archive.
+ */
+public record InventoryMovementHistoryPage(
+    List<InventoryMovementView> movements,
+    boolean firstPage,
+    String nextCursor,
+    String archivedCursor
+) {
+    public InventoryMovementHistoryPage(List<InventoryMovementView> movements, boolean firstPage, String nextCursor) {
+        this(movements, firstPage, nextCursor, null);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasArchived() {
+        return archivedCursor != null;
+    }
+}
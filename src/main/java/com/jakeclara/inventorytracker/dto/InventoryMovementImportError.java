@@ -0,0 +1,6 @@
+package com.jakeclara.inventorytracker.dto;
+
+public record InventoryMovementImportError(
+    long lineNumber,
+    String message
+) {}
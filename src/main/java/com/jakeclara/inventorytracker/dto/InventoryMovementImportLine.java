@@ -0,0 +1,15 @@
+package com.jakeclara.inventorytracker.dto;
+
+import java.time.LocalDate;
+
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+
+public record InventoryMovementImportLine(
+    long lineNumber,
+    String sku,
+    InventoryMovementType movementType,
+    int quantity,
+    LocalDate movementDate,
+    String reference,
+    String note
+) {}
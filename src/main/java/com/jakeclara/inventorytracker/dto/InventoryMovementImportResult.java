@@ -0,0 +1,18 @@
+package com.jakeclara.inventorytracker.dto;
+
+import java.util.List;
+
+public record InventoryMovementImportResult(
+    long processedLines,
+    long importedLines,
+    long errorCount,
+    List<InventoryMovementImportError> errors
+) {
+    public boolean hasErrors() {
+        return errorCount > 0;
+    }
+
+    public boolean errorsTruncated() {
+        return errorCount > errors.size();
+    }
+}
@@ -22,5 +22,15 @@ public record InventoryMovementView(
             movement.getCreatedBy().getUsername()
         );
     }
+
+    public static InventoryMovementView from(ArchivedInventoryMovement movement) {
+        return new InventoryMovementView(
+            movement.movementType(),
+            movement.quantity(),
+            movement.movementDate(),
+            movement.reference(),
+            movement.createdBy()
+        );
+    }
     
 }
@@ -0,0 +1,10 @@
+package com.jakeclara.inventorytracker.dto;
+
+import java.time.LocalDate;
+
+public record InventoryQuantityAsOfView(
+    Long itemId,
+    LocalDate asOf,
+    long quantity
+) {
+}
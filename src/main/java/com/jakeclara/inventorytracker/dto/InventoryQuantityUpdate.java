@@ -0,0 +1,14 @@
+package com.jakeclara.inventorytracker.dto;
+
+/**
+ * A committed change to an item's quantity, pushed to live dashboards.
+ * The revision increases with every change to the item, so a client can ignore an update
+ * that arrives after a newer one.
+ */
+public record InventoryQuantityUpdate(
+    Long itemId,
+    long quantity,
+    boolean lowStock,
+    long revision
+) {
+}
@@ -0,0 +1,12 @@
+package com.jakeclara.inventorytracker.dto;
+
+/**
+ * The column the dashboard's items are sorted by. Items that tie are ordered by name.
+ */
+public enum InventorySortField {
+    NAME,
+    SKU,
+    QUANTITY,
+    // Items without a unit sort after those with one when ascending and before them when descending, as PostgreSQL orders nulls
+    UNIT
+}
@@ -0,0 +1,20 @@
+package com.jakeclara.inventorytracker.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum MovementReportPeriod {
+    DAY,
+    // ISO weeks, starting on Monday
+    WEEK,
+    MONTH;
+
+    public LocalDate start(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.jakeclara.inventorytracker.dto;
+
+import java.time.LocalDate;
+
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+
+public record MovementReportRow(
+    LocalDate periodStart,
+    InventoryMovementType movementType,
+    long movementCount,
+    long totalQuantity
+) {
+}
@@ -0,0 +1,7 @@
+package com.jakeclara.inventorytracker.exception;
+
+public class ArchivedLedgerException extends RuntimeException {
+    public ArchivedLedgerException(String message) {
+        super(message);
+    }
+}
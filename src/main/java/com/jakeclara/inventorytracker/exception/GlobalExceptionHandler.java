@@ -33,5 +33,14 @@ public class GlobalExceptionHandler {
             redirectAttributes.addFlashAttribute("errorMessage", ex.getMessage());
             return "redirect:/dashboard";
         }
+
+    @ExceptionHandler(InvalidCursorException.class)
+        public String handleInvalidCursorException(
+            InvalidCursorException ex,
+            RedirectAttributes redirectAttributes
+        ) {
+            redirectAttributes.addFlashAttribute("errorMessage", ex.getMessage());
+            return "redirect:/dashboard";
+        }
     
 }
@@ -0,0 +1,7 @@
+package com.jakeclara.inventorytracker.exception;
+
+public class InvalidReportRangeException extends RuntimeException {
+    public InvalidReportRangeException(String message) {
+        super(message);
+    }
+}
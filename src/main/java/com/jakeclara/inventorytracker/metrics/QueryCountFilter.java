@@ -0,0 +1,60 @@
+package com.jakeclara.inventorytracker.metrics;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records the number of SQL statements each request ran as {@value #METRIC_NAME},
+ * tagged by HTTP method and matched URI pattern.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "http.server.requests.queries";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final QueryCountingStatementInspector statementInspector;
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(QueryCountingStatementInspector statementInspector, MeterRegistry meterRegistry) {
+        this.statementInspector = statementInspector;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        statementInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int queryCount = statementInspector.stop();
+            recordQueryCount(request, queryCount);
+        }
+    }
+
+    private void recordQueryCount(HttpServletRequest request, int queryCount) {
+        // Uses the matched pattern rather than the raw path to keep tag cardinality bounded
+        Object uriPattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        DistributionSummary.builder(METRIC_NAME)
+            .description("SQL statements run per HTTP request")
+            .baseUnit("queries")
+            .tag("method", request.getMethod())
+            .tag("uri", uriPattern != null ? uriPattern.toString() : UNKNOWN_URI)
+            .register(meterRegistry)
+            .record(queryCount);
+    }
+}
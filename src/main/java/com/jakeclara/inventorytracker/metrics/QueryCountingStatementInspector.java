@@ -0,0 +1,34 @@
+package com.jakeclara.inventorytracker.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while counting is started,
+ * so {@link QueryCountFilter} can report how many queries each request ran.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    private final ThreadLocal<int[]> counts = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = counts.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        counts.set(new int[1]);
+    }
+
+    /**
+     * @return the number of statements prepared since {@link #start()}, or 0 if counting was not started
+     */
+    public int stop() {
+        int[] count = counts.get();
+        counts.remove();
+        return count == null ? 0 : count[0];
+    }
+}
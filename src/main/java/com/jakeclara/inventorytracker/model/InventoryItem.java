@@ -2,33 +2,64 @@ package com.jakeclara.inventorytracker.model;
 
 import java.time.Instant;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "inventory_item")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(
+    name = "inventory_item",
+    // Each dashboard sort, and the low-stock filter sorted by quantity, reads one of these in order
+    indexes = {
+        @Index(name = "idx_inventory_item_active_name", columnList = "is_active, item_name"),
+        @Index(name = "idx_inventory_item_active_sku", columnList = "is_active, item_sku"),
+        @Index(name = "idx_inventory_item_active_quantity", columnList = "is_active, quantity_on_hand, item_name"),
+        @Index(name = "idx_inventory_item_active_unit", columnList = "is_active, item_unit, item_name"),
+        @Index(
+            name = "idx_inventory_item_active_low_stock",
+            columnList = "is_active, is_low_stock, quantity_on_hand, item_name"
+        )
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = InventoryItem.NAME_CONSTRAINT, columnNames = "item_name"),
+        @UniqueConstraint(name = InventoryItem.SKU_CONSTRAINT, columnNames = "item_sku")
+    }
+)
 public class InventoryItem {
+
+    // PostgreSQL's default names for the unique columns, so existing databases already match;
+    // named so a violation can be reported as a duplicate name or SKU without checking first
+    public static final String NAME_CONSTRAINT = "inventory_item_item_name_key";
+    public static final String SKU_CONSTRAINT = "inventory_item_item_sku_key";
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "inventory_item_id")
     private Long id;
 
-    @Column(name = "item_name", nullable = false, unique = true, length = 150)
+    @Column(name = "item_name", nullable = false, length = 150)
     @NotBlank
     @Size(max = 150)
     private String name;
     
-    @Column(name = "item_sku", nullable = false, unique = true, length = 50)
+    @Column(name = "item_sku", nullable = false, length = 50)
     @NotBlank
     @Size(max = 50)
     private String sku;
@@ -44,6 +75,20 @@ public class InventoryItem {
     @Column(name = "is_active", nullable = false)
     private boolean isActive;
 
+    @Column(name = "quantity_on_hand", nullable = false)
+    @ColumnDefault("0")
+    private long quantityOnHand;
+
+    // Materialized from the quantity on hand and reorder threshold, so low-stock items can be found by index
+    @Column(name = "is_low_stock", nullable = false)
+    @ColumnDefault("false")
+    private boolean lowStock;
+
+    // Incremented on every update, so API clients can tell whether the item changed since they read it
+    @Column(name = "revision", nullable = false)
+    @ColumnDefault("0")
+    private long revision;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @CreationTimestamp
     private Instant createdAt;
@@ -55,6 +100,7 @@ public class InventoryItem {
         this.sku = validateSku(sku);
         this.reorderThreshold = validateReorderThreshold(reorderThreshold);
         this.isActive = true;
+        updateLowStock();
     }
 
     public Long getId() {
@@ -81,16 +127,49 @@ public class InventoryItem {
         return isActive;
     }
 
+    public long getQuantityOnHand() {
+        return quantityOnHand;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
 
+    public long getRevision() {
+        return revision;
+    }
+
+    public boolean isLowStock() {
+        return lowStock;
+    }
+
     public void rename(String newName) {
         this.name = validateName(newName);
     }
 
     public void updateReorderThreshold(int newThreshold) {
         this.reorderThreshold = validateReorderThreshold(newThreshold);
+        updateLowStock();
+    }
+
+    /**
+     * Applies a signed movement quantity to the materialized quantity on hand.
+     * Must be called in the same transaction that records the movement.
+     *
+     * @param quantityDelta the signed quantity change
+     * @throws IllegalArgumentException if the change would make the quantity negative
+     */
+    public void applyQuantityChange(int quantityDelta) {
+        long newQuantity = quantityOnHand + quantityDelta;
+        if (newQuantity < 0) {
+            throw new IllegalArgumentException("Quantity on hand cannot be negative");
+        }
+        this.quantityOnHand = newQuantity;
+        updateLowStock();
+    }
+
+    private void updateLowStock() {
+        this.lowStock = quantityOnHand < reorderThreshold;
     }
 
     private String validateName(String name) {
@@ -138,6 +217,11 @@ public class InventoryItem {
         this.isActive = isActive;
     }
 
+    @PreUpdate
+    void nextRevision() {
+        revision++;
+    }
+
     @Override
     public String toString() {
         return "InventoryItem [id=" + id + 
@@ -145,6 +229,7 @@ public class InventoryItem {
         ", sku=" + sku + 
         ", reorderThreshold=" + reorderThreshold + 
         ", unit=" + unit + 
+        ", quantityOnHand=" + quantityOnHand + 
         ", createdAt=" + createdAt + "]";
     }
 
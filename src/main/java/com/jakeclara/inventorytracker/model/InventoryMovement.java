@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,7 +19,13 @@ import jakarta.validation.constraints.PastOrPresent;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "inventory_movement")
+@Table(
+    name = "inventory_movement",
+    indexes = @Index(
+        name = "idx_inventory_movement_item_date_id",
+        columnList = "inventory_item_id, movement_date DESC, inventory_movement_id DESC"
+    )
+)
 public class InventoryMovement {
 
     @Id
@@ -53,6 +60,10 @@ public class InventoryMovement {
     @Size(max = 255)
     private String note;
 
+    // Quantity on hand once this movement is applied in (movement date, id) order
+    @Column(name = "balance_after", nullable = false)
+    private long balanceAfter;
+
     @JoinColumn(name = "created_by", nullable = false, updatable = false)
     @ManyToOne(optional = false)
     @NotNull
@@ -115,10 +126,18 @@ public class InventoryMovement {
         return note;
     }
 
+    public long getBalanceAfter() {
+        return balanceAfter;
+    }
+
     public User getCreatedBy() {
         return createdBy;
     }
 
+    public void setBalanceAfter(long balanceAfter) {
+        this.balanceAfter = balanceAfter;
+    }
+
     public void setReference(String reference) {
         this.reference = validateAndTrimOptional(reference, 100, "Reference");
     }
@@ -157,6 +176,7 @@ public class InventoryMovement {
         ", movementDate=" + movementDate + 
         ", reference=" + reference + 
         ", note=" + note + 
+        ", balanceAfter=" + balanceAfter + 
         ", createdBy=" + createdBy + "]";
     }
 
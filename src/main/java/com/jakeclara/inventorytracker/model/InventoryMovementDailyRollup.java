@@ -0,0 +1,59 @@
+package com.jakeclara.inventorytracker.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Number and total quantity of one item's movements of one type on one day,
+ * maintained as movements are recorded so reports do not have to scan the ledger.
+ * Compaction leaves the rollups alone, so they keep the history it archives.
+ */
+@Entity
+@Table(
+    name = "inventory_movement_daily_rollup",
+    indexes = @Index(
+        name = "idx_inventory_movement_daily_rollup_date_type",
+        columnList = "rollup_date, movement_type"
+    )
+)
+public class InventoryMovementDailyRollup {
+
+    @EmbeddedId
+    private InventoryMovementDailyRollupId id;
+
+    @Column(name = "movement_count", nullable = false)
+    private long movementCount;
+
+    @Column(name = "total_quantity", nullable = false)
+    private long totalQuantity;
+
+    protected InventoryMovementDailyRollup() {}
+
+    public InventoryMovementDailyRollup(InventoryMovementDailyRollupId id, long movementCount, long totalQuantity) {
+        this.id = id;
+        this.movementCount = movementCount;
+        this.totalQuantity = totalQuantity;
+    }
+
+    public InventoryMovementDailyRollupId getId() {
+        return id;
+    }
+
+    public long getMovementCount() {
+        return movementCount;
+    }
+
+    public long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    @Override
+    public String toString() {
+        return "InventoryMovementDailyRollup [id=" + id +
+        ", movementCount=" + movementCount +
+        ", totalQuantity=" + totalQuantity + "]";
+    }
+}
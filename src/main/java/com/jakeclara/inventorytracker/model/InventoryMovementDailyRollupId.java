@@ -0,0 +1,69 @@
+package com.jakeclara.inventorytracker.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+@Embeddable
+public class InventoryMovementDailyRollupId implements Serializable {
+
+    @Column(name = "inventory_item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(name = "movement_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private InventoryMovementType movementType;
+
+    protected InventoryMovementDailyRollupId() {}
+
+    public InventoryMovementDailyRollupId(Long itemId, LocalDate rollupDate, InventoryMovementType movementType) {
+        this.itemId = itemId;
+        this.rollupDate = rollupDate;
+        this.movementType = movementType;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public LocalDate getRollupDate() {
+        return rollupDate;
+    }
+
+    public InventoryMovementType getMovementType() {
+        return movementType;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof InventoryMovementDailyRollupId id)) {
+            return false;
+        }
+        return Objects.equals(itemId, id.itemId)
+            && Objects.equals(rollupDate, id.rollupDate)
+            && movementType == id.movementType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(itemId, rollupDate, movementType);
+    }
+
+    @Override
+    public String toString() {
+        return "InventoryMovementDailyRollupId [itemId=" + itemId +
+        ", rollupDate=" + rollupDate +
+        ", movementType=" + movementType + "]";
+    }
+}
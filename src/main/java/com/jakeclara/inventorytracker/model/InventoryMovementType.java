@@ -4,12 +4,21 @@ public enum InventoryMovementType {
     SALE,
     RECEIVE,
     ADJUST_IN,
-    ADJUST_OUT;
+    ADJUST_OUT,
+    // Carries forward the net of movements archived out of the ledger
+    OPENING_BALANCE;
 
     public int apply(int quantity) {
         return switch (this) { 
             case SALE, ADJUST_OUT -> -quantity; 
-            case RECEIVE, ADJUST_IN -> quantity; 
+            case RECEIVE, ADJUST_IN, OPENING_BALANCE -> quantity; 
         }; 
     }
+
+    /**
+     * @return whether users may record movements of this type; opening balances are only written by archiving
+     */
+    public boolean isManual() {
+        return this != OPENING_BALANCE;
+    }
 }
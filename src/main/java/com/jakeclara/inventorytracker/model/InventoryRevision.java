@@ -0,0 +1,40 @@
+package com.jakeclara.inventorytracker.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Revision of the whole inventory, a single row incremented by every transaction that changes
+ * items so dashboard ETags do not have to aggregate the items on every request.
+ */
+@Entity
+@Table(name = "inventory_revision")
+public class InventoryRevision {
+
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    protected InventoryRevision() {}
+
+    public InventoryRevision(long revision) {
+        this.id = ID;
+        this.revision = revision;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    @Override
+    public String toString() {
+        return "InventoryRevision [revision=" + revision + "]";
+    }
+}
@@ -0,0 +1,47 @@
+package com.jakeclara.inventorytracker.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Number of low-stock items for one active status, maintained as items change
+ * so dashboards do not have to count them on every request.
+ */
+@Entity
+@Table(name = "low_stock_counter")
+public class LowStockCounter {
+
+    @Id
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    @Column(name = "low_stock_count", nullable = false)
+    private long lowStockCount;
+
+    protected LowStockCounter() {}
+
+    public LowStockCounter(boolean isActive, long lowStockCount) {
+        this.isActive = isActive;
+        this.lowStockCount = lowStockCount;
+    }
+
+    public boolean isActive() {
+        return isActive;
+    }
+
+    public long getLowStockCount() {
+        return lowStockCount;
+    }
+
+    public void reset(long lowStockCount) {
+        this.lowStockCount = lowStockCount;
+    }
+
+    @Override
+    public String toString() {
+        return "LowStockCounter [isActive=" + isActive + 
+        ", lowStockCount=" + lowStockCount + "]";
+    }
+}
@@ -0,0 +1,35 @@
+package com.jakeclara.inventorytracker.projection;
+
+import java.util.Comparator;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A comparison of two slots, taking them as ints so ordering an {@link ItemOrder} never boxes them.
+ * Built like a {@link Comparator}, from the column values of the slots.
+ */
+@FunctionalInterface
+interface IntComparator {
+
+    int compare(int left, int right);
+
+    default IntComparator thenComparing(IntComparator next) {
+        return (left, right) -> {
+            int comparison = compare(left, right);
+            return comparison != 0 ? comparison : next.compare(left, right);
+        };
+    }
+
+    static <T> IntComparator comparing(IntFunction<? extends T> key, Comparator<? super T> keyComparator) {
+        return (left, right) -> keyComparator.compare(key.apply(left), key.apply(right));
+    }
+
+    static IntComparator comparingInt(IntUnaryOperator key) {
+        return (left, right) -> Integer.compare(key.applyAsInt(left), key.applyAsInt(right));
+    }
+
+    static IntComparator comparingLong(IntToLongFunction key) {
+        return (left, right) -> Long.compare(key.applyAsLong(left), key.applyAsLong(right));
+    }
+}
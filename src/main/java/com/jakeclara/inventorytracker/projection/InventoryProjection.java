@@ -0,0 +1,434 @@
+package com.jakeclara.inventorytracker.projection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
+import com.jakeclara.inventorytracker.dto.InventoryDashboardQuery;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process copy of every item's balance, threshold and active flag, so dashboard and
+ * quantity reads do not go to the database.
+ * <p>
+ * Loaded at startup by streaming the movement ledger, then kept current by applying each
+ * item or movement change after its transaction commits. Until it is loaded, or when
+ * {@code inventory.projection.enabled} is false, {@link #isReady()} is false and callers read from SQL.
+ * Reloads after bulk changes run on a background thread; a reload that cannot complete unpublishes
+ * the projection, so reads fall back to SQL until a later load succeeds.
+ * Only changes committed by this instance are applied, so it must not be enabled when several
+ * instances write to the same database.
+ */
+@Component
+public class InventoryProjection {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryProjection.class);
+
+    private static final int MAX_LOAD_ATTEMPTS = 5;
+    private static final long LOAD_RETRY_DELAY_MILLIS = 200;
+    private static final long FAILED_LOAD_RETRY_DELAY_SECONDS = 30;
+
+    private static final String SELECT_ITEMS = """
+        SELECT inventory_item_id, item_name, item_sku, item_unit, reorder_threshold, is_active
+        FROM inventory_item
+        """;
+
+    private static final String SELECT_MOVEMENTS = """
+        SELECT inventory_item_id, movement_type, quantity
+        FROM inventory_movement
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate loadTransaction;
+    private final boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private ItemTable table;
+    private volatile boolean ready;
+
+    // Changes registered in open transactions, and changes completed since a load started
+    private final AtomicInteger pendingChanges = new AtomicInteger();
+    private final AtomicLong completedChanges = new AtomicLong();
+
+    // Reloads run one at a time, off the thread whose commit asked for them; requests made
+    // while one is waiting to start are served by it
+    private final ScheduledExecutorService reloads = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("inventory-projection-reload").daemon().factory()
+    );
+    private final AtomicBoolean reloadQueued = new AtomicBoolean();
+
+    // Distinguishes revisions from those of an earlier run, whose counters started from zero too
+    private final long startedAt = System.currentTimeMillis();
+    private long loads;
+
+    public InventoryProjection(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${inventory.projection.enabled:false}") boolean enabled,
+        @Value("${inventory.projection.fetch-size:1000}") int fetchSize
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        // Not read-only, so the load is routed to the primary: a replica may not have applied
+        // the commit that asked for the reload yet, and the projection would keep its stale rows
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns a token that changes whenever a change is applied to the projection or it is reloaded,
+     * so a response built from the projection after reading it is at least as new as the token.
+     *
+     * @return the projection revision
+     */
+    public String getRevision() {
+        lock.readLock().lock();
+        try {
+            return startedAt + "-" + loads + "-" + completedChanges.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the quantity on hand of the item, or empty if the item is not projected
+     */
+    public OptionalLong getQuantity(long itemId) {
+        lock.readLock().lock();
+        try {
+            return table.quantity(itemId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getLowStockCount(boolean isActive) {
+        lock.readLock().lock();
+        try {
+            return table.lowStockCount(isActive);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves a page of items with the given active status, ordered by name ascending.
+     *
+     * @param isActive the active status of the items
+     * @param pageable the pagination information
+     * @return a page of items with their current quantity
+     */
+    public Page<InventoryDashboardItem> getItemsByActiveStatus(boolean isActive, Pageable pageable) {
+        return getItemsByActiveStatus(isActive, InventoryDashboardQuery.BY_NAME, pageable);
+    }
+
+    /**
+     * Retrieves a page of items with the given active status, sorted and filtered as the query asks.
+     * Every sort is kept in memory, so a page is read in order rather than sorted per request.
+     *
+     * @param isActive the active status of the items
+     * @param query the sort and filters; the pageable's sort is not used
+     * @param pageable the pagination information
+     * @return a page of items with their current quantity
+     */
+    public Page<InventoryDashboardItem> getItemsByActiveStatus(
+        boolean isActive,
+        InventoryDashboardQuery query,
+        Pageable pageable
+    ) {
+        lock.readLock().lock();
+        try {
+            List<InventoryDashboardItem> items =
+                table.items(isActive, query, pageable.getOffset(), pageable.getPageSize());
+            return new PageImpl<>(items, pageable, table.count(isActive, query));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds items with the given active status by name or SKU: those starting with the query first,
+     * then those containing it, each in name order. Queries shorter than three characters only match
+     * the start of a name or SKU.
+     *
+     * @param isActive the active status of the items
+     * @param query the search text, matched case-insensitively
+     * @param limit the maximum number of items to return
+     * @return the best matching items with their current quantity
+     */
+    public List<InventoryDashboardItem> searchItems(boolean isActive, String query, int limit) {
+        lock.readLock().lock();
+        try {
+            return table.search(isActive, query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a change to the item's quantity once the current transaction commits.
+     *
+     * @param itemId the id of the inventory item
+     * @param quantityDelta the signed quantity change
+     */
+    public void recordMovement(long itemId, long quantityDelta) {
+        afterCommit(() -> {
+            if (!table.addQuantity(itemId, quantityDelta)) {
+                logger.warn("Movement for unknown item {} skipped by projection", itemId);
+            }
+        });
+    }
+
+    /**
+     * Sets the item's quantity once the current transaction commits, after it was rebuilt from the ledger.
+     * The rebuild holds the item's row lock until then, so movements posted after it apply on top of it.
+     *
+     * @param itemId the id of the inventory item
+     * @param quantity the rebuilt quantity on hand
+     */
+    public void recordQuantity(long itemId, long quantity) {
+        afterCommit(() -> {
+            if (!table.setQuantity(itemId, quantity)) {
+                logger.warn("Rebuilt quantity for unknown item {} skipped by projection", itemId);
+            }
+        });
+    }
+
+    /**
+     * Applies the item's current details once the current transaction commits.
+     * New items start with a quantity of zero.
+     *
+     * @param item the created or changed inventory item
+     */
+    public void recordItem(InventoryItem item) {
+        afterCommit(putItem(item.getId(), item));
+    }
+
+    /**
+     * Adds items inserted without going through the persistence context once the current transaction commits.
+     *
+     * @param items the new inventory items
+     * @param ids the items' generated ids, in the same order
+     */
+    public void recordNewItems(List<InventoryItem> items, List<Long> ids) {
+        List<Runnable> puts = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            puts.add(putItem(ids.get(i), items.get(i)));
+        }
+
+        afterCommit(() -> puts.forEach(Runnable::run));
+    }
+
+    // Captures the item's details now, since the entity may change before the transaction commits
+    private Runnable putItem(long id, InventoryItem item) {
+        String name = item.getName();
+        String sku = item.getSku();
+        String unit = item.getUnit();
+        int reorderThreshold = item.getReorderThreshold();
+        boolean isActive = item.isActive();
+
+        return () -> table.putItem(id, name, sku, unit, reorderThreshold, isActive);
+    }
+
+    /**
+     * Reloads the projection in the background once the current transaction commits.
+     * Used after bulk changes that bypass the per-item hooks.
+     */
+    public void reloadAfterCommit() {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    requestReload();
+                }
+            });
+        } else {
+            requestReload();
+        }
+    }
+
+    /**
+     * Loads every item and streams the movement ledger to compute balances.
+     * The load is only published if no change committed while it ran; otherwise it is retried.
+     * If every attempt fails, the projection is unpublished and loaded again later.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+
+        for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+            long completedBefore = completedChanges.get();
+
+            if (pendingChanges.get() == 0) {
+                ItemTable loadedTable = loadTransaction.execute(status -> readTable());
+
+                lock.writeLock().lock();
+                try {
+                    if (pendingChanges.get() == 0 && completedChanges.get() == completedBefore) {
+                        table = loadedTable;
+                        loads++;
+                        ready = true;
+                        return;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+
+            pauseBeforeRetry();
+        }
+
+        unpublish();
+        logger.warn(
+            "Inventory projection could not be loaded while writes were in progress; reads use SQL until it is loaded, retried in {} s",
+            FAILED_LOAD_RETRY_DELAY_SECONDS
+        );
+    }
+
+    @PreDestroy
+    void stopReloads() {
+        reloads.shutdownNow();
+    }
+
+    private void requestReload() {
+        if (reloadQueued.compareAndSet(false, true)) {
+            reloads.execute(() -> {
+                // Cleared first, so a change committed while this load runs queues another
+                reloadQueued.set(false);
+                reload();
+            });
+        }
+    }
+
+    private void reload() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            unpublish();
+            logger.error(
+                "Inventory projection reload failed; reads use SQL until it is loaded, retried in {} s",
+                FAILED_LOAD_RETRY_DELAY_SECONDS,
+                e
+            );
+        }
+    }
+
+    // The snapshot stops receiving changes, so it must not be read again until a load replaces it
+    private void unpublish() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        reloads.schedule(this::reload, FAILED_LOAD_RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private ItemTable readTable() {
+        Integer itemCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM inventory_item", Integer.class);
+        ItemTable loadedTable = new ItemTable(itemCount == null ? 0 : itemCount);
+
+        jdbcTemplate.query(SELECT_ITEMS, resultSet -> {
+            loadedTable.putItem(
+                resultSet.getLong("inventory_item_id"),
+                resultSet.getString("item_name"),
+                resultSet.getString("item_sku"),
+                resultSet.getString("item_unit"),
+                resultSet.getInt("reorder_threshold"),
+                resultSet.getBoolean("is_active")
+            );
+        });
+
+        jdbcTemplate.query(SELECT_MOVEMENTS, resultSet -> {
+            InventoryMovementType movementType =
+                InventoryMovementType.valueOf(resultSet.getString("movement_type"));
+            loadedTable.addQuantity(
+                resultSet.getLong("inventory_item_id"),
+                movementType.apply(resultSet.getInt("quantity"))
+            );
+        });
+
+        loadedTable.sortItems();
+        return loadedTable;
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+
+        pendingChanges.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        apply(change);
+                    }
+                } finally {
+                    pendingChanges.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            completedChanges.incrementAndGet();
+            if (ready) {
+                change.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void pauseBeforeRetry() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(LOAD_RETRY_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
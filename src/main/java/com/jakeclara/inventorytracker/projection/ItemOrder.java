@@ -0,0 +1,196 @@
+package com.jakeclara.inventorytracker.projection;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * The slots of each active status sorted by one comparator, with the position of every slot in its order.
+ * Sorted in full after a load, then kept sorted by moving single slots as their items change,
+ * which shifts only the slots between the old and new positions. Each status's slots are held
+ * with spare room at the end, like the search index's posting lists, so they grow in place.
+ * The comparator must order every pair of distinct slots, e.g. by breaking ties on the slot.
+ * Not thread-safe; {@link InventoryProjection} guards it with a read-write lock.
+ */
+final class ItemOrder {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final IntComparator comparator;
+
+    // Indexed by active status: 0 for inactive, 1 for active; only the first sizes[status] slots are in use
+    private final int[][] slotsByStatus = { new int[MIN_CAPACITY], new int[MIN_CAPACITY] };
+    private final int[] sizes = new int[2];
+    private int[] ranks;
+
+    ItemOrder(IntComparator comparator, int capacity) {
+        this.comparator = comparator;
+        this.ranks = new int[capacity];
+    }
+
+    /**
+     * @return the slots with the given active status, in order, in the first {@link #size(boolean)}
+     *     elements; must not be modified
+     */
+    int[] slots(boolean isActive) {
+        return slotsByStatus[statusIndex(isActive)];
+    }
+
+    /**
+     * @return the number of slots with the given active status
+     */
+    int size(boolean isActive) {
+        return sizes[statusIndex(isActive)];
+    }
+
+    /**
+     * @return the position of each slot in the order of its active status, indexed by slot; must not be modified
+     */
+    int[] ranks() {
+        return ranks;
+    }
+
+    /**
+     * Sorts the first {@code size} slots into the order of their active status.
+     */
+    void sort(int size, IntPredicate isActive) {
+        ensureCapacity(size);
+
+        for (int status = 0; status < 2; status++) {
+            boolean active = status == 1;
+            int count = 0;
+            for (int slot = 0; slot < size; slot++) {
+                if (isActive.test(slot) == active) {
+                    count++;
+                }
+            }
+
+            int[] slots = new int[Math.max(MIN_CAPACITY, count + (count >> 1))];
+            int position = 0;
+            for (int slot = 0; slot < size; slot++) {
+                if (isActive.test(slot) == active) {
+                    slots[position++] = slot;
+                }
+            }
+            mergeSort(slots, count);
+
+            slotsByStatus[status] = slots;
+            sizes[status] = count;
+            updateRanks(slots, 0, count - 1);
+        }
+    }
+
+    void insert(int slot, boolean isActive) {
+        ensureCapacity(slot + 1);
+
+        int status = statusIndex(isActive);
+        int[] slots = slotsByStatus[status];
+        int size = sizes[status];
+        if (size == slots.length) {
+            slots = Arrays.copyOf(slots, size * 2);
+            slotsByStatus[status] = slots;
+        }
+
+        int position = insertionPoint(slots, 0, size, slot);
+        System.arraycopy(slots, position, slots, position + 1, size - position);
+        slots[position] = slot;
+
+        sizes[status] = size + 1;
+        updateRanks(slots, position, size);
+    }
+
+    void remove(int slot, boolean isActive) {
+        int status = statusIndex(isActive);
+        int[] slots = slotsByStatus[status];
+        int size = sizes[status] - 1;
+        int position = ranks[slot];
+
+        System.arraycopy(slots, position + 1, slots, position, size - position);
+
+        sizes[status] = size;
+        updateRanks(slots, position, size - 1);
+    }
+
+    /**
+     * Moves the slot to its place after the value it is ordered by changed.
+     */
+    void reposition(int slot, boolean isActive) {
+        int status = statusIndex(isActive);
+        int[] slots = slotsByStatus[status];
+        int size = sizes[status];
+        int from = ranks[slot];
+        int to;
+
+        if (from > 0 && comparator.compare(slots[from - 1], slot) > 0) {
+            to = insertionPoint(slots, 0, from, slot);
+            System.arraycopy(slots, to, slots, to + 1, from - to);
+        } else if (from + 1 < size && comparator.compare(slots[from + 1], slot) < 0) {
+            to = insertionPoint(slots, from + 1, size, slot) - 1;
+            System.arraycopy(slots, from + 1, slots, from, to - from);
+        } else {
+            return;
+        }
+
+        slots[to] = slot;
+        updateRanks(slots, Math.min(from, to), Math.max(from, to));
+    }
+
+    // The first position in [from, to) whose slot is ordered after the given one
+    private int insertionPoint(int[] slots, int from, int to, int slot) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(slots[middle], slot) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Bottom-up merge sort of the first size slots, merging runs back and forth with one buffer
+    private void mergeSort(int[] slots, int size) {
+        int[] source = slots;
+        int[] target = new int[size];
+        for (int width = 1; width < size; width *= 2) {
+            for (int low = 0; low < size; low += 2 * width) {
+                merge(source, target, low, Math.min(low + width, size), Math.min(low + 2 * width, size));
+            }
+            int[] merged = target;
+            target = source;
+            source = merged;
+        }
+        if (source != slots) {
+            System.arraycopy(source, 0, slots, 0, size);
+        }
+    }
+
+    private void merge(int[] source, int[] target, int low, int middle, int high) {
+        int left = low;
+        int right = middle;
+        for (int position = low; position < high; position++) {
+            if (right == high || left < middle && comparator.compare(source[left], source[right]) <= 0) {
+                target[position] = source[left++];
+            } else {
+                target[position] = source[right++];
+            }
+        }
+    }
+
+    private void updateRanks(int[] slots, int from, int to) {
+        for (int position = from; position <= to; position++) {
+            ranks[slots[position]] = position;
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ranks.length) {
+            ranks = Arrays.copyOf(ranks, Math.max(capacity, ranks.length * 2));
+        }
+    }
+
+    private static int statusIndex(boolean isActive) {
+        return isActive ? 1 : 0;
+    }
+}
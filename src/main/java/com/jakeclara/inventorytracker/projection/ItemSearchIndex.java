@@ -0,0 +1,311 @@
+package com.jakeclara.inventorytracker.projection;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.IntPredicate;
+
+/**
+ * Trigram index over item names and SKUs, one sorted posting list of slots per trigram.
+ * Text is lowercased and each name and SKU is padded at the start, as pg_trgm pads words,
+ * so queries of one or two characters match as prefixes and longer ones match anywhere.
+ * Not thread-safe; {@link InventoryProjection} guards it with a read-write lock.
+ */
+final class ItemSearchIndex {
+
+    /** Shortest query matched anywhere in a name or SKU; shorter ones only match prefixes. */
+    static final int MIN_SUBSTRING_LENGTH = 3;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final char PAD = '\0';
+    // Roughly how many postings can be read in the time a slot's trigrams are looked up; see collect
+    private static final int ORDERED_SCAN_COST = 32;
+
+    // Maps each trigram, packed into a positive long, to the number of its posting list
+    private final ItemSlotIndex postingNumbers = new ItemSlotIndex(MIN_CAPACITY);
+    private int[][] postings = new int[MIN_CAPACITY][];
+    private int[] postingSizes = new int[MIN_CAPACITY];
+    private int postingCount;
+
+    // Lowercased name and SKU of each slot
+    private String[] names;
+    private String[] skus;
+
+    ItemSearchIndex(int expectedSize) {
+        int capacity = Math.max(MIN_CAPACITY, expectedSize);
+        names = new String[capacity];
+        skus = new String[capacity];
+    }
+
+    /**
+     * Indexes the slot's name and SKU, replacing those it was indexed with before.
+     */
+    void put(int slot, String name, String sku) {
+        if (slot >= names.length) {
+            int capacity = Math.max(slot + 1, names.length * 2);
+            names = Arrays.copyOf(names, capacity);
+            skus = Arrays.copyOf(skus, capacity);
+        }
+
+        String lowerName = normalize(name);
+        String lowerSku = normalize(sku);
+        if (lowerName.equals(names[slot]) && lowerSku.equals(skus[slot])) {
+            return;
+        }
+
+        if (names[slot] != null) {
+            for (long trigram : trigrams(names[slot], skus[slot])) {
+                removePosting(trigram, slot);
+            }
+        }
+
+        names[slot] = lowerName;
+        skus[slot] = lowerSku;
+        for (long trigram : trigrams(lowerName, lowerSku)) {
+            addPosting(trigram, slot);
+        }
+    }
+
+    /**
+     * Finds the best matches for a query: slots whose name or SKU starts with it, then slots
+     * whose name or SKU contains it, each in rank order.
+     * Each kind of match is found from the posting lists of its trigrams, or, when matches are common,
+     * by visiting slots in rank order until enough match, so a query that matches most of the catalog
+     * does not read all of it.
+     *
+     * @param query the search text, matched case-insensitively
+     * @param limit the maximum number of slots to return
+     * @param include which slots may be returned
+     * @param slotsInOrder the slots that may be returned, in rank order
+     * @param orderedCount the number of slots in use at the start of {@code slotsInOrder}
+     * @param ranks the position of each of those slots in {@code slotsInOrder}
+     * @return the matching slots, best first
+     */
+    int[] search(String query, int limit, IntPredicate include, int[] slotsInOrder, int orderedCount, int[] ranks) {
+        String text = normalize(query);
+        if (text.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+
+        // A name or SKU starting with the text holds the padded trigrams of its start
+        IntPredicate isPrefixMatch = slot -> names[slot].startsWith(text) || skus[slot].startsWith(text);
+        TopSlots prefixMatches = new TopSlots(limit);
+        collect(postingNumbersFor("" + PAD + PAD + text), prefixMatches, include, slotsInOrder, orderedCount, ranks,
+            isPrefixMatch);
+
+        if (text.length() < MIN_SUBSTRING_LENGTH || prefixMatches.isFull()) {
+            return prefixMatches.toArray();
+        }
+
+        TopSlots substringMatches = new TopSlots(limit - prefixMatches.size());
+        collect(postingNumbersFor(text), substringMatches, include, slotsInOrder, orderedCount, ranks,
+            slot -> !isPrefixMatch.test(slot) && (names[slot].contains(text) || skus[slot].contains(text)));
+
+        int[] matches = Arrays.copyOf(prefixMatches.toArray(), prefixMatches.size() + substringMatches.size());
+        System.arraycopy(substringMatches.toArray(), 0, matches, prefixMatches.size(), substringMatches.size());
+        return matches;
+    }
+
+    private void collect(
+        int[] numbers,
+        TopSlots matches,
+        IntPredicate include,
+        int[] slotsInOrder,
+        int orderedCount,
+        int[] ranks,
+        IntPredicate matchesText
+    ) {
+        if (numbers == null) {
+            return;
+        }
+
+        // Visiting slots in rank order stops at the limit, which wins when matches are common.
+        // Once it has cost a fraction of reading the shortest posting list, that is read instead
+        int driver = numbers[0];
+        int orderedBudget = postingSizes[driver] / (ORDERED_SCAN_COST * numbers.length);
+        int visited = 0;
+        for (; visited < orderedCount && visited < orderedBudget && !matches.isFull(); visited++) {
+            int slot = slotsInOrder[visited];
+            if (inAll(numbers, 0, slot) && include.test(slot) && matchesText.test(slot)) {
+                matches.offer(slot, ranks[slot]);
+            }
+        }
+        if (matches.isFull() || visited == orderedCount) {
+            return;
+        }
+
+        // Only slots that would displace a match so far are checked against the text
+        matches.clear();
+        int[] driverSlots = postings[driver];
+        for (int i = 0; i < postingSizes[driver]; i++) {
+            int slot = driverSlots[i];
+            if (matches.accepts(ranks[slot]) && include.test(slot) && inAll(numbers, 1, slot) && matchesText.test(slot)) {
+                matches.offer(slot, ranks[slot]);
+            }
+        }
+    }
+
+    // The posting list numbers of the text's trigrams, shortest first, or null if one has no postings
+    private int[] postingNumbersFor(String text) {
+        long[] textTrigrams = new long[text.length() - 2];
+        windows(text, textTrigrams, 0);
+
+        int[] numbers = new int[textTrigrams.length];
+        for (int i = 0; i < textTrigrams.length; i++) {
+            numbers[i] = postingNumbers.get(textTrigrams[i]);
+            if (numbers[i] < 0 || postingSizes[numbers[i]] == 0) {
+                return null;
+            }
+        }
+
+        return Arrays.stream(numbers)
+            .distinct()
+            .boxed()
+            .sorted(Comparator.comparingInt(number -> postingSizes[number]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    private boolean inAll(int[] numbers, int from, int slot) {
+        for (int i = from; i < numbers.length; i++) {
+            if (Arrays.binarySearch(postings[numbers[i]], 0, postingSizes[numbers[i]], slot) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addPosting(long trigram, int slot) {
+        int number = postingNumbers.get(trigram);
+        if (number < 0) {
+            number = newPosting(trigram);
+        }
+
+        int[] list = postings[number];
+        int size = postingSizes[number];
+        if (size == list.length) {
+            list = Arrays.copyOf(list, Math.max(4, size * 2));
+            postings[number] = list;
+        }
+
+        // Slots are added in increasing order while loading, so this is usually an append
+        int position = size == 0 || list[size - 1] < slot ? size : -Arrays.binarySearch(list, 0, size, slot) - 1;
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(list, position, list, position + 1, size - position);
+        list[position] = slot;
+        postingSizes[number] = size + 1;
+    }
+
+    private void removePosting(long trigram, int slot) {
+        int number = postingNumbers.get(trigram);
+        if (number < 0) {
+            return;
+        }
+
+        int[] list = postings[number];
+        int size = postingSizes[number];
+        int position = Arrays.binarySearch(list, 0, size, slot);
+        if (position >= 0) {
+            System.arraycopy(list, position + 1, list, position, size - position - 1);
+            postingSizes[number] = size - 1;
+        }
+    }
+
+    private int newPosting(long trigram) {
+        if (postingCount == postings.length) {
+            postings = Arrays.copyOf(postings, postingCount * 2);
+            postingSizes = Arrays.copyOf(postingSizes, postingCount * 2);
+        }
+
+        int number = postingCount++;
+        postings[number] = new int[4];
+        postingNumbers.put(trigram, number);
+        return number;
+    }
+
+    // Every trigram of the padded name and SKU, each once
+    private static long[] trigrams(String name, String sku) {
+        String paddedName = "" + PAD + PAD + name;
+        String paddedSku = "" + PAD + PAD + sku;
+        long[] trigrams = new long[name.length() + sku.length()];
+        windows(paddedName, trigrams, 0);
+        windows(paddedSku, trigrams, name.length());
+        return distinct(trigrams);
+    }
+
+    private static void windows(String text, long[] into, int offset) {
+        for (int i = 0; i + 2 < text.length(); i++) {
+            into[offset + i] = pack(text.charAt(i), text.charAt(i + 1), text.charAt(i + 2));
+        }
+    }
+
+    private static long[] distinct(long[] trigrams) {
+        Arrays.sort(trigrams);
+        int count = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[count++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, count);
+    }
+
+    // Three UTF-16 units in 48 bits, plus one so that no key is zero
+    private static long pack(char first, char second, char third) {
+        return (((long) first << 32) | ((long) second << 16) | third) + 1;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // The best slots offered so far, ordered by rank
+    private static final class TopSlots {
+
+        private final int[] slots;
+        private final int[] ranks;
+        private int size;
+
+        TopSlots(int capacity) {
+            slots = new int[capacity];
+            ranks = new int[capacity];
+        }
+
+        boolean isFull() {
+            return size == slots.length;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean accepts(int rank) {
+            return !isFull() || size > 0 && rank < ranks[size - 1];
+        }
+
+        void offer(int slot, int rank) {
+            if (!accepts(rank)) {
+                return;
+            }
+
+            int position = isFull() ? size - 1 : size++;
+            while (position > 0 && ranks[position - 1] > rank) {
+                slots[position] = slots[position - 1];
+                ranks[position] = ranks[position - 1];
+                position--;
+            }
+            slots[position] = slot;
+            ranks[position] = rank;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(slots, size);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.jakeclara.inventorytracker.projection;
+
+/**
+ * Open-addressing map from item id to array slot, so lookups never box the id.
+ * Item ids must be positive, which IDENTITY columns guarantee.
+ */
+final class ItemSlotIndex {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    // Stores slot + 1 so that 0 marks an empty bucket
+    private int[] slots;
+    private int mask;
+    private int size;
+
+    ItemSlotIndex(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * @return the slot of the item, or -1 if the item is not indexed
+     */
+    int get(long itemId) {
+        int bucket = hash(itemId) & mask;
+        while (slots[bucket] != 0) {
+            if (keys[bucket] == itemId) {
+                return slots[bucket] - 1;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+        return -1;
+    }
+
+    void put(long itemId, int slot) {
+        if (itemId <= 0) {
+            throw new IllegalArgumentException("Item id must be positive");
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+
+        int bucket = hash(itemId) & mask;
+        while (slots[bucket] != 0) {
+            if (keys[bucket] == itemId) {
+                slots[bucket] = slot + 1;
+                return;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+
+        keys[bucket] = itemId;
+        slots[bucket] = slot + 1;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldSlots = slots;
+
+        allocate(oldKeys.length * 2);
+        size = 0;
+
+        for (int bucket = 0; bucket < oldKeys.length; bucket++) {
+            if (oldSlots[bucket] != 0) {
+                put(oldKeys[bucket], oldSlots[bucket] - 1);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        slots = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -0,0 +1,325 @@
+package com.jakeclara.inventorytracker.projection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
+import com.jakeclara.inventorytracker.dto.InventoryDashboardQuery;
+import com.jakeclara.inventorytracker.dto.InventorySortField;
+
+/**
+ * Column-oriented table of item balances, thresholds and active flags, one slot per item,
+ * with the items of each active status kept in name, SKU, unit and quantity order,
+ * and in quantity order with the low-stock items first,
+ * and a trigram index over names and SKUs for search.
+ * Not thread-safe; {@link InventoryProjection} guards it with a read-write lock.
+ */
+final class ItemTable {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final ItemSlotIndex index;
+    private final ItemSearchIndex searchIndex;
+
+    private long[] ids;
+    private long[] quantities;
+    private int[] reorderThresholds;
+    private boolean[] active;
+    private String[] names;
+    private String[] skus;
+    private String[] units;
+    private int size;
+
+    // Indexed by active status: 0 for inactive, 1 for active
+    private final long[] lowStockCounts = new long[2];
+
+    // Ties are broken by name, as the dashboard's SQL sorts do, then by slot
+    private final IntComparator byNameThenSlot = IntComparator.comparing(slot -> names[slot], Comparator.<String>naturalOrder())
+        .thenComparing(Integer::compare);
+    private final ItemOrder byName;
+    private final ItemOrder bySku;
+    private final ItemOrder byUnit;
+    private final ItemOrder byQuantity;
+    private final ItemOrder byLowStockThenQuantity;
+    private final List<ItemOrder> orders;
+    // False until the orders are first sorted; items put before then are only added to them by the sort
+    private boolean sorted;
+
+    ItemTable(int expectedSize) {
+        int capacity = Math.max(MIN_CAPACITY, expectedSize);
+        index = new ItemSlotIndex(capacity);
+        searchIndex = new ItemSearchIndex(capacity);
+        ids = new long[capacity];
+        quantities = new long[capacity];
+        reorderThresholds = new int[capacity];
+        active = new boolean[capacity];
+        names = new String[capacity];
+        skus = new String[capacity];
+        units = new String[capacity];
+
+        byName = new ItemOrder(byNameThenSlot, capacity);
+        bySku = new ItemOrder(IntComparator.comparing(slot -> skus[slot], Comparator.<String>naturalOrder())
+            .thenComparing(Integer::compare), capacity);
+        // Like PostgreSQL, items without a unit sort last ascending and first descending
+        byUnit = new ItemOrder(IntComparator.comparing(
+                slot -> units[slot], Comparator.nullsLast(Comparator.<String>naturalOrder()))
+            .thenComparing(byNameThenSlot), capacity);
+        byQuantity = new ItemOrder(IntComparator.comparingLong(slot -> quantities[slot])
+            .thenComparing(byNameThenSlot), capacity);
+        // Like the (active status, low stock, quantity, name) index, the low-stock items are one range
+        byLowStockThenQuantity = new ItemOrder(IntComparator.comparingInt(slot -> isLowStock(slot) ? 0 : 1)
+            .thenComparing(IntComparator.comparingLong(slot -> quantities[slot]))
+            .thenComparing(byNameThenSlot), capacity);
+        orders = List.of(byName, bySku, byUnit, byQuantity, byLowStockThenQuantity);
+    }
+
+    /**
+     * Adds an item or replaces its details, keeping its quantity.
+     * Once {@link #sortItems()} has run, the item is also moved to its place in every order.
+     */
+    void putItem(long id, String name, String sku, String unit, int reorderThreshold, boolean isActive) {
+        int slot = index.get(id);
+        boolean isNew = slot < 0;
+        // An item that keeps its status is moved within its orders; otherwise it changes orders
+        boolean changesOrders = isNew || active[slot] != isActive;
+        if (isNew) {
+            slot = addSlot(id);
+        } else {
+            countLowStock(slot, -1);
+            if (sorted && changesOrders) {
+                for (ItemOrder order : orders) {
+                    order.remove(slot, active[slot]);
+                }
+            }
+        }
+
+        names[slot] = name;
+        skus[slot] = sku;
+        units[slot] = unit;
+        reorderThresholds[slot] = reorderThreshold;
+        active[slot] = isActive;
+        searchIndex.put(slot, name, sku);
+        if (sorted) {
+            for (ItemOrder order : orders) {
+                if (changesOrders) {
+                    order.insert(slot, isActive);
+                } else {
+                    order.reposition(slot, isActive);
+                }
+            }
+        }
+
+        countLowStock(slot, 1);
+    }
+
+    /**
+     * @return false if the item is not in the table
+     */
+    boolean addQuantity(long id, long quantityDelta) {
+        int slot = index.get(id);
+        if (slot < 0) {
+            return false;
+        }
+
+        countLowStock(slot, -1);
+        quantities[slot] += quantityDelta;
+        countLowStock(slot, 1);
+        if (sorted) {
+            byQuantity.reposition(slot, active[slot]);
+            byLowStockThenQuantity.reposition(slot, active[slot]);
+        }
+        return true;
+    }
+
+    /**
+     * @return false if the item is not in the table
+     */
+    boolean setQuantity(long id, long quantity) {
+        int slot = index.get(id);
+        return slot >= 0 && addQuantity(id, quantity - quantities[slot]);
+    }
+
+    OptionalLong quantity(long id) {
+        int slot = index.get(id);
+        return slot < 0 ? OptionalLong.empty() : OptionalLong.of(quantities[slot]);
+    }
+
+    long lowStockCount(boolean isActive) {
+        return lowStockCounts[statusIndex(isActive)];
+    }
+
+    int count(boolean isActive) {
+        return byName.size(isActive);
+    }
+
+    /**
+     * @return the number of items with the given active status that pass the query's filters
+     */
+    int count(boolean isActive, InventoryDashboardQuery query) {
+        if (query.unit() == null) {
+            return query.lowStockOnly() ? (int) lowStockCount(isActive) : count(isActive);
+        }
+
+        int[] slots = byUnit.slots(isActive);
+        int size = byUnit.size(isActive);
+        int from = unitBound(slots, size, query.unit(), false);
+        int to = unitBound(slots, size, query.unit(), true);
+        return query.lowStockOnly()
+            ? (int) IntStream.range(from, to).filter(position -> isLowStock(slots[position])).count()
+            : to - from;
+    }
+
+    /**
+     * @return the items with the given active status that pass the query's filters, in its order,
+     *     from offset up to limit items
+     */
+    List<InventoryDashboardItem> items(boolean isActive, InventoryDashboardQuery query, long offset, int limit) {
+        // Like the SQL query, reads the range of the order that holds exactly the filtered items when
+        // there is one, and otherwise checks the filters while walking the sort order
+        boolean readsUnitRange = query.unit() != null
+            && (query.sort() == InventorySortField.NAME || query.sort() == InventorySortField.UNIT);
+        boolean readsLowStockRange = !readsUnitRange && query.lowStockOnly()
+            && query.sort() == InventorySortField.QUANTITY;
+
+        int[] slots;
+        int from = 0;
+        int to;
+        if (readsUnitRange) {
+            // Within one unit the unit order is the name order
+            slots = byUnit.slots(isActive);
+            from = unitBound(slots, byUnit.size(isActive), query.unit(), false);
+            to = unitBound(slots, byUnit.size(isActive), query.unit(), true);
+        } else if (readsLowStockRange) {
+            slots = byLowStockThenQuantity.slots(isActive);
+            to = (int) lowStockCount(isActive);
+        } else {
+            ItemOrder order = orderOf(query.sort());
+            slots = order.slots(isActive);
+            to = order.size(isActive);
+        }
+
+        boolean lowStockFilter = query.lowStockOnly() && !readsLowStockRange;
+        String unitFilter = readsUnitRange ? null : query.unit();
+        boolean filtered = lowStockFilter || unitFilter != null;
+        boolean descending = query.direction().isDescending();
+
+        // Without a filter left to check, the page starts right at the offset
+        List<InventoryDashboardItem> items = new ArrayList<>();
+        long skip = offset;
+        for (int i = filtered ? from : (int) Math.min(from + offset, to); i < to && items.size() < limit; i++) {
+            int slot = slots[descending ? from + to - 1 - i : i];
+            if (filtered) {
+                boolean matches = (!lowStockFilter || isLowStock(slot))
+                    && (unitFilter == null || unitFilter.equals(units[slot]));
+                if (!matches || skip-- > 0) {
+                    continue;
+                }
+            }
+            items.add(dashboardItem(slot));
+        }
+        return items;
+    }
+
+    /**
+     * @return up to limit items with the given active status whose name or SKU starts with the query,
+     *     then those containing it, each in name order
+     */
+    List<InventoryDashboardItem> search(boolean isActive, String query, int limit) {
+        IntPredicate hasStatus = slot -> active[slot] == isActive;
+        int[] matches = searchIndex.search(
+            query, limit, hasStatus, byName.slots(isActive), byName.size(isActive), byName.ranks()
+        );
+        return Arrays.stream(matches)
+            .mapToObj(this::dashboardItem)
+            .toList();
+    }
+
+    /**
+     * Sorts the items of each active status into every order. Needed once after loading;
+     * later changes keep the orders sorted.
+     */
+    void sortItems() {
+        for (ItemOrder order : orders) {
+            order.sort(size, slot -> active[slot]);
+        }
+        sorted = true;
+    }
+
+    private ItemOrder orderOf(InventorySortField sort) {
+        return switch (sort) {
+            case NAME -> byName;
+            case SKU -> bySku;
+            case QUANTITY -> byQuantity;
+            case UNIT -> byUnit;
+        };
+    }
+
+    // The first position in the unit order whose unit is at least (or, if after, greater than) the given one
+    private int unitBound(int[] slots, int size, String unit, boolean after) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            String middleUnit = units[slots[middle]];
+            int comparison = middleUnit == null ? 1 : middleUnit.compareTo(unit);
+            if (comparison < 0 || after && comparison == 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private boolean isLowStock(int slot) {
+        return quantities[slot] < reorderThresholds[slot];
+    }
+
+    private InventoryDashboardItem dashboardItem(int slot) {
+        return new InventoryDashboardItem(
+            ids[slot],
+            names[slot],
+            skus[slot],
+            quantities[slot],
+            reorderThresholds[slot],
+            units[slot]
+        );
+    }
+
+    private int addSlot(long id) {
+        if (size == ids.length) {
+            grow();
+        }
+
+        int slot = size++;
+        ids[slot] = id;
+        index.put(id, slot);
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        quantities = Arrays.copyOf(quantities, capacity);
+        reorderThresholds = Arrays.copyOf(reorderThresholds, capacity);
+        active = Arrays.copyOf(active, capacity);
+        names = Arrays.copyOf(names, capacity);
+        skus = Arrays.copyOf(skus, capacity);
+        units = Arrays.copyOf(units, capacity);
+    }
+
+    private void countLowStock(int slot, int sign) {
+        if (isLowStock(slot)) {
+            lowStockCounts[statusIndex(active[slot])] += sign;
+        }
+    }
+
+    private static int statusIndex(boolean isActive) {
+        return isActive ? 1 : 0;
+    }
+}
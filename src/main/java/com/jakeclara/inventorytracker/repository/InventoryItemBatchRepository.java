@@ -0,0 +1,19 @@
+package com.jakeclara.inventorytracker.repository;
+
+import java.util.List;
+
+import com.jakeclara.inventorytracker.model.InventoryItem;
+
+public interface InventoryItemBatchRepository {
+
+    /**
+     * Inserts the given new items with a single JDBC batch in the current transaction.
+     * The items are not attached to the persistence context and their ids are not populated;
+     * the generated ids are returned instead.
+     * 
+     * @param items the new items to insert
+     * @return the generated ids, in the order of the items
+     * @throws org.springframework.dao.DataIntegrityViolationException if a name or SKU is already taken
+     */
+    List<Long> insertAll(List<InventoryItem> items);
+}
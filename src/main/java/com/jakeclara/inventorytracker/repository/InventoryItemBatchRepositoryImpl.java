@@ -0,0 +1,69 @@
+package com.jakeclara.inventorytracker.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.jakeclara.inventorytracker.model.InventoryItem;
+
+class InventoryItemBatchRepositoryImpl implements InventoryItemBatchRepository {
+
+    // Quantity on hand and revision start at their column defaults of zero
+    private static final String INSERT_ITEM = """
+        INSERT INTO inventory_item
+            (item_name, item_sku, reorder_threshold, item_unit, is_active, is_low_stock, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String[] GENERATED_COLUMNS = { "inventory_item_id" };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    InventoryItemBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> insertAll(List<InventoryItem> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            connection -> connection.prepareStatement(INSERT_ITEM, GENERATED_COLUMNS),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement statement, int i) throws SQLException {
+                    InventoryItem item = items.get(i);
+                    statement.setString(1, item.getName());
+                    statement.setString(2, item.getSku());
+                    statement.setInt(3, item.getReorderThreshold());
+                    statement.setString(4, item.getUnit());
+                    statement.setBoolean(5, item.isActive());
+                    statement.setBoolean(6, item.isLowStock());
+                    statement.setTimestamp(7, createdAt);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return items.size();
+                }
+            },
+            keyHolder
+        );
+
+        // One generated column per row; drivers differ in the case of its name
+        return keyHolder.getKeyList().stream()
+            .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+            .toList();
+    }
+}
@@ -1,28 +1,95 @@
 package com.jakeclara.inventorytracker.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
 import com.jakeclara.inventorytracker.model.InventoryItem;
 
-public interface InventoryItemRepository extends JpaRepository<InventoryItem, Long> {
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
-    boolean existsByName(String name);
-    boolean existsByNameAndIdNot(String name, Long id);
-    boolean existsBySku(String sku);
+public interface InventoryItemRepository extends JpaRepository<InventoryItem, Long>, InventoryItemBatchRepository {
 
+    /**
+     * Find which of the given names are already taken, with one query for the whole set.
+     * 
+     * @param names the item names to look up
+     * @return the names that belong to an existing item
+     */
+    @Query("SELECT item.name FROM InventoryItem item WHERE item.name IN :names")
+    List<String> findNamesIn(@Param("names") Collection<String> names);
+
+    /**
+     * Find which of the given SKUs are already taken, with one query for the whole set.
+     * 
+     * @param skus the item SKUs to look up
+     * @return the SKUs that belong to an existing item
+     */
+    @Query("SELECT item.sku FROM InventoryItem item WHERE item.sku IN :skus")
+    List<String> findSkusIn(@Param("skus") Collection<String> skus);
+
+    /**
+     * Find the inventory item with the given id and lock its row for the rest of the transaction.
+     * Concurrent writers to the same item wait for the lock; other items are unaffected.
+     * 
+     * @param itemId the id of the inventory item
+     * @return the locked inventory item, if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT item FROM InventoryItem item WHERE item.id = :itemId")
+    Optional<InventoryItem> findByIdForUpdate(@Param("itemId") Long itemId);
+
+    /**
+     * Find the inventory items with the given SKUs and lock their rows for the rest of the transaction.
+     * Rows are locked in id order so concurrent batches cannot deadlock each other.
+     * 
+     * @param skus the SKUs of the inventory items
+     * @return the locked inventory items that exist, ordered by id
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT item FROM InventoryItem item WHERE item.sku IN :skus ORDER BY item.id")
+    List<InventoryItem> findAllBySkuInForUpdate(@Param("skus") Collection<String> skus);
+
+    /**
+     * Find the inventory items in an id range and lock their rows for the rest of the transaction.
+     * Rows are locked in id order, like {@link #findAllBySkuInForUpdate(Collection)}.
+     * 
+     * @param firstItemId the first item id of the range
+     * @param lastItemId the last item id of the range
+     * @return the locked inventory items, ordered by id
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT item FROM InventoryItem item WHERE item.id BETWEEN :firstItemId AND :lastItemId ORDER BY item.id")
+    List<InventoryItem> findAllByIdBetweenForUpdate(
+        @Param("firstItemId") Long firstItemId,
+        @Param("lastItemId") Long lastItemId
+    );
+
+    @Query("SELECT item.id FROM InventoryItem item ORDER BY item.id")
+    List<Long> findAllIds();
     
     /**
      * Retrieves a list of inventory items with their current quantity.
-     * The result is ordered by item name ascending.
+     * The quantity is read from the materialized quantity on hand, so the movement ledger is not touched.
+     * The result is ordered by the pageable's sort; sorts by name, SKU, quantity then name, or unit then name
+     * are read in order from the matching (active status, ...) index.
      * 
      * @param isActive the active status of the items to retrieve
-     * @param pageable the pagination information
+     * @param pageable the pagination information and sort
      * @return a page of inventory items with their current quantity
      */
     @Query(
@@ -31,21 +98,12 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
                 item.id, 
                 item.name, 
                 item.sku, 
-                COALESCE(SUM(
-                    CASE
-                        WHEN movement.movementType IN('SALE', 'ADJUST_OUT')
-                        THEN -movement.quantity
-                        ELSE movement.quantity
-                    END
-                ), 0),
+                item.quantityOnHand,
                 item.reorderThreshold, 
                 item.unit
             )
             FROM InventoryItem item
-            LEFT JOIN InventoryMovement movement ON movement.item = item
             WHERE item.isActive = :isActive
-            GROUP BY item.id, item.name, item.sku, item.reorderThreshold, item.unit
-            ORDER BY item.name ASC
             """,
         countQuery = """
             SELECT COUNT(item)
@@ -58,6 +116,169 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
         Pageable pageable
     );
 
+    /**
+     * Retrieves a list of low-stock inventory items with their current quantity, read from the
+     * (active status, low stock, quantity, name) index, so it is in order when sorted by quantity.
+     * 
+     * @param isActive the active status of the items to retrieve
+     * @param pageable the pagination information and sort
+     * @return a page of low-stock inventory items with their current quantity
+     */
+    @Query(
+        value = """
+            SELECT new com.jakeclara.inventorytracker.dto.InventoryDashboardItem(
+                item.id,
+                item.name,
+                item.sku,
+                item.quantityOnHand,
+                item.reorderThreshold,
+                item.unit
+            )
+            FROM InventoryItem item
+            WHERE item.isActive = :isActive
+            AND item.lowStock = true
+            """,
+        countQuery = """
+            SELECT COUNT(item)
+            FROM InventoryItem item
+            WHERE item.isActive = :isActive
+            AND item.lowStock = true
+            """
+    )
+    Page<InventoryDashboardItem> findLowStockInventoryByActiveStatus(
+        @Param("isActive") boolean isActive,
+        Pageable pageable
+    );
+
+    /**
+     * Retrieves a list of inventory items in the given unit with their current quantity, read from the
+     * (active status, unit, name) index, so it is in order when sorted by name or unit.
+     * 
+     * @param isActive the active status of the items to retrieve
+     * @param unit the unit of the items to retrieve
+     * @param pageable the pagination information and sort
+     * @return a page of inventory items in the unit with their current quantity
+     */
+    @Query(
+        value = """
+            SELECT new com.jakeclara.inventorytracker.dto.InventoryDashboardItem(
+                item.id,
+                item.name,
+                item.sku,
+                item.quantityOnHand,
+                item.reorderThreshold,
+                item.unit
+            )
+            FROM InventoryItem item
+            WHERE item.isActive = :isActive
+            AND item.unit = :unit
+            """,
+        countQuery = """
+            SELECT COUNT(item)
+            FROM InventoryItem item
+            WHERE item.isActive = :isActive
+            AND item.unit = :unit
+            """
+    )
+    Page<InventoryDashboardItem> findInventoryByActiveStatusAndUnit(
+        @Param("isActive") boolean isActive,
+        @Param("unit") String unit,
+        Pageable pageable
+    );
+
+    /**
+     * Retrieves a list of low-stock inventory items in the given unit with their current quantity.
+     * 
+     * @param isActive the active status of the items to retrieve
+     * @param unit the unit of the items to retrieve
+     * @param pageable the pagination information and sort
+     * @return a page of low-stock inventory items in the unit with their current quantity
+     */
+    @Query(
+        value = """
+            SELECT new com.jakeclara.inventorytracker.dto.InventoryDashboardItem(
+                item.id,
+                item.name,
+                item.sku,
+                item.quantityOnHand,
+                item.reorderThreshold,
+                item.unit
+            )
+            FROM InventoryItem item
+            WHERE item.isActive = :isActive
+            AND item.lowStock = true
+            AND item.unit = :unit
+            """,
+        countQuery = """
+            SELECT COUNT(item)
+            FROM InventoryItem item
+            WHERE item.isActive = :isActive
+            AND item.lowStock = true
+            AND item.unit = :unit
+            """
+    )
+    Page<InventoryDashboardItem> findLowStockInventoryByActiveStatusAndUnit(
+        @Param("isActive") boolean isActive,
+        @Param("unit") String unit,
+        Pageable pageable
+    );
+
+    /**
+     * Find items with the given active status whose lowercased name or SKU matches a LIKE pattern,
+     * those also matching the prefix pattern first, then by name.
+     * On PostgreSQL the patterns are answered from the trigram indexes on the lowercased columns.
+     * 
+     * @param isActive the active status of the items to find
+     * @param pattern the LIKE pattern, lowercased, with \ escaping wildcards in the search text
+     * @param prefixPattern the LIKE pattern of matches to rank first
+     * @param limit the maximum number of items
+     * @return the matching items with their current quantity
+     */
+    @Query("""
+        SELECT new com.jakeclara.inventorytracker.dto.InventoryDashboardItem(
+            item.id,
+            item.name,
+            item.sku,
+            item.quantityOnHand,
+            item.reorderThreshold,
+            item.unit
+        )
+        FROM InventoryItem item
+        WHERE item.isActive = :isActive
+            AND (LOWER(item.name) LIKE :pattern ESCAPE '\\' OR LOWER(item.sku) LIKE :pattern ESCAPE '\\')
+        ORDER BY
+            CASE
+                WHEN LOWER(item.name) LIKE :prefixPattern ESCAPE '\\'
+                    OR LOWER(item.sku) LIKE :prefixPattern ESCAPE '\\'
+                THEN 0
+                ELSE 1
+            END,
+            item.name ASC
+        """)
+    List<InventoryDashboardItem> searchByActiveStatus(
+        @Param("isActive") boolean isActive,
+        @Param("pattern") String pattern,
+        @Param("prefixPattern") String prefixPattern,
+        Limit limit
+    );
+
+    /**
+     * Stream the inventory items with the given active status, ordered by name, for export.
+     * Rows are fetched from the database in batches and loaded read-only without going through
+     * the second-level cache; callers must consume the stream inside a transaction and clear
+     * the persistence context as they go.
+     * 
+     * @param isActive the active status of the items to stream
+     * @return the inventory items with the given active status
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT item FROM InventoryItem item WHERE item.isActive = :isActive ORDER BY item.name ASC")
+    Stream<InventoryItem> streamByActiveStatus(@Param("isActive") boolean isActive);
+
     /**
      * Count the number of inventory items that are low stock by the given active status.
      * 
@@ -68,25 +289,28 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
         SELECT COUNT(item)
         FROM InventoryItem item
         WHERE item.isActive = :isActive
-        AND (
-            SELECT COALESCE(SUM(
-                CASE
-                    WHEN movement.movementType IN('SALE', 'ADJUST_OUT')
-                    THEN -movement.quantity
-                    ELSE movement.quantity
-                END
-            ), 0)
-            FROM InventoryMovement movement
-            WHERE movement.item.id = item.id
-        ) < item.reorderThreshold
+        AND item.quantityOnHand < item.reorderThreshold
     """)
     long countLowStockByActiveStatus(@Param("isActive") boolean isActive);
 
     /**
-     * Find the current quantity of the inventory item with the given id.
+     * Computes a revision of the whole inventory that changes with every committed item change:
+     * each update increments an item's revision and items are never deleted, so the item count
+     * plus the sum of revisions only grows. Unlike the greatest revision, a change that commits
+     * after a later one still moves it. Aggregates the whole table, so it only seeds the
+     * maintained inventory revision.
+     * 
+     * @return the inventory revision
+     */
+    @Query("SELECT COUNT(item) + COALESCE(SUM(item.revision), 0) FROM InventoryItem item")
+    long findInventoryRevision();
+
+    /**
+     * Computes the quantity of the inventory item with the given id by summing its movement ledger.
+     * Reads should use the materialized quantity on hand; this is the source of truth for rebuilding it.
      * 
      * @param itemId the id of the inventory item
-     * @return the current quantity of the inventory item
+     * @return the quantity of the inventory item derived from its movements
      */
     @Query("""
         SELECT COALESCE(SUM(
@@ -100,7 +324,84 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
         WHERE movement.item.id = :itemId
     """)
     Long findCurrentQuantityByItemId(@Param("itemId") Long itemId);
-    
+
+    /**
+     * Rebuild the materialized quantity on hand of every inventory item from the movement ledger.
+     * 
+     * @return the number of inventory items updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE InventoryItem item
+        SET item.quantityOnHand = (
+            SELECT COALESCE(SUM(
+                CASE
+                    WHEN movement.movementType IN('SALE', 'ADJUST_OUT')
+                    THEN -movement.quantity
+                    ELSE movement.quantity
+                END
+            ), 0)
+            FROM InventoryMovement movement
+            WHERE movement.item.id = item.id
+        ),
+        item.revision = item.revision + 1
+    """)
+    int rebuildQuantityOnHand();
+
+    /**
+     * Rebuild the materialized quantity on hand of the inventory item with the given id from the movement ledger.
+     * 
+     * @param itemId the id of the inventory item
+     * @return the number of inventory items updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE InventoryItem item
+        SET item.quantityOnHand = (
+            SELECT COALESCE(SUM(
+                CASE
+                    WHEN movement.movementType IN('SALE', 'ADJUST_OUT')
+                    THEN -movement.quantity
+                    ELSE movement.quantity
+                END
+            ), 0)
+            FROM InventoryMovement movement
+            WHERE movement.item.id = item.id
+        ),
+        item.revision = item.revision + 1
+        WHERE item.id = :itemId
+    """)
+    int rebuildQuantityOnHandByItemId(@Param("itemId") Long itemId);
+
+    /**
+     * Recompute the materialized low-stock flag of every inventory item whose flag is out of date,
+     * after quantities on hand were rebuilt in bulk.
+     * 
+     * @return the number of inventory items updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE InventoryItem item
+        SET item.lowStock = CASE WHEN item.quantityOnHand < item.reorderThreshold THEN true ELSE false END
+        WHERE item.lowStock <> CASE WHEN item.quantityOnHand < item.reorderThreshold THEN true ELSE false END
+    """)
+    int refreshLowStock();
+
+    /**
+     * Recompute the materialized low-stock flag of a single inventory item,
+     * after its quantity on hand was rebuilt.
+     * 
+     * @param itemId the id of the inventory item
+     * @return the number of inventory items updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE InventoryItem item
+        SET item.lowStock = CASE WHEN item.quantityOnHand < item.reorderThreshold THEN true ELSE false END
+        WHERE item.id = :itemId
+    """)
+    int refreshLowStockByItemId(@Param("itemId") Long itemId);
+
 }
 
 
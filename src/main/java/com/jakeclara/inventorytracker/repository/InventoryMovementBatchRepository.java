@@ -0,0 +1,35 @@
+package com.jakeclara.inventorytracker.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+
+public interface InventoryMovementBatchRepository {
+
+    /**
+     * Inserts the given movements with a single JDBC batch in the current transaction.
+     * The movements are not attached to the persistence context and their ids are not populated.
+     * 
+     * @param movements the movements to insert
+     */
+    void insertAll(List<InventoryMovement> movements);
+
+    /**
+     * Recomputes the balance after each movement of an item dated on or after the given date,
+     * starting from the balance of the last movement before it. Used when movements are
+     * inserted out of (movement date, id) order, so only the affected tail is rewritten.
+     * 
+     * @param itemId the id of the inventory item
+     * @param fromDate the earliest date whose balances may be stale
+     * @return the number of movements whose balance changed
+     */
+    int rebalanceFrom(Long itemId, LocalDate fromDate);
+
+    /**
+     * Recomputes the balance after every movement from the whole ledger.
+     * 
+     * @return the number of movements whose balance changed
+     */
+    int rebuildBalances();
+}
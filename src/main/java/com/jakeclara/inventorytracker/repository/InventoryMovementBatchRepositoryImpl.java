@@ -0,0 +1,99 @@
+package com.jakeclara.inventorytracker.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+
+class InventoryMovementBatchRepositoryImpl implements InventoryMovementBatchRepository {
+
+    private static final String INSERT_MOVEMENT = """
+        INSERT INTO inventory_movement
+            (inventory_item_id, quantity, movement_type, movement_date, reference, note, created_by, balance_after)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String QUANTITY_DELTA = """
+        CASE WHEN movement_type IN ('SALE', 'ADJUST_OUT') THEN -quantity ELSE quantity END
+        """;
+
+    private static final String FIND_BALANCE_BEFORE = """
+        SELECT balance_after
+        FROM inventory_movement
+        WHERE inventory_item_id = ? AND movement_date < ?
+        ORDER BY movement_date DESC, inventory_movement_id DESC
+        LIMIT 1
+        """;
+
+    // The movement date is part of the join so PostgreSQL only touches the partitions involved
+    private static final String REBALANCE_ITEM_FROM = """
+        MERGE INTO inventory_movement target
+        USING (
+            SELECT inventory_movement_id, movement_date,
+                CAST(? AS BIGINT) + SUM(%s) OVER (ORDER BY movement_date, inventory_movement_id) AS balance
+            FROM inventory_movement
+            WHERE inventory_item_id = ? AND movement_date >= ?
+        ) running
+        ON target.inventory_movement_id = running.inventory_movement_id
+            AND target.movement_date = running.movement_date
+        WHEN MATCHED AND target.balance_after <> running.balance
+            THEN UPDATE SET balance_after = running.balance
+        """.formatted(QUANTITY_DELTA);
+
+    private static final String REBUILD_BALANCES = """
+        MERGE INTO inventory_movement target
+        USING (
+            SELECT inventory_movement_id, movement_date,
+                SUM(%s) OVER (
+                    PARTITION BY inventory_item_id
+                    ORDER BY movement_date, inventory_movement_id
+                ) AS balance
+            FROM inventory_movement
+        ) running
+        ON target.inventory_movement_id = running.inventory_movement_id
+            AND target.movement_date = running.movement_date
+        WHEN MATCHED AND target.balance_after <> running.balance
+            THEN UPDATE SET balance_after = running.balance
+        """.formatted(QUANTITY_DELTA);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    InventoryMovementBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<InventoryMovement> movements) {
+        if (movements.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_MOVEMENT, movements, movements.size(), (statement, movement) -> {
+            statement.setLong(1, movement.getItem().getId());
+            statement.setInt(2, movement.getQuantity());
+            statement.setString(3, movement.getMovementType().name());
+            statement.setDate(4, Date.valueOf(movement.getMovementDate()));
+            statement.setString(5, movement.getReference());
+            statement.setString(6, movement.getNote());
+            statement.setLong(7, movement.getCreatedBy().getId());
+            statement.setLong(8, movement.getBalanceAfter());
+        });
+    }
+
+    @Override
+    public int rebalanceFrom(Long itemId, LocalDate fromDate) {
+        Date from = Date.valueOf(fromDate);
+        List<Long> balanceBefore = jdbcTemplate.queryForList(FIND_BALANCE_BEFORE, Long.class, itemId, from);
+        long startingBalance = balanceBefore.isEmpty() ? 0 : balanceBefore.get(0);
+
+        return jdbcTemplate.update(REBALANCE_ITEM_FROM, startingBalance, itemId, from);
+    }
+
+    @Override
+    public int rebuildBalances() {
+        return jdbcTemplate.update(REBUILD_BALANCES);
+    }
+}
@@ -0,0 +1,166 @@
+package com.jakeclara.inventorytracker.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.jakeclara.inventorytracker.dto.MovementReportRow;
+import com.jakeclara.inventorytracker.model.InventoryMovementDailyRollup;
+import com.jakeclara.inventorytracker.model.InventoryMovementDailyRollupId;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+
+public interface InventoryMovementDailyRollupRepository
+    extends JpaRepository<InventoryMovementDailyRollup, InventoryMovementDailyRollupId> {
+
+    /**
+     * Add movements to the rollup of an item, type and day, creating it if needed.
+     * Must be called while the item's row is locked, so no other transaction creates the same rollup.
+     * 
+     * @param itemId the id of the inventory item
+     * @param rollupDate the movement date
+     * @param movementType the name of the movement type
+     * @param movementCount the number of movements to add
+     * @param totalQuantity the total quantity of the movements to add
+     * @return the number of rollups created or updated
+     */
+    @Modifying
+    @Query(
+        value = """
+            MERGE INTO inventory_movement_daily_rollup rollup
+            USING (
+                SELECT CAST(:itemId AS BIGINT) AS inventory_item_id,
+                    CAST(:rollupDate AS DATE) AS rollup_date,
+                    CAST(:movementType AS VARCHAR(255)) AS movement_type
+            ) delta
+            ON rollup.inventory_item_id = delta.inventory_item_id
+                AND rollup.rollup_date = delta.rollup_date
+                AND rollup.movement_type = delta.movement_type
+            WHEN MATCHED THEN UPDATE SET
+                movement_count = rollup.movement_count + :movementCount,
+                total_quantity = rollup.total_quantity + :totalQuantity
+            WHEN NOT MATCHED THEN INSERT (inventory_item_id, rollup_date, movement_type, movement_count, total_quantity)
+                VALUES (delta.inventory_item_id, delta.rollup_date, delta.movement_type, :movementCount, :totalQuantity)
+        """,
+        nativeQuery = true
+    )
+    int addToRollup(
+        @Param("itemId") Long itemId,
+        @Param("rollupDate") LocalDate rollupDate,
+        @Param("movementType") String movementType,
+        @Param("movementCount") long movementCount,
+        @Param("totalQuantity") long totalQuantity
+    );
+
+    /**
+     * Delete the rollups of the items in an id range dated on or after the given date.
+     * 
+     * @param firstItemId the first item id of the range
+     * @param lastItemId the last item id of the range
+     * @param fromDate the first date to delete
+     * @return the number of rollups deleted
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM InventoryMovementDailyRollup rollup
+        WHERE rollup.id.itemId BETWEEN :firstItemId AND :lastItemId
+        AND rollup.id.rollupDate >= :fromDate
+    """)
+    int deleteForItemsFrom(
+        @Param("firstItemId") Long firstItemId,
+        @Param("lastItemId") Long lastItemId,
+        @Param("fromDate") LocalDate fromDate
+    );
+
+    /**
+     * Recompute from the movement ledger the rollups of the items in an id range
+     * dated on or after the given date. The existing rollups must have been deleted first.
+     * 
+     * @param firstItemId the first item id of the range
+     * @param lastItemId the last item id of the range
+     * @param fromDate the first date to recompute
+     * @return the number of rollups inserted
+     */
+    @Modifying
+    @Query(
+        value = """
+            INSERT INTO inventory_movement_daily_rollup
+                (inventory_item_id, rollup_date, movement_type, movement_count, total_quantity)
+            SELECT inventory_item_id, movement_date, movement_type, COUNT(*), SUM(quantity)
+            FROM inventory_movement
+            WHERE inventory_item_id BETWEEN :firstItemId AND :lastItemId
+            AND movement_date >= :fromDate
+            GROUP BY inventory_item_id, movement_date, movement_type
+        """,
+        nativeQuery = true
+    )
+    int insertFromLedger(
+        @Param("firstItemId") Long firstItemId,
+        @Param("lastItemId") Long lastItemId,
+        @Param("fromDate") LocalDate fromDate
+    );
+
+    /**
+     * Retrieves the daily totals of every item's movements of the given types,
+     * read from the (date, type) index of the rollups.
+     * The result is ordered by date, then movement type.
+     * 
+     * @param fromDate the first date to include
+     * @param toDate the last date to include
+     * @param movementTypes the movement types to include
+     * @return one row per day and movement type with movements
+     */
+    @Query("""
+        SELECT new com.jakeclara.inventorytracker.dto.MovementReportRow(
+            rollup.id.rollupDate,
+            rollup.id.movementType,
+            SUM(rollup.movementCount),
+            SUM(rollup.totalQuantity)
+        )
+        FROM InventoryMovementDailyRollup rollup
+        WHERE rollup.id.rollupDate BETWEEN :fromDate AND :toDate
+        AND rollup.id.movementType IN :movementTypes
+        GROUP BY rollup.id.rollupDate, rollup.id.movementType
+        ORDER BY rollup.id.rollupDate, rollup.id.movementType
+    """)
+    List<MovementReportRow> findDailyTotals(
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate,
+        @Param("movementTypes") Collection<InventoryMovementType> movementTypes
+    );
+
+    /**
+     * Retrieves the daily totals of one item's movements of the given types,
+     * read from the primary key of the rollups.
+     * The result is ordered by date, then movement type.
+     * 
+     * @param itemId the id of the inventory item
+     * @param fromDate the first date to include
+     * @param toDate the last date to include
+     * @param movementTypes the movement types to include
+     * @return one row per day and movement type with movements
+     */
+    @Query("""
+        SELECT new com.jakeclara.inventorytracker.dto.MovementReportRow(
+            rollup.id.rollupDate,
+            rollup.id.movementType,
+            rollup.movementCount,
+            rollup.totalQuantity
+        )
+        FROM InventoryMovementDailyRollup rollup
+        WHERE rollup.id.itemId = :itemId
+        AND rollup.id.rollupDate BETWEEN :fromDate AND :toDate
+        AND rollup.id.movementType IN :movementTypes
+        ORDER BY rollup.id.rollupDate, rollup.id.movementType
+    """)
+    List<MovementReportRow> findDailyTotalsForItem(
+        @Param("itemId") Long itemId,
+        @Param("fromDate") LocalDate fromDate,
+        @Param("toDate") LocalDate toDate,
+        @Param("movementTypes") Collection<InventoryMovementType> movementTypes
+    );
+}
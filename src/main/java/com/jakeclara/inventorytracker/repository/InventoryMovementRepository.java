@@ -1,13 +1,284 @@
 package com.jakeclara.inventorytracker.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.jakeclara.inventorytracker.model.InventoryMovement;
 
-public interface InventoryMovementRepository extends JpaRepository<InventoryMovement, Long> {
-    Page<InventoryMovement> findByItemIdOrderByMovementDateDesc(Long itemId, Pageable pageable);
+import jakarta.persistence.QueryHint;
+
+public interface InventoryMovementRepository extends JpaRepository<InventoryMovement, Long>, InventoryMovementBatchRepository {
+
+    /**
+     * Find the most recent movements of an item, newest first.
+     * The id breaks ties between movements on the same date so the order is stable.
+     * 
+     * @param itemId the id of the inventory item
+     * @param limit the maximum number of movements to return
+     * @return the most recent movements of the item
+     */
+    @Query("""
+        SELECT movement
+        FROM InventoryMovement movement
+        JOIN FETCH movement.createdBy
+        WHERE movement.item.id = :itemId
+        ORDER BY movement.movementDate DESC, movement.id DESC
+    """)
+    List<InventoryMovement> findLatestByItemId(@Param("itemId") Long itemId, Limit limit);
+
+    /**
+     * Find the movements of an item that come after the given position in newest-first order.
+     * Seeks directly to the position through the (item, movement date, id) index,
+     * so deep pages cost the same as the first page. The separate upper bound on the date
+     * lets PostgreSQL skip the monthly partitions after the position.
+     * 
+     * @param itemId the id of the inventory item
+     * @param movementDate the movement date of the last movement already returned
+     * @param movementId the id of the last movement already returned
+     * @param limit the maximum number of movements to return
+     * @return the next movements of the item
+     */
+    @Query("""
+        SELECT movement
+        FROM InventoryMovement movement
+        JOIN FETCH movement.createdBy
+        WHERE movement.item.id = :itemId
+        AND movement.movementDate <= :movementDate
+        AND (
+            movement.movementDate < :movementDate
+            OR (movement.movementDate = :movementDate AND movement.id < :movementId)
+        )
+        ORDER BY movement.movementDate DESC, movement.id DESC
+    """)
+    List<InventoryMovement> findByItemIdBefore(
+        @Param("itemId") Long itemId,
+        @Param("movementDate") LocalDate movementDate,
+        @Param("movementId") Long movementId,
+        Limit limit
+    );
+
+    /**
+     * Stream every movement of an item, oldest first, for export.
+     * Rows are fetched from the database in batches and loaded read-only without going through
+     * the second-level cache; callers must consume the stream inside a transaction and clear
+     * the persistence context as they go.
+     * 
+     * @param itemId the id of the inventory item
+     * @return the movements of the item
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("""
+        SELECT movement
+        FROM InventoryMovement movement
+        JOIN FETCH movement.item
+        JOIN FETCH movement.createdBy
+        WHERE movement.item.id = :itemId
+        ORDER BY movement.movementDate ASC, movement.id ASC
+    """)
+    Stream<InventoryMovement> streamByItemId(@Param("itemId") Long itemId);
+
+    /**
+     * Stream every movement dated within the range, oldest first, for export.
+     * Fetched the same way as {@link #streamByItemId(Long)}.
+     * 
+     * @param from the first movement date, inclusive
+     * @param to the last movement date, inclusive
+     * @return the movements within the range
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("""
+        SELECT movement
+        FROM InventoryMovement movement
+        JOIN FETCH movement.item
+        JOIN FETCH movement.createdBy
+        WHERE movement.movementDate BETWEEN :from AND :to
+        ORDER BY movement.movementDate ASC, movement.id ASC
+    """)
+    Stream<InventoryMovement> streamByMovementDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Find the ids of the items that have movements dated before the cutoff.
+     * 
+     * @param cutoff the first date to keep
+     * @return the ids of the items with older movements
+     */
+    @Query("""
+        SELECT DISTINCT movement.item.id
+        FROM InventoryMovement movement
+        WHERE movement.movementDate < :cutoff
+    """)
+    List<Long> findItemIdsWithMovementsBefore(@Param("cutoff") LocalDate cutoff);
+
+    @Query("SELECT MIN(movement.movementDate) FROM InventoryMovement movement")
+    Optional<LocalDate> findEarliestMovementDate();
+
+    /**
+     * Find the date of the newest movement carrying forward the net of movements
+     * removed from the ledger. The ledger is only complete after that date.
+     * 
+     * @param references the references written on carried-forward movements
+     * @return the date of the newest carried-forward movement, if the ledger was ever compacted
+     */
+    @Query("""
+        SELECT MAX(movement.movementDate)
+        FROM InventoryMovement movement
+        WHERE movement.reference IN :references
+    """)
+    Optional<LocalDate> findLatestCarryForwardDate(@Param("references") Collection<String> references);
+
+    /**
+     * Find the date of an item's newest movement carrying forward the net of movements
+     * removed from its ledger.
+     * 
+     * @param itemId the id of the inventory item
+     * @param references the references written on carried-forward movements
+     * @return the date of the item's newest carried-forward movement, if it has one
+     */
+    @Query("""
+        SELECT MAX(movement.movementDate)
+        FROM InventoryMovement movement
+        WHERE movement.item.id = :itemId
+        AND movement.reference IN :references
+    """)
+    Optional<LocalDate> findLatestCarryForwardDateByItemId(
+        @Param("itemId") Long itemId,
+        @Param("references") Collection<String> references
+    );
+
+    /**
+     * Find the reference of an item's oldest movement, oldest first by the
+     * (item, movement date, id) index.
+     * 
+     * @param itemId the id of the inventory item
+     * @param limit one, to read only the oldest movement
+     * @return the reference, which may be null, or an empty list if the item has no movements
+     */
+    @Query("""
+        SELECT movement.reference
+        FROM InventoryMovement movement
+        WHERE movement.item.id = :itemId
+        ORDER BY movement.movementDate, movement.id
+    """)
+    List<String> findOldestReference(@Param("itemId") Long itemId, Limit limit);
+
+    /**
+     * Find the newest movements of an item dated before the cutoff, newest first.
+     * 
+     * @param itemId the id of the inventory item
+     * @param cutoff the first date to keep
+     * @param limit the maximum number of movements to return
+     * @return the newest older movements of the item
+     */
+    @Query("""
+        SELECT movement
+        FROM InventoryMovement movement
+        WHERE movement.item.id = :itemId
+        AND movement.movementDate < :cutoff
+        ORDER BY movement.movementDate DESC, movement.id DESC
+    """)
+    List<InventoryMovement> findAllByItemIdBefore(
+        @Param("itemId") Long itemId,
+        @Param("cutoff") LocalDate cutoff,
+        Limit limit
+    );
+
+    /**
+     * Stream every movement of an item dated before the cutoff, newest first, for compaction.
+     * Rows are fetched from the database in batches and loaded read-only without going through
+     * the second-level cache; callers must consume the stream inside a transaction and clear
+     * the persistence context as they go.
+     * 
+     * @param itemId the id of the inventory item
+     * @param cutoff the first date to keep
+     * @return the older movements of the item
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("""
+        SELECT movement
+        FROM InventoryMovement movement
+        JOIN FETCH movement.createdBy
+        WHERE movement.item.id = :itemId
+        AND movement.movementDate < :cutoff
+        ORDER BY movement.movementDate DESC, movement.id DESC
+    """)
+    Stream<InventoryMovement> streamAllByItemIdBefore(@Param("itemId") Long itemId, @Param("cutoff") LocalDate cutoff);
+
+    /**
+     * Delete every movement of an item dated before the cutoff.
+     * 
+     * @param itemId the id of the inventory item
+     * @param cutoff the first date to keep
+     * @return the number of deleted movements
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        DELETE FROM InventoryMovement movement
+        WHERE movement.item.id = :itemId
+        AND movement.movementDate < :cutoff
+    """)
+    int deleteAllByItemIdBefore(@Param("itemId") Long itemId, @Param("cutoff") LocalDate cutoff);
+
+    /**
+     * Find the balance after the last movement of an item dated on or before the given date,
+     * which is the quantity on hand at the end of that day. A single seek on the
+     * (item, movement date, id) index.
+     * 
+     * @param itemId the id of the inventory item
+     * @param asOf the date to read the balance at
+     * @param limit one, to read only the last movement
+     * @return the balance, or an empty list if the item has no movements by then
+     */
+    @Query("""
+        SELECT movement.balanceAfter
+        FROM InventoryMovement movement
+        WHERE movement.item.id = :itemId
+        AND movement.movementDate <= :asOf
+        ORDER BY movement.movementDate DESC, movement.id DESC
+    """)
+    List<Long> findBalanceAsOf(@Param("itemId") Long itemId, @Param("asOf") LocalDate asOf, Limit limit);
+
+    /**
+     * Shift the balance after each movement of an item dated after the given date,
+     * to account for a movement back-dated to that date.
+     * 
+     * @param itemId the id of the inventory item
+     * @param movementDate the date of the back-dated movement
+     * @param quantityDelta the quantity change of the back-dated movement
+     * @return the number of movements shifted
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE InventoryMovement movement
+        SET movement.balanceAfter = movement.balanceAfter + :quantityDelta
+        WHERE movement.item.id = :itemId
+        AND movement.movementDate > :movementDate
+    """)
+    int shiftBalancesAfter(
+        @Param("itemId") Long itemId,
+        @Param("movementDate") LocalDate movementDate,
+        @Param("quantityDelta") long quantityDelta
+    );
 }
@@ -0,0 +1,20 @@
+package com.jakeclara.inventorytracker.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.jakeclara.inventorytracker.model.InventoryRevision;
+
+public interface InventoryRevisionRepository extends JpaRepository<InventoryRevision, Integer> {
+
+    /**
+     * Atomically increment the inventory revision, after flushing pending item changes so their
+     * rows are always locked before the revision row.
+     * 
+     * @return the number of revisions updated, 0 if the revision has not been created yet
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InventoryRevision inventory SET inventory.revision = inventory.revision + 1")
+    int increment();
+}
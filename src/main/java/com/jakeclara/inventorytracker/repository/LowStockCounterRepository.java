@@ -0,0 +1,41 @@
+package com.jakeclara.inventorytracker.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.jakeclara.inventorytracker.model.LowStockCounter;
+
+import jakarta.persistence.LockModeType;
+
+public interface LowStockCounterRepository extends JpaRepository<LowStockCounter, Boolean> {
+
+    /**
+     * Atomically add the given delta to the low-stock count of the given active status.
+     * 
+     * @param isActive the active status of the counter
+     * @param delta the signed change to the count
+     * @return the number of counters updated, 0 if the counter has not been created yet
+     */
+    @Modifying
+    @Query("""
+        UPDATE LowStockCounter counter
+        SET counter.lowStockCount = counter.lowStockCount + :delta
+        WHERE counter.isActive = :isActive
+    """)
+    int adjustLowStockCount(@Param("isActive") boolean isActive, @Param("delta") long delta);
+
+    /**
+     * Find the counter of the given active status and lock its row for the rest of the transaction.
+     * 
+     * @param isActive the active status of the counter
+     * @return the locked counter, if it has been created
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT counter FROM LowStockCounter counter WHERE counter.isActive = :isActive")
+    Optional<LowStockCounter> findByIdForUpdate(@Param("isActive") boolean isActive);
+}
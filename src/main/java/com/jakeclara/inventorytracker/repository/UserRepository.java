@@ -5,7 +5,9 @@ import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.model.UserRole;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+    Optional<User> findFirstByRoleOrderByIdAsc(UserRole role);
 }
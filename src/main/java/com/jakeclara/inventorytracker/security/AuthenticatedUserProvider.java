@@ -5,6 +5,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.model.UserRole;
 import com.jakeclara.inventorytracker.repository.UserRepository;
 
 @Component
@@ -18,19 +19,50 @@ public class AuthenticatedUserProvider {
 
     /**
      * Retrieves the authenticated user from the security context.
+     * When the principal was loaded by {@link JpaUserDetailsService}, this returns a reference
+     * built from its user id without querying the user table.
      *
-     * @return the authenticated user
+     * @return the authenticated user, possibly an uninitialized reference
      * @throws IllegalStateException if no authenticated user is found
      */
     public User getAuthenticatedUser() {
+        Authentication authentication = getAuthentication();
+
+        if (authentication.getPrincipal() instanceof InventoryUserDetails principal) {
+            return userRepository.getReferenceById(principal.getUserId());
+        }
+
+        return findByUsername(authentication.getName());
+    }
+
+    /**
+     * Retrieves the role of the authenticated user from the security principal.
+     *
+     * @return the authenticated user's role
+     * @throws IllegalStateException if no authenticated user is found
+     */
+    public UserRole getAuthenticatedRole() {
+        Authentication authentication = getAuthentication();
+
+        if (authentication.getPrincipal() instanceof InventoryUserDetails principal) {
+            return principal.getRole();
+        }
+
+        return findByUsername(authentication.getName()).getRole();
+    }
+
+    private Authentication getAuthentication() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new IllegalStateException("No authenticated user found");
         }
 
-        String username = authentication.getName();
-        
+        return authentication;
+    }
+
+    // Principals not created by JpaUserDetailsService only carry a username
+    private User findByUsername(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
     }
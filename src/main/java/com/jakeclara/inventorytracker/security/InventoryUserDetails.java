@@ -0,0 +1,50 @@
+package com.jakeclara.inventorytracker.security;
+
+import java.util.List;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.model.UserRole;
+
+/**
+ * Security principal that carries the user's id and role, so the authenticated user
+ * can be referenced and authorized without reading the user table again.
+ */
+public class InventoryUserDetails extends org.springframework.security.core.userdetails.User {
+
+    private final Long userId;
+    private final UserRole role;
+
+    public InventoryUserDetails(Long userId, String username, String passwordHash, UserRole role, boolean enabled) {
+        super(
+            username,
+            passwordHash,
+            enabled,
+            true,
+            true,
+            true,
+            List.of(new SimpleGrantedAuthority("ROLE_" + role.name()))
+        );
+        this.userId = userId;
+        this.role = role;
+    }
+
+    public static InventoryUserDetails from(User user) {
+        return new InventoryUserDetails(
+            user.getId(),
+            user.getUsername(),
+            user.getPasswordHash(),
+            user.getRole(),
+            user.isEnabled()
+        );
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+}
@@ -23,7 +23,7 @@ public class JpaUserDetailsService implements UserDetailsService {
      * Loads a user from the database by their username.
      *
      * @param username the username to search for
-     * @return a UserDetails object representing the user
+     * @return the user's details, carrying their id and role
      * @throws UsernameNotFoundException if no user is found with the given username
      */
     @Override
@@ -32,11 +32,6 @@ public class JpaUserDetailsService implements UserDetailsService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
-        return org.springframework.security.core.userdetails.User
-            .withUsername(user.getUsername())
-            .password(user.getPasswordHash())
-            .roles(user.getRole().name())
-            .disabled(!user.isEnabled())
-            .build();
+        return InventoryUserDetails.from(user);
     }
 }
\ No newline at end of file
@@ -4,38 +4,93 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
+import com.jakeclara.inventorytracker.dto.InventoryDashboardQuery;
 import com.jakeclara.inventorytracker.dto.InventoryDashboardView;
 import com.jakeclara.inventorytracker.dto.common.Pagination;
+import com.jakeclara.inventorytracker.projection.InventoryProjection;
 import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
 public class DashboardService {
 
     private static final int DEFAULT_PAGE_SIZE = 10;
 
     private final InventoryItemRepository inventoryItemRepository;
+    private final LowStockCounterService lowStockCounterService;
+    private final InventoryProjection inventoryProjection;
 
-    public DashboardService(InventoryItemRepository inventoryItemRepository) {
+    public DashboardService(
+        InventoryItemRepository inventoryItemRepository,
+        LowStockCounterService lowStockCounterService,
+        InventoryProjection inventoryProjection
+    ) {
         this.inventoryItemRepository = inventoryItemRepository;
+        this.lowStockCounterService = lowStockCounterService;
+        this.inventoryProjection = inventoryProjection;
+    }
+
+    /**
+     * Returns a token that changes whenever the dashboard may have changed, read before the
+     * dashboard itself so a dashboard built afterwards is at least as new as the token.
+     * Comes from the projection once it is loaded; otherwise from the inventory revision and
+     * low-stock count, each a single row.
+     *
+     * @return the dashboard revision
+     */
+    @Transactional(readOnly = true)
+    public String getDashboardRevision() {
+        if (inventoryProjection.isReady()) {
+            return "p" + inventoryProjection.getRevision();
+        }
+        return "s" + lowStockCounterService.getInventoryRevision()
+            + "-" + lowStockCounterService.getLowStockCount(true);
+    }
+
+    /**
+     * Retrieves the number of active low-stock items, from the projection once it is loaded.
+     *
+     * @return the number of active low-stock items
+     */
+    public long getLowStockCount() {
+        return inventoryProjection.isReady()
+            ? inventoryProjection.getLowStockCount(true)
+            : lowStockCounterService.getLowStockCount(true);
     }
 
-    public InventoryDashboardView getInventoryDashboard(int page) {
+    /**
+     * Retrieves a page of active items sorted and filtered as the query asks, with the number of
+     * active low-stock items.
+     *
+     * @param page the zero-based page number; negative pages are read as the first
+     * @param query the sort and filters
+     * @return the dashboard view
+     */
+    @Timed(value = "inventory.dashboard", histogram = true)
+    @Transactional(readOnly = true)
+    public InventoryDashboardView getInventoryDashboard(int page, InventoryDashboardQuery query) {
 
         int safePage = Math.max(page, 0);
         
-        Page<InventoryDashboardItem> inventoryItemsPage = 
-            inventoryItemRepository.findInventoryByActiveStatusWithQuantity(
-                true,
-                PageRequest.of(safePage, DEFAULT_PAGE_SIZE)
-            );
+        PageRequest pageRequest = PageRequest.of(safePage, DEFAULT_PAGE_SIZE, sortOf(query));
+        // Served from memory once the projection is loaded; SQL until then
+        boolean fromProjection = inventoryProjection.isReady();
+
+        Page<InventoryDashboardItem> inventoryItemsPage = fromProjection
+            ? inventoryProjection.getItemsByActiveStatus(true, query, pageRequest)
+            : findActiveItems(query, pageRequest);
         
         List<InventoryDashboardItem> inventoryItems = inventoryItemsPage.getContent();
 
-        long lowStockCount = 
-            inventoryItemRepository.countLowStockByActiveStatus(true);
+        long lowStockCount = fromProjection
+            ? inventoryProjection.getLowStockCount(true)
+            : lowStockCounterService.getLowStockCount(true);
 
         Pagination pagination = Pagination.from(inventoryItemsPage);
 
@@ -45,4 +100,27 @@ public class DashboardService {
             pagination
         );
     }
+
+    // One query per filter combination, so each filter is an equality on an index prefix
+    private Page<InventoryDashboardItem> findActiveItems(InventoryDashboardQuery query, PageRequest pageRequest) {
+        if (query.unit() == null) {
+            return query.lowStockOnly()
+                ? inventoryItemRepository.findLowStockInventoryByActiveStatus(true, pageRequest)
+                : inventoryItemRepository.findInventoryByActiveStatusWithQuantity(true, pageRequest);
+        }
+        return query.lowStockOnly()
+            ? inventoryItemRepository.findLowStockInventoryByActiveStatusAndUnit(true, query.unit(), pageRequest)
+            : inventoryItemRepository.findInventoryByActiveStatusAndUnit(true, query.unit(), pageRequest);
+    }
+
+    // Ties are broken by name in the same direction, matching the column order of the indexes
+    private static Sort sortOf(InventoryDashboardQuery query) {
+        Sort byName = Sort.by(query.direction(), "name");
+        return switch (query.sort()) {
+            case NAME -> byName;
+            case SKU -> Sort.by(query.direction(), "sku");
+            case QUANTITY -> Sort.by(query.direction(), "quantityOnHand").and(byName);
+            case UNIT -> Sort.by(query.direction(), "unit").and(byName);
+        };
+    }
 }
@@ -0,0 +1,382 @@
+package com.jakeclara.inventorytracker.service;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jakeclara.inventorytracker.dto.InventoryQuantityUpdate;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes committed quantity and low-stock changes to open dashboards as server-sent events,
+ * so a dashboard patches its rows instead of reloading.
+ * <p>
+ * Each connection buffers its pending events keyed by item, so a newer quantity replaces one not
+ * yet sent, and is drained by its own virtual thread; a slow client only holds up itself.
+ * A client whose buffer reaches {@code inventory.dashboard-stream.buffer-size} items is too far
+ * behind to catch up: its buffer is replaced by a single resync event and the connection is closed,
+ * so the page reloads once rather than the server holding a growing backlog for it.
+ */
+@Service
+public class DashboardStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStreamService.class);
+
+    static final String ITEM_EVENT = "item";
+    static final String LOW_STOCK_COUNT_EVENT = "low-stock-count";
+    static final String RESYNC_EVENT = "resync";
+
+    private static final String HEARTBEAT_KEY = "heartbeat";
+
+    private final DashboardService dashboardService;
+    private final int bufferSize;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Serializes low-stock count reads, so a later count is never sent before an earlier one.
+    // A lock rather than a monitor, so a sender waiting out the query does not pin its carrier thread
+    private final Lock lowStockCountLock = new ReentrantLock();
+    private final AtomicBoolean lowStockCountChanged = new AtomicBoolean();
+
+    private final Counter overflows;
+
+    public DashboardStreamService(
+        DashboardService dashboardService,
+        @Value("${inventory.dashboard-stream.buffer-size:256}") int bufferSize,
+        MeterRegistry meterRegistry
+    ) {
+        this.dashboardService = dashboardService;
+        this.bufferSize = bufferSize;
+        Gauge.builder("inventory.dashboard.stream.connections", subscriptions, Set::size)
+            .description("Open live dashboard connections")
+            .register(meterRegistry);
+        this.overflows = Counter.builder("inventory.dashboard.stream.overflows")
+            .description("Live dashboard connections closed because the client fell too far behind")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of changes to the given items and to the low-stock count.
+     * The stream times out with the MVC async request timeout; browsers reconnect on their own.
+     *
+     * @param itemIds the ids of the items to send changes for, or empty for every item
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe(Set<Long> itemIds) {
+        return register(new SseEmitter(), itemIds);
+    }
+
+    SseEmitter register(SseEmitter emitter, Set<Long> itemIds) {
+        Subscription subscription = new Subscription(emitter, Set.copyOf(itemIds));
+        subscriptions.add(subscription);
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+
+        return emitter;
+    }
+
+    /**
+     * Sends the item's new quantity once the current transaction commits, and the low-stock
+     * count too when the item crossed its reorder threshold. Nothing is sent on rollback.
+     * Must be called after the movement has been applied to the locked item.
+     *
+     * @param item the inventory item the movement was applied to
+     * @param wasLowStock whether the item was low stock before the movement
+     */
+    public void recordMovement(InventoryItem item, boolean wasLowStock) {
+        recordChange(item, item.isActive(), wasLowStock);
+    }
+
+    /**
+     * Sends the item's quantity and low-stock status once the current transaction commits,
+     * and the low-stock count too when the item entered or left it by crossing its reorder
+     * threshold or changing active status. Nothing is sent on rollback.
+     * Must be called after the change has been applied to the locked item.
+     *
+     * @param item the changed inventory item
+     * @param wasActive whether the item was active before the change
+     * @param wasLowStock whether the item was low stock before the change
+     */
+    public void recordChange(InventoryItem item, boolean wasActive, boolean wasLowStock) {
+        boolean lowStockCountChanged = (wasActive && wasLowStock) != (item.isActive() && item.isLowStock());
+        afterCommit(() -> publish(item, lowStockCountChanged));
+    }
+
+    /**
+     * Sends the item's rebuilt quantity and the low-stock count once the current transaction commits.
+     * The item's state before the rebuild is not known, so the count is always sent.
+     *
+     * @param item the inventory item, read after its quantity on hand was rebuilt
+     */
+    public void recordRebuild(InventoryItem item) {
+        afterCommit(() -> publish(item, true));
+    }
+
+    /**
+     * Sends every open dashboard a resync once the current transaction commits, for changes
+     * to too many items to send one by one, and closes their connections.
+     */
+    public void recordRebuildAll() {
+        afterCommit(() -> subscriptions.forEach(Subscription::resync));
+    }
+
+    // Comments keep idle connections open through proxies and find clients that have gone away
+    @Scheduled(
+        fixedRateString = "${inventory.dashboard-stream.heartbeat-interval:PT30S}",
+        initialDelayString = "${inventory.dashboard-stream.heartbeat-interval:PT30S}"
+    )
+    public void sendHeartbeats() {
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(HEARTBEAT_KEY, Event.HEARTBEAT);
+        }
+    }
+
+    @PreDestroy
+    void closeAll() {
+        senders.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        // After completion, like the projection, so a low-stock count read from it includes this change
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private void publish(InventoryItem item, boolean lowStockCountChanged) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+
+        // Read after the commit flushed the item, so the revision includes this change
+        long itemId = item.getId();
+        Event event = new Event(ITEM_EVENT, new InventoryQuantityUpdate(
+            itemId,
+            item.getQuantityOnHand(),
+            item.isLowStock(),
+            item.getRevision()
+        ));
+
+        for (Subscription subscription : subscriptions) {
+            if (subscription.wants(itemId)) {
+                subscription.offer(ITEM_EVENT + "-" + itemId, event);
+            }
+        }
+
+        if (lowStockCountChanged) {
+            publishLowStockCount();
+        }
+    }
+
+    // Counted off the committing thread; changes arriving while a count is read share the next one
+    private void publishLowStockCount() {
+        if (!lowStockCountChanged.compareAndSet(false, true)) {
+            return;
+        }
+
+        execute(() -> {
+            lowStockCountLock.lock();
+            try {
+                lowStockCountChanged.set(false);
+                Event event;
+                try {
+                    event = new Event(LOW_STOCK_COUNT_EVENT, dashboardService.getLowStockCount());
+                } catch (RuntimeException e) {
+                    logger.warn("Low-stock count could not be read for live dashboards", e);
+                    return;
+                }
+
+                for (Subscription subscription : subscriptions) {
+                    subscription.offer(LOW_STOCK_COUNT_EVENT, event);
+                }
+            } finally {
+                lowStockCountLock.unlock();
+            }
+        });
+    }
+
+    private void execute(Runnable task) {
+        try {
+            senders.execute(task);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Dashboard stream event dropped during shutdown");
+        }
+    }
+
+    private record Event(String name, Object data) {
+
+        static final Event HEARTBEAT = new Event(null, null);
+        static final Event RESYNC = new Event(RESYNC_EVENT, "reload");
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return data instanceof String text
+                ? SseEmitter.event().name(name).data(text)
+                : SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Set<Long> itemIds;
+
+        // Guarded by lock, which senders on virtual threads take without pinning their carrier
+        private final Lock lock = new ReentrantLock();
+        private final Map<String, Event> pending = new LinkedHashMap<>();
+        private boolean draining;
+        private boolean closed;
+
+        Subscription(SseEmitter emitter, Set<Long> itemIds) {
+            this.emitter = emitter;
+            this.itemIds = itemIds;
+        }
+
+        boolean wants(long itemId) {
+            return itemIds.isEmpty() || itemIds.contains(itemId);
+        }
+
+        void offer(String key, Event event) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+
+                if (pending.size() >= bufferSize && !pending.containsKey(key)) {
+                    replaceWithResync();
+                    overflows.increment();
+                } else {
+                    pending.put(key, event);
+                }
+
+                if (!startDraining()) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            execute(this::drain);
+        }
+
+        // Sends a resync in place of anything still pending, then closes the connection
+        void resync() {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+
+                replaceWithResync();
+                if (!startDraining()) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            execute(this::drain);
+        }
+
+        private void replaceWithResync() {
+            pending.clear();
+            pending.put(RESYNC_EVENT, Event.RESYNC);
+            closed = true;
+        }
+
+        private boolean startDraining() {
+            if (draining) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        private void drain() {
+            while (true) {
+                List<Event> events;
+                boolean last;
+                lock.lock();
+                try {
+                    if (pending.isEmpty()) {
+                        draining = false;
+                        return;
+                    }
+                    events = List.copyOf(pending.values());
+                    pending.clear();
+                    last = closed;
+                } finally {
+                    lock.unlock();
+                }
+
+                try {
+                    for (Event event : events) {
+                        emitter.send(event.toSse());
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // The client has gone away or the response has already completed
+                    close();
+                    return;
+                }
+
+                if (last) {
+                    subscriptions.remove(this);
+                    emitter.complete();
+                    return;
+                }
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                closed = true;
+                pending.clear();
+            } finally {
+                lock.unlock();
+            }
+            subscriptions.remove(this);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.jakeclara.inventorytracker.service;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.jakeclara.inventorytracker.exception.DuplicateNameException;
+import com.jakeclara.inventorytracker.exception.DuplicateSkuException;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+
+/**
+ * Translates violations of the item name and SKU unique constraints into the exceptions
+ * the item forms report, so items are written without checking for duplicates first.
+ */
+final class DuplicateItemTranslator {
+
+    static final String DUPLICATE_NAME_MESSAGE = "Item with that name already exists";
+    static final String DUPLICATE_SKU_MESSAGE = "Item with that SKU already exists";
+
+    private DuplicateItemTranslator() {}
+
+    /**
+     * @param e the violation raised while writing inventory items
+     * @return a {@link DuplicateNameException} or {@link DuplicateSkuException} for the violated
+     *     constraint, or the violation itself when it is not one of them
+     */
+    static RuntimeException translate(DataIntegrityViolationException e) {
+        String constraint = violatedConstraint(e);
+        if (constraint.contains(InventoryItem.NAME_CONSTRAINT)) {
+            return new DuplicateNameException(DUPLICATE_NAME_MESSAGE);
+        }
+        if (constraint.contains(InventoryItem.SKU_CONSTRAINT)) {
+            return new DuplicateSkuException(DUPLICATE_SKU_MESSAGE);
+        }
+        return e;
+    }
+
+    // Hibernate extracts the constraint name; JDBC batches only carry the driver's message.
+    // H2 reports the backing index (e.g. INVENTORY_ITEM_ITEM_NAME_KEY_INDEX_2), hence contains
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message == null ? "" : message.toLowerCase(Locale.ROOT);
+    }
+}
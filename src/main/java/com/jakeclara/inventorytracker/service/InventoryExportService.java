@@ -0,0 +1,187 @@
+package com.jakeclara.inventorytracker.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jakeclara.inventorytracker.exception.InvalidReportRangeException;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Writes movements and the current inventory as CSV while streaming them from the database,
+ * so an export of any size is held in memory one fetched batch at a time.
+ */
+@Service
+public class InventoryExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryExportService.class);
+
+    static final String MOVEMENT_HEADER =
+        "id,movementDate,itemId,itemSku,itemName,movementType,quantity,balanceAfter,reference,note,createdBy";
+    static final String INVENTORY_HEADER =
+        "id,sku,name,unit,quantityOnHand,reorderThreshold,lowStock";
+
+    // Matches the fetch size of the export queries, so each batch is released before the next is read
+    private static final int CLEAR_INTERVAL = 1000;
+
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final InventoryItemRepository inventoryItemRepository;
+    private final EntityManager entityManager;
+
+    public InventoryExportService(
+        InventoryMovementRepository inventoryMovementRepository,
+        InventoryItemRepository inventoryItemRepository,
+        EntityManager entityManager
+    ) {
+        this.inventoryMovementRepository = inventoryMovementRepository;
+        this.inventoryItemRepository = inventoryItemRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Writes every movement of an item in the ledger, oldest first.
+     * Movements compacted into an opening balance are not included.
+     *
+     * @param itemId the id of the inventory item
+     * @param output the stream to write to, left open
+     * @return the number of movements written
+     * @throws UncheckedIOException if the output cannot be written
+     */
+    @Timed(value = "inventory.exports.movements", histogram = true)
+    @Transactional(readOnly = true)
+    public long writeMovementsForItem(Long itemId, OutputStream output) {
+        try (Stream<InventoryMovement> movements = inventoryMovementRepository.streamByItemId(itemId)) {
+            long written = write(output, MOVEMENT_HEADER, movements, InventoryExportService::toCsvLine);
+            logger.info("Exported {} movements of item {}", written, itemId);
+            return written;
+        }
+    }
+
+    /**
+     * Writes every movement dated within the range, oldest first.
+     *
+     * @param fromDate the first movement date to include
+     * @param toDate the last movement date to include
+     * @param output the stream to write to, left open
+     * @return the number of movements written
+     * @throws InvalidReportRangeException if the range ends before it starts
+     * @throws UncheckedIOException if the output cannot be written
+     */
+    @Timed(value = "inventory.exports.movements", histogram = true)
+    @Transactional(readOnly = true)
+    public long writeMovementsBetween(LocalDate fromDate, LocalDate toDate, OutputStream output) {
+        validateRange(fromDate, toDate);
+
+        try (Stream<InventoryMovement> movements =
+                inventoryMovementRepository.streamByMovementDateBetween(fromDate, toDate)) {
+            long written = write(output, MOVEMENT_HEADER, movements, InventoryExportService::toCsvLine);
+            logger.info("Exported {} movements dated {} to {}", written, fromDate, toDate);
+            return written;
+        }
+    }
+
+    /**
+     * Writes the current quantity of every active item, ordered by name.
+     *
+     * @param output the stream to write to, left open
+     * @return the number of items written
+     * @throws UncheckedIOException if the output cannot be written
+     */
+    @Timed(value = "inventory.exports.inventory", histogram = true)
+    @Transactional(readOnly = true)
+    public long writeInventorySnapshot(OutputStream output) {
+        try (Stream<InventoryItem> items = inventoryItemRepository.streamByActiveStatus(true)) {
+            long written = write(output, INVENTORY_HEADER, items, InventoryExportService::toCsvLine);
+            logger.info("Exported {} inventory items", written);
+            return written;
+        }
+    }
+
+    /**
+     * Checks a date range before its export starts, so a bad range is reported
+     * before any of the response is written.
+     *
+     * @throws InvalidReportRangeException if the range ends before it starts
+     */
+    public void validateRange(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate.isAfter(toDate)) {
+            throw new InvalidReportRangeException(
+                "Export start date " + fromDate + " is after its end date " + toDate
+            );
+        }
+    }
+
+    private <T> long write(OutputStream output, String header, Stream<T> rows, Function<T, String> toCsvLine) {
+        long written = 0;
+
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            writer.write(header);
+            writer.write('\n');
+
+            for (Iterator<T> iterator = rows.iterator(); iterator.hasNext();) {
+                writer.write(toCsvLine.apply(iterator.next()));
+                writer.write('\n');
+
+                // Rows already written are not needed again; keep the persistence context from growing
+                if (++written % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write export after " + written + " rows", e);
+        }
+
+        return written;
+    }
+
+    private static String toCsvLine(InventoryMovement movement) {
+        InventoryItem item = movement.getItem();
+        return String.join(",",
+            String.valueOf(movement.getId()),
+            movement.getMovementDate().toString(),
+            String.valueOf(item.getId()),
+            InventoryMovementArchive.csvField(item.getSku()),
+            InventoryMovementArchive.csvField(item.getName()),
+            movement.getMovementType().name(),
+            String.valueOf(movement.getQuantity()),
+            String.valueOf(movement.getBalanceAfter()),
+            InventoryMovementArchive.csvField(movement.getReference()),
+            InventoryMovementArchive.csvField(movement.getNote()),
+            InventoryMovementArchive.csvField(movement.getCreatedBy().getUsername())
+        );
+    }
+
+    private static String toCsvLine(InventoryItem item) {
+        return String.join(",",
+            String.valueOf(item.getId()),
+            InventoryMovementArchive.csvField(item.getSku()),
+            InventoryMovementArchive.csvField(item.getName()),
+            InventoryMovementArchive.csvField(item.getUnit()),
+            String.valueOf(item.getQuantityOnHand()),
+            String.valueOf(item.getReorderThreshold()),
+            String.valueOf(item.isLowStock())
+        );
+    }
+}
@@ -0,0 +1,131 @@
+package com.jakeclara.inventorytracker.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jakeclara.inventorytracker.dto.InventoryItemBatchError;
+import com.jakeclara.inventorytracker.dto.InventoryItemBatchResult;
+import com.jakeclara.inventorytracker.dto.InventoryItemForm;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.projection.InventoryProjection;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+
+@Service
+public class InventoryItemBatchService {
+
+    // Keeps each lookup's IN list well within the drivers' bind parameter limits
+    private static final int LOOKUP_CHUNK_SIZE = 1_000;
+
+    private final InventoryItemRepository inventoryItemRepository;
+    private final LowStockCounterService lowStockCounterService;
+    private final InventoryProjection inventoryProjection;
+
+    public InventoryItemBatchService(
+        InventoryItemRepository inventoryItemRepository,
+        LowStockCounterService lowStockCounterService,
+        InventoryProjection inventoryProjection
+    ) {
+        this.inventoryItemRepository = inventoryItemRepository;
+        this.lowStockCounterService = lowStockCounterService;
+        this.inventoryProjection = inventoryProjection;
+    }
+
+    /**
+     * Creates a catalog of items in one transaction.
+     * Names and SKUs are trimmed as on the item form and checked against each other in memory,
+     * then against existing items with one query per thousand names and SKUs, so the accepted
+     * items are written with a single JDBC batch. Rejected items do not affect the rest of the batch.
+     * An item created concurrently with one of the same name or SKU still fails the whole batch
+     * on the unique constraints, as a {@link com.jakeclara.inventorytracker.exception.DuplicateNameException}
+     * or {@link com.jakeclara.inventorytracker.exception.DuplicateSkuException}.
+     *
+     * @param forms the new items' details
+     * @return the number of items created and the errors for the items that were rejected, by index
+     */
+    @Transactional
+    public InventoryItemBatchResult createBatch(List<InventoryItemForm> forms) {
+        List<InventoryItemBatchError> errors = new ArrayList<>();
+        List<Integer> candidateIndexes = new ArrayList<>();
+        List<InventoryItem> candidates = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        Set<String> skus = new HashSet<>();
+
+        for (int index = 0; index < forms.size(); index++) {
+            InventoryItem item;
+            try {
+                item = toItem(forms.get(index));
+            } catch (IllegalArgumentException e) {
+                errors.add(new InventoryItemBatchError(index, e.getMessage()));
+                continue;
+            }
+
+            if (names.contains(item.getName())) {
+                errors.add(new InventoryItemBatchError(index, DuplicateItemTranslator.DUPLICATE_NAME_MESSAGE));
+            } else if (skus.contains(item.getSku())) {
+                errors.add(new InventoryItemBatchError(index, DuplicateItemTranslator.DUPLICATE_SKU_MESSAGE));
+            } else {
+                names.add(item.getName());
+                skus.add(item.getSku());
+                candidateIndexes.add(index);
+                candidates.add(item);
+            }
+        }
+
+        Set<String> takenNames = findTaken(names, inventoryItemRepository::findNamesIn);
+        Set<String> takenSkus = findTaken(skus, inventoryItemRepository::findSkusIn);
+
+        List<InventoryItem> acceptedItems = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            InventoryItem item = candidates.get(i);
+            if (takenNames.contains(item.getName())) {
+                errors.add(new InventoryItemBatchError(candidateIndexes.get(i), DuplicateItemTranslator.DUPLICATE_NAME_MESSAGE));
+            } else if (takenSkus.contains(item.getSku())) {
+                errors.add(new InventoryItemBatchError(candidateIndexes.get(i), DuplicateItemTranslator.DUPLICATE_SKU_MESSAGE));
+            } else {
+                acceptedItems.add(item);
+            }
+        }
+
+        List<Long> acceptedIds;
+        try {
+            acceptedIds = inventoryItemRepository.insertAll(acceptedItems);
+        } catch (DataIntegrityViolationException e) {
+            throw DuplicateItemTranslator.translate(e);
+        }
+
+        if (!acceptedItems.isEmpty()) {
+            lowStockCounterService.recordNewItems(acceptedItems);
+            inventoryProjection.recordNewItems(acceptedItems, acceptedIds);
+        }
+
+        errors.sort(Comparator.comparingInt(InventoryItemBatchError::index));
+        return new InventoryItemBatchResult(acceptedItems.size(), errors);
+    }
+
+    private InventoryItem toItem(InventoryItemForm form) {
+        if (form.getReorderThreshold() == null) {
+            throw new IllegalArgumentException("Reorder threshold is required");
+        }
+
+        InventoryItem item = new InventoryItem(form.getName(), form.getSku(), form.getReorderThreshold());
+        item.setUnit(form.getUnit());
+        return item;
+    }
+
+    private Set<String> findTaken(Set<String> values, Function<List<String>, List<String>> lookup) {
+        List<String> valueList = List.copyOf(values);
+        Set<String> taken = new HashSet<>();
+        for (int from = 0; from < valueList.size(); from += LOOKUP_CHUNK_SIZE) {
+            taken.addAll(lookup.apply(valueList.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, valueList.size()))));
+        }
+        return taken;
+    }
+}
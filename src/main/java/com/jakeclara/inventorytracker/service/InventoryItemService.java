@@ -1,45 +1,77 @@
 package com.jakeclara.inventorytracker.service;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
+import java.util.OptionalLong;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.jakeclara.inventorytracker.dto.InventoryItemForm;
 import com.jakeclara.inventorytracker.dto.common.Pagination;
+import com.jakeclara.inventorytracker.exception.ArchivedLedgerException;
 import com.jakeclara.inventorytracker.exception.DuplicateNameException;
 import com.jakeclara.inventorytracker.exception.DuplicateSkuException;
 import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
+import com.jakeclara.inventorytracker.dto.ArchivedInventoryMovement;
 import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
 import com.jakeclara.inventorytracker.dto.InventoryDashboardView;
 import com.jakeclara.inventorytracker.dto.InventoryItemDetailsView;
+import com.jakeclara.inventorytracker.dto.InventoryMovementCursor;
 import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.projection.InventoryProjection;
 import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
 
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 
 @Service
 public class InventoryItemService {
 
     private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int SEARCH_LIMIT = 10;
+    // Shorter queries only match the start of a name or SKU, as in the projection's trigram index
+    private static final int MIN_SUBSTRING_SEARCH_LENGTH = 3;
     
     private final InventoryItemRepository inventoryItemRepository;
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final InventoryMovementArchive inventoryMovementArchive;
+    private final LowStockCounterService lowStockCounterService;
+    private final InventoryProjection inventoryProjection;
+    private final DashboardStreamService dashboardStreamService;
 
-    public InventoryItemService(InventoryItemRepository inventoryItemRepository) {
+    public InventoryItemService(
+        InventoryItemRepository inventoryItemRepository,
+        InventoryMovementRepository inventoryMovementRepository,
+        InventoryMovementArchive inventoryMovementArchive,
+        LowStockCounterService lowStockCounterService,
+        InventoryProjection inventoryProjection,
+        DashboardStreamService dashboardStreamService
+    ) {
         this.inventoryItemRepository = inventoryItemRepository;
+        this.inventoryMovementRepository = inventoryMovementRepository;
+        this.inventoryMovementArchive = inventoryMovementArchive;
+        this.lowStockCounterService = lowStockCounterService;
+        this.inventoryProjection = inventoryProjection;
+        this.dashboardStreamService = dashboardStreamService;
     }
 
+    /**
+     * Creates an item in a single round trip: duplicates are found by the unique constraints
+     * on name and SKU rather than checked for first, so concurrent creations cannot both pass.
+     *
+     * @param form the new item's details
+     * @return the id of the new item
+     * @throws DuplicateNameException if an item with the name already exists
+     * @throws DuplicateSkuException if an item with the SKU already exists
+     */
     @Transactional
     public Long createInventoryItem(InventoryItemForm form) {
-
-        if (inventoryItemRepository.existsByName(form.getName())) {
-            throw new DuplicateNameException("Item with that name already exists");
-        }
-
-        if (inventoryItemRepository.existsBySku(form.getSku())) {
-            throw new DuplicateSkuException("Item with that SKU already exists");
-        }
-
         InventoryItem newItem = new InventoryItem(
             form.getName(),
             form.getSku(),
@@ -47,32 +79,61 @@ public class InventoryItemService {
         );
         newItem.setUnit(form.getUnit());
 
-        return inventoryItemRepository.save(newItem).getId();
+        InventoryItem savedItem;
+        try {
+            savedItem = inventoryItemRepository.saveAndFlush(newItem);
+        } catch (DataIntegrityViolationException e) {
+            throw DuplicateItemTranslator.translate(e);
+        }
+
+        lowStockCounterService.recordNewItem(savedItem);
+        inventoryProjection.recordItem(savedItem);
+        return savedItem.getId();
     }
 
     @Transactional
     public void deactivateInventoryItem(Long itemID) {
-        InventoryItem item = getInventoryItemById(itemID);
+        InventoryItem item = getInventoryItemForUpdate(itemID);
+        boolean wasActive = item.isActive();
+        boolean wasLowStock = item.isLowStock();
+
         item.setIsActive(false);
+        lowStockCounterService.recordChange(item, wasActive, wasLowStock);
+        inventoryProjection.recordItem(item);
+        dashboardStreamService.recordChange(item, wasActive, wasLowStock);
     }
 
     @Transactional
     public void activateInventoryItem(Long itemID) {
-        InventoryItem item = getInventoryItemById(itemID);
+        InventoryItem item = getInventoryItemForUpdate(itemID);
+        boolean wasActive = item.isActive();
+        boolean wasLowStock = item.isLowStock();
+
         item.setIsActive(true);
+        lowStockCounterService.recordChange(item, wasActive, wasLowStock);
+        inventoryProjection.recordItem(item);
+        dashboardStreamService.recordChange(item, wasActive, wasLowStock);
     }
 
     @Transactional
     public void updateInventoryItem(Long itemID, InventoryItemForm editForm) {
-        InventoryItem existingItem = getInventoryItemById(itemID);
-
-        if (inventoryItemRepository.existsByNameAndIdNot(editForm.getName(), itemID)) {
-            throw new DuplicateNameException("Item with that name already exists");
-        }
+        InventoryItem existingItem = getInventoryItemForUpdate(itemID);
+        boolean wasLowStock = existingItem.isLowStock();
 
         existingItem.rename(editForm.getName());
         existingItem.updateReorderThreshold(editForm.getReorderThreshold());
         existingItem.setUnit(editForm.getUnit());
+
+        // Flushed here so a duplicate name is reported by the unique constraint, not at commit
+        try {
+            inventoryItemRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw DuplicateItemTranslator.translate(e);
+        }
+
+        lowStockCounterService.recordChange(existingItem, existingItem.isActive(), wasLowStock);
+        inventoryProjection.recordItem(existingItem);
+        dashboardStreamService.recordChange(existingItem, existingItem.isActive(), wasLowStock);
     }
 
     public InventoryItem getInventoryItemById(Long itemId) {
@@ -80,32 +141,196 @@ public class InventoryItemService {
         .orElseThrow(() -> new ResourceNotFoundException("Inventory item not found " + itemId));
     }
 
+    /**
+     * Retrieves an inventory item and locks it until the surrounding transaction ends,
+     * so its quantity on hand can be checked and updated without racing other writers.
+     *
+     * @param itemId the id of the inventory item
+     * @return the locked inventory item
+     * @throws ResourceNotFoundException if the item does not exist
+     */
+    public InventoryItem getInventoryItemForUpdate(Long itemId) {
+        return inventoryItemRepository.findByIdForUpdate(itemId)
+        .orElseThrow(() -> new ResourceNotFoundException("Inventory item not found " + itemId));
+    }
+
+    /**
+     * Retrieves the item's quantity on hand, from the in-memory projection when it is loaded.
+     * Not for stock checks: the projection only reflects committed changes.
+     *
+     * @param itemId the id of the inventory item
+     * @return the quantity on hand
+     * @throws ResourceNotFoundException if the item does not exist
+     */
     public Long getCurrentQuantity(Long itemId) {
-        return inventoryItemRepository.findCurrentQuantityByItemId(itemId);
+        if (inventoryProjection.isReady()) {
+            OptionalLong quantity = inventoryProjection.getQuantity(itemId);
+            if (quantity.isPresent()) {
+                return quantity.getAsLong();
+            }
+        }
+        return getInventoryItemById(itemId).getQuantityOnHand();
+    }
+
+    /**
+     * Retrieves the item's quantity on hand at the end of the given day, read from the balance
+     * recorded on its last movement by then. Dates before a compaction are answered from the archive.
+     *
+     * @param itemId the id of the inventory item
+     * @param asOf the date to read the quantity at
+     * @return the quantity on hand at the end of that day
+     * @throws ResourceNotFoundException if the item does not exist
+     * @throws ArchivedLedgerException if the movements by then were archived out of the database
+     */
+    @Transactional(readOnly = true)
+    public long getQuantityAsOf(Long itemId, LocalDate asOf) {
+        getInventoryItemById(itemId);
+
+        List<Long> balance = inventoryMovementRepository.findBalanceAsOf(itemId, asOf, Limit.of(1));
+        if (!balance.isEmpty()) {
+            return balance.get(0);
+        }
+
+        // Every movement dated on or before asOf comes before this position
+        InventoryMovementCursor endOfDay = new InventoryMovementCursor(asOf.plusDays(1), 0L);
+        List<ArchivedInventoryMovement> archived = inventoryMovementArchive.findBefore(itemId, endOfDay, 1);
+        if (!archived.isEmpty()) {
+            return archived.get(0).balanceAfter();
+        }
+
+        // No movement by then means no stock yet, unless the oldest movement left carries forward
+        // older ones, like the months a partition archive detached into the inventory_archive schema
+        String oldestReference = findOldestReference(itemId);
+        if (oldestReference != null && LedgerCompactionService.CARRY_FORWARD_REFERENCES.contains(oldestReference)) {
+            throw new ArchivedLedgerException(
+                "Quantities of item " + itemId + " on " + asOf + " are only available from the inventory archive"
+            );
+        }
+        return 0;
+    }
+
+    // Archived movements are all older than the ledger's
+    private String findOldestReference(Long itemId) {
+        List<ArchivedInventoryMovement> archived = inventoryMovementArchive.findBefore(itemId, null, Integer.MAX_VALUE);
+        if (!archived.isEmpty()) {
+            return archived.getLast().reference();
+        }
+        List<String> oldest = inventoryMovementRepository.findOldestReference(itemId, Limit.of(1));
+        return oldest.isEmpty() ? null : oldest.get(0);
+    }
+
+    /**
+     * Rebuilds the materialized quantity on hand of every inventory item, and the balance
+     * recorded on every movement, from the movement ledger.
+     *
+     * @return the number of inventory items rebuilt
+     */
+    @Transactional
+    public int rebuildQuantitiesOnHand() {
+        inventoryMovementRepository.rebuildBalances();
+        int rebuiltItems = inventoryItemRepository.rebuildQuantityOnHand();
+        inventoryItemRepository.refreshLowStock();
+        lowStockCounterService.reconcile();
+        lowStockCounterService.recordInventoryChange();
+        inventoryProjection.reloadAfterCommit();
+        dashboardStreamService.recordRebuildAll();
+        return rebuiltItems;
+    }
+
+    /**
+     * Rebuilds the materialized quantity on hand of a single inventory item from the movement ledger.
+     * The item stays locked meanwhile, so only its own low-stock count change is applied.
+     *
+     * @param itemId the id of the inventory item
+     * @return the rebuilt quantity on hand
+     * @throws ResourceNotFoundException if the item does not exist
+     */
+    @Transactional
+    public Long rebuildQuantityOnHand(Long itemId) {
+        InventoryItem item = getInventoryItemForUpdate(itemId);
+        boolean wasActive = item.isActive();
+        boolean wasLowStock = item.isLowStock();
+
+        inventoryItemRepository.rebuildQuantityOnHandByItemId(itemId);
+        inventoryItemRepository.refreshLowStockByItemId(itemId);
+
+        InventoryItem rebuiltItem = getInventoryItemById(itemId);
+        lowStockCounterService.recordChange(rebuiltItem, wasActive, wasLowStock);
+        inventoryProjection.recordQuantity(itemId, rebuiltItem.getQuantityOnHand());
+        dashboardStreamService.recordRebuild(rebuiltItem);
+        return rebuiltItem.getQuantityOnHand();
     }
     
+    /**
+     * Retrieves the item's revision, incremented on every change to the item.
+     * Read through the second-level cache, so it is usually answered without SQL.
+     *
+     * @param itemId the id of the inventory item
+     * @return the revision of the item
+     * @throws ResourceNotFoundException if the item does not exist
+     */
+    public long getItemRevision(Long itemId) {
+        return getInventoryItemById(itemId).getRevision();
+    }
+
+    /**
+     * Finds active items for type-ahead by name or SKU, ignoring case: those starting with the query
+     * first, then those containing it, each in name order. Queries shorter than three characters
+     * only match the start of a name or SKU. Served from the projection's trigram index once it is
+     * loaded; until then from SQL, which PostgreSQL answers from its trigram indexes.
+     *
+     * @param query the search text
+     * @return up to ten matching items with their current quantity
+     */
+    @Timed(value = "inventory.items.search", histogram = true)
+    @Transactional(readOnly = true)
+    public List<InventoryDashboardItem> searchItems(String query) {
+        String text = query == null ? "" : query.strip();
+        if (text.isEmpty()) {
+            return List.of();
+        }
+
+        if (inventoryProjection.isReady()) {
+            return inventoryProjection.searchItems(true, text, SEARCH_LIMIT);
+        }
+
+        String escapedText = text.toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        String prefixPattern = escapedText + "%";
+        String pattern = text.length() < MIN_SUBSTRING_SEARCH_LENGTH ? prefixPattern : "%" + prefixPattern;
+
+        return inventoryItemRepository.searchByActiveStatus(true, pattern, prefixPattern, Limit.of(SEARCH_LIMIT));
+    }
+
+    @Timed(value = "inventory.items.details", histogram = true)
+    @Transactional(readOnly = true)
     public InventoryItemDetailsView getItemDetails(Long itemId) {
         InventoryItem item = getInventoryItemById(itemId);
         return InventoryItemDetailsView.from(
             item, 
-            getCurrentQuantity(itemId)
+            item.getQuantityOnHand()
         );
     }
 
+    @Transactional(readOnly = true)
     public InventoryDashboardView getInactiveItems(int page) {
 
         int safePage = Math.max(page, 0);
         
-        Page<InventoryDashboardItem> inventoryItemsPage = 
-            inventoryItemRepository.findInventoryByActiveStatusWithQuantity(
-                false,
-                PageRequest.of(safePage, DEFAULT_PAGE_SIZE)
-            );
+        PageRequest pageRequest = PageRequest.of(safePage, DEFAULT_PAGE_SIZE, Sort.by("name"));
+        boolean fromProjection = inventoryProjection.isReady();
+
+        Page<InventoryDashboardItem> inventoryItemsPage = fromProjection
+            ? inventoryProjection.getItemsByActiveStatus(false, pageRequest)
+            : inventoryItemRepository.findInventoryByActiveStatusWithQuantity(false, pageRequest);
         
         List<InventoryDashboardItem> inventoryItems = inventoryItemsPage.getContent();
 
-        long lowStockCount = 
-            inventoryItemRepository.countLowStockByActiveStatus(false);
+        long lowStockCount = fromProjection
+            ? inventoryProjection.getLowStockCount(false)
+            : lowStockCounterService.getLowStockCount(false);
 
         Pagination pagination = Pagination.from(inventoryItemsPage);
         
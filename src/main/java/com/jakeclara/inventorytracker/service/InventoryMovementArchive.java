@@ -0,0 +1,269 @@
+package com.jakeclara.inventorytracker.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jakeclara.inventorytracker.dto.ArchivedInventoryMovement;
+import com.jakeclara.inventorytracker.dto.InventoryMovementCursor;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+
+/**
+ * Gzipped CSV files holding the movements removed from the ledger by compaction,
+ * one file per item and compaction, under {@code inventory.ledger-archive.directory}.
+ */
+@Component
+public class InventoryMovementArchive {
+
+    static final String HEADER = "id,movementDate,movementType,quantity,reference,note,createdBy,balanceAfter";
+
+    private static final Pattern ARCHIVE_FILE = Pattern.compile("before-(\\d{4}-\\d{2}-\\d{2})-\\d+\\.csv\\.gz");
+    private static final Comparator<ArchivedInventoryMovement> NEWEST_FIRST = Comparator
+        .comparing(ArchivedInventoryMovement::movementDate)
+        .thenComparing(ArchivedInventoryMovement::id)
+        .reversed();
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryMovementArchive.class);
+
+    private final Path directory;
+
+    public InventoryMovementArchive(
+        @Value("${inventory.ledger-archive.directory:ledger-archive}") Path directory
+    ) {
+        this.directory = directory;
+    }
+
+    /**
+     * Writes the movements of an item compacted before the cutoff.
+     * The movements are written as they are iterated, so they can be streamed from the ledger.
+     * They go to a temporary file that is moved into place once the current transaction commits,
+     * and deleted if it rolls back, so the archive only ever holds movements the ledger no longer
+     * has. Outside a transaction the file is moved into place straight away.
+     * The file is named after the cutoff and the newest movement id.
+     *
+     * @param itemId the id of the inventory item
+     * @param cutoff the date the movements were compacted before
+     * @param movements the compacted movements, newest first
+     * @return the path the archive file has once it is in place
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    public Path write(Long itemId, LocalDate cutoff, Iterable<ArchivedInventoryMovement> movements) {
+        try {
+            Path itemDirectory = Files.createDirectories(itemDirectory(itemId));
+            Path temporary = Files.createTempFile(itemDirectory, "before-", ".tmp");
+
+            long newestId = 0;
+            try {
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temporary)),
+                    StandardCharsets.UTF_8
+                ))) {
+                    writer.write(HEADER);
+                    writer.write('\n');
+                    for (ArchivedInventoryMovement movement : movements) {
+                        writer.write(toCsvLine(movement));
+                        writer.write('\n');
+                        newestId = Math.max(newestId, movement.id());
+                    }
+                }
+                try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temporary);
+                throw e;
+            }
+
+            Path archiveFile = itemDirectory.resolve("before-" + cutoff + "-" + newestId + ".csv.gz");
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                moveIntoPlace(temporary, archiveFile);
+                return archiveFile;
+            }
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        moveIntoPlaceAfterCommit(temporary, archiveFile);
+                    } else {
+                        deleteTemporary(temporary);
+                    }
+                }
+            });
+            return archiveFile;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write movement archive for item " + itemId, e);
+        }
+    }
+
+    private static void moveIntoPlace(Path temporary, Path archiveFile) throws IOException {
+        try {
+            Files.move(temporary, archiveFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    // The ledger has already been compacted, so a file that cannot be moved is kept to be recovered by hand
+    private static void moveIntoPlaceAfterCommit(Path temporary, Path archiveFile) {
+        try {
+            Files.move(temporary, archiveFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.error("Could not move movement archive {} into place as {}", temporary, archiveFile, e);
+        }
+    }
+
+    private static void deleteTemporary(Path temporary) {
+        try {
+            Files.deleteIfExists(temporary);
+        } catch (IOException e) {
+            logger.warn("Could not delete unused movement archive {}", temporary, e);
+        }
+    }
+
+    public boolean hasArchive(Long itemId) {
+        return !archiveFiles(itemId).isEmpty();
+    }
+
+    /**
+     * Finds the latest cutoff an item was compacted before, from the names of its archive files,
+     * including compactions whose movements netted to zero and left no carried-forward movement.
+     *
+     * @param itemId the id of the inventory item
+     * @return the latest compaction cutoff, if the item was ever compacted
+     */
+    public Optional<LocalDate> findLatestCutoff(Long itemId) {
+        return archiveFiles(itemId).stream()
+            .map(file -> {
+                Matcher matcher = ARCHIVE_FILE.matcher(file.getFileName().toString());
+                matcher.matches();
+                return LocalDate.parse(matcher.group(1));
+            })
+            .max(Comparator.naturalOrder());
+    }
+
+    /**
+     * Reads the archived movements of an item that come after the given position
+     * in newest-first order. Every archive file of the item is read, which is fine for
+     * the occasional look into old history.
+     *
+     * @param itemId the id of the inventory item
+     * @param position the position to continue after, or null to start from the newest
+     * @param limit the maximum number of movements to return
+     * @return the archived movements, newest first
+     * @throws UncheckedIOException if an archive file cannot be read
+     */
+    public List<ArchivedInventoryMovement> findBefore(Long itemId, InventoryMovementCursor position, int limit) {
+        List<ArchivedInventoryMovement> movements = new ArrayList<>();
+
+        for (Path file : archiveFiles(itemId)) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)),
+                StandardCharsets.UTF_8
+            ))) {
+                reader.readLine();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    ArchivedInventoryMovement movement = fromCsvLine(line);
+                    if (position == null || position.isAfter(movement.movementDate(), movement.id())) {
+                        movements.add(movement);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read movement archive " + file, e);
+            }
+        }
+
+        return movements.stream()
+            .sorted(NEWEST_FIRST)
+            .limit(limit)
+            .toList();
+    }
+
+    private Path itemDirectory(Long itemId) {
+        return directory.resolve("item-" + itemId);
+    }
+
+    private List<Path> archiveFiles(Long itemId) {
+        Path itemDirectory = itemDirectory(itemId);
+        if (!Files.isDirectory(itemDirectory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(itemDirectory)) {
+            return files
+                .filter(file -> ARCHIVE_FILE.matcher(file.getFileName().toString()).matches())
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list movement archives for item " + itemId, e);
+        }
+    }
+
+    private static String toCsvLine(ArchivedInventoryMovement movement) {
+        return String.join(",",
+            String.valueOf(movement.id()),
+            movement.movementDate().toString(),
+            movement.movementType().name(),
+            String.valueOf(movement.quantity()),
+            csvField(movement.reference()),
+            csvField(movement.note()),
+            csvField(movement.createdBy()),
+            String.valueOf(movement.balanceAfter())
+        );
+    }
+
+    private static ArchivedInventoryMovement fromCsvLine(String line) {
+        List<String> fields = InventoryMovementImportService.parseCsvFields(line);
+        return new ArchivedInventoryMovement(
+            Long.valueOf(fields.get(0)),
+            LocalDate.parse(fields.get(1)),
+            InventoryMovementType.valueOf(fields.get(2)),
+            Integer.parseInt(fields.get(3)),
+            emptyToNull(fields.get(4)),
+            emptyToNull(fields.get(5)),
+            fields.get(6),
+            Long.parseLong(fields.get(7))
+        );
+    }
+
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
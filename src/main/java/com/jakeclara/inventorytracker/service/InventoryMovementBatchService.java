@@ -0,0 +1,185 @@
+package com.jakeclara.inventorytracker.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportError;
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportLine;
+import com.jakeclara.inventorytracker.exception.ArchivedLedgerException;
+import com.jakeclara.inventorytracker.exception.InactiveItemException;
+import com.jakeclara.inventorytracker.exception.InsufficientStockException;
+import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.projection.InventoryProjection;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
+
+@Service
+public class InventoryMovementBatchService {
+
+    private final InventoryItemRepository inventoryItemRepository;
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final LowStockCounterService lowStockCounterService;
+    private final InventoryProjection inventoryProjection;
+    private final MovementRollupService movementRollupService;
+    private final DashboardStreamService dashboardStreamService;
+    private final LedgerCompactionService ledgerCompactionService;
+
+    public InventoryMovementBatchService(
+        InventoryItemRepository inventoryItemRepository,
+        InventoryMovementRepository inventoryMovementRepository,
+        LowStockCounterService lowStockCounterService,
+        InventoryProjection inventoryProjection,
+        MovementRollupService movementRollupService,
+        DashboardStreamService dashboardStreamService,
+        LedgerCompactionService ledgerCompactionService
+    ) {
+        this.inventoryItemRepository = inventoryItemRepository;
+        this.inventoryMovementRepository = inventoryMovementRepository;
+        this.lowStockCounterService = lowStockCounterService;
+        this.inventoryProjection = inventoryProjection;
+        this.movementRollupService = movementRollupService;
+        this.dashboardStreamService = dashboardStreamService;
+        this.ledgerCompactionService = ledgerCompactionService;
+    }
+
+    /**
+     * Records a batch of imported movements in one transaction.
+     * Every item in the batch is locked and loaded with a single query, lines are applied
+     * to each item's quantity on hand in file order, and accepted movements are written
+     * with one JDBC batch. Rejected lines do not affect the rest of the batch.
+     * Lines back-dated on or before an item's carried-forward balance are rejected, and items with
+     * back-dated lines then have their balances recomputed from the earliest such date,
+     * and the daily rollups get one update per item, day and movement type.
+     *
+     * @param lines the parsed import lines
+     * @param createdBy the user recording the movements
+     * @return the errors for the lines that were rejected
+     */
+    @Transactional
+    public List<InventoryMovementImportError> recordBatch(
+        List<InventoryMovementImportLine> lines,
+        User createdBy
+    ) {
+        Map<String, List<InventoryMovementImportLine>> linesBySku = lines.stream()
+            .collect(Collectors.groupingBy(
+                InventoryMovementImportLine::sku,
+                LinkedHashMap::new,
+                Collectors.toList()
+            ));
+
+        Map<String, InventoryItem> itemsBySku = inventoryItemRepository
+            .findAllBySkuInForUpdate(linesBySku.keySet())
+            .stream()
+            .collect(Collectors.toMap(InventoryItem::getSku, Function.identity()));
+
+        List<InventoryMovement> acceptedMovements = new ArrayList<>(lines.size());
+        List<InventoryMovementImportError> errors = new ArrayList<>();
+        Map<Long, LocalDate> rebalanceFromByItemId = new HashMap<>();
+        LocalDate today = LocalDate.now();
+
+        for (Map.Entry<String, List<InventoryMovementImportLine>> entry : linesBySku.entrySet()) {
+            InventoryItem item = itemsBySku.get(entry.getKey());
+            boolean wasLowStock = item != null && item.isLowStock();
+            long quantityBefore = item != null ? item.getQuantityOnHand() : 0;
+            // Only looked up for items with back-dated lines, since no carry-forward is dated today
+            Optional<LocalDate> carriedForwardThrough = item != null
+                && entry.getValue().stream().anyMatch(line -> line.movementDate().isBefore(today))
+                    ? ledgerCompactionService.findCarriedForwardThrough(item.getId())
+                    : Optional.empty();
+
+            for (InventoryMovementImportLine line : entry.getValue()) {
+                try {
+                    ensureAfterCarryForward(line, carriedForwardThrough);
+                    acceptedMovements.add(applyLine(item, line, createdBy));
+                    if (line.movementDate().isBefore(today)) {
+                        rebalanceFromByItemId.merge(
+                            item.getId(),
+                            line.movementDate(),
+                            BinaryOperator.minBy(Comparator.naturalOrder())
+                        );
+                    }
+                } catch (
+                    IllegalArgumentException
+                    | ResourceNotFoundException
+                    | InactiveItemException
+                    | InsufficientStockException
+                    | ArchivedLedgerException e
+                ) {
+                    errors.add(new InventoryMovementImportError(line.lineNumber(), e.getMessage()));
+                }
+            }
+
+            if (item != null) {
+                lowStockCounterService.recordChange(item, item.isActive(), wasLowStock);
+                inventoryProjection.recordMovement(item.getId(), item.getQuantityOnHand() - quantityBefore);
+                dashboardStreamService.recordMovement(item, wasLowStock);
+            }
+        }
+
+        inventoryMovementRepository.insertAll(acceptedMovements);
+        // Back-dated lines were given running balances in file order; fix up each item's tail
+        rebalanceFromByItemId.forEach(inventoryMovementRepository::rebalanceFrom);
+        movementRollupService.recordMovements(acceptedMovements);
+
+        errors.sort(Comparator.comparingLong(InventoryMovementImportError::lineNumber));
+        return errors;
+    }
+
+    private static void ensureAfterCarryForward(
+        InventoryMovementImportLine line,
+        Optional<LocalDate> carriedForwardThrough
+    ) {
+        if (carriedForwardThrough.isPresent() && !line.movementDate().isAfter(carriedForwardThrough.get())) {
+            throw new ArchivedLedgerException(
+                "Movement date must be after " + carriedForwardThrough.get() + ", when older movements were archived"
+            );
+        }
+    }
+
+    private InventoryMovement applyLine(
+        InventoryItem item,
+        InventoryMovementImportLine line,
+        User createdBy
+    ) {
+        if (item == null) {
+            throw new ResourceNotFoundException("Inventory item not found for SKU " + line.sku());
+        }
+        if (!item.isActive()) {
+            throw new InactiveItemException("Item " + item.getName() + " is inactive");
+        }
+
+        InventoryMovement movement = new InventoryMovement(
+            item,
+            line.quantity(),
+            line.movementType(),
+            line.movementDate(),
+            createdBy
+        );
+        movement.setReference(line.reference());
+        movement.setNote(line.note());
+
+        int quantityDelta = line.movementType().apply(line.quantity());
+        if (item.getQuantityOnHand() + quantityDelta < 0) {
+            throw new InsufficientStockException(item.getQuantityOnHand(), quantityDelta);
+        }
+        item.applyQuantityChange(quantityDelta);
+        movement.setBalanceAfter(item.getQuantityOnHand());
+
+        return movement;
+    }
+}
@@ -0,0 +1,223 @@
+package com.jakeclara.inventorytracker.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.stereotype.Service;
+
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportError;
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportLine;
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportResult;
+import com.jakeclara.inventorytracker.exception.InvalidImportFileException;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.security.AuthenticatedUserProvider;
+
+@Service
+public class InventoryMovementImportService {
+
+    static final int BATCH_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 1000;
+    static final String EXPECTED_HEADER = "sku,movementType,quantity,movementDate,reference,note";
+
+    private static final int COLUMN_COUNT = 6;
+
+    private final InventoryMovementBatchService inventoryMovementBatchService;
+    private final InventoryMovementService inventoryMovementService;
+    private final AuthenticatedUserProvider authenticatedUserProvider;
+
+    public InventoryMovementImportService(
+        InventoryMovementBatchService inventoryMovementBatchService,
+        InventoryMovementService inventoryMovementService,
+        AuthenticatedUserProvider authenticatedUserProvider
+    ) {
+        this.inventoryMovementBatchService = inventoryMovementBatchService;
+        this.inventoryMovementService = inventoryMovementService;
+        this.authenticatedUserProvider = authenticatedUserProvider;
+    }
+
+    /**
+     * Streams a CSV file of movements and records it in batches of {@value #BATCH_SIZE} lines.
+     * Each batch is committed in its own transaction, so a bad line only rejects that line.
+     *
+     * @param input the CSV content, starting with the {@value #EXPECTED_HEADER} header
+     * @return the number of processed and imported lines with per-line errors
+     * @throws InvalidImportFileException if the header is missing or unexpected
+     * @throws IOException if the input cannot be read
+     */
+    public InventoryMovementImportResult importMovements(InputStream input) throws IOException {
+        List<InventoryMovementType> allowedTypes = inventoryMovementService.getAllowedMovementTypes();
+        User createdBy = authenticatedUserProvider.getAuthenticatedUser();
+
+        ImportErrors errors = new ImportErrors();
+        long processedLines = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            validateHeader(reader.readLine());
+
+            List<InventoryMovementImportLine> batch = new ArrayList<>(BATCH_SIZE);
+            long lineNumber = 1;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                processedLines++;
+
+                try {
+                    batch.add(parseLine(lineNumber, line, allowedTypes));
+                } catch (IllegalArgumentException e) {
+                    errors.add(new InventoryMovementImportError(lineNumber, e.getMessage()));
+                }
+
+                if (batch.size() == BATCH_SIZE) {
+                    errors.addAll(inventoryMovementBatchService.recordBatch(batch, createdBy));
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                errors.addAll(inventoryMovementBatchService.recordBatch(batch, createdBy));
+            }
+        }
+
+        return new InventoryMovementImportResult(
+            processedLines,
+            processedLines - errors.count,
+            errors.count,
+            errors.reported
+        );
+    }
+
+    private void validateHeader(String header) {
+        if (header == null) {
+            throw new InvalidImportFileException("Import file is empty");
+        }
+
+        String normalizedHeader = header.replace("\uFEFF", "").replace(" ", "");
+        if (!normalizedHeader.equalsIgnoreCase(EXPECTED_HEADER)) {
+            throw new InvalidImportFileException("Import file header must be: " + EXPECTED_HEADER);
+        }
+    }
+
+    private InventoryMovementImportLine parseLine(
+        long lineNumber,
+        String line,
+        List<InventoryMovementType> allowedTypes
+    ) {
+        List<String> fields = parseCsvFields(line);
+        if (fields.size() != COLUMN_COUNT) {
+            throw new IllegalArgumentException(
+                "Expected " + COLUMN_COUNT + " columns but found " + fields.size()
+            );
+        }
+
+        String sku = fields.get(0).trim();
+        if (sku.isEmpty()) {
+            throw new IllegalArgumentException("SKU is required");
+        }
+
+        InventoryMovementType movementType = parseMovementType(fields.get(1));
+        if (!allowedTypes.contains(movementType)) {
+            throw new IllegalArgumentException("Unauthorized movement type: " + movementType);
+        }
+
+        return new InventoryMovementImportLine(
+            lineNumber,
+            sku,
+            movementType,
+            parseQuantity(fields.get(2)),
+            parseMovementDate(fields.get(3)),
+            fields.get(4),
+            fields.get(5)
+        );
+    }
+
+    private InventoryMovementType parseMovementType(String value) {
+        try {
+            return InventoryMovementType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown movement type: " + value);
+        }
+    }
+
+    private int parseQuantity(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid quantity: " + value);
+        }
+    }
+
+    private LocalDate parseMovementDate(String value) {
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid movement date: " + value);
+        }
+    }
+
+    /**
+     * Splits a CSV line into fields, honouring double-quoted fields and escaped quotes.
+     */
+    static List<String> parseCsvFields(String line) {
+        List<String> fields = new ArrayList<>(COLUMN_COUNT);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Counts every error but only keeps the first {@value #MAX_REPORTED_ERRORS},
+     * so memory stays bounded on large files.
+     */
+    private static final class ImportErrors {
+        private final List<InventoryMovementImportError> reported = new ArrayList<>();
+        private long count;
+
+        void add(InventoryMovementImportError error) {
+            count++;
+            if (reported.size() < MAX_REPORTED_ERRORS) {
+                reported.add(error);
+            }
+        }
+
+        void addAll(List<InventoryMovementImportError> errors) {
+            errors.forEach(this::add);
+        }
+    }
+}
@@ -3,24 +3,37 @@ package com.jakeclara.inventorytracker.service;
 import com.jakeclara.inventorytracker.model.User;
 import com.jakeclara.inventorytracker.model.UserRole;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.jakeclara.inventorytracker.dto.ArchivedInventoryMovement;
+import com.jakeclara.inventorytracker.dto.InventoryMovementCursor;
 import com.jakeclara.inventorytracker.dto.InventoryMovementForm;
+import com.jakeclara.inventorytracker.dto.InventoryMovementHistoryPage;
 import com.jakeclara.inventorytracker.dto.InventoryMovementView;
+import com.jakeclara.inventorytracker.exception.ArchivedLedgerException;
 import com.jakeclara.inventorytracker.exception.InactiveItemException;
 import com.jakeclara.inventorytracker.exception.InsufficientStockException;
+import com.jakeclara.inventorytracker.exception.InvalidCursorException;
+import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
 import com.jakeclara.inventorytracker.exception.UnauthorizedMovementTypeException;
 import com.jakeclara.inventorytracker.model.InventoryItem;
 import com.jakeclara.inventorytracker.model.InventoryMovement;
 import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.projection.InventoryProjection;
 import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
 import com.jakeclara.inventorytracker.security.AuthenticatedUserProvider;
 
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Service
 public class InventoryMovementService {
@@ -30,21 +43,46 @@ public class InventoryMovementService {
     private final InventoryMovementRepository inventoryMovementRepository;
     private final InventoryItemService inventoryItemService;
     private final AuthenticatedUserProvider authenticatedUserProvider;
+    private final LowStockCounterService lowStockCounterService;
+    private final InventoryProjection inventoryProjection;
+    private final InventoryMovementArchive inventoryMovementArchive;
+    private final MovementRollupService movementRollupService;
+    private final DashboardStreamService dashboardStreamService;
+    private final LedgerCompactionService ledgerCompactionService;
+    private final Counter stockRejections;
 
     public InventoryMovementService(
         InventoryMovementRepository inventoryMovementRepository,
         InventoryItemService inventoryItemService,
-        AuthenticatedUserProvider authenticatedUserProvider
+        AuthenticatedUserProvider authenticatedUserProvider,
+        LowStockCounterService lowStockCounterService,
+        InventoryProjection inventoryProjection,
+        InventoryMovementArchive inventoryMovementArchive,
+        MovementRollupService movementRollupService,
+        DashboardStreamService dashboardStreamService,
+        LedgerCompactionService ledgerCompactionService,
+        MeterRegistry meterRegistry
     ) {
         this.inventoryMovementRepository = inventoryMovementRepository;
         this.inventoryItemService = inventoryItemService;
         this.authenticatedUserProvider = authenticatedUserProvider;
+        this.lowStockCounterService = lowStockCounterService;
+        this.inventoryProjection = inventoryProjection;
+        this.inventoryMovementArchive = inventoryMovementArchive;
+        this.movementRollupService = movementRollupService;
+        this.dashboardStreamService = dashboardStreamService;
+        this.ledgerCompactionService = ledgerCompactionService;
+        this.stockRejections = Counter.builder("inventory.stock.rejections")
+            .description("Movements rejected because they would drive stock negative")
+            .register(meterRegistry);
     }
 
+    @Timed(value = "inventory.movements.add", histogram = true)
     @Transactional
     public void addInventoryMovement(Long itemId, InventoryMovementForm form) {
 
-        InventoryItem inventoryItem = inventoryItemService.getInventoryItemById(itemId);
+        // Locks the item row so the stock check and quantity update cannot interleave
+        InventoryItem inventoryItem = inventoryItemService.getInventoryItemForUpdate(itemId);
         
         if (!inventoryItem.isActive()) {
             throw new InactiveItemException("Cannot add movement: Item " + inventoryItem.getName() + " is inactive.");
@@ -56,7 +94,11 @@ public class InventoryMovementService {
             throw new UnauthorizedMovementTypeException("Unauthorized movement type: " + form.movementType());
         }
 
-        ensureSufficientStock(itemId, form.movementType().apply(form.quantity()));
+        ensureAfterCarryForward(itemId, form.movementDate());
+
+        int quantityDelta = form.movementType().apply(form.quantity());
+
+        ensureSufficientStock(inventoryItem, quantityDelta);
 
         User createdBy = authenticatedUserProvider.getAuthenticatedUser();
 
@@ -76,38 +118,161 @@ public class InventoryMovementService {
             newMovement.setReference(form.reference());
         }
 
+        boolean wasLowStock = inventoryItem.isLowStock();
+
+        newMovement.setBalanceAfter(balanceAfter(inventoryItem, form.movementDate(), quantityDelta));
         inventoryMovementRepository.save(newMovement);
+        movementRollupService.recordMovement(newMovement);
+        inventoryItem.applyQuantityChange(quantityDelta);
+        lowStockCounterService.recordChange(inventoryItem, inventoryItem.isActive(), wasLowStock);
+        inventoryProjection.recordMovement(itemId, quantityDelta);
+        dashboardStreamService.recordMovement(inventoryItem, wasLowStock);
+    }
+
+    /**
+     * Rejects a movement back-dated on or before the item's latest carried-forward balance,
+     * since the movements it would follow are no longer in the ledger.
+     */
+    private void ensureAfterCarryForward(Long itemId, LocalDate movementDate) {
+        if (!movementDate.isBefore(LocalDate.now())) {
+            return;
+        }
+        Optional<LocalDate> carriedForwardThrough = ledgerCompactionService.findCarriedForwardThrough(itemId);
+        if (carriedForwardThrough.isPresent() && !movementDate.isAfter(carriedForwardThrough.get())) {
+            throw new ArchivedLedgerException(
+                "Movement date must be after " + carriedForwardThrough.get() + ", when older movements were archived"
+            );
+        }
     }
 
-    public Page<InventoryMovementView> getMovementsForItem(Long itemId, int page) {
+    /**
+     * Computes the balance after a new movement of the locked item. A movement dated today
+     * is the last in the ledger, so it builds on the quantity on hand. A back-dated movement
+     * builds on the balance at its date and shifts the balances of every later-dated movement.
+     */
+    private long balanceAfter(InventoryItem item, LocalDate movementDate, int quantityDelta) {
+        if (!movementDate.isBefore(LocalDate.now())) {
+            return item.getQuantityOnHand() + quantityDelta;
+        }
+
+        List<Long> balanceAtDate = inventoryMovementRepository.findBalanceAsOf(item.getId(), movementDate, Limit.of(1));
+        long balanceBefore = balanceAtDate.isEmpty() ? 0 : balanceAtDate.get(0);
+
+        inventoryMovementRepository.shiftBalancesAfter(item.getId(), movementDate, quantityDelta);
+        return balanceBefore + quantityDelta;
+    }
+
+    /**
+     * Retrieves a page of an item's movement history, newest first.
+     * Once the live ledger runs out, the page carries an archived cursor when the item has
+     * compacted movements; following it pages on through the archive.
+     *
+     * @param itemId the id of the inventory item
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @return the page of movements with the cursor for the next page
+     * @throws ResourceNotFoundException if the item does not exist
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @Transactional(readOnly = true)
+    public InventoryMovementHistoryPage getMovementsForItem(Long itemId, String cursor) {
         inventoryItemService.getInventoryItemById(itemId);
-        
-        int safePage = Math.max(page, 0);
 
-        Page<InventoryMovement> inventoryMovementsPage = 
-            inventoryMovementRepository.findByItemIdOrderByMovementDateDesc(
-                itemId, 
-                PageRequest.of(safePage, DEFAULT_PAGE_SIZE)
+        boolean firstPage = cursor == null || cursor.isBlank();
+        InventoryMovementCursor position = firstPage ? null : InventoryMovementCursor.decode(cursor);
+        boolean archived = position != null && position.archived();
+        // Fetch one extra row to know whether another page exists without counting
+        Limit limit = Limit.of(DEFAULT_PAGE_SIZE + 1);
+
+        List<InventoryMovement> movements;
+        if (firstPage) {
+            movements = inventoryMovementRepository.findLatestByItemId(itemId, limit);
+        } else {
+            movements = inventoryMovementRepository.findByItemIdBefore(
+                itemId,
+                position.movementDate(),
+                position.id(),
+                limit
             );
-        
-        return inventoryMovementsPage.map(InventoryMovementView::from);
+        }
+
+        List<HistoryEntry> entries = new ArrayList<>(movements.stream().map(HistoryEntry::from).toList());
+
+        if (archived && entries.size() <= DEFAULT_PAGE_SIZE) {
+            // Archived movements are all older than the live ledger, so they continue after it
+            InventoryMovementCursor archivePosition = entries.isEmpty() ? position : entries.getLast().position();
+            inventoryMovementArchive
+                .findBefore(itemId, archivePosition, DEFAULT_PAGE_SIZE + 1 - entries.size())
+                .forEach(movement -> entries.add(HistoryEntry.from(movement)));
+        }
+
+        boolean hasNext = entries.size() > DEFAULT_PAGE_SIZE;
+        List<HistoryEntry> pageEntries = hasNext
+            ? entries.subList(0, DEFAULT_PAGE_SIZE)
+            : entries;
+
+        String nextCursor = null;
+        String archivedCursor = null;
+        if (hasNext) {
+            InventoryMovementCursor next = pageEntries.getLast().position();
+            nextCursor = (archived ? next.withArchived() : next).encode();
+        } else if (!archived && inventoryMovementArchive.hasArchive(itemId)) {
+            archivedCursor = archiveStart(pageEntries, position).encode();
+        }
+
+        return new InventoryMovementHistoryPage(
+            pageEntries.stream().map(HistoryEntry::view).toList(),
+            firstPage,
+            nextCursor,
+            archivedCursor
+        );
+    }
+
+    private static InventoryMovementCursor archiveStart(List<HistoryEntry> pageEntries, InventoryMovementCursor position) {
+        if (!pageEntries.isEmpty()) {
+            return pageEntries.getLast().position().withArchived();
+        }
+        if (position != null) {
+            return position.withArchived();
+        }
+        // Movements cannot be dated in the future, so this position comes before all of them
+        return new InventoryMovementCursor(LocalDate.now().plusDays(1), 0L, true);
     }
 
-    public void ensureSufficientStock(Long itemId, int quantityDelta) {
-        Long currentQuantity = inventoryItemService.getCurrentQuantity(itemId);
+    /**
+     * Checks stock against the locked item rather than the in-memory projection,
+     * which only catches up once the previous writer's commit completes.
+     */
+    public void ensureSufficientStock(InventoryItem item, int quantityDelta) {
+        long currentQuantity = item.getQuantityOnHand();
         if (currentQuantity + quantityDelta < 0) {
+            stockRejections.increment();
             throw new InsufficientStockException(currentQuantity, quantityDelta);
         }
     }
 
     public List<InventoryMovementType> getAllowedMovementTypes() {
-        User currentUser = authenticatedUserProvider.getAuthenticatedUser();
-        boolean isAdmin = currentUser.getRole() == UserRole.ADMIN;
+        boolean isAdmin = authenticatedUserProvider.getAuthenticatedRole() == UserRole.ADMIN;
 
         if (isAdmin) {
-            return List.of(InventoryMovementType.values());
+            return Arrays.stream(InventoryMovementType.values())
+                .filter(InventoryMovementType::isManual)
+                .toList();
         } else {
             return List.of(InventoryMovementType.SALE, InventoryMovementType.RECEIVE);
         }   
     }
+
+    private record HistoryEntry(InventoryMovementView view, InventoryMovementCursor position) {
+
+        static HistoryEntry from(InventoryMovement movement) {
+            return new HistoryEntry(InventoryMovementView.from(movement), InventoryMovementCursor.from(movement));
+        }
+
+        static HistoryEntry from(ArchivedInventoryMovement movement) {
+            return new HistoryEntry(
+                InventoryMovementView.from(movement),
+                new InventoryMovementCursor(movement.movementDate(), movement.id())
+            );
+        }
+    }
 }
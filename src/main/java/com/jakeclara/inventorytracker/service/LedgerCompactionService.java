@@ -0,0 +1,216 @@
+package com.jakeclara.inventorytracker.service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jakeclara.inventorytracker.dto.ArchivedInventoryMovement;
+import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.model.UserRole;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
+import com.jakeclara.inventorytracker.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Rolls each item's movements older than a cutoff into a single carried-forward movement,
+ * moving the originals to the {@link InventoryMovementArchive}.
+ * Summing the remaining ledger still gives the quantity on hand.
+ */
+@Service
+public class LedgerCompactionService {
+
+    static final String COMPACTION_REFERENCE = "compaction";
+
+    // Written by the PostgreSQL partition archive function
+    static final String ARCHIVE_REFERENCE = "archive";
+
+    static final List<String> CARRY_FORWARD_REFERENCES = List.of(COMPACTION_REFERENCE, ARCHIVE_REFERENCE);
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerCompactionService.class);
+
+    // Matches the fetch size of the compaction query, so each batch is released before the next is read
+    private static final int CLEAR_INTERVAL = 1000;
+
+    private final InventoryItemRepository inventoryItemRepository;
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final UserRepository userRepository;
+    private final InventoryMovementArchive inventoryMovementArchive;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int retentionMonths;
+
+    public LedgerCompactionService(
+        InventoryItemRepository inventoryItemRepository,
+        InventoryMovementRepository inventoryMovementRepository,
+        UserRepository userRepository,
+        InventoryMovementArchive inventoryMovementArchive,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        @Value("${inventory.ledger-compaction.enabled:false}") boolean enabled,
+        @Value("${inventory.ledger-compaction.retention-months:24}") int retentionMonths
+    ) {
+        this.inventoryItemRepository = inventoryItemRepository;
+        this.inventoryMovementRepository = inventoryMovementRepository;
+        this.userRepository = userRepository;
+        this.inventoryMovementArchive = inventoryMovementArchive;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * Compacts the movements older than the retention period, up to the start of a month.
+     */
+    @Scheduled(cron = "${inventory.ledger-compaction.cron:0 30 2 1 * *}")
+    public void compactExpiredMovements() {
+        if (!enabled) {
+            return;
+        }
+        compactBefore(LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths));
+    }
+
+    /**
+     * Compacts every item's movements dated before the cutoff.
+     * Each item is compacted in its own transaction, whose commit moves its archive file into
+     * place, so an interrupted run can simply be started again: items already compacted at this
+     * cutoff are skipped, and a rolled back item leaves no archive file behind.
+     *
+     * @param cutoff the first date whose movements are kept in the ledger
+     * @return the number of items compacted
+     * @throws IllegalArgumentException if the cutoff is in the future
+     * @throws IllegalStateException if there is no admin user to record the carried-forward balances
+     */
+    public int compactBefore(LocalDate cutoff) {
+        if (cutoff.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Compaction cutoff cannot be in the future");
+        }
+
+        User compactedBy = userRepository.findFirstByRoleOrderByIdAsc(UserRole.ADMIN)
+            .orElseThrow(() -> new IllegalStateException("An admin user is required to compact the ledger"));
+
+        int compactedItems = 0;
+        for (Long itemId : inventoryMovementRepository.findItemIdsWithMovementsBefore(cutoff)) {
+            Boolean compacted = transactionTemplate.execute(status -> compactItem(itemId, cutoff, compactedBy));
+            if (Boolean.TRUE.equals(compacted)) {
+                compactedItems++;
+            }
+        }
+
+        logger.info("Compacted movements before {} for {} items", cutoff, compactedItems);
+        return compactedItems;
+    }
+
+    private boolean compactItem(Long itemId, LocalDate cutoff, User compactedBy) {
+        // Locks the item so no movement can be recorded for it while its ledger is rewritten
+        InventoryItem item = inventoryItemRepository.findByIdForUpdate(itemId)
+            .orElseThrow(() -> new ResourceNotFoundException("Inventory item not found with id: " + itemId));
+
+        if (isCompacted(inventoryMovementRepository.findAllByItemIdBefore(itemId, cutoff, Limit.of(2)), cutoff)) {
+            return false;
+        }
+
+        // The history is streamed into the archive a fetched batch at a time and summed on the way.
+        // An earlier compaction's carry-forward is summed but not archived again: the movements
+        // it nets are already in that compaction's archive file.
+        LedgerTotal total = new LedgerTotal();
+        try (Stream<InventoryMovement> movements = inventoryMovementRepository.streamAllByItemIdBefore(itemId, cutoff)) {
+            inventoryMovementArchive.write(
+                itemId,
+                cutoff,
+                movements.<ArchivedInventoryMovement>mapMulti((movement, archive) -> {
+                    if (!COMPACTION_REFERENCE.equals(movement.getReference())) {
+                        archive.accept(ArchivedInventoryMovement.from(movement));
+                    }
+                    if (total.add(movement) % CLEAR_INTERVAL == 0) {
+                        entityManager.clear();
+                    }
+                })::iterator
+            );
+        }
+        long balance = total.balance;
+
+        inventoryMovementRepository.deleteAllByItemIdBefore(itemId, cutoff);
+
+        if (balance != 0) {
+            // A negative net comes from back-dated sales and is carried forward as an adjustment
+            InventoryMovement carriedForward = new InventoryMovement(
+                item,
+                Math.toIntExact(Math.abs(balance)),
+                balance > 0 ? InventoryMovementType.OPENING_BALANCE : InventoryMovementType.ADJUST_OUT,
+                cutoff.minusDays(1),
+                compactedBy
+            );
+            carriedForward.setReference(COMPACTION_REFERENCE);
+            carriedForward.setNote("Net of " + total.movements + " movements before " + cutoff);
+            carriedForward.setBalanceAfter(balance);
+            inventoryMovementRepository.save(carriedForward);
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds the last date of an item's ledger that was carried forward, by compaction or by
+     * a partition archive. A movement dated on or before it would precede the carry-forward,
+     * whose history is no longer in the ledger to balance it against.
+     *
+     * @param itemId the id of the inventory item
+     * @return the last carried-forward date, if the item's ledger was ever compacted or archived
+     */
+    public Optional<LocalDate> findCarriedForwardThrough(Long itemId) {
+        Optional<LocalDate> carriedForward =
+            inventoryMovementRepository.findLatestCarryForwardDateByItemId(itemId, CARRY_FORWARD_REFERENCES);
+        Optional<LocalDate> compacted = inventoryMovementArchive.findLatestCutoff(itemId)
+            .map(cutoff -> cutoff.minusDays(1));
+
+        return Stream.of(carriedForward, compacted)
+            .flatMap(Optional::stream)
+            .max(Comparator.naturalOrder());
+    }
+
+    /**
+     * An item already compacted at this cutoff has nothing before it but its carried-forward balance.
+     *
+     * @param movements the item's newest two movements before the cutoff
+     */
+    private static boolean isCompacted(List<InventoryMovement> movements, LocalDate cutoff) {
+        if (movements.isEmpty()) {
+            return true;
+        }
+
+        InventoryMovement newest = movements.get(0);
+        return movements.size() == 1
+            && COMPACTION_REFERENCE.equals(newest.getReference())
+            && newest.getMovementDate().equals(cutoff.minusDays(1));
+    }
+
+    private static final class LedgerTotal {
+
+        private long movements;
+        private long balance;
+
+        private long add(InventoryMovement movement) {
+            balance += movement.getMovementType().apply(movement.getQuantity());
+            return ++movements;
+        }
+    }
+}
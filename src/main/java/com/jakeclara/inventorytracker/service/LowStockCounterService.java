@@ -0,0 +1,194 @@
+package com.jakeclara.inventorytracker.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryRevision;
+import com.jakeclara.inventorytracker.model.LowStockCounter;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryRevisionRepository;
+import com.jakeclara.inventorytracker.repository.LowStockCounterRepository;
+
+@Service
+public class LowStockCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LowStockCounterService.class);
+
+    private final LowStockCounterRepository lowStockCounterRepository;
+    private final InventoryRevisionRepository inventoryRevisionRepository;
+    private final InventoryItemRepository inventoryItemRepository;
+
+    public LowStockCounterService(
+        LowStockCounterRepository lowStockCounterRepository,
+        InventoryRevisionRepository inventoryRevisionRepository,
+        InventoryItemRepository inventoryItemRepository
+    ) {
+        this.lowStockCounterRepository = lowStockCounterRepository;
+        this.inventoryRevisionRepository = inventoryRevisionRepository;
+        this.inventoryItemRepository = inventoryItemRepository;
+    }
+
+    /**
+     * Retrieves the number of low-stock items with the given active status.
+     * Falls back to counting the items until the counter has been created by {@link #reconcile()}.
+     *
+     * @param isActive the active status of the items
+     * @return the number of low-stock items
+     */
+    public long getLowStockCount(boolean isActive) {
+        return lowStockCounterRepository.findById(isActive)
+            .map(LowStockCounter::getLowStockCount)
+            .orElseGet(() -> inventoryItemRepository.countLowStockByActiveStatus(isActive));
+    }
+
+    /**
+     * Retrieves the inventory revision, which changes with every committed item change.
+     * Falls back to aggregating the item revisions until it has been created by {@link #reconcile()}.
+     *
+     * @return the inventory revision
+     */
+    public long getInventoryRevision() {
+        return inventoryRevisionRepository.findById(InventoryRevision.ID)
+            .map(InventoryRevision::getRevision)
+            .orElseGet(inventoryItemRepository::findInventoryRevision);
+    }
+
+    /**
+     * Counts a newly created item if it starts below its reorder threshold.
+     * Must be called in the transaction that creates the item.
+     *
+     * @param item the new inventory item
+     */
+    @Transactional
+    public void recordNewItem(InventoryItem item) {
+        recordInventoryChange();
+        if (item.isLowStock()) {
+            lowStockCounterRepository.adjustLowStockCount(item.isActive(), 1);
+        }
+    }
+
+    /**
+     * Counts the newly created items that start below their reorder threshold,
+     * with one update per counter however many items there are.
+     * Must be called in the transaction that creates the items.
+     *
+     * @param items the new inventory items
+     */
+    @Transactional
+    public void recordNewItems(List<InventoryItem> items) {
+        recordInventoryChange();
+        Map<Boolean, Long> lowStockByActiveStatus = items.stream()
+            .filter(InventoryItem::isLowStock)
+            .collect(Collectors.partitioningBy(InventoryItem::isActive, Collectors.counting()));
+
+        lowStockByActiveStatus.forEach((isActive, lowStockCount) -> {
+            if (lowStockCount > 0) {
+                lowStockCounterRepository.adjustLowStockCount(isActive, lowStockCount);
+            }
+        });
+    }
+
+    /**
+     * Moves an item between counters when its active or low-stock status changed,
+     * and counts the change in the inventory revision either way.
+     * Must be called in the transaction that changed the item, while its row is locked.
+     *
+     * @param item the inventory item after the change
+     * @param wasActive whether the item was active before the change
+     * @param wasLowStock whether the item was low stock before the change
+     */
+    @Transactional
+    public void recordChange(InventoryItem item, boolean wasActive, boolean wasLowStock) {
+        boolean isActive = item.isActive();
+        boolean isLowStock = item.isLowStock();
+        recordInventoryChange();
+
+        if (wasActive == isActive && wasLowStock == isLowStock) {
+            return;
+        }
+
+        if (wasLowStock) {
+            lowStockCounterRepository.adjustLowStockCount(wasActive, -1);
+        }
+        if (isLowStock) {
+            lowStockCounterRepository.adjustLowStockCount(isActive, 1);
+        }
+    }
+
+    /**
+     * Increments the inventory revision when the current transaction commits, once however many
+     * changes it records. Incremented last, so the single revision row is locked only for the commit.
+     * Must be called in the transaction that changes the items.
+     */
+    @Transactional
+    public void recordInventoryChange() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            inventoryRevisionRepository.increment();
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof RevisionIncrement) {
+                return;
+            }
+        }
+        TransactionSynchronizationManager.registerSynchronization(new RevisionIncrement());
+    }
+
+    /**
+     * Recounts the low-stock items of each active status and corrects any counter that drifted,
+     * creating the counters and the inventory revision when they do not exist yet.
+     * Runs at startup, on the configured schedule, and after quantities are rebuilt.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${inventory.low-stock-counter.reconcile-cron:0 0 * * * *}")
+    @Transactional
+    public void reconcile() {
+        reconcile(true);
+        reconcile(false);
+
+        if (!inventoryRevisionRepository.existsById(InventoryRevision.ID)) {
+            inventoryRevisionRepository.save(new InventoryRevision(inventoryItemRepository.findInventoryRevision()));
+        }
+    }
+
+    private void reconcile(boolean isActive) {
+        // Lock the counter before counting so in-flight adjustments commit first and are counted
+        LowStockCounter counter = lowStockCounterRepository.findByIdForUpdate(isActive).orElse(null);
+        long actualCount = inventoryItemRepository.countLowStockByActiveStatus(isActive);
+
+        if (counter == null) {
+            lowStockCounterRepository.save(new LowStockCounter(isActive, actualCount));
+            return;
+        }
+
+        if (counter.getLowStockCount() != actualCount) {
+            logger.warn(
+                "Low-stock counter for active={} drifted: counted {} but found {}, correcting",
+                isActive,
+                counter.getLowStockCount(),
+                actualCount
+            );
+            counter.reset(actualCount);
+        }
+    }
+
+    private class RevisionIncrement implements TransactionSynchronization {
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            inventoryRevisionRepository.increment();
+        }
+    }
+}
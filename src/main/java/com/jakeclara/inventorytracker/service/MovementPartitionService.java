@@ -0,0 +1,59 @@
+package com.jakeclara.inventorytracker.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps monthly partitions of the PostgreSQL movement table created ahead of the current date,
+ * so new movements never land in the default partition.
+ * Only enabled where {@code db/postgresql/005-inventory-movement-partitioning.sql} has been applied.
+ */
+@Service
+public class MovementPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovementPartitionService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+
+    public MovementPartitionService(
+        JdbcTemplate jdbcTemplate,
+        @Value("${inventory.movement-partitions.enabled:false}") boolean enabled,
+        @Value("${inventory.movement-partitions.months-ahead:3}") int monthsAhead
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * Creates the partitions for the current month and the configured number of months ahead.
+     *
+     * @return the number of partitions created, or 0 when partitioning is disabled
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${inventory.movement-partitions.maintain-cron:0 0 3 * * *}")
+    public int createFuturePartitions() {
+        if (!enabled) {
+            return 0;
+        }
+
+        Integer created = jdbcTemplate.queryForObject(
+            "SELECT inventory_movement_create_partitions(?)",
+            Integer.class,
+            monthsAhead
+        );
+
+        if (created != null && created > 0) {
+            logger.info("Created {} inventory movement partitions", created);
+        }
+        return created == null ? 0 : created;
+    }
+}
@@ -0,0 +1,106 @@
+package com.jakeclara.inventorytracker.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jakeclara.inventorytracker.dto.MovementReportPeriod;
+import com.jakeclara.inventorytracker.dto.MovementReportRow;
+import com.jakeclara.inventorytracker.exception.InvalidReportRangeException;
+import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.repository.InventoryMovementDailyRollupRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+@Service
+public class MovementReportService {
+
+    private static final Comparator<MovementReportRow> PERIOD_THEN_TYPE = Comparator
+        .comparing(MovementReportRow::periodStart)
+        .thenComparing(row -> row.movementType().name());
+
+    private final InventoryMovementDailyRollupRepository rollupRepository;
+    private final InventoryItemService inventoryItemService;
+
+    public MovementReportService(
+        InventoryMovementDailyRollupRepository rollupRepository,
+        InventoryItemService inventoryItemService
+    ) {
+        this.rollupRepository = rollupRepository;
+        this.inventoryItemService = inventoryItemService;
+    }
+
+    /**
+     * Totals the movements of the given types per period, read from the daily rollups
+     * so the cost depends on the number of days in the range rather than the number of movements.
+     *
+     * @param fromDate the first date to include
+     * @param toDate the last date to include
+     * @param period the length of each period
+     * @param movementTypes the movement types to include, or empty for every type
+     * @param itemId the id of the one item to report on, or null for every item
+     * @return one row per period and movement type with movements, ordered by period then type
+     * @throws InvalidReportRangeException if the range ends before it starts
+     * @throws ResourceNotFoundException if the item does not exist
+     */
+    @Timed(value = "inventory.reports.movements", histogram = true)
+    @Transactional(readOnly = true)
+    public List<MovementReportRow> getMovementTotals(
+        LocalDate fromDate,
+        LocalDate toDate,
+        MovementReportPeriod period,
+        Collection<InventoryMovementType> movementTypes,
+        Long itemId
+    ) {
+        if (fromDate.isAfter(toDate)) {
+            throw new InvalidReportRangeException("Report start date " + fromDate + " is after its end date " + toDate);
+        }
+
+        Collection<InventoryMovementType> types = movementTypes.isEmpty()
+            ? List.of(InventoryMovementType.values())
+            : movementTypes;
+
+        List<MovementReportRow> dailyTotals;
+        if (itemId == null) {
+            dailyTotals = rollupRepository.findDailyTotals(fromDate, toDate, types);
+        } else {
+            inventoryItemService.getInventoryItemById(itemId);
+            dailyTotals = rollupRepository.findDailyTotalsForItem(itemId, fromDate, toDate, types);
+        }
+
+        if (period == MovementReportPeriod.DAY) {
+            return dailyTotals;
+        }
+        return totalPerPeriod(dailyTotals, period);
+    }
+
+    private static List<MovementReportRow> totalPerPeriod(List<MovementReportRow> dailyTotals, MovementReportPeriod period) {
+        Map<PeriodKey, long[]> totalsByPeriod = new LinkedHashMap<>();
+
+        for (MovementReportRow day : dailyTotals) {
+            long[] totals = totalsByPeriod.computeIfAbsent(
+                new PeriodKey(period.start(day.periodStart()), day.movementType()),
+                key -> new long[2]
+            );
+            totals[0] += day.movementCount();
+            totals[1] += day.totalQuantity();
+        }
+
+        List<MovementReportRow> periodTotals = new ArrayList<>(totalsByPeriod.size());
+        totalsByPeriod.forEach((key, totals) -> periodTotals.add(
+            new MovementReportRow(key.periodStart(), key.movementType(), totals[0], totals[1])
+        ));
+        periodTotals.sort(PERIOD_THEN_TYPE);
+        return periodTotals;
+    }
+
+    private record PeriodKey(LocalDate periodStart, InventoryMovementType movementType) {}
+}
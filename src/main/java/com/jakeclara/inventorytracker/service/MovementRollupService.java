@@ -0,0 +1,160 @@
+package com.jakeclara.inventorytracker.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+import com.jakeclara.inventorytracker.model.InventoryMovementDailyRollupId;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementDailyRollupRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
+
+/**
+ * Maintains the daily rollups of movements per item and movement type that reports read
+ * instead of the ledger.
+ */
+@Service
+public class MovementRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovementRollupService.class);
+
+    private final InventoryMovementDailyRollupRepository rollupRepository;
+    private final InventoryItemRepository inventoryItemRepository;
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebuildParallelism;
+    private final int rebuildChunkSize;
+
+    public MovementRollupService(
+        InventoryMovementDailyRollupRepository rollupRepository,
+        InventoryItemRepository inventoryItemRepository,
+        InventoryMovementRepository inventoryMovementRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${inventory.movement-rollup.rebuild-parallelism:4}") int rebuildParallelism,
+        @Value("${inventory.movement-rollup.rebuild-chunk-size:1000}") int rebuildChunkSize
+    ) {
+        this.rollupRepository = rollupRepository;
+        this.inventoryItemRepository = inventoryItemRepository;
+        this.inventoryMovementRepository = inventoryMovementRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildParallelism = rebuildParallelism;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    /**
+     * Adds a new movement to its daily rollup.
+     * Must be called in the transaction that records the movement, while its item's row is locked.
+     *
+     * @param movement the new movement
+     */
+    @Transactional
+    public void recordMovement(InventoryMovement movement) {
+        rollupRepository.addToRollup(
+            movement.getItem().getId(),
+            movement.getMovementDate(),
+            movement.getMovementType().name(),
+            1,
+            movement.getQuantity()
+        );
+    }
+
+    /**
+     * Adds new movements to their daily rollups, with one update per rollup rather than per movement.
+     * Must be called in the transaction that records the movements, while their items' rows are locked.
+     *
+     * @param movements the new movements
+     */
+    @Transactional
+    public void recordMovements(Collection<InventoryMovement> movements) {
+        Map<InventoryMovementDailyRollupId, long[]> totalsByRollup = new LinkedHashMap<>();
+
+        for (InventoryMovement movement : movements) {
+            long[] totals = totalsByRollup.computeIfAbsent(
+                new InventoryMovementDailyRollupId(
+                    movement.getItem().getId(),
+                    movement.getMovementDate(),
+                    movement.getMovementType()
+                ),
+                id -> new long[2]
+            );
+            totals[0]++;
+            totals[1] += movement.getQuantity();
+        }
+
+        totalsByRollup.forEach((id, totals) -> rollupRepository.addToRollup(
+            id.getItemId(),
+            id.getRollupDate(),
+            id.getMovementType().name(),
+            totals[0],
+            totals[1]
+        ));
+    }
+
+    /**
+     * Recomputes the rollups from the movement ledger. Items are split into id ranges rebuilt
+     * in parallel, each in its own transaction with the range's items locked so no movement
+     * is recorded for them mid-rebuild. Rollups up to the newest carried-forward movement are
+     * kept, since the ledger no longer holds the movements compacted into it.
+     *
+     * @return the number of rollups rebuilt
+     * @throws IllegalStateException if rebuilding a range fails or the rebuild is interrupted
+     */
+    public int rebuild() {
+        Optional<LocalDate> fromDate = inventoryMovementRepository.findLatestCarryForwardDate(LedgerCompactionService.CARRY_FORWARD_REFERENCES)
+            .map(carryForwardDate -> carryForwardDate.plusDays(1))
+            .or(inventoryMovementRepository::findEarliestMovementDate);
+
+        if (fromDate.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> itemIds = inventoryItemRepository.findAllIds();
+        List<Future<Integer>> ranges = new ArrayList<>();
+        int rebuiltRollups = 0;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(rebuildParallelism)) {
+            for (int start = 0; start < itemIds.size(); start += rebuildChunkSize) {
+                Long firstItemId = itemIds.get(start);
+                Long lastItemId = itemIds.get(Math.min(start + rebuildChunkSize, itemIds.size()) - 1);
+                ranges.add(executor.submit(() -> transactionTemplate.execute(
+                    status -> rebuildRange(firstItemId, lastItemId, fromDate.get())
+                )));
+            }
+
+            for (Future<Integer> range : ranges) {
+                rebuiltRollups += range.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not rebuild movement rollups", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding movement rollups", e);
+        }
+
+        logger.info("Rebuilt {} movement rollups from {} for {} items", rebuiltRollups, fromDate.get(), itemIds.size());
+        return rebuiltRollups;
+    }
+
+    private int rebuildRange(Long firstItemId, Long lastItemId, LocalDate fromDate) {
+        inventoryItemRepository.findAllByIdBetweenForUpdate(firstItemId, lastItemId);
+        rollupRepository.deleteForItemsFrom(firstItemId, lastItemId, fromDate);
+        return rollupRepository.insertFromLedger(firstItemId, lastItemId, fromDate);
+    }
+}
@@ -0,0 +1,17 @@
+-- Materialized quantity on hand, maintained by InventoryMovementService.addInventoryMovement.
+ALTER TABLE inventory_item
+    ADD COLUMN IF NOT EXISTS quantity_on_hand BIGINT NOT NULL DEFAULT 0;
+
+-- Backfill from the movement ledger.
+UPDATE inventory_item item
+SET quantity_on_hand = COALESCE((
+    SELECT SUM(
+        CASE
+            WHEN movement.movement_type IN ('SALE', 'ADJUST_OUT')
+            THEN -movement.quantity
+            ELSE movement.quantity
+        END
+    )
+    FROM inventory_movement movement
+    WHERE movement.inventory_item_id = item.inventory_item_id
+), 0);
@@ -0,0 +1,3 @@
+-- Supports keyset paging of an item's movement history, newest first.
+CREATE INDEX IF NOT EXISTS idx_inventory_movement_item_date_id
+    ON inventory_movement (inventory_item_id, movement_date DESC, inventory_movement_id DESC);
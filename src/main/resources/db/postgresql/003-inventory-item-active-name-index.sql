@@ -0,0 +1,3 @@
+-- Supports dashboard paging of active or inactive items in name order.
+CREATE INDEX IF NOT EXISTS idx_inventory_item_active_name
+    ON inventory_item (is_active, item_name);
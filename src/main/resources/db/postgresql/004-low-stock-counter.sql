@@ -0,0 +1,16 @@
+-- Low-stock item count per active status, maintained by LowStockCounterService.
+CREATE TABLE IF NOT EXISTS low_stock_counter (
+    is_active BOOLEAN PRIMARY KEY,
+    low_stock_count BIGINT NOT NULL
+);
+
+-- Seed from the current items; the scheduled reconciliation corrects any later drift.
+INSERT INTO low_stock_counter (is_active, low_stock_count)
+SELECT status.is_active, (
+    SELECT COUNT(*)
+    FROM inventory_item item
+    WHERE item.is_active = status.is_active
+    AND item.quantity_on_hand < item.reorder_threshold
+)
+FROM (VALUES (TRUE), (FALSE)) AS status(is_active)
+ON CONFLICT (is_active) DO UPDATE SET low_stock_count = EXCLUDED.low_stock_count;
@@ -0,0 +1,184 @@
+-- Range-partitions inventory_movement by month of movement_date.
+-- Future months are created ahead by inventory_movement_create_partitions, called daily by
+-- MovementPartitionService; old months are detached by inventory_movement_archive_before.
+-- Run in a maintenance window: the table is rewritten.
+
+BEGIN;
+
+ALTER TABLE inventory_movement RENAME TO inventory_movement_unpartitioned;
+ALTER INDEX inventory_movement_pkey RENAME TO inventory_movement_unpartitioned_pkey;
+ALTER INDEX IF EXISTS idx_inventory_movement_item_date_id RENAME TO idx_inventory_movement_unpartitioned_item_date_id;
+
+-- A sequence rather than an identity column, so partitions can be detached and attached freely
+CREATE SEQUENCE inventory_movement_id_seq;
+
+CREATE TABLE inventory_movement (
+    inventory_movement_id BIGINT NOT NULL DEFAULT nextval('inventory_movement_id_seq'),
+    inventory_item_id BIGINT NOT NULL REFERENCES inventory_item (inventory_item_id),
+    quantity INTEGER NOT NULL CHECK (quantity >= 1),
+    movement_type VARCHAR(255) NOT NULL CHECK (
+        movement_type IN ('SALE', 'RECEIVE', 'ADJUST_IN', 'ADJUST_OUT', 'OPENING_BALANCE')
+    ),
+    movement_date DATE NOT NULL,
+    reference VARCHAR(100),
+    note VARCHAR(255),
+    created_by BIGINT NOT NULL REFERENCES app_user (user_id),
+    -- The partition key must be part of the primary key
+    PRIMARY KEY (inventory_movement_id, movement_date)
+) PARTITION BY RANGE (movement_date);
+
+ALTER SEQUENCE inventory_movement_id_seq OWNED BY inventory_movement.inventory_movement_id;
+
+CREATE INDEX idx_inventory_movement_item_date_id
+    ON inventory_movement (inventory_item_id, movement_date DESC, inventory_movement_id DESC);
+
+-- Catches dates no monthly partition covers yet, such as movements back-dated before the oldest month
+CREATE TABLE inventory_movement_default PARTITION OF inventory_movement DEFAULT;
+
+-- Old partitions are moved here when detached, ready to be dumped and dropped.
+CREATE SCHEMA IF NOT EXISTS inventory_archive;
+
+-- Creates the partition for the month starting at month_start, moving any rows the default
+-- partition already holds for that month into it. Returns false if it already exists.
+CREATE OR REPLACE FUNCTION inventory_movement_create_partition(month_start DATE)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_end DATE := (month_start + INTERVAL '1 month')::DATE;
+    partition_name TEXT := format('inventory_movement_%s', to_char(month_start, 'YYYY_MM'));
+BEGIN
+    IF month_start <> date_trunc('month', month_start)::DATE THEN
+        RAISE EXCEPTION 'Partition must start on the first day of a month: %', month_start;
+    END IF;
+
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format(
+        'CREATE TABLE %I (LIKE inventory_movement INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+        partition_name
+    );
+    EXECUTE format(
+        'WITH moved AS (
+            DELETE FROM inventory_movement_default
+            WHERE movement_date >= %L AND movement_date < %L
+            RETURNING *
+        )
+        INSERT INTO %I SELECT * FROM moved',
+        month_start, month_end, partition_name
+    );
+    EXECUTE format(
+        'ALTER TABLE inventory_movement ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        partition_name, month_start, month_end
+    );
+    RETURN TRUE;
+END;
+$$;
+
+-- Creates the partitions for the current month and the given number of months ahead.
+-- Returns the number of partitions created.
+CREATE OR REPLACE FUNCTION inventory_movement_create_partitions(months_ahead INTEGER)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    current_month DATE := date_trunc('month', CURRENT_DATE)::DATE;
+    created INTEGER := 0;
+BEGIN
+    FOR month_offset IN 0..months_ahead LOOP
+        IF inventory_movement_create_partition((current_month + make_interval(months => month_offset))::DATE) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- Detaches every monthly partition before cutoff into the inventory_archive schema.
+-- Each item's net quantity over the detached months is first carried forward as one
+-- movement dated cutoff, so summing the remaining ledger still gives the quantity on hand:
+-- OPENING_BALANCE for a positive net, ADJUST_OUT for a negative one (back-dated sales).
+-- Returns the number of partitions detached.
+CREATE OR REPLACE FUNCTION inventory_movement_archive_before(cutoff DATE, archived_by BIGINT)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    archived_partitions TEXT[];
+    archived_rows TEXT;
+    partition_name TEXT;
+BEGIN
+    IF cutoff <> date_trunc('month', cutoff)::DATE THEN
+        RAISE EXCEPTION 'Archive cutoff must be the first day of a month: %', cutoff;
+    END IF;
+
+    SELECT array_agg(child.relname ORDER BY child.relname)
+    INTO archived_partitions
+    FROM pg_inherits inheritance
+    JOIN pg_class child ON child.oid = inheritance.inhrelid
+    WHERE inheritance.inhparent = 'inventory_movement'::REGCLASS
+    AND child.relname ~ '^inventory_movement_[0-9]{4}_[0-9]{2}$'
+    AND to_date(substr(child.relname, 20), 'YYYY_MM') < cutoff;
+
+    IF archived_partitions IS NULL THEN
+        RETURN 0;
+    END IF;
+
+    -- The opening balances land in the cutoff month, which must not go to the default partition
+    PERFORM inventory_movement_create_partition(cutoff);
+
+    SELECT string_agg(format('SELECT * FROM %I', name), ' UNION ALL ')
+    INTO archived_rows
+    FROM unnest(archived_partitions) AS name;
+
+    EXECUTE format(
+        'CREATE TEMPORARY TABLE archived_balance ON COMMIT DROP AS
+        SELECT inventory_item_id, SUM(
+            CASE
+                WHEN movement_type IN (''SALE'', ''ADJUST_OUT'')
+                THEN -quantity
+                ELSE quantity
+            END
+        ) AS balance
+        FROM (%s) archived
+        GROUP BY inventory_item_id',
+        archived_rows
+    );
+
+    INSERT INTO inventory_movement (inventory_item_id, quantity, movement_type, movement_date, reference, note, created_by)
+    SELECT inventory_item_id, ABS(balance),
+        CASE WHEN balance > 0 THEN 'OPENING_BALANCE' ELSE 'ADJUST_OUT' END,
+        cutoff, 'archive', 'Net of movements before ' || cutoff, archived_by
+    FROM archived_balance
+    WHERE balance <> 0;
+
+    FOREACH partition_name IN ARRAY archived_partitions LOOP
+        EXECUTE format('ALTER TABLE inventory_movement DETACH PARTITION %I', partition_name);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA inventory_archive', partition_name);
+    END LOOP;
+
+    RETURN array_length(archived_partitions, 1);
+END;
+$$;
+
+-- Partitions for every month with movements, up to three months ahead
+SELECT inventory_movement_create_partition(month_start::DATE)
+FROM generate_series(
+    date_trunc('month', COALESCE((SELECT MIN(movement_date) FROM inventory_movement_unpartitioned), CURRENT_DATE)),
+    date_trunc('month', CURRENT_DATE) + INTERVAL '3 months',
+    INTERVAL '1 month'
+) AS month_start;
+
+INSERT INTO inventory_movement (
+    inventory_movement_id, inventory_item_id, quantity, movement_type, movement_date, reference, note, created_by
+)
+SELECT inventory_movement_id, inventory_item_id, quantity, movement_type, movement_date, reference, note, created_by
+FROM inventory_movement_unpartitioned;
+
+SELECT setval('inventory_movement_id_seq', COALESCE((SELECT MAX(inventory_movement_id) FROM inventory_movement), 0) + 1, FALSE);
+
+DROP TABLE inventory_movement_unpartitioned;
+
+COMMIT;
@@ -0,0 +1,108 @@
+-- Records on each movement the item's quantity on hand once it is applied in
+-- (movement_date, inventory_movement_id) order, so the quantity as of any date is one index lookup.
+-- Archived carry-forward movements are now dated the day before the cutoff, ahead of
+-- every retained movement in that order.
+-- Run in a maintenance window: every movement is rewritten.
+
+BEGIN;
+
+ALTER TABLE inventory_movement ADD COLUMN balance_after BIGINT;
+
+UPDATE inventory_movement target
+SET balance_after = running.balance
+FROM (
+    SELECT inventory_movement_id, movement_date,
+        SUM(
+            CASE
+                WHEN movement_type IN ('SALE', 'ADJUST_OUT')
+                THEN -quantity
+                ELSE quantity
+            END
+        ) OVER (
+            PARTITION BY inventory_item_id
+            ORDER BY movement_date, inventory_movement_id
+        ) AS balance
+    FROM inventory_movement
+) running
+WHERE target.inventory_movement_id = running.inventory_movement_id
+AND target.movement_date = running.movement_date;
+
+ALTER TABLE inventory_movement ALTER COLUMN balance_after SET NOT NULL;
+
+-- Detaches every monthly partition before cutoff into the inventory_archive schema.
+-- Each item's net quantity over the detached months is then carried forward as one
+-- movement dated the day before cutoff, so summing the remaining ledger still gives the
+-- quantity on hand: OPENING_BALANCE for a positive net, ADJUST_OUT for a negative one
+-- (back-dated sales). With its month detached, the carry-forward lands in the default partition.
+-- Returns the number of partitions detached.
+CREATE OR REPLACE FUNCTION inventory_movement_archive_before(cutoff DATE, archived_by BIGINT)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    archived_partitions TEXT[];
+    archived_rows TEXT;
+    partition_name TEXT;
+BEGIN
+    IF cutoff <> date_trunc('month', cutoff)::DATE THEN
+        RAISE EXCEPTION 'Archive cutoff must be the first day of a month: %', cutoff;
+    END IF;
+
+    SELECT array_agg(child.relname ORDER BY child.relname)
+    INTO archived_partitions
+    FROM pg_inherits inheritance
+    JOIN pg_class child ON child.oid = inheritance.inhrelid
+    WHERE inheritance.inhparent = 'inventory_movement'::REGCLASS
+    AND child.relname ~ '^inventory_movement_[0-9]{4}_[0-9]{2}$'
+    AND to_date(substr(child.relname, 20), 'YYYY_MM') < cutoff;
+
+    IF archived_partitions IS NULL THEN
+        RETURN 0;
+    END IF;
+
+    SELECT string_agg(format('SELECT * FROM %I', name), ' UNION ALL ')
+    INTO archived_rows
+    FROM unnest(archived_partitions) AS name;
+
+    EXECUTE format(
+        'CREATE TEMPORARY TABLE archived_balance ON COMMIT DROP AS
+        SELECT inventory_item_id, SUM(
+            CASE
+                WHEN movement_type IN (''SALE'', ''ADJUST_OUT'')
+                THEN -quantity
+                ELSE quantity
+            END
+        ) AS balance
+        FROM (%s) archived
+        GROUP BY inventory_item_id',
+        archived_rows
+    );
+
+    -- The balance at the cutoff, which may also include movements kept in the default partition
+    CREATE TEMPORARY TABLE cutoff_balance ON COMMIT DROP AS
+    SELECT DISTINCT ON (inventory_item_id) inventory_item_id, balance_after
+    FROM inventory_movement
+    WHERE movement_date < cutoff
+    ORDER BY inventory_item_id, movement_date DESC, inventory_movement_id DESC;
+
+    FOREACH partition_name IN ARRAY archived_partitions LOOP
+        EXECUTE format('ALTER TABLE inventory_movement DETACH PARTITION %I', partition_name);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA inventory_archive', partition_name);
+    END LOOP;
+
+    INSERT INTO inventory_movement (
+        inventory_item_id, quantity, movement_type, movement_date, reference, note, created_by, balance_after
+    )
+    SELECT archived_balance.inventory_item_id, ABS(archived_balance.balance),
+        CASE WHEN archived_balance.balance > 0 THEN 'OPENING_BALANCE' ELSE 'ADJUST_OUT' END,
+        cutoff - 1, 'archive', 'Net of movements before ' || cutoff, archived_by,
+        cutoff_balance.balance_after
+    FROM archived_balance
+    JOIN cutoff_balance ON cutoff_balance.inventory_item_id = archived_balance.inventory_item_id
+    WHERE archived_balance.balance <> 0;
+
+    RETURN array_length(archived_partitions, 1);
+END;
+$$;
+
+COMMIT;
@@ -0,0 +1,34 @@
+-- Daily movement count and quantity per item and movement type, maintained by MovementRollupService
+-- as movements are recorded, so reports read one row per day instead of every movement.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS inventory_movement_daily_rollup (
+    inventory_item_id BIGINT NOT NULL,
+    rollup_date DATE NOT NULL,
+    movement_type VARCHAR(255) NOT NULL CHECK (
+        movement_type IN ('SALE', 'RECEIVE', 'ADJUST_IN', 'ADJUST_OUT', 'OPENING_BALANCE')
+    ),
+    movement_count BIGINT NOT NULL,
+    total_quantity BIGINT NOT NULL,
+    PRIMARY KEY (inventory_item_id, rollup_date, movement_type)
+);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_movement_daily_rollup_date_type
+    ON inventory_movement_daily_rollup (rollup_date, movement_type);
+
+-- Seed from the ledger after its newest carried-forward balance, like MovementRollupService.rebuild.
+-- Archived movements are no longer in the ledger, so their days start empty.
+INSERT INTO inventory_movement_daily_rollup
+    (inventory_item_id, rollup_date, movement_type, movement_count, total_quantity)
+SELECT inventory_item_id, movement_date, movement_type, COUNT(*), SUM(quantity)
+FROM inventory_movement
+WHERE movement_date > COALESCE(
+    (SELECT MAX(movement_date) FROM inventory_movement WHERE reference IN ('compaction', 'archive')),
+    '-infinity'::DATE
+)
+GROUP BY inventory_item_id, movement_date, movement_type
+ON CONFLICT (inventory_item_id, rollup_date, movement_type) DO UPDATE
+SET movement_count = EXCLUDED.movement_count, total_quantity = EXCLUDED.total_quantity;
+
+COMMIT;
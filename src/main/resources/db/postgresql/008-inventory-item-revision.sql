@@ -0,0 +1,3 @@
+-- Revision of each item, incremented by every update and used for the JSON API's ETags.
+ALTER TABLE inventory_item
+    ADD COLUMN IF NOT EXISTS revision BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,9 @@
+-- Supports item search when the in-memory projection is not loaded: LIKE '%text%' on the
+-- lowercased name or SKU is answered from these indexes instead of a scan of every item.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_inventory_item_name_trgm
+    ON inventory_item USING gin (LOWER(item_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_item_sku_trgm
+    ON inventory_item USING gin (LOWER(item_sku) gin_trgm_ops);
@@ -0,0 +1,21 @@
+-- Materialized low-stock flag, maintained by InventoryItem whenever its quantity or threshold changes.
+ALTER TABLE inventory_item
+    ADD COLUMN IF NOT EXISTS is_low_stock BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Backfill from the quantity on hand.
+UPDATE inventory_item
+SET is_low_stock = quantity_on_hand < reorder_threshold
+WHERE is_low_stock <> (quantity_on_hand < reorder_threshold);
+
+-- Supports dashboard paging in SKU, quantity and unit order, and of low-stock items in quantity order.
+CREATE INDEX IF NOT EXISTS idx_inventory_item_active_sku
+    ON inventory_item (is_active, item_sku);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_item_active_quantity
+    ON inventory_item (is_active, quantity_on_hand, item_name);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_item_active_unit
+    ON inventory_item (is_active, item_unit, item_name);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_item_active_low_stock
+    ON inventory_item (is_active, is_low_stock, quantity_on_hand, item_name);
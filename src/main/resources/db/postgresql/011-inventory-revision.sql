@@ -0,0 +1,11 @@
+-- Revision of the whole inventory, incremented by every transaction that changes items.
+CREATE TABLE IF NOT EXISTS inventory_revision (
+    id INTEGER PRIMARY KEY CHECK (id = 1),
+    revision BIGINT NOT NULL
+);
+
+-- Seed from the item revisions the dashboard ETags were computed from, so no earlier ETag matches again.
+INSERT INTO inventory_revision (id, revision)
+SELECT 1, COUNT(*) + COALESCE(SUM(revision), 0)
+FROM inventory_item
+ON CONFLICT (id) DO NOTHING;
@@ -38,18 +38,18 @@ VALUES
 ('admin', '$2a$11$jTi3EMF6OQ5hj.V76LthJOqON96Wa6beRwp/Vpap169gENhFbqfsC', 'ADMIN', true),
 ('regular', '$2a$11$bOFfWIol0NpD7Os8kei9lO7PvrKcwKU1n9L0rxSLBoLk7DsLEJJKO', 'USER', true);
 
-INSERT into inventory_movement (inventory_item_id, quantity, movement_type, movement_date, reference, note, created_by)
+INSERT into inventory_movement (inventory_item_id, quantity, movement_type, movement_date, reference, note, created_by, balance_after)
 VALUES
-(1, 50, 'RECEIVE', DATE '2024-01-10', 'invoice 1', 'note for item 1', 1),
-(2, 30, 'RECEIVE', DATE '2024-01-11', 'invoice 2', 'note for item 2', 2),
-(2, 20, 'RECEIVE', DATE '2024-01-11', 'invoice 3', 'note for item 2', 1),
-(2, 10, 'RECEIVE', DATE '2024-01-11', 'invoice 4', 'note for item 2', 1),
-(2, 10, 'RECEIVE', DATE '2024-01-11', 'invoice 5', 'note for item 2', 1),
-(2, 20, 'RECEIVE', DATE '2024-01-11', 'invoice 6', 'note for item 2', 1),
-(2, 40, 'RECEIVE', DATE '2024-01-11', 'invoice 7', 'note for item 2', 1),
-(2, 30, 'RECEIVE', DATE '2024-01-11', 'invoice 8', 'note for item 2', 1),
-(2, 30, 'RECEIVE', DATE '2024-01-11', 'invoice 9', 'note for item 2', 1),
-(2, 30, 'RECEIVE', DATE '2024-01-11', 'invoice 10', 'note for item 2', 1),
-(2, 30, 'RECEIVE', DATE '2024-01-11', 'invoice 11', 'note for item 2', 1),
-(2, 30, 'RECEIVE', DATE '2024-01-11', 'invoice 12', 'note for item 2', 1),
-(1, 5, 'SALE', DATE '2024-01-12', 'sale invoice 5', 'note for sale of item 1', 1);
\ No newline at end of file
+(1, 50, 'RECEIVE', DATE '2024-01-10', 'invoice 1', 'note for item 1', 1, 50),
+(2, 30, 'RECEIVE', DATE '2024-01-11', 'invoice 2', 'note for item 2', 2, 30),
+(2, 20, 'RECEIVE', DATE '2024-01-11', 'invoice 3', 'note for item 2', 1, 50),
+(2, 10, 'RECEIVE', DATE '2024-01-11', 'invoice 4', 'note for item 2', 1, 60),
+(2, 10, 'RECEIVE', DATE '2024-01-11', 'invoice 5', 'note for item 2', 1, 70),
+(2, 20, 'RECEIVE', DATE '2024-01-11', 'invoice 6', 'note for item 2', 1, 90),
+(2, 40, 'RECEIVE', DATE '2024-01-11', 'invoice 7', 'note for item 2', 1, 130),
+(2, 30, 'RECEIVE', DATE '2024-01-11', 'invoice 8', 'note for item 2', 1, 160),
+(2, 30, 'RECEIVE', DATE '2024-01-11', 'invoice 9', 'note for item 2', 1, 190),
+(2, 30, 'RECEIVE', DATE '2024-01-11', 'invoice 10', 'note for item 2', 1, 220),
+(2, 30, 'RECEIVE', DATE '2024-01-11', 'invoice 11', 'note for item 2', 1, 250),
+(2, 30, 'RECEIVE', DATE '2024-01-11', 'invoice 12', 'note for item 2', 1, 280),
+(1, 5, 'SALE', DATE '2024-01-12', 'sale invoice 5', 'note for sale of item 1', 1, 45);
\ No newline at end of file
@@ -0,0 +1,98 @@
+// Keeps the dashboard's quantities and low-stock count current from /api/dashboard/stream,
+// patching the rendered rows in place instead of reloading the page.
+(() => {
+    const dashboard = document.querySelector('[data-dashboard-stream]');
+    if (!dashboard || typeof EventSource === 'undefined') {
+        return;
+    }
+
+    const itemIds = [...new Set([...document.querySelectorAll('[data-item-id]')].map(row => row.dataset.itemId))];
+    if (itemIds.length === 0) {
+        return;
+    }
+
+    // Same form as the ETag of /api/dashboard; the revision was read before the page was rendered
+    let eTag = `"dashboard-${dashboard.dataset.revision}"`;
+
+    // Updates can arrive out of order; only the highest revision of each item is applied
+    const revisions = new Map();
+    // Changes streamed while a snapshot is fetched are newer than it for those items
+    let streamedSinceSnapshot = null;
+
+    const patchItem = (itemId, quantity, lowStock) => {
+        document.querySelectorAll(`[data-item-id="${itemId}"]`).forEach(row => {
+            row.querySelectorAll('[data-quantity]').forEach(element => {
+                element.textContent = quantity;
+            });
+            row.querySelectorAll('[data-low-stock-class]').forEach(element => {
+                element.classList.toggle('low-stock-indicator', lowStock);
+            });
+            row.querySelectorAll('[data-low-stock-indicator]').forEach(element => {
+                element.classList.toggle('d-none', !lowStock);
+            });
+        });
+    };
+
+    const patchLowStockCount = count => {
+        document.querySelectorAll('[data-low-stock-count]').forEach(element => {
+            element.textContent = count;
+            element.classList.toggle('text-danger', count > 0);
+        });
+    };
+
+    // Catches up on changes committed before the stream (re)connected; a 304 means there were none
+    const catchUp = async () => {
+        streamedSinceSnapshot = new Set();
+        try {
+            const response = await fetch(dashboard.dataset.snapshotUrl, {
+                headers: { 'Accept': 'application/json', 'If-None-Match': eTag }
+            });
+            if (response.status !== 200) {
+                return;
+            }
+
+            eTag = response.headers.get('ETag') ?? eTag;
+            const snapshot = await response.json();
+            snapshot.inventoryItems
+                .filter(item => !streamedSinceSnapshot.has(String(item.id)))
+                .forEach(item => patchItem(item.id, item.currentQuantity, item.currentQuantity < item.reorderThreshold));
+            if (!streamedSinceSnapshot.has('low-stock-count')) {
+                patchLowStockCount(snapshot.lowStockCount);
+            }
+        } catch (error) {
+            // The stream still applies later changes; the next reconnect tries again
+        } finally {
+            streamedSinceSnapshot = null;
+        }
+    };
+
+    const url = new URL(dashboard.dataset.streamUrl, window.location.href);
+    itemIds.forEach(itemId => url.searchParams.append('itemIds', itemId));
+
+    const source = new EventSource(url);
+
+    source.addEventListener('open', catchUp);
+
+    source.addEventListener('item', event => {
+        const update = JSON.parse(event.data);
+        const itemId = String(update.itemId);
+        if (update.revision <= (revisions.get(itemId) ?? -1)) {
+            return;
+        }
+
+        revisions.set(itemId, update.revision);
+        streamedSinceSnapshot?.add(itemId);
+        patchItem(itemId, update.quantity, update.lowStock);
+    });
+
+    source.addEventListener('low-stock-count', event => {
+        streamedSinceSnapshot?.add('low-stock-count');
+        patchLowStockCount(JSON.parse(event.data));
+    });
+
+    // Sent before the server drops a connection that fell too far behind
+    source.addEventListener('resync', () => {
+        source.close();
+        window.location.reload();
+    });
+})();
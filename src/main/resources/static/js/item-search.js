@@ -0,0 +1,88 @@
+// Type-ahead search over item names and SKUs from /api/items/search, listing matches under the
+// dashboard's search box as links to their details.
+(() => {
+    const search = document.querySelector('[data-item-search]');
+    if (!search) {
+        return;
+    }
+
+    const input = search.querySelector('[data-item-search-input]');
+    const results = search.querySelector('[data-item-search-results]');
+    const DEBOUNCE_MILLIS = 150;
+
+    let debounceTimer = null;
+    // Only the latest query's response is shown; earlier requests are cancelled
+    let pendingRequest = null;
+
+    const hideResults = () => {
+        results.classList.add('d-none');
+        results.replaceChildren();
+    };
+
+    const showResults = items => {
+        if (items.length === 0) {
+            const empty = document.createElement('div');
+            empty.className = 'list-group-item text-soft';
+            empty.textContent = 'No matching items';
+            results.replaceChildren(empty);
+        } else {
+            results.replaceChildren(...items.map(item => {
+                const link = document.createElement('a');
+                link.className = 'list-group-item list-group-item-action d-flex justify-content-between gap-3';
+                link.href = `${search.dataset.itemUrl}${item.id}`;
+
+                const name = document.createElement('span');
+                name.textContent = item.name;
+                const sku = document.createElement('span');
+                sku.className = 'text-soft text-nowrap';
+                sku.textContent = item.sku;
+
+                link.append(name, sku);
+                return link;
+            }));
+        }
+        results.classList.remove('d-none');
+    };
+
+    const runSearch = async query => {
+        pendingRequest?.abort();
+        pendingRequest = new AbortController();
+
+        const url = new URL(search.dataset.searchUrl, window.location.href);
+        url.searchParams.set('q', query);
+        try {
+            const response = await fetch(url, {
+                headers: { 'Accept': 'application/json' },
+                signal: pendingRequest.signal
+            });
+            if (response.ok) {
+                showResults(await response.json());
+            }
+        } catch (error) {
+            // Aborted by a newer query, or offline; the next keystroke searches again
+        }
+    };
+
+    input.addEventListener('input', () => {
+        clearTimeout(debounceTimer);
+        const query = input.value.trim();
+        if (query === '') {
+            pendingRequest?.abort();
+            hideResults();
+            return;
+        }
+        debounceTimer = setTimeout(() => runSearch(query), DEBOUNCE_MILLIS);
+    });
+
+    input.addEventListener('keydown', event => {
+        if (event.key === 'Escape') {
+            hideResults();
+        }
+    });
+
+    document.addEventListener('click', event => {
+        if (!search.contains(event.target)) {
+            hideResults();
+        }
+    });
+})();
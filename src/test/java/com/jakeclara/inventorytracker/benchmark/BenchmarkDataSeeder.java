@@ -0,0 +1,52 @@
+package com.jakeclara.inventorytracker.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds items and movements for benchmarks with set-based inserts.
+ * Movements are spread evenly over the items and over the last two years.
+ */
+final class BenchmarkDataSeeder {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	BenchmarkDataSeeder(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Inserts the items and movements. Quantities on hand are left at zero;
+	 * rebuild them from the ledger afterwards.
+	 *
+	 * @return the id of the first seeded item; the rest follow consecutively
+	 */
+	long seed(int itemCount, int movementCount, long createdByUserId) {
+		// Set-based seeding keeps millions of rows fast; SYSTEM_RANGE is H2's generate_series
+		jdbcTemplate.update("""
+			INSERT INTO inventory_item (item_name, item_sku, reorder_threshold, is_active, quantity_on_hand, is_low_stock, created_at)
+			SELECT 'Item ' || LPAD(CAST(x AS VARCHAR), 6, '0'), 'SKU-' || LPAD(CAST(x AS VARCHAR), 6, '0'),
+				5, TRUE, 0, TRUE, CURRENT_TIMESTAMP
+			FROM SYSTEM_RANGE(0, ?)
+			""", itemCount - 1);
+
+		Long firstItemId = jdbcTemplate.queryForObject(
+			"SELECT MIN(inventory_item_id) FROM inventory_item", Long.class
+		);
+
+		jdbcTemplate.update("""
+			INSERT INTO inventory_movement (inventory_item_id, quantity, movement_type, movement_date, created_by, balance_after)
+			SELECT ? + MOD(x, ?), 1 + MOD(x, 20),
+				CASE WHEN MOD(x, 3) = 0 THEN 'SALE' ELSE 'RECEIVE' END,
+				DATEADD(DAY, -MOD(x, 730), CURRENT_DATE), ?, 0
+			FROM SYSTEM_RANGE(0, ?)
+			""", firstItemId, itemCount, createdByUserId, movementCount - 1);
+
+		return firstItemId;
+	}
+
+	void clear() {
+		jdbcTemplate.update("DELETE FROM inventory_movement");
+		jdbcTemplate.update("DELETE FROM inventory_item");
+		jdbcTemplate.update("DELETE FROM app_user");
+	}
+}
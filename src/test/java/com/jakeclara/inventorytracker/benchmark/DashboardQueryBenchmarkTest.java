@@ -0,0 +1,145 @@
+package com.jakeclara.inventorytracker.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.UserRepository;
+import com.jakeclara.inventorytracker.service.InventoryItemService;
+import com.jakeclara.inventorytracker.util.TestUserFactory;
+
+/**
+ * Compares the dashboard page query against the previous ledger-grouping query
+ * on a database seeded with millions of movements.
+ * Run with {@code mvn test -Pbenchmark}; tune the seed with
+ * {@code -Dbenchmark.items} and {@code -Dbenchmark.movements}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DashboardQueryBenchmarkTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(DashboardQueryBenchmarkTest.class);
+
+	private static final int ITEM_COUNT = Integer.getInteger("benchmark.items", 5_000);
+	private static final int MOVEMENT_COUNT = Integer.getInteger("benchmark.movements", 2_000_000);
+	private static final int PAGE_SIZE = 10;
+	private static final int WARMUP_ITERATIONS = 3;
+	private static final int MEASURED_ITERATIONS = 15;
+
+	// Dashboard query before quantities were materialized: aggregates the ledger, then pages
+	private static final String LEDGER_GROUPING_QUERY = """
+		SELECT item.inventory_item_id, item.item_name, item.item_sku,
+			COALESCE(SUM(
+				CASE
+					WHEN movement.movement_type IN ('SALE', 'ADJUST_OUT')
+					THEN -movement.quantity
+					ELSE movement.quantity
+				END
+			), 0) AS current_quantity,
+			item.reorder_threshold, item.item_unit
+		FROM inventory_item item
+		LEFT JOIN inventory_movement movement ON movement.inventory_item_id = item.inventory_item_id
+		WHERE item.is_active = TRUE
+		GROUP BY item.inventory_item_id, item.item_name, item.item_sku, item.reorder_threshold, item.item_unit
+		ORDER BY item.item_name ASC
+		LIMIT ? OFFSET ?
+		""";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private InventoryItemRepository inventoryItemRepository;
+
+	@Autowired
+	private InventoryItemService inventoryItemService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@BeforeAll
+	void seedDatabase() {
+		User user = userRepository.save(TestUserFactory.createDefaultUser());
+		new BenchmarkDataSeeder(jdbcTemplate).seed(ITEM_COUNT, MOVEMENT_COUNT, user.getId());
+
+		inventoryItemService.rebuildQuantitiesOnHand();
+		logger.info("Seeded {} items and {} movements", ITEM_COUNT, MOVEMENT_COUNT);
+	}
+
+	@AfterAll
+	void clearDatabase() {
+		new BenchmarkDataSeeder(jdbcTemplate).clear();
+	}
+
+	/**
+	 * Runs the query once per page, starting at the given page, and returns the median duration.
+	 * Every run reads a different page so the database cannot serve a cached result.
+	 */
+	private double medianMillis(int firstPage, int direction, IntFunction<?> pageQuery) {
+		int page = firstPage;
+		for (int i = 0; i < WARMUP_ITERATIONS; i++, page += direction) {
+			pageQuery.apply(page);
+		}
+
+		long[] samples = new long[MEASURED_ITERATIONS];
+		for (int i = 0; i < MEASURED_ITERATIONS; i++, page += direction) {
+			long start = System.nanoTime();
+			pageQuery.apply(page);
+			samples[i] = System.nanoTime() - start;
+		}
+
+		Arrays.sort(samples);
+		return samples[MEASURED_ITERATIONS / 2] / 1_000_000.0;
+	}
+
+	private Page<InventoryDashboardItem> dashboardPage(int page) {
+		return inventoryItemRepository
+			.findInventoryByActiveStatusWithQuantity(true, PageRequest.of(page, PAGE_SIZE, Sort.by("name")));
+	}
+
+	private List<Map<String, Object>> ledgerGroupingPage(int page) {
+		return jdbcTemplate.queryForList(LEDGER_GROUPING_QUERY, PAGE_SIZE, page * PAGE_SIZE);
+	}
+
+	@Test
+	@DisplayName("dashboard page latency does not depend on ledger size")
+	void dashboardPage_DoesNotAggregateLedger() {
+		int lastPage = ITEM_COUNT / PAGE_SIZE - 1;
+
+		assertThat(dashboardPage(0).getContent()).hasSize(PAGE_SIZE);
+
+		double dashboardFirstPages = medianMillis(0, 1, this::dashboardPage);
+		double dashboardLastPages = medianMillis(lastPage, -1, this::dashboardPage);
+		double ledgerGroupingFirstPages = medianMillis(0, 1, this::ledgerGroupingPage);
+
+		logger.info("Dashboard benchmark ({} items, {} movements), median of {} runs:",
+			ITEM_COUNT, MOVEMENT_COUNT, MEASURED_ITERATIONS);
+		logger.info("  materialized quantity, first pages: {} ms", String.format("%.2f", dashboardFirstPages));
+		logger.info("  materialized quantity, last pages:  {} ms", String.format("%.2f", dashboardLastPages));
+		logger.info("  ledger grouping, first pages:       {} ms", String.format("%.2f", ledgerGroupingFirstPages));
+
+		assertThat(dashboardFirstPages).isLessThan(ledgerGroupingFirstPages);
+	}
+}
@@ -0,0 +1,162 @@
+package com.jakeclara.inventorytracker.benchmark;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.jakeclara.inventorytracker.InventoryTrackerApplication;
+import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
+import com.jakeclara.inventorytracker.dto.InventoryMovementForm;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.UserRepository;
+import com.jakeclara.inventorytracker.security.InventoryUserDetails;
+import com.jakeclara.inventorytracker.service.InventoryItemService;
+import com.jakeclara.inventorytracker.service.InventoryMovementService;
+import com.jakeclara.inventorytracker.util.TestUserFactory;
+
+/**
+ * JMH benchmarks for the item repository queries and the movement insert path,
+ * run against a file-backed H2 database in PostgreSQL mode.
+ * <p>
+ * The database is kept under {@code target/jmh-db} and only reseeded when the
+ * {@code items} or {@code movements} parameters change. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec@jmh}; results are written to
+ * {@code target/jmh-result.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class InventoryQueryBenchmark {
+
+	private static final int PAGE_SIZE = 10;
+	private static final String INSERT_REFERENCE = "jmh";
+
+	private static final String DATABASE_URL = "jdbc:h2:file:" + Path.of("target", "jmh-db", "inventory").toAbsolutePath()
+		+ ";MODE=PostgreSQL;DEFAULT_NULL_ORDERING=HIGH";
+
+	@Param("10000")
+	public int items;
+
+	@Param("1000000")
+	public int movements;
+
+	private ConfigurableApplicationContext context;
+	private JdbcTemplate jdbcTemplate;
+	private InventoryItemRepository inventoryItemRepository;
+	private InventoryItemService inventoryItemService;
+	private InventoryMovementService inventoryMovementService;
+
+	private long firstItemId;
+
+	@Setup(Level.Trial)
+	public void startContext() {
+		context = new SpringApplicationBuilder(InventoryTrackerApplication.class)
+			.web(WebApplicationType.NONE)
+			// Passed as arguments so they override the test application.properties
+			.run(
+				"--spring.datasource.url=" + DATABASE_URL,
+				"--spring.jpa.hibernate.ddl-auto=update",
+				"--spring.jpa.show-sql=false",
+				"--inventory.projection.enabled=false"
+			);
+
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+		inventoryItemRepository = context.getBean(InventoryItemRepository.class);
+		inventoryItemService = context.getBean(InventoryItemService.class);
+		inventoryMovementService = context.getBean(InventoryMovementService.class);
+
+		User user = seedIfNeeded(context.getBean(UserRepository.class));
+
+		// Benchmark threads are not the setup thread, so the login must be visible to all of them
+		SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+		InventoryUserDetails principal = InventoryUserDetails.from(user);
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void stopContext() {
+		// Keeps the seeded ledger unchanged for the next run
+		jdbcTemplate.update("DELETE FROM inventory_movement WHERE reference = ?", INSERT_REFERENCE);
+		inventoryItemService.rebuildQuantityOnHand(firstItemId);
+
+		SecurityContextHolder.clearContext();
+		context.close();
+	}
+
+	private User seedIfNeeded(UserRepository userRepository) {
+		BenchmarkDataSeeder seeder = new BenchmarkDataSeeder(jdbcTemplate);
+		long seededItems = inventoryItemRepository.count();
+		Long seededMovements = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM inventory_movement", Long.class);
+
+		if (seededItems == items && seededMovements != null && seededMovements == movements) {
+			firstItemId = jdbcTemplate.queryForObject("SELECT MIN(inventory_item_id) FROM inventory_item", Long.class);
+			return userRepository.findAll().getFirst();
+		}
+
+		seeder.clear();
+		User user = userRepository.save(TestUserFactory.createDefaultUser());
+		firstItemId = seeder.seed(items, movements, user.getId());
+		inventoryItemService.rebuildQuantitiesOnHand();
+		return user;
+	}
+
+	private long randomItemId() {
+		return firstItemId + ThreadLocalRandom.current().nextInt(items);
+	}
+
+	@Benchmark
+	public Long findCurrentQuantityByItemId() {
+		return inventoryItemRepository.findCurrentQuantityByItemId(randomItemId());
+	}
+
+	@Benchmark
+	public Page<InventoryDashboardItem> findInventoryByActiveStatusWithQuantity() {
+		int page = ThreadLocalRandom.current().nextInt(items / PAGE_SIZE);
+		return inventoryItemRepository.findInventoryByActiveStatusWithQuantity(true, PageRequest.of(page, PAGE_SIZE, Sort.by("name")));
+	}
+
+	@Benchmark
+	public long countLowStockByActiveStatus() {
+		return inventoryItemRepository.countLowStockByActiveStatus(true);
+	}
+
+	@Benchmark
+	public void addInventoryMovement() {
+		// Receipts into one item, so the inserted rows are easy to remove afterwards
+		inventoryMovementService.addInventoryMovement(
+			firstItemId,
+			new InventoryMovementForm(1, InventoryMovementType.RECEIVE, LocalDate.now(), INSERT_REFERENCE, null)
+		);
+	}
+}
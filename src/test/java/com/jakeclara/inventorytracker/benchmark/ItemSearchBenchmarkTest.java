@@ -0,0 +1,121 @@
+package com.jakeclara.inventorytracker.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.projection.InventoryProjection;
+import com.jakeclara.inventorytracker.repository.UserRepository;
+import com.jakeclara.inventorytracker.service.InventoryItemService;
+import com.jakeclara.inventorytracker.util.TestUserFactory;
+
+/**
+ * Measures type-ahead search latency against the projection's trigram index on a large catalog.
+ * Run with {@code mvn test -Pbenchmark}; tune the catalog size with {@code -Dbenchmark.search-items}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+	"spring.jpa.show-sql=false",
+	"inventory.projection.enabled=true"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ItemSearchBenchmarkTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(ItemSearchBenchmarkTest.class);
+
+	private static final int ITEM_COUNT = Integer.getInteger("benchmark.search-items", 500_000);
+	private static final int WARMUP_ITERATIONS = 20_000;
+	private static final int MEASURED_ITERATIONS = 1_000;
+	private static final double TYPE_AHEAD_BUDGET_MILLIS = 5.0;
+
+	// Seeded items are named "Item 000000" with SKU "SKU-000000" onwards, so these range from
+	// one selective match to substrings of every item with no prefix match to stop at
+	private static final List<String> QUERIES = List.of(
+		"i", "it", "item 0001", "sku-4", "12345", "000999", "tem", "m 0", "missing"
+	);
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private InventoryProjection inventoryProjection;
+
+	@Autowired
+	private InventoryItemService inventoryItemService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@BeforeAll
+	void seedDatabase() {
+		User user = userRepository.save(TestUserFactory.createDefaultUser());
+		new BenchmarkDataSeeder(jdbcTemplate).seed(ITEM_COUNT, ITEM_COUNT, user.getId());
+
+		long start = System.nanoTime();
+		inventoryProjection.load();
+		logger.info("Loaded {} items into the projection in {} ms", ITEM_COUNT, (System.nanoTime() - start) / 1_000_000);
+	}
+
+	@AfterAll
+	void clearDatabase() {
+		new BenchmarkDataSeeder(jdbcTemplate).clear();
+	}
+
+	// Returns the sorted durations of the search in nanoseconds
+	private long[] samples(String query) {
+		for (int i = 0; i < WARMUP_ITERATIONS / QUERIES.size(); i++) {
+			inventoryItemService.searchItems(query);
+		}
+
+		long[] samples = new long[MEASURED_ITERATIONS];
+		for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+			long start = System.nanoTime();
+			inventoryItemService.searchItems(query);
+			samples[i] = System.nanoTime() - start;
+		}
+
+		Arrays.sort(samples);
+		return samples;
+	}
+
+	private static double percentileMillis(long[] sortedSamples, int percentile) {
+		return sortedSamples[sortedSamples.length * percentile / 100] / 1_000_000.0;
+	}
+
+	@Test
+	@DisplayName("type-ahead search answers within budget on a large catalog")
+	void search_AnswersWithinBudget() {
+		assertThat(inventoryProjection.isReady()).isTrue();
+		assertThat(inventoryItemService.searchItems("item 000012"))
+			.extracting(item -> item.name())
+			.startsWith("Item 000012");
+
+		// Every query warms up first, so the JIT has compiled the search before any is measured
+		QUERIES.forEach(inventoryItemService::searchItems);
+
+		// The median is asserted: on a shared or single-core runner the tail mostly measures
+		// how long the benchmark thread waits to be scheduled, so p99 is only reported
+		logger.info("Item search benchmark ({} items), {} runs each:", ITEM_COUNT, MEASURED_ITERATIONS);
+		for (String query : QUERIES) {
+			long[] samples = samples(query);
+			double median = percentileMillis(samples, 50);
+			logger.info("  {}: p50 {} ms, p99 {} ms", String.format("%-10s", "\"" + query + "\""),
+				String.format("%.3f", median), String.format("%.3f", percentileMillis(samples, 99)));
+			assertThat(median).as("median of \"%s\"", query).isLessThan(TYPE_AHEAD_BUDGET_MILLIS);
+		}
+	}
+}
@@ -0,0 +1,368 @@
+package com.jakeclara.inventorytracker.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * HTTP load generator for the dashboard, item details and movement posting flows.
+ * <p>
+ * Each simulated session logs in through the form login, keeps its session cookie and CSRF token,
+ * and then sends a weighted mix of requests until the run ends. Sessions run on virtual threads,
+ * so thousands of them can share one process.
+ * <p>
+ * Runs in-process from {@link WebLoadBenchmarkTest}, or standalone against a running instance
+ * through {@code mvn -Pbenchmark test-compile exec:exec@load}. Both read these system properties:
+ * <ul>
+ *   <li>{@code load.base-url}, {@code load.username}, {@code load.password}</li>
+ *   <li>{@code load.sessions} concurrent sessions (default 50)</li>
+ *   <li>{@code load.warmup-seconds} unmeasured run length before measuring (default 0)</li>
+ *   <li>{@code load.duration-seconds} measured run length (default 30)</li>
+ *   <li>{@code load.think-time-ms} pause between requests of a session (default 50)</li>
+ *   <li>{@code load.weight.dashboard}, {@code load.weight.item}, {@code load.weight.movement}
+ *       relative request mix (default 60/30/10)</li>
+ * </ul>
+ */
+public final class LoadGenerator {
+
+	enum Operation {
+		DASHBOARD,
+		ITEM,
+		MOVEMENT
+	}
+
+	record Settings(
+		URI baseUrl,
+		String username,
+		String password,
+		int sessions,
+		Duration warmup,
+		Duration duration,
+		Duration thinkTime,
+		int dashboardWeight,
+		int itemWeight,
+		int movementWeight
+	) {
+		static Settings fromSystemProperties(URI defaultBaseUrl, String defaultUsername, String defaultPassword) {
+			return new Settings(
+				URI.create(System.getProperty("load.base-url", defaultBaseUrl.toString())),
+				System.getProperty("load.username", defaultUsername),
+				System.getProperty("load.password", defaultPassword),
+				Integer.getInteger("load.sessions", 50),
+				Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 0)),
+				Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30)),
+				Duration.ofMillis(Integer.getInteger("load.think-time-ms", 50)),
+				Integer.getInteger("load.weight.dashboard", 60),
+				Integer.getInteger("load.weight.item", 30),
+				Integer.getInteger("load.weight.movement", 10)
+			);
+		}
+
+		Settings withSessions(int sessions) {
+			return new Settings(baseUrl, username, password, sessions, warmup, duration, thinkTime,
+				dashboardWeight, itemWeight, movementWeight);
+		}
+
+		Settings withWarmup(Duration warmup) {
+			return new Settings(baseUrl, username, password, sessions, warmup, duration, thinkTime,
+				dashboardWeight, itemWeight, movementWeight);
+		}
+	}
+
+	private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+	private static final Pattern ITEM_LINK = Pattern.compile("href=\"/items/(\\d+)\"");
+	private static final Pattern SESSION_COOKIE = Pattern.compile("JSESSIONID=([^;]+)");
+	private static final int DISCOVERED_DASHBOARD_PAGES = 5;
+	// Sessions arrive gradually rather than as one burst of connects against the accept queue
+	private static final int CONCURRENT_LOGINS = 20;
+
+	private final Settings settings;
+	private final HttpClient httpClient;
+
+	private final Map<Operation, List<long[]>> sessionLatencies = new EnumMap<>(Operation.class);
+	private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+
+	public LoadGenerator(Settings settings) {
+		this.settings = settings;
+		this.httpClient = HttpClient.newBuilder()
+			.followRedirects(HttpClient.Redirect.NEVER)
+			.connectTimeout(Duration.ofSeconds(30))
+			.build();
+
+		for (Operation operation : Operation.values()) {
+			sessionLatencies.put(operation, new ArrayList<>());
+			errors.put(operation, new AtomicLong());
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		Settings settings = Settings.fromSystemProperties(URI.create("http://localhost:8080"), "admin", "");
+		System.out.print(new LoadGenerator(settings).run().format());
+	}
+
+	/**
+	 * Logs in every session, warms up, then drives the request mix for the configured duration.
+	 *
+	 * @return the latencies and errors of the requests sent after the warmup
+	 */
+	LoadReport run() throws InterruptedException {
+		List<Session> sessions = new ArrayList<>(settings.sessions());
+		Semaphore loginPermits = new Semaphore(CONCURRENT_LOGINS);
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<Session>> logins = new ArrayList<>();
+			for (int i = 0; i < settings.sessions(); i++) {
+				logins.add(executor.submit(() -> {
+					loginPermits.acquire();
+					try {
+						return login();
+					} finally {
+						loginPermits.release();
+					}
+				}));
+			}
+			for (Future<Session> login : logins) {
+				try {
+					sessions.add(login.get());
+				} catch (ExecutionException e) {
+					throw new IllegalStateException("Session could not log in", e.getCause());
+				}
+			}
+		}
+
+		List<Long> itemIds = discoverItemIds(sessions.getFirst());
+		if (itemIds.isEmpty()) {
+			throw new IllegalStateException("No items found on the dashboard");
+		}
+
+		if (!settings.warmup().isZero()) {
+			driveAll(sessions, itemIds, settings.warmup());
+			sessionLatencies.values().forEach(List::clear);
+			errors.values().forEach(count -> count.set(0));
+		}
+
+		Duration elapsed = driveAll(sessions, itemIds, settings.duration());
+
+		Map<Operation, long[]> latencies = new EnumMap<>(Operation.class);
+		Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+		for (Operation operation : Operation.values()) {
+			latencies.put(operation, sessionLatencies.get(operation).stream()
+				.flatMapToLong(Arrays::stream)
+				.toArray());
+			errorCounts.put(operation, errors.get(operation).get());
+		}
+		return new LoadReport(elapsed, latencies, errorCounts);
+	}
+
+	private Duration driveAll(List<Session> sessions, List<Long> itemIds, Duration duration) {
+		Instant start = Instant.now();
+		Instant end = start.plus(duration);
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (Session session : sessions) {
+				executor.submit(() -> drive(session, itemIds, end));
+			}
+		}
+		return Duration.between(start, Instant.now());
+	}
+
+	private Session login() throws IOException, InterruptedException {
+		HttpResponse<String> loginPage = send(HttpRequest.newBuilder(resolve("/login")).GET(), null);
+		String anonymousSession = sessionCookie(loginPage)
+			.orElseThrow(() -> new IllegalStateException("Login page did not start a session"));
+
+		HttpResponse<String> login = send(
+			form(resolve("/login"), Map.of(
+				"username", settings.username(),
+				"password", settings.password(),
+				"_csrf", csrfToken(loginPage.body())
+			)),
+			anonymousSession
+		);
+
+		String location = login.headers().firstValue("Location").orElse("");
+		if (login.statusCode() != 302 || !location.endsWith("/dashboard")) {
+			throw new IllegalStateException("Login failed for " + settings.username() + ": " + location);
+		}
+
+		// Spring Security issues a new session and CSRF token on login
+		String session = sessionCookie(login).orElse(anonymousSession);
+		HttpResponse<String> dashboard = send(HttpRequest.newBuilder(resolve("/dashboard")).GET(), session);
+		return new Session(session, csrfToken(dashboard.body()));
+	}
+
+	private List<Long> discoverItemIds(Session session) {
+		Set<Long> itemIds = new LinkedHashSet<>();
+		for (int page = 0; page < DISCOVERED_DASHBOARD_PAGES; page++) {
+			try {
+				HttpResponse<String> dashboard =
+					send(HttpRequest.newBuilder(resolve("/dashboard?page=" + page)).GET(), session.cookie());
+				Matcher matcher = ITEM_LINK.matcher(dashboard.body());
+				while (matcher.find()) {
+					itemIds.add(Long.valueOf(matcher.group(1)));
+				}
+			} catch (IOException | InterruptedException e) {
+				throw new IllegalStateException("Could not read the dashboard", e);
+			}
+		}
+		return List.copyOf(itemIds);
+	}
+
+	private void drive(Session session, List<Long> itemIds, Instant end) {
+		Map<Operation, LatencyBuffer> latencies = new EnumMap<>(Operation.class);
+		for (Operation operation : Operation.values()) {
+			latencies.put(operation, new LatencyBuffer());
+		}
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while (Instant.now().isBefore(end)) {
+			Operation operation = nextOperation(random);
+			long itemId = itemIds.get(random.nextInt(itemIds.size()));
+
+			long started = System.nanoTime();
+			boolean succeeded = execute(operation, session, itemId, random);
+			latencies.get(operation).add(System.nanoTime() - started);
+			if (!succeeded) {
+				errors.get(operation).incrementAndGet();
+			}
+
+			pause();
+		}
+
+		synchronized (sessionLatencies) {
+			latencies.forEach((operation, buffer) -> sessionLatencies.get(operation).add(buffer.toArray()));
+		}
+	}
+
+	private boolean execute(Operation operation, Session session, long itemId, ThreadLocalRandom random) {
+		try {
+			return switch (operation) {
+				case DASHBOARD -> {
+					String path = "/dashboard?page=" + random.nextInt(DISCOVERED_DASHBOARD_PAGES);
+					yield send(HttpRequest.newBuilder(resolve(path)).GET(), session.cookie()).statusCode() == 200;
+				}
+				case ITEM -> send(HttpRequest.newBuilder(resolve("/items/" + itemId)).GET(), session.cookie())
+					.statusCode() == 200;
+				case MOVEMENT -> {
+					HttpResponse<String> response = send(form(resolve("/items/" + itemId + "/movements"), Map.of(
+						"quantity", "1",
+						"movementType", random.nextBoolean() ? "RECEIVE" : "SALE",
+						"movementDate", LocalDate.now().toString(),
+						"_csrf", session.csrfToken()
+					)), session.cookie());
+					yield response.statusCode() == 302
+						&& response.headers().firstValue("Location").orElse("").contains("/items/");
+				}
+			};
+		} catch (IOException e) {
+			return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private Operation nextOperation(ThreadLocalRandom random) {
+		int roll = random.nextInt(settings.dashboardWeight() + settings.itemWeight() + settings.movementWeight());
+		if (roll < settings.dashboardWeight()) {
+			return Operation.DASHBOARD;
+		}
+		if (roll < settings.dashboardWeight() + settings.itemWeight()) {
+			return Operation.ITEM;
+		}
+		return Operation.MOVEMENT;
+	}
+
+	private void pause() {
+		if (settings.thinkTime().isZero()) {
+			return;
+		}
+		try {
+			Thread.sleep(settings.thinkTime());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private HttpResponse<String> send(HttpRequest.Builder request, String sessionCookie)
+		throws IOException, InterruptedException {
+		if (sessionCookie != null) {
+			request.header("Cookie", "JSESSIONID=" + sessionCookie);
+		}
+		return httpClient.send(request.timeout(Duration.ofSeconds(60)).build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private HttpRequest.Builder form(URI uri, Map<String, String> fields) {
+		String body = new LinkedHashMap<>(fields).entrySet().stream()
+			.map(field -> URLEncoder.encode(field.getKey(), StandardCharsets.UTF_8)
+				+ "=" + URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8))
+			.collect(Collectors.joining("&"));
+
+		return HttpRequest.newBuilder(uri)
+			.header("Content-Type", "application/x-www-form-urlencoded")
+			.POST(HttpRequest.BodyPublishers.ofString(body));
+	}
+
+	private URI resolve(String path) {
+		return settings.baseUrl().resolve(path);
+	}
+
+	private static Optional<String> sessionCookie(HttpResponse<?> response) {
+		return response.headers().allValues("Set-Cookie").stream()
+			.map(SESSION_COOKIE::matcher)
+			.filter(Matcher::find)
+			.map(matcher -> matcher.group(1))
+			.findFirst();
+	}
+
+	private static String csrfToken(String html) {
+		Matcher matcher = CSRF_TOKEN.matcher(html);
+		if (!matcher.find()) {
+			throw new IllegalStateException("No CSRF token found in page");
+		}
+		return matcher.group(1);
+	}
+
+	private record Session(String cookie, String csrfToken) {
+	}
+
+	private static final class LatencyBuffer {
+		private long[] samples = new long[256];
+		private int size;
+
+		void add(long latencyNanos) {
+			if (size == samples.length) {
+				samples = Arrays.copyOf(samples, size * 2);
+			}
+			samples[size++] = latencyNanos;
+		}
+
+		long[] toArray() {
+			return Arrays.copyOf(samples, size);
+		}
+	}
+}
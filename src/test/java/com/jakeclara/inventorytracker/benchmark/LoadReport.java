@@ -0,0 +1,77 @@
+package com.jakeclara.inventorytracker.benchmark;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Latency percentiles, error counts and throughput per operation of a load run.
+ */
+final class LoadReport {
+
+	private final Duration elapsed;
+	private final Map<LoadGenerator.Operation, long[]> latenciesNanos = new EnumMap<>(LoadGenerator.Operation.class);
+	private final Map<LoadGenerator.Operation, Long> errors = new EnumMap<>(LoadGenerator.Operation.class);
+
+	LoadReport(
+		Duration elapsed,
+		Map<LoadGenerator.Operation, long[]> latenciesNanos,
+		Map<LoadGenerator.Operation, Long> errors
+	) {
+		this.elapsed = elapsed;
+		latenciesNanos.forEach((operation, samples) -> {
+			long[] sorted = samples.clone();
+			Arrays.sort(sorted);
+			this.latenciesNanos.put(operation, sorted);
+		});
+		this.errors.putAll(errors);
+	}
+
+	long requestCount() {
+		return latenciesNanos.values().stream().mapToLong(samples -> samples.length).sum();
+	}
+
+	long errorCount() {
+		return errors.values().stream().mapToLong(Long::longValue).sum();
+	}
+
+	double throughputPerSecond() {
+		return requestCount() / (elapsed.toNanos() / 1_000_000_000.0);
+	}
+
+	/**
+	 * @return the latency in milliseconds at the given percentile, or 0 if the operation never ran
+	 */
+	double percentileMillis(LoadGenerator.Operation operation, double percentile) {
+		long[] samples = latenciesNanos.getOrDefault(operation, new long[0]);
+		if (samples.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile / 100.0 * samples.length) - 1;
+		return samples[Math.max(index, 0)] / 1_000_000.0;
+	}
+
+	String format() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("%-10s %8s %7s %9s %9s %9s %9s %9s%n",
+			"operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+
+		for (LoadGenerator.Operation operation : LoadGenerator.Operation.values()) {
+			long[] samples = latenciesNanos.getOrDefault(operation, new long[0]);
+			report.append(String.format("%-10s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+				operation.name().toLowerCase(),
+				samples.length,
+				errors.getOrDefault(operation, 0L),
+				samples.length / (elapsed.toNanos() / 1_000_000_000.0),
+				percentileMillis(operation, 50),
+				percentileMillis(operation, 90),
+				percentileMillis(operation, 99),
+				percentileMillis(operation, 100)));
+		}
+
+		report.append(String.format("total: %d requests, %d errors, %.1f req/s over %d s%n",
+			requestCount(), errorCount(), throughputPerSecond(), elapsed.toSeconds()));
+		return report.toString();
+	}
+}
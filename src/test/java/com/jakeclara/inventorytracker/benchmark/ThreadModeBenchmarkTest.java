@@ -0,0 +1,135 @@
+package com.jakeclara.inventorytracker.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.jakeclara.inventorytracker.InventoryTrackerApplication;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.model.UserRole;
+import com.jakeclara.inventorytracker.repository.UserRepository;
+import com.jakeclara.inventorytracker.service.InventoryItemService;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Compares platform-thread and virtual-thread request execution under the same HTTP load,
+ * and records where virtual threads get pinned to their carrier while serving it.
+ * <p>
+ * Each mode starts its own embedded server and in-memory database with the same connection pool size;
+ * the virtual mode activates the {@code virtual-threads} profile.
+ * Run with {@code mvn test -Pbenchmark -Dtest=ThreadModeBenchmarkTest}; {@code load.sessions} defaults to 1000 here.
+ */
+@Tag("benchmark")
+class ThreadModeBenchmarkTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(ThreadModeBenchmarkTest.class);
+
+	private static final String USERNAME = "load_user";
+	private static final String PASSWORD = "LoadPassword123!";
+	private static final int SESSIONS = Integer.getInteger("load.sessions", 1_000);
+	private static final int ITEM_COUNT = Integer.getInteger("benchmark.items", 500);
+	private static final int MOVEMENT_COUNT = Integer.getInteger("benchmark.movements", 50_000);
+	private static final int POOL_SIZE = 30;
+	private static final Duration WARMUP = Duration.ofSeconds(5);
+
+	// Database access paths shipped in production; H2 is only used for development and tests
+	private static final List<String> PRODUCTION_PACKAGES = List.of(
+		"com.jakeclara.", "org.hibernate.", "org.springframework.", "com.zaxxer.hikari.", "org.postgresql."
+	);
+
+	private ConfigurableApplicationContext start(String mode, String... arguments) {
+		List<String> args = new ArrayList<>(List.of(
+			"--server.port=0",
+			"--spring.datasource.url=jdbc:h2:mem:" + mode,
+			"--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+			"--spring.jpa.show-sql=false"
+		));
+		args.addAll(List.of(arguments));
+
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(InventoryTrackerApplication.class)
+			.run(args.toArray(String[]::new));
+
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		// Logins verify against the cost stored in the hash, so a low cost keeps 1000+ logins from dominating the run
+		User user = context.getBean(UserRepository.class)
+			.save(new User(USERNAME, new BCryptPasswordEncoder(4).encode(PASSWORD), UserRole.USER));
+		new BenchmarkDataSeeder(jdbcTemplate).seed(ITEM_COUNT, MOVEMENT_COUNT, user.getId());
+		context.getBean(InventoryItemService.class).rebuildQuantitiesOnHand();
+		return context;
+	}
+
+	private LoadReport drive(ConfigurableApplicationContext context) throws InterruptedException {
+		int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+		LoadGenerator.Settings settings = LoadGenerator.Settings
+			.fromSystemProperties(URI.create("http://localhost:" + port), USERNAME, PASSWORD)
+			.withSessions(SESSIONS)
+			.withWarmup(WARMUP);
+
+		return new LoadGenerator(settings).run();
+	}
+
+	/**
+	 * @return the first frame outside the JDK, which names the library that held the carrier thread
+	 */
+	private static String pinnedFrame(RecordedEvent event) {
+		if (event.getStackTrace() == null) {
+			return "unknown";
+		}
+		return event.getStackTrace().getFrames().stream()
+			.map(RecordedFrame::getMethod)
+			.map(method -> method.getType().getName() + "." + method.getName())
+			.filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun."))
+			.findFirst()
+			.orElse("jdk");
+	}
+
+	@Test
+	@DisplayName("virtual threads serve 1000+ sessions without errors or pinning in production code paths")
+	void virtualThreads_ComparedWithPlatformThreads() throws Exception {
+		LoadReport platformReport;
+		try (ConfigurableApplicationContext context = start("platform")) {
+			platformReport = drive(context);
+		}
+
+		LoadReport virtualReport;
+		Map<String, LongAdder> pinnedFrames = new ConcurrentHashMap<>();
+		try (ConfigurableApplicationContext context = start("virtual", "--spring.profiles.active=virtual-threads");
+			RecordingStream pinning = new RecordingStream()) {
+			pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+			pinning.onEvent("jdk.VirtualThreadPinned",
+				event -> pinnedFrames.computeIfAbsent(pinnedFrame(event), frame -> new LongAdder()).increment());
+			pinning.startAsync();
+
+			virtualReport = drive(context);
+		}
+
+		logger.info("Platform threads, {} sessions:{}{}", SESSIONS, System.lineSeparator(), platformReport.format());
+		logger.info("Virtual threads, {} sessions:{}{}", SESSIONS, System.lineSeparator(), virtualReport.format());
+		logger.info("Virtual thread pinning by first non-JDK frame: {}", pinnedFrames);
+
+		assertThat(platformReport.errorCount()).isZero();
+		assertThat(virtualReport.errorCount()).isZero();
+		assertThat(pinnedFrames.keySet())
+			.noneMatch(frame -> PRODUCTION_PACKAGES.stream().anyMatch(frame::startsWith));
+	}
+}
@@ -0,0 +1,91 @@
+package com.jakeclara.inventorytracker.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.model.UserRole;
+import com.jakeclara.inventorytracker.repository.UserRepository;
+import com.jakeclara.inventorytracker.service.InventoryItemService;
+
+/**
+ * Drives the dashboard, item details and movement posting flows over HTTP
+ * with {@link LoadGenerator} against an embedded server.
+ * Run with {@code mvn test -Pbenchmark}; tune the run with the {@code load.*} system properties
+ * listed on {@link LoadGenerator}.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = "spring.jpa.show-sql=false"
+)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WebLoadBenchmarkTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(WebLoadBenchmarkTest.class);
+
+	private static final String USERNAME = "load_user";
+	private static final String PASSWORD = "LoadPassword123!";
+	private static final int ITEM_COUNT = Integer.getInteger("benchmark.items", 500);
+	private static final int MOVEMENT_COUNT = Integer.getInteger("benchmark.movements", 50_000);
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private InventoryItemService inventoryItemService;
+
+	@BeforeAll
+	void seedDatabase() {
+		User user = userRepository.save(new User(USERNAME, passwordEncoder.encode(PASSWORD), UserRole.USER));
+		new BenchmarkDataSeeder(jdbcTemplate).seed(ITEM_COUNT, MOVEMENT_COUNT, user.getId());
+
+		inventoryItemService.rebuildQuantitiesOnHand();
+	}
+
+	@AfterAll
+	void clearDatabase() {
+		new BenchmarkDataSeeder(jdbcTemplate).clear();
+	}
+
+	@Test
+	@DisplayName("dashboard and movement flows serve concurrent sessions without errors")
+	void loadMix_CompletesWithoutErrors() throws Exception {
+		LoadGenerator.Settings settings = LoadGenerator.Settings.fromSystemProperties(
+			URI.create("http://localhost:" + port),
+			USERNAME,
+			PASSWORD
+		);
+
+		LoadReport report = new LoadGenerator(settings).run();
+
+		logger.info("Load run with {} sessions:{}{}", settings.sessions(), System.lineSeparator(), report.format());
+
+		assertThat(report.requestCount()).isPositive();
+		assertThat(report.errorCount()).isZero();
+	}
+}
@@ -0,0 +1,64 @@
+package com.jakeclara.inventorytracker.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import static org.hamcrest.Matchers.containsString;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+	"management.endpoints.web.exposure.include=health,metrics,prometheus",
+	"management.observations.annotations.enabled=true",
+	"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	@DisplayName("GET /actuator/health should be public")
+	void health_ShouldBePublic() throws Exception {
+		mockMvc.perform(get("/actuator/health"))
+			.andExpect(status().isOk());
+	}
+
+	@Test
+	@DisplayName("GET /actuator/prometheus should require authentication")
+	void prometheus_ShouldRequireAuthentication() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus"))
+			.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	@WithMockUser(roles = "USER")
+	@DisplayName("GET /actuator/prometheus should be forbidden for non-admin users")
+	void prometheus_ShouldBeForbidden_ForNonAdmin() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus"))
+			.andExpect(status().isForbidden());
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	@DisplayName("GET /actuator/prometheus should publish service, query, Hibernate and pool metrics to admins")
+	void prometheus_ShouldPublishMetrics_ForAdmin() throws Exception {
+		mockMvc.perform(get("/dashboard"))
+			.andExpect(status().isOk());
+
+		mockMvc.perform(get("/actuator/prometheus"))
+			.andExpect(status().isOk())
+			.andExpect(content().string(containsString("inventory_dashboard_seconds_count")))
+			.andExpect(content().string(containsString("http_server_requests_queries_count")))
+			.andExpect(content().string(containsString("hibernate_")))
+			.andExpect(content().string(containsString("hikaricp_connections")));
+	}
+}
@@ -0,0 +1,94 @@
+package com.jakeclara.inventorytracker.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import static org.hamcrest.Matchers.containsString;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.DigestUtils;
+
+@SpringBootTest(properties = "logging.level.org.springframework.web.servlet.resource=TRACE")
+@AutoConfigureMockMvc
+class StaticResourceTest {
+
+	private static final String IMMUTABLE = "max-age=31536000, public, immutable";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	private static String hashedUrl(String directory, String name, String extension) throws IOException {
+		try (InputStream input = new ClassPathResource("static/" + directory + "/" + name + "." + extension).getInputStream()) {
+			return "/" + directory + "/" + name + "-" + DigestUtils.md5DigestAsHex(input) + "." + extension;
+		}
+	}
+
+	@Test
+	@DisplayName("templates should link assets by their content-hashed URL")
+	void templates_ShouldLinkHashedAssetUrls() throws Exception {
+		mockMvc.perform(get("/login"))
+			.andExpect(status().isOk())
+			.andExpect(content().string(containsString("href=\"" + hashedUrl("css", "app", "css") + "\"")))
+			.andExpect(content().string(containsString("href=\"" + hashedUrl("icons", "logo-black", "svg") + "\"")));
+	}
+
+	@Test
+	@DisplayName("hashed asset URLs should be public and cacheable for a year without revalidation")
+	void hashedAsset_ShouldBeImmutable() throws Exception {
+		mockMvc.perform(get(hashedUrl("css", "app", "css")))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, IMMUTABLE))
+			.andExpect(header().doesNotExist(HttpHeaders.PRAGMA))
+			.andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE))
+			.andExpect(content().string(containsString("--")));
+	}
+
+	@Test
+	@DisplayName("plain asset URLs should be revalidated on every use")
+	void unversionedAsset_ShouldNotBeCachedAsImmutable() throws Exception {
+		mockMvc.perform(get("/css/app.css"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+			.andExpect(content().string(containsString("--")));
+
+		mockMvc.perform(get("/icons/logo-white.svg").header(HttpHeaders.ACCEPT_ENCODING, "br"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+	}
+
+	@Test
+	@DisplayName("hashed asset URLs should serve the precompressed copy the client accepts")
+	void hashedAsset_ShouldServePrecompressedCopy() throws Exception {
+		String url = hashedUrl("icons", "logo-white", "svg");
+
+		mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+			.andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, IMMUTABLE));
+
+		mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+	}
+
+	@Test
+	@DisplayName("asset URLs with a stale hash should not be found")
+	void staleHash_ShouldNotBeFound() throws Exception {
+		mockMvc.perform(get("/css/app-00000000000000000000000000000000.css"))
+			.andExpect(status().isNotFound());
+	}
+}
@@ -0,0 +1,141 @@
+package com.jakeclara.inventorytracker.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jakeclara.inventorytracker.config.SecurityConfig;
+import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
+import com.jakeclara.inventorytracker.dto.InventoryDashboardQuery;
+import com.jakeclara.inventorytracker.dto.InventoryDashboardView;
+import com.jakeclara.inventorytracker.dto.common.Pagination;
+import com.jakeclara.inventorytracker.service.DashboardService;
+import com.jakeclara.inventorytracker.service.DashboardStreamService;
+
+@WebMvcTest(DashboardApiController.class)
+@Import(SecurityConfig.class)
+class DashboardApiControllerTest {
+
+    private static final String ETAG = "\"dashboard-s17-2\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DashboardService dashboardService;
+
+    @MockitoBean
+    private DashboardStreamService dashboardStreamService;
+
+    @Test
+    @DisplayName("should redirect to login when unauthenticated")
+    void shouldRedirectToLogin_WhenUnauthenticated() throws Exception {
+
+        mockMvc.perform(get("/api/dashboard"))
+            .andExpect(status().is3xxRedirection())
+            .andExpect(redirectedUrl("/login"));
+
+        verifyNoInteractions(dashboardService);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should return the dashboard page with an ETag from the inventory revision")
+    void shouldReturnDashboard_WithETag() throws Exception {
+
+        when(dashboardService.getDashboardRevision()).thenReturn("s17-2");
+        when(dashboardService.getInventoryDashboard(1, InventoryDashboardQuery.BY_NAME)).thenReturn(new InventoryDashboardView(
+            List.of(new InventoryDashboardItem(1L, "Item A", "SKU-A", 3L, 5, "pcs")),
+            2,
+            new Pagination(1, 2, false, true)
+        ));
+
+        mockMvc.perform(get("/api/dashboard").param("page", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", ETAG))
+            .andExpect(header().string("Cache-Control", "no-cache, private"))
+            .andExpect(jsonPath("$.inventoryItems[0].sku").value("SKU-A"))
+            .andExpect(jsonPath("$.lowStockCount").value(2))
+            .andExpect(jsonPath("$.pagination.currentPage").value(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should return not modified without reading the dashboard when the ETag matches")
+    void shouldReturnNotModified_WhenETagMatches() throws Exception {
+
+        when(dashboardService.getDashboardRevision()).thenReturn("s17-2");
+
+        mockMvc.perform(get("/api/dashboard").header("If-None-Match", ETAG))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", ETAG));
+
+        verify(dashboardService, never()).getInventoryDashboard(anyInt(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should return the dashboard when the inventory changed since the ETag")
+    void shouldReturnDashboard_WhenETagIsStale() throws Exception {
+
+        when(dashboardService.getDashboardRevision()).thenReturn("s18-2");
+        when(dashboardService.getInventoryDashboard(0, InventoryDashboardQuery.BY_NAME)).thenReturn(new InventoryDashboardView(
+            List.of(),
+            0,
+            new Pagination(0, 0, false, false)
+        ));
+
+        mockMvc.perform(get("/api/dashboard").header("If-None-Match", ETAG))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"dashboard-s18-2\""));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should open an event stream for the requested items")
+    void shouldOpenStream_ForRequestedItems() throws Exception {
+
+        when(dashboardStreamService.subscribe(Set.of(1L, 2L))).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/dashboard/stream").param("itemIds", "1", "2"))
+            .andExpect(request().asyncStarted())
+            .andExpect(header().string("Content-Type", "text/event-stream"));
+
+        verify(dashboardStreamService).subscribe(Set.of(1L, 2L));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should open an event stream for every item when none are requested")
+    void shouldOpenStream_ForEveryItem_WhenNoneRequested() throws Exception {
+
+        when(dashboardStreamService.subscribe(Set.of())).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/dashboard/stream"))
+            .andExpect(request().asyncStarted());
+
+        verify(dashboardStreamService).subscribe(Set.of());
+    }
+}
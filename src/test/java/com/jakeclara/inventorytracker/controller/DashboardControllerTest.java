@@ -14,11 +14,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.jakeclara.inventorytracker.dto.InventoryDashboardQuery;
 import com.jakeclara.inventorytracker.dto.InventoryDashboardView;
+import com.jakeclara.inventorytracker.dto.InventorySortField;
 import com.jakeclara.inventorytracker.dto.common.Pagination;
 import com.jakeclara.inventorytracker.service.DashboardService;
 
@@ -48,15 +51,45 @@ class DashboardControllerTest {
         InventoryDashboardView mockView = 
             new InventoryDashboardView(List.of(), 2, pagination);
         
-        when(dashboardService.getInventoryDashboard(page))
+        when(dashboardService.getInventoryDashboard(page, InventoryDashboardQuery.BY_NAME))
             .thenReturn(mockView);
+        when(dashboardService.getDashboardRevision())
+            .thenReturn("p1-1-5");
 
         mockMvc.perform(get("/dashboard").param("page", String.valueOf(page)))
             .andExpect(status().isOk())
             .andExpect(view().name("dashboard/dashboard"))
-            .andExpect(model().attribute("dashboard", mockView));
+            .andExpect(model().attribute("dashboard", mockView))
+            .andExpect(model().attribute("dashboardRevision", "p1-1-5"))
+            .andExpect(model().attribute("dashboardUrl", "/dashboard?sort=NAME&direction=ASC"));
         
-        verify(dashboardService).getInventoryDashboard(page);
+        verify(dashboardService).getInventoryDashboard(page, InventoryDashboardQuery.BY_NAME);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("GET /dashboard should pass the sort and filters to the service and keep them on the page links")
+    void getInventoryDashboard_ShouldBindSortAndFilters() throws Exception {
+
+        InventoryDashboardQuery query = 
+            new InventoryDashboardQuery(InventorySortField.QUANTITY, Sort.Direction.DESC, true, "box");
+
+        when(dashboardService.getInventoryDashboard(0, query))
+            .thenReturn(new InventoryDashboardView(List.of(), 0, new Pagination(0, 0, false, false)));
+
+        mockMvc.perform(get("/dashboard")
+                .param("sort", "QUANTITY")
+                .param("direction", "DESC")
+                .param("lowStockOnly", "true")
+                .param("unit", " box "))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("query", query))
+            .andExpect(model().attribute(
+                "dashboardUrl",
+                "/dashboard?sort=QUANTITY&direction=DESC&lowStockOnly=true&unit=box"
+            ));
+
+        verify(dashboardService).getInventoryDashboard(0, query);
     }
 
     @Test
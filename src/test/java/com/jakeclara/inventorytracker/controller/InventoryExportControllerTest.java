@@ -0,0 +1,182 @@
+package com.jakeclara.inventorytracker.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.jakeclara.inventorytracker.config.SecurityConfig;
+import com.jakeclara.inventorytracker.exception.InvalidReportRangeException;
+import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
+import com.jakeclara.inventorytracker.service.InventoryExportService;
+import com.jakeclara.inventorytracker.service.InventoryItemService;
+import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
+
+@WebMvcTest(InventoryExportController.class)
+@Import(SecurityConfig.class)
+class InventoryExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private InventoryExportService inventoryExportService;
+
+    @MockitoBean
+    private InventoryItemService inventoryItemService;
+
+    // Runs the streaming body on the request thread, so it cannot race the filter chain over the mock response
+    @TestConfiguration
+    static class SynchronousAsyncConfig implements WebMvcConfigurer {
+
+        @Override
+        public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+            configurer.setTaskExecutor(new TaskExecutorAdapter(new SyncTaskExecutor()));
+        }
+    }
+
+    @Test
+    @DisplayName("should redirect to login when unauthenticated")
+    void shouldRedirectToLogin_WhenUnauthenticated() throws Exception {
+
+        mockMvc.perform(get("/exports/inventory"))
+            .andExpect(status().is3xxRedirection())
+            .andExpect(redirectedUrl("/login"));
+
+        verifyNoInteractions(inventoryExportService);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should stream the item's movements as a CSV attachment named after its SKU")
+    void shouldStreamItemMovements() throws Exception {
+
+        when(inventoryItemService.getInventoryItemById(7L))
+            .thenReturn(TestInventoryItemFactory.createDefaultItem());
+        when(inventoryExportService.writeMovementsForItem(eq(7L), any(OutputStream.class)))
+            .thenAnswer(invocation -> {
+                invocation.getArgument(1, OutputStream.class).write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+                return 1L;
+            });
+
+        MvcResult result = mockMvc.perform(get("/exports/items/7/movements"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
+            .andExpect(header().string(
+                "Content-Disposition",
+                "attachment; filename=\"movements-" + TestInventoryItemFactory.VALID_SKU + ".csv\""
+            ))
+            .andExpect(content().string("id\n1\n"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should return not found before streaming when the item does not exist")
+    void shouldReturnNotFound_WhenItemDoesNotExist() throws Exception {
+
+        when(inventoryItemService.getInventoryItemById(99L))
+            .thenThrow(new ResourceNotFoundException("Inventory item not found 99"));
+
+        mockMvc.perform(get("/exports/items/99/movements"))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.detail").value("Inventory item not found 99"));
+
+        verifyNoInteractions(inventoryExportService);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should stream the movements within the range")
+    void shouldStreamMovementsWithinRange() throws Exception {
+
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        when(inventoryExportService.writeMovementsBetween(eq(from), eq(to), any(OutputStream.class)))
+            .thenAnswer(invocation -> {
+                invocation.getArgument(2, OutputStream.class).write("id\n".getBytes(StandardCharsets.UTF_8));
+                return 0L;
+            });
+
+        MvcResult result = mockMvc.perform(get("/exports/movements").param("from", "2024-01-01").param("to", "2024-12-31"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string(
+                "Content-Disposition",
+                "attachment; filename=\"movements-2024-01-01-to-2024-12-31.csv\""
+            ))
+            .andExpect(content().string("id\n"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should return bad request before streaming when the range is reversed")
+    void shouldReturnBadRequest_WhenRangeIsReversed() throws Exception {
+
+        LocalDate from = LocalDate.of(2024, 12, 31);
+        LocalDate to = LocalDate.of(2024, 1, 1);
+        doThrow(new InvalidReportRangeException("Export start date 2024-12-31 is after its end date 2024-01-01"))
+            .when(inventoryExportService).validateRange(from, to);
+
+        mockMvc.perform(get("/exports/movements").param("from", "2024-12-31").param("to", "2024-01-01"))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Export start date 2024-12-31 is after its end date 2024-01-01"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should stream the inventory snapshot")
+    void shouldStreamInventorySnapshot() throws Exception {
+
+        when(inventoryExportService.writeInventorySnapshot(any(OutputStream.class)))
+            .thenAnswer(invocation -> {
+                invocation.getArgument(0, OutputStream.class).write("id,sku\n".getBytes(StandardCharsets.UTF_8));
+                return 0L;
+            });
+
+        MvcResult result = mockMvc.perform(get("/exports/inventory"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
+            .andExpect(content().string("id,sku\n"));
+    }
+}
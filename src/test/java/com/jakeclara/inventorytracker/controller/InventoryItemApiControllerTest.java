@@ -0,0 +1,353 @@
+package com.jakeclara.inventorytracker.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jakeclara.inventorytracker.config.SecurityConfig;
+import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
+import com.jakeclara.inventorytracker.dto.InventoryItemBatchError;
+import com.jakeclara.inventorytracker.dto.InventoryItemBatchResult;
+import com.jakeclara.inventorytracker.dto.InventoryItemDetailsView;
+import com.jakeclara.inventorytracker.dto.InventoryItemForm;
+import com.jakeclara.inventorytracker.dto.InventoryMovementHistoryPage;
+import com.jakeclara.inventorytracker.dto.InventoryMovementView;
+import com.jakeclara.inventorytracker.exception.ArchivedLedgerException;
+import com.jakeclara.inventorytracker.exception.DuplicateSkuException;
+import com.jakeclara.inventorytracker.exception.InvalidCursorException;
+import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.service.InventoryItemBatchService;
+import com.jakeclara.inventorytracker.service.InventoryItemService;
+import com.jakeclara.inventorytracker.service.InventoryMovementService;
+
+@WebMvcTest(InventoryItemApiController.class)
+@Import(SecurityConfig.class)
+class InventoryItemApiControllerTest {
+
+    private static final Long ITEM_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private InventoryItemService inventoryItemService;
+
+    @MockitoBean
+    private InventoryMovementService inventoryMovementService;
+
+    @MockitoBean
+    private InventoryItemBatchService inventoryItemBatchService;
+
+    // GET /api/items/search
+    @Nested
+    @DisplayName("GET /api/items/search - Item search")
+    class SearchItems {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return the matching items")
+        void shouldReturnMatchingItems() throws Exception {
+
+            when(inventoryItemService.searchItems("lap")).thenReturn(List.of(
+                new InventoryDashboardItem(ITEM_ID, "Gaming Laptop", "PC-LP-001", 4L, 10, "pcs")
+            ));
+
+            mockMvc.perform(get("/api/items/search").param("q", "lap"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(ITEM_ID))
+                .andExpect(jsonPath("$[0].name").value("Gaming Laptop"))
+                .andExpect(jsonPath("$[0].currentQuantity").value(4));
+        }
+
+        @Test
+        @DisplayName("should redirect to login when unauthenticated")
+        void shouldRedirectToLogin_WhenUnauthenticated() throws Exception {
+
+            mockMvc.perform(get("/api/items/search").param("q", "lap"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/login"));
+
+            verifyNoInteractions(inventoryItemService);
+        }
+    }
+
+    // GET /api/items/{itemId}
+    @Nested
+    @DisplayName("GET /api/items/{itemId} - Item details")
+    class GetItemDetails {
+
+        private static final String ETAG = "\"item-1-3\"";
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return item details with an ETag from the item revision")
+        void shouldReturnDetails_WithETag() throws Exception {
+
+            when(inventoryItemService.getItemRevision(ITEM_ID)).thenReturn(3L);
+            when(inventoryItemService.getItemDetails(ITEM_ID)).thenReturn(new InventoryItemDetailsView(
+                ITEM_ID,
+                "Gaming Laptop",
+                "PC-LP-001",
+                4L,
+                10,
+                "pcs",
+                true,
+                LocalDateTime.of(2024, 1, 1, 9, 0)
+            ));
+
+            mockMvc.perform(get("/api/items/{itemId}", ITEM_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(jsonPath("$.sku").value("PC-LP-001"))
+                .andExpect(jsonPath("$.currentQuantity").value(4))
+                .andExpect(jsonPath("$.lowStock").value(true));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return not modified without reading the details when the ETag matches")
+        void shouldReturnNotModified_WhenETagMatches() throws Exception {
+
+            when(inventoryItemService.getItemRevision(ITEM_ID)).thenReturn(3L);
+
+            mockMvc.perform(get("/api/items/{itemId}", ITEM_ID).header("If-None-Match", ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(content().string(""));
+
+            verify(inventoryItemService, never()).getItemDetails(ITEM_ID);
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return not found when item does not exist")
+        void shouldReturnNotFound_WhenItemDoesNotExist() throws Exception {
+
+            when(inventoryItemService.getItemRevision(ITEM_ID))
+                .thenThrow(new ResourceNotFoundException("Inventory item not found"));
+
+            mockMvc.perform(get("/api/items/{itemId}", ITEM_ID))
+                .andExpect(status().isNotFound());
+        }
+    }
+
+    // GET /api/items/{itemId}/movements
+    @Nested
+    @DisplayName("GET /api/items/{itemId}/movements - Movement history")
+    class GetMovementHistory {
+
+        @Test
+        @DisplayName("should redirect to login when unauthenticated")
+        void shouldRedirectToLogin_WhenUnauthenticated() throws Exception {
+
+            mockMvc.perform(get("/api/items/{itemId}/movements", ITEM_ID))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/login"));
+
+            verifyNoInteractions(inventoryMovementService);
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return movements with next cursor")
+        void shouldReturnMovements_WithNextCursor() throws Exception {
+
+            InventoryMovementView movement = new InventoryMovementView(
+                InventoryMovementType.RECEIVE,
+                10,
+                LocalDate.of(2024, 1, 10),
+                "invoice 1",
+                "user"
+            );
+
+            when(inventoryMovementService.getMovementsForItem(ITEM_ID, "abc"))
+                .thenReturn(new InventoryMovementHistoryPage(List.of(movement), false, "def"));
+
+            mockMvc.perform(get("/api/items/{itemId}/movements", ITEM_ID).param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movements[0].movementType").value("RECEIVE"))
+                .andExpect(jsonPath("$.movements[0].quantity").value(10))
+                .andExpect(jsonPath("$.movements[0].movementDate").value("2024-01-10"))
+                .andExpect(jsonPath("$.firstPage").value(false))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return bad request when cursor is invalid")
+        void shouldReturnBadRequest_WhenCursorIsInvalid() throws Exception {
+
+            when(inventoryMovementService.getMovementsForItem(ITEM_ID, "bad"))
+                .thenThrow(new InvalidCursorException("Invalid movement history cursor"));
+
+            mockMvc.perform(get("/api/items/{itemId}/movements", ITEM_ID).param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Invalid movement history cursor"));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return not found when item does not exist")
+        void shouldReturnNotFound_WhenItemDoesNotExist() throws Exception {
+
+            when(inventoryMovementService.getMovementsForItem(ITEM_ID, null))
+                .thenThrow(new ResourceNotFoundException("Inventory item not found"));
+
+            mockMvc.perform(get("/api/items/{itemId}/movements", ITEM_ID))
+                .andExpect(status().isNotFound());
+        }
+    }
+
+    // GET /api/items/{itemId}/quantity
+    @Nested
+    @DisplayName("GET /api/items/{itemId}/quantity - Quantity as of a date")
+    class GetQuantityAsOf {
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return the quantity at the end of the given date")
+        void shouldReturnQuantity_AsOfDate() throws Exception {
+
+            when(inventoryItemService.getQuantityAsOf(ITEM_ID, LocalDate.of(2024, 1, 31)))
+                .thenReturn(42L);
+
+            mockMvc.perform(get("/api/items/{itemId}/quantity", ITEM_ID).param("asOf", "2024-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemId").value(ITEM_ID))
+                .andExpect(jsonPath("$.asOf").value("2024-01-31"))
+                .andExpect(jsonPath("$.quantity").value(42));
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return bad request when the date is malformed")
+        void shouldReturnBadRequest_WhenDateIsMalformed() throws Exception {
+
+            mockMvc.perform(get("/api/items/{itemId}/quantity", ITEM_ID).param("asOf", "31/01/2024"))
+                .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(inventoryItemService);
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return not found when item does not exist")
+        void shouldReturnNotFound_WhenItemDoesNotExist() throws Exception {
+
+            when(inventoryItemService.getQuantityAsOf(ITEM_ID, LocalDate.of(2024, 1, 31)))
+                .thenThrow(new ResourceNotFoundException("Inventory item not found"));
+
+            mockMvc.perform(get("/api/items/{itemId}/quantity", ITEM_ID).param("asOf", "2024-01-31"))
+                .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return bad request when the date is only in the inventory archive")
+        void shouldReturnBadRequest_WhenDateIsArchived() throws Exception {
+
+            when(inventoryItemService.getQuantityAsOf(ITEM_ID, LocalDate.of(2024, 1, 31)))
+                .thenThrow(new ArchivedLedgerException("Quantities are only available from the inventory archive"));
+
+            mockMvc.perform(get("/api/items/{itemId}/quantity", ITEM_ID).param("asOf", "2024-01-31"))
+                .andExpect(status().isBadRequest());
+        }
+    }
+
+    // POST /api/items/batch
+    @Nested
+    @DisplayName("POST /api/items/batch - Batch item creation")
+    class CreateItems {
+
+        private static final String BODY = """
+            [
+                { "name": "Gaming Laptop", "sku": "PC-LP-001", "reorderThreshold": 10, "unit": "pcs" },
+                { "name": "Gaming Mouse", "sku": "PC-LP-001", "reorderThreshold": 5 }
+            ]
+            """;
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("should create the items and report rejected ones by index")
+        void shouldCreateItems_AndReportErrors() throws Exception {
+
+            when(inventoryItemBatchService.createBatch(any())).thenReturn(new InventoryItemBatchResult(
+                1,
+                List.of(new InventoryItemBatchError(1, "Item with that SKU already exists"))
+            ));
+
+            mockMvc.perform(post("/api/items/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(BODY)
+                    .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdItems").value(1))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].message").value("Item with that SKU already exists"));
+
+            ArgumentCaptor<List<InventoryItemForm>> forms = ArgumentCaptor.captor();
+            verify(inventoryItemBatchService).createBatch(forms.capture());
+            assertThat(forms.getValue())
+                .extracting(InventoryItemForm::getSku)
+                .containsExactly("PC-LP-001", "PC-LP-001");
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        @DisplayName("should return conflict when an item was created concurrently with the same SKU")
+        void shouldReturnConflict_WhenDuplicateCreatedConcurrently() throws Exception {
+
+            when(inventoryItemBatchService.createBatch(any()))
+                .thenThrow(new DuplicateSkuException("Item with that SKU already exists"));
+
+            mockMvc.perform(post("/api/items/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(BODY)
+                    .with(csrf()))
+                .andExpect(status().isConflict());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should be forbidden for non-admin users")
+        void shouldBeForbidden_ForNonAdmin() throws Exception {
+
+            mockMvc.perform(post("/api/items/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(BODY)
+                    .with(csrf()))
+                .andExpect(status().isForbidden());
+
+            verifyNoInteractions(inventoryItemBatchService);
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.jakeclara.inventorytracker.controller;
 
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -28,8 +27,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -39,11 +36,13 @@ import com.jakeclara.inventorytracker.dto.InventoryDashboardView;
 import com.jakeclara.inventorytracker.dto.InventoryItemDetailsView;
 import com.jakeclara.inventorytracker.dto.InventoryItemForm;
 import com.jakeclara.inventorytracker.dto.InventoryMovementForm;
-import com.jakeclara.inventorytracker.dto.InventoryMovementView;
+import com.jakeclara.inventorytracker.dto.InventoryMovementHistoryPage;
 import com.jakeclara.inventorytracker.dto.common.Pagination;
+import com.jakeclara.inventorytracker.exception.ArchivedLedgerException;
 import com.jakeclara.inventorytracker.exception.DuplicateNameException;
 import com.jakeclara.inventorytracker.exception.InactiveItemException;
 import com.jakeclara.inventorytracker.exception.InsufficientStockException;
+import com.jakeclara.inventorytracker.exception.InvalidCursorException;
 import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
 import com.jakeclara.inventorytracker.model.InventoryItem;
 import com.jakeclara.inventorytracker.service.InventoryItemService;
@@ -333,10 +332,10 @@ class InventoryItemControllerTest {
             when(inventoryItemService.getItemDetails(ITEM_ID))
                     .thenReturn(mock(InventoryItemDetailsView.class));
 
-            Page<InventoryMovementView> movementPage =
-                    new PageImpl<>(List.of());
+            InventoryMovementHistoryPage movementPage =
+                    new InventoryMovementHistoryPage(List.of(), true, null);
 
-            when(inventoryMovementService.getMovementsForItem(ITEM_ID, 0))
+            when(inventoryMovementService.getMovementsForItem(ITEM_ID, null))
                     .thenReturn(movementPage);
 
             mockMvc.perform(get("/items/{itemId}", ITEM_ID))
@@ -345,11 +344,11 @@ class InventoryItemControllerTest {
                 .andExpect(model().attributeExists("movementForm"))
                 .andExpect(model().attributeExists("itemDetails"))
                 .andExpect(model().attributeExists("movementHistory"))
-                .andExpect(model().attributeExists("movementPagination"))
+                .andExpect(model().attributeExists("movementPage"))
                 .andExpect(model().attributeExists("movementTypes"));
 
             verify(inventoryItemService).getItemDetails(ITEM_ID);
-            verify(inventoryMovementService).getMovementsForItem(ITEM_ID, 0);
+            verify(inventoryMovementService).getMovementsForItem(ITEM_ID, null);
         }
 
         @Test
@@ -368,6 +367,42 @@ class InventoryItemControllerTest {
             verify(inventoryItemService).getItemDetails(ITEM_ID);
             verifyNoInteractions(inventoryMovementService);
         }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should pass cursor to movement history")
+        void shouldPassCursor_ToMovementHistory() throws Exception {
+
+            when(inventoryItemService.getItemDetails(ITEM_ID))
+                    .thenReturn(mock(InventoryItemDetailsView.class));
+
+            when(inventoryMovementService.getMovementsForItem(ITEM_ID, "abc"))
+                    .thenReturn(new InventoryMovementHistoryPage(List.of(), false, "def"));
+
+            mockMvc.perform(get("/items/{itemId}", ITEM_ID).param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("items/item-details"))
+                .andExpect(model().attributeExists("movementPage"));
+
+            verify(inventoryMovementService).getMovementsForItem(ITEM_ID, "abc");
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should redirect to dashboard when cursor is invalid")
+        void shouldRedirectToDashboard_WhenCursorIsInvalid() throws Exception {
+
+            when(inventoryItemService.getItemDetails(ITEM_ID))
+                    .thenReturn(mock(InventoryItemDetailsView.class));
+
+            when(inventoryMovementService.getMovementsForItem(ITEM_ID, "bad"))
+                    .thenThrow(new InvalidCursorException("Invalid movement history cursor"));
+
+            mockMvc.perform(get("/items/{itemId}", ITEM_ID).param("cursor", "bad"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/dashboard"))
+                .andExpect(flash().attributeExists("errorMessage"));
+        }
     }
 
     // GET /items/inactive (ADMIN only)
@@ -622,8 +657,8 @@ class InventoryItemControllerTest {
             when(inventoryItemService.getItemDetails(ITEM_ID))
                 .thenReturn(mock(InventoryItemDetailsView.class));
 
-            when(inventoryMovementService.getMovementsForItem(eq(ITEM_ID), anyInt()))
-                .thenReturn(Page.empty());
+            when(inventoryMovementService.getMovementsForItem(ITEM_ID, null))
+                .thenReturn(new InventoryMovementHistoryPage(List.of(), true, null));
 
             mockMvc.perform(post("/items/{id}/movements", ITEM_ID)
                     .with(csrf())
@@ -634,7 +669,7 @@ class InventoryItemControllerTest {
                 .andExpect(view().name("items/item-details"))
                 .andExpect(model().attributeExists("itemDetails"))
                 .andExpect(model().attributeExists("movementHistory"))
-                .andExpect(model().attributeExists("movementPagination"))
+                .andExpect(model().attributeExists("movementPage"))
                 .andExpect(model().attributeExists("movementTypes"))
                 .andExpect(model().attributeHasFieldErrors("movementForm", "quantity"));
 
@@ -654,8 +689,8 @@ class InventoryItemControllerTest {
             when(inventoryItemService.getItemDetails(ITEM_ID))
                 .thenReturn(mock(InventoryItemDetailsView.class));
 
-            when(inventoryMovementService.getMovementsForItem(eq(ITEM_ID), anyInt()))
-                .thenReturn(Page.empty());
+            when(inventoryMovementService.getMovementsForItem(ITEM_ID, null))
+                .thenReturn(new InventoryMovementHistoryPage(List.of(), true, null));
 
             mockMvc.perform(post("/items/{id}/movements", ITEM_ID)
                     .with(csrf())
@@ -666,7 +701,7 @@ class InventoryItemControllerTest {
                 .andExpect(view().name("items/item-details"))
                 .andExpect(model().attributeExists("itemDetails"))
                 .andExpect(model().attributeExists("movementHistory"))
-                .andExpect(model().attributeExists("movementPagination"))
+                .andExpect(model().attributeExists("movementPage"))
                 .andExpect(model().attributeExists("movementTypes"))
                 .andExpect(model().attributeHasFieldErrors("movementForm", "quantity"));
 
@@ -674,6 +709,38 @@ class InventoryItemControllerTest {
                 .addInventoryMovement(eq(ITEM_ID), any(InventoryMovementForm.class));
         }
 
+        @Test
+        @WithMockUser(roles = "USER")
+        @DisplayName("should return item details view with field error when back-dated before archived movements")
+        void shouldReturnItemDetails_WhenBackDatedPastArchive() throws Exception {
+
+            doThrow(new ArchivedLedgerException("Movement date must be after 2025-01-31"))
+                .when(inventoryMovementService)
+                .addInventoryMovement(eq(ITEM_ID), any(InventoryMovementForm.class));
+
+            when(inventoryItemService.getItemDetails(ITEM_ID))
+                .thenReturn(mock(InventoryItemDetailsView.class));
+
+            when(inventoryMovementService.getMovementsForItem(ITEM_ID, null))
+                .thenReturn(new InventoryMovementHistoryPage(List.of(), true, null));
+
+            mockMvc.perform(post("/items/{id}/movements", ITEM_ID)
+                    .with(csrf())
+                    .param("quantity", "5")
+                    .param("movementType", "SALE")
+                    .param("movementDate", "2025-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("items/item-details"))
+                .andExpect(model().attributeExists("itemDetails"))
+                .andExpect(model().attributeExists("movementHistory"))
+                .andExpect(model().attributeExists("movementPage"))
+                .andExpect(model().attributeExists("movementTypes"))
+                .andExpect(model().attributeHasFieldErrors("movementForm", "movementDate"));
+
+            verify(inventoryMovementService)
+                .addInventoryMovement(eq(ITEM_ID), any(InventoryMovementForm.class));
+        }
+
         @Test
         @WithMockUser(roles = "USER")
         @DisplayName("should redirect to dashboard when item is inactive")
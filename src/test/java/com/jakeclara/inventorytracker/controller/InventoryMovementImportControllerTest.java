@@ -0,0 +1,149 @@
+package com.jakeclara.inventorytracker.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jakeclara.inventorytracker.config.SecurityConfig;
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportError;
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportResult;
+import com.jakeclara.inventorytracker.exception.InvalidImportFileException;
+import com.jakeclara.inventorytracker.service.InventoryMovementImportService;
+
+@WebMvcTest(InventoryMovementImportController.class)
+@Import(SecurityConfig.class)
+class InventoryMovementImportControllerTest {
+
+    private static final String IMPORT_VIEW = "movements/movement-import";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private InventoryMovementImportService inventoryMovementImportService;
+
+    private MockMultipartFile csvFile(String content) {
+        return new MockMultipartFile(
+            "file",
+            "movements.csv",
+            "text/csv",
+            content.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    @DisplayName("GET /movements/import should redirect to login when unauthenticated")
+    void showImportForm_ShouldRedirectToLogin_WhenUnauthenticated() throws Exception {
+
+        mockMvc.perform(get("/movements/import"))
+            .andExpect(status().is3xxRedirection())
+            .andExpect(redirectedUrl("/login"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("POST /movements/import should return 403 for non-admin user")
+    void importMovements_ShouldReturn403_WhenUserRole() throws Exception {
+
+        mockMvc.perform(multipart("/movements/import")
+                .file(csvFile("sku,movementType,quantity,movementDate,reference,note"))
+                .with(csrf()))
+            .andExpect(status().isForbidden());
+
+        verifyNoInteractions(inventoryMovementImportService);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("GET /movements/import should return import view for ADMIN")
+    void showImportForm_ShouldReturnImportView_WhenAdmin() throws Exception {
+
+        mockMvc.perform(get("/movements/import"))
+            .andExpect(status().isOk())
+            .andExpect(view().name(IMPORT_VIEW));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("POST /movements/import should show import result for ADMIN")
+    void importMovements_ShouldShowResult_WhenAdmin() throws Exception {
+
+        InventoryMovementImportResult result = new InventoryMovementImportResult(
+            2,
+            1,
+            1,
+            List.of(new InventoryMovementImportError(3, "Unknown movement type: TELEPORT"))
+        );
+
+        when(inventoryMovementImportService.importMovements(any(InputStream.class)))
+            .thenReturn(result);
+
+        mockMvc.perform(multipart("/movements/import")
+                .file(csvFile("""
+                    sku,movementType,quantity,movementDate,reference,note
+                    SKU-1,RECEIVE,1,2024-01-10,,
+                    SKU-1,TELEPORT,1,2024-01-10,,
+                    """))
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(view().name(IMPORT_VIEW))
+            .andExpect(model().attribute("importResult", result));
+
+        verify(inventoryMovementImportService).importMovements(any(InputStream.class));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("POST /movements/import should show error when file is invalid")
+    void importMovements_ShouldShowError_WhenFileIsInvalid() throws Exception {
+
+        when(inventoryMovementImportService.importMovements(any(InputStream.class)))
+            .thenThrow(new InvalidImportFileException("Import file header must be: ..."));
+
+        mockMvc.perform(multipart("/movements/import")
+                .file(csvFile("wrong,header"))
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(view().name(IMPORT_VIEW))
+            .andExpect(model().attribute("errorMessage", "Import file header must be: ..."))
+            .andExpect(model().attributeDoesNotExist("importResult"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("POST /movements/import should show error when file is empty")
+    void importMovements_ShouldShowError_WhenFileIsEmpty() throws Exception {
+
+        mockMvc.perform(multipart("/movements/import")
+                .file(csvFile(""))
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andExpect(view().name(IMPORT_VIEW))
+            .andExpect(model().attributeExists("errorMessage"));
+
+        verifyNoInteractions(inventoryMovementImportService);
+    }
+}
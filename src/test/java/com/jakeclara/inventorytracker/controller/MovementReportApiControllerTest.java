@@ -0,0 +1,118 @@
+package com.jakeclara.inventorytracker.controller;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jakeclara.inventorytracker.config.SecurityConfig;
+import com.jakeclara.inventorytracker.dto.MovementReportPeriod;
+import com.jakeclara.inventorytracker.dto.MovementReportRow;
+import com.jakeclara.inventorytracker.exception.InvalidReportRangeException;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.service.MovementReportService;
+
+@WebMvcTest(MovementReportApiController.class)
+@Import(SecurityConfig.class)
+class MovementReportApiControllerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 31);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private MovementReportService movementReportService;
+
+    @Test
+    @DisplayName("should redirect to login when unauthenticated")
+    void shouldRedirectToLogin_WhenUnauthenticated() throws Exception {
+
+        mockMvc.perform(get("/api/reports/movements").param("from", "2024-01-01").param("to", "2024-01-31"))
+            .andExpect(status().is3xxRedirection())
+            .andExpect(redirectedUrl("/login"));
+
+        verifyNoInteractions(movementReportService);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should return the totals of every type per day by default")
+    void shouldReturnDailyTotals_ByDefault() throws Exception {
+
+        when(movementReportService.getMovementTotals(FROM, TO, MovementReportPeriod.DAY, List.of(), null))
+            .thenReturn(List.of(new MovementReportRow(FROM, InventoryMovementType.SALE, 3, 12)));
+
+        mockMvc.perform(get("/api/reports/movements").param("from", "2024-01-01").param("to", "2024-01-31"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].periodStart").value("2024-01-01"))
+            .andExpect(jsonPath("$[0].movementType").value("SALE"))
+            .andExpect(jsonPath("$[0].movementCount").value(3))
+            .andExpect(jsonPath("$[0].totalQuantity").value(12));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should pass the period, types and item through")
+    void shouldPassFiltersThrough() throws Exception {
+
+        when(movementReportService.getMovementTotals(
+            FROM,
+            TO,
+            MovementReportPeriod.WEEK,
+            List.of(InventoryMovementType.ADJUST_IN, InventoryMovementType.ADJUST_OUT),
+            7L
+        )).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/reports/movements")
+                .param("from", "2024-01-01")
+                .param("to", "2024-01-31")
+                .param("period", "WEEK")
+                .param("type", "ADJUST_IN", "ADJUST_OUT")
+                .param("itemId", "7"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should return bad request when the range is reversed")
+    void shouldReturnBadRequest_WhenRangeIsReversed() throws Exception {
+
+        when(movementReportService.getMovementTotals(TO, FROM, MovementReportPeriod.DAY, List.of(), null))
+            .thenThrow(new InvalidReportRangeException("Report start date 2024-01-31 is after its end date 2024-01-01"));
+
+        mockMvc.perform(get("/api/reports/movements").param("from", "2024-01-31").param("to", "2024-01-01"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.detail").value("Report start date 2024-01-31 is after its end date 2024-01-01"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("should return bad request when the movement type is unknown")
+    void shouldReturnBadRequest_WhenTypeIsUnknown() throws Exception {
+
+        mockMvc.perform(get("/api/reports/movements")
+                .param("from", "2024-01-01")
+                .param("to", "2024-01-31")
+                .param("type", "THEFT"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(movementReportService);
+    }
+}
@@ -0,0 +1,182 @@
+package com.jakeclara.inventorytracker.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
+import com.jakeclara.inventorytracker.dto.InventoryDashboardQuery;
+import com.jakeclara.inventorytracker.dto.InventoryItemDetailsView;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.projection.InventoryProjection;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
+import com.jakeclara.inventorytracker.repository.UserRepository;
+import com.jakeclara.inventorytracker.security.InventoryUserDetails;
+import com.jakeclara.inventorytracker.service.DashboardService;
+import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
+import com.jakeclara.inventorytracker.util.TestUserFactory;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Runs against two in-memory H2 databases standing in for the primary and the replica.
+ * The replica only sees changes when the test copies the primary into it, so any read
+ * served from it is visibly stale. The second-level cache is off, since it would answer
+ * item lookups from this instance's own writes before either database is asked.
+ */
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:primary",
+	"inventory.datasource.replica.url=" + ReplicaRoutingTest.REPLICA_URL,
+	"inventory.datasource.replica.read-your-writes-window=1m",
+	"spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+
+	static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private HikariDataSource primaryDataSource;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private DashboardService dashboardService;
+
+	@Autowired
+	private InventoryItemRepository inventoryItemRepository;
+
+	@Autowired
+	private InventoryMovementRepository inventoryMovementRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(TestUserFactory.createDefaultUser());
+	}
+
+	@AfterEach
+	void tearDown() {
+		inventoryMovementRepository.deleteAll();
+		inventoryItemRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	/**
+	 * Stands in for replication: copies the primary's schema and data into the replica.
+	 */
+	private void replicate() {
+		List<String> script = new JdbcTemplate(primaryDataSource)
+			.queryForList("SCRIPT NOPASSWORDS NOSETTINGS", String.class);
+
+		JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+		replica.execute("DROP ALL OBJECTS");
+		script.forEach(replica::execute);
+	}
+
+	private Long itemDetailsQuantity(Long itemId, MockHttpSession session) throws Exception {
+		InventoryItemDetailsView itemDetails = (InventoryItemDetailsView) mockMvc.perform(get("/items/{itemId}", itemId)
+				.session(session)
+				.with(user(InventoryUserDetails.from(user))))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getModelAndView()
+			.getModel()
+			.get("itemDetails");
+		return itemDetails.currentQuantity();
+	}
+
+	@Test
+	@DisplayName("read-only service methods should read from the replica")
+	void readOnlyTransactions_ShouldReadFromReplica() {
+		// Arrange
+		replicate();
+		inventoryItemRepository.save(TestInventoryItemFactory.createDefaultItem());
+
+		// Act & Assert
+		assertThat(new JdbcTemplate(primaryDataSource).queryForObject("SELECT COUNT(*) FROM inventory_item", Long.class))
+			.isEqualTo(1L);
+		assertThat(dashboardService.getInventoryDashboard(0, InventoryDashboardQuery.BY_NAME).inventoryItems()).isEmpty();
+
+		replicate();
+		assertThat(dashboardService.getInventoryDashboard(0, InventoryDashboardQuery.BY_NAME).inventoryItems())
+			.extracting(InventoryDashboardItem::name)
+			.containsExactly(TestInventoryItemFactory.VALID_NAME);
+	}
+
+	@Test
+	@DisplayName("item page after posting a movement should read the session's own write from the primary")
+	void itemDetails_AfterPostingMovement_ShouldReadYourWrites() throws Exception {
+		// Arrange
+		InventoryItem item = inventoryItemRepository.save(TestInventoryItemFactory.createDefaultItem());
+		replicate();
+
+		MockHttpSession writerSession = new MockHttpSession();
+
+		// Act
+		mockMvc.perform(post("/items/{itemId}/movements", item.getId())
+				.session(writerSession)
+				.with(user(InventoryUserDetails.from(user)))
+				.with(csrf())
+				.param("quantity", "5")
+				.param("movementType", "RECEIVE")
+				.param("movementDate", LocalDate.now().toString()))
+			.andExpect(status().is3xxRedirection());
+
+		// Assert
+		assertThat(itemDetailsQuantity(item.getId(), writerSession)).isEqualTo(5L);
+		assertThat(itemDetailsQuantity(item.getId(), new MockHttpSession())).isZero();
+	}
+
+	@Test
+	@DisplayName("projection load should read from the primary, not a replica that may lag the triggering commit")
+	void projectionLoad_ShouldReadFromPrimary() {
+		// Arrange
+		InventoryItem item = inventoryItemRepository.save(TestInventoryItemFactory.createDefaultItem());
+		replicate();
+		inventoryMovementRepository.save(
+			new InventoryMovement(item, 7, InventoryMovementType.RECEIVE, LocalDate.now(), user));
+		InventoryProjection projection = new InventoryProjection(jdbcTemplate, transactionManager, true, 1000);
+
+		// Act
+		projection.load();
+
+		// Assert
+		assertThat(projection.isReady()).isTrue();
+		assertThat(projection.getQuantity(item.getId())).hasValue(7L);
+	}
+}
@@ -0,0 +1,75 @@
+package com.jakeclara.inventorytracker.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.jakeclara.inventorytracker.exception.InvalidCursorException;
+
+class InventoryMovementCursorTest {
+
+    @Test
+    @DisplayName("decode returns the cursor that was encoded")
+    void decode_ReturnsEncodedCursor() {
+        // Arrange
+        InventoryMovementCursor cursor = new InventoryMovementCursor(LocalDate.of(2024, 5, 17), 1234L);
+        
+        // Act
+        InventoryMovementCursor result = InventoryMovementCursor.decode(cursor.encode());
+        
+        // Assert
+        assertThat(result).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("decode keeps the archived flag of an archived cursor")
+    void decode_KeepsArchivedFlag() {
+        // Arrange
+        InventoryMovementCursor cursor = new InventoryMovementCursor(LocalDate.of(2024, 5, 17), 1234L).withArchived();
+        
+        // Act
+        InventoryMovementCursor result = InventoryMovementCursor.decode(cursor.encode());
+        
+        // Assert
+        assertThat(result.archived()).isTrue();
+        assertThat(result).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("encode produces a URL safe value")
+    void encode_ProducesUrlSafeValue() {
+        // Arrange
+        InventoryMovementCursor cursor = new InventoryMovementCursor(LocalDate.of(2024, 5, 17), Long.MAX_VALUE);
+        
+        // Act
+        String result = cursor.encode();
+        
+        // Assert
+        assertThat(result).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("decode throws InvalidCursorException when cursor is not base64")
+    void decode_Throws_WhenNotBase64() {
+        assertThatThrownBy(() -> InventoryMovementCursor.decode("not a cursor!"))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("decode throws InvalidCursorException when cursor content is malformed")
+    void decode_Throws_WhenContentMalformed() {
+        // Arrange
+        String cursor = Base64.getUrlEncoder()
+            .encodeToString("2024-13-40:abc".getBytes(StandardCharsets.UTF_8));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> InventoryMovementCursor.decode(cursor))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package com.jakeclara.inventorytracker.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class QueryCountFilterTest {
+
+	private final QueryCountingStatementInspector statementInspector = new QueryCountingStatementInspector();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final QueryCountFilter queryCountFilter = new QueryCountFilter(statementInspector, meterRegistry);
+
+	@Test
+	@DisplayName("doFilter should record the statements run by the request under its URI pattern")
+	void doFilter_ShouldRecordQueryCountPerUriPattern() throws Exception {
+		// Arrange
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/7");
+
+		HttpServlet servlet = new HttpServlet() {
+			@Override
+			protected void service(HttpServletRequest req, HttpServletResponse resp) {
+				statementInspector.inspect("select 1");
+				statementInspector.inspect("select 2");
+				req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/items/{itemId}");
+			}
+		};
+
+		// Act
+		queryCountFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(servlet));
+
+		// Assert
+		DistributionSummary summary = meterRegistry.get(QueryCountFilter.METRIC_NAME)
+			.tag("method", "GET")
+			.tag("uri", "/items/{itemId}")
+			.summary();
+
+		assertThat(summary.count()).isOne();
+		assertThat(summary.totalAmount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("inspect should not count statements outside a request")
+	void inspect_ShouldNotCount_WhenNotStarted() {
+		// Act
+		statementInspector.inspect("select 1");
+
+		// Assert
+		assertThat(statementInspector.stop()).isZero();
+	}
+}
@@ -180,4 +180,29 @@ class InventoryItemTest {
 			.isInstanceOf(IllegalArgumentException.class)
 			.hasMessage("Unit cannot exceed 20 characters");
 	}
+
+	@Test
+	@DisplayName("Apply quantity change updates quantity on hand")
+	void applyQuantityChange_UpdatesQuantityOnHand() {
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		assertThat(item.getQuantityOnHand()).isZero();
+
+		item.applyQuantityChange(15);
+		item.applyQuantityChange(-5);
+
+		assertThat(item.getQuantityOnHand()).isEqualTo(10L);
+	}
+
+	@Test
+	@DisplayName("Apply quantity change below zero throws exception")
+	void applyQuantityChange_BelowZero_ThrowsException() {
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		item.applyQuantityChange(5);
+
+		assertThatThrownBy(() -> item.applyQuantityChange(-6))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Quantity on hand cannot be negative");
+
+		assertThat(item.getQuantityOnHand()).isEqualTo(5L);
+	}
 }
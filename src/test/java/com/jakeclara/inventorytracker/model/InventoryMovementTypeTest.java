@@ -13,9 +13,17 @@ class InventoryMovementTypeTest {
 		"ADJUST_OUT, 5, -5",
 		"RECEIVE, 20, 20",
 		"ADJUST_IN, 7, 7",
+		"OPENING_BALANCE, 12, 12",
 	})
 	@DisplayName("apply() should return correct positive or negative quantity based on movement type")
 	void apply_ReturnsCorrectQuantity(InventoryMovementType type, int inputQuantity, int expectedQuantity) {
 		assertThat(type.apply(inputQuantity)).isEqualTo(expectedQuantity);
 	}
+
+	@Test
+	@DisplayName("isManual() should exclude opening balances")
+	void isManual_ExcludesOpeningBalance() {
+		assertThat(InventoryMovementType.OPENING_BALANCE.isManual()).isFalse();
+		assertThat(InventoryMovementType.SALE.isManual()).isTrue();
+	}
 }
@@ -0,0 +1,238 @@
+package com.jakeclara.inventorytracker.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
+import com.jakeclara.inventorytracker.dto.InventoryItemForm;
+import com.jakeclara.inventorytracker.dto.InventoryMovementForm;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
+import com.jakeclara.inventorytracker.repository.UserRepository;
+import com.jakeclara.inventorytracker.security.InventoryUserDetails;
+import com.jakeclara.inventorytracker.service.InventoryItemBatchService;
+import com.jakeclara.inventorytracker.service.InventoryItemService;
+import com.jakeclara.inventorytracker.service.InventoryMovementService;
+import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
+import com.jakeclara.inventorytracker.util.TestUserFactory;
+
+@SpringBootTest(properties = "inventory.projection.enabled=true")
+class InventoryProjectionTest {
+
+	@Autowired
+	private InventoryProjection inventoryProjection;
+
+	@Autowired
+	private InventoryItemService inventoryItemService;
+
+	@Autowired
+	private InventoryMovementService inventoryMovementService;
+
+	@Autowired
+	private InventoryItemBatchService inventoryItemBatchService;
+
+	@Autowired
+	private InventoryItemRepository inventoryItemRepository;
+
+	@Autowired
+	private InventoryMovementRepository inventoryMovementRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(TestUserFactory.createDefaultUser());
+		InventoryUserDetails principal = InventoryUserDetails.from(user);
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		inventoryMovementRepository.deleteAll();
+		inventoryItemRepository.deleteAll();
+		userRepository.deleteAll();
+		inventoryProjection.load();
+	}
+
+	private InventoryMovementForm movementForm(InventoryMovementType type, int quantity) {
+		return new InventoryMovementForm(
+			quantity,
+			type,
+			LocalDate.now(),
+			null,
+			null
+		);
+	}
+
+	@Test
+	@DisplayName("committed item and movement changes are applied to the projection")
+	void projection_ShouldApplyCommittedChanges() {
+		// Arrange
+		assertThat(inventoryProjection.isReady()).isTrue();
+
+		// Act
+		Long itemId = inventoryItemService.createInventoryItem(
+			new InventoryItemForm("Item A", "SKU-A", 5, "pcs")
+		);
+		inventoryMovementService.addInventoryMovement(itemId, movementForm(InventoryMovementType.RECEIVE, 12));
+		inventoryMovementService.addInventoryMovement(itemId, movementForm(InventoryMovementType.SALE, 9));
+
+		// Assert
+		assertThat(inventoryProjection.getQuantity(itemId)).hasValue(3L);
+		assertThat(inventoryProjection.getLowStockCount(true)).isOne();
+		assertThat(inventoryProjection.getItemsByActiveStatus(true, PageRequest.of(0, 10)).getContent())
+			.extracting(InventoryDashboardItem::name, InventoryDashboardItem::currentQuantity)
+			.containsExactly(tuple("Item A", 3L));
+
+		inventoryItemService.deactivateInventoryItem(itemId);
+
+		assertThat(inventoryProjection.getLowStockCount(true)).isZero();
+		assertThat(inventoryProjection.getLowStockCount(false)).isOne();
+		assertThat(inventoryProjection.getItemsByActiveStatus(true, PageRequest.of(0, 10))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("load should compute balances from the movement ledger")
+	void load_ShouldComputeBalancesFromLedger() {
+		// Arrange
+		InventoryItem item = inventoryItemRepository.save(TestInventoryItemFactory.createDefaultItem());
+		inventoryMovementRepository.saveAll(List.of(
+			new InventoryMovement(item, 20, InventoryMovementType.RECEIVE, LocalDate.now(), user),
+			new InventoryMovement(item, 4, InventoryMovementType.SALE, LocalDate.now(), user),
+			new InventoryMovement(item, 1, InventoryMovementType.ADJUST_OUT, LocalDate.now(), user)
+		));
+
+		// Act
+		inventoryProjection.load();
+
+		// Assert
+		assertThat(inventoryProjection.getQuantity(item.getId())).hasValue(15L);
+		assertThat(inventoryProjection.getLowStockCount(true)).isZero();
+	}
+
+	@Test
+	@DisplayName("rolled back movements are not applied to the projection")
+	void projection_ShouldIgnoreRolledBackChanges() {
+		// Arrange
+		Long itemId = inventoryItemService.createInventoryItem(
+			new InventoryItemForm("Item B", "SKU-B", 5, "pcs")
+		);
+
+		// Act
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			inventoryMovementService.addInventoryMovement(itemId, movementForm(InventoryMovementType.RECEIVE, 7));
+			status.setRollbackOnly();
+		});
+
+		// Assert
+		assertThat(inventoryProjection.getQuantity(itemId)).hasValue(0L);
+	}
+
+	@Test
+	@DisplayName("revision changes with each committed change and reload, but not with a rollback")
+	void getRevision_ShouldChangeWithCommittedChangesAndReloads() {
+		// Arrange
+		Long itemId = inventoryItemService.createInventoryItem(
+			new InventoryItemForm("Item C", "SKU-C", 5, "pcs")
+		);
+		String afterCreate = inventoryProjection.getRevision();
+
+		// Act
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			inventoryMovementService.addInventoryMovement(itemId, movementForm(InventoryMovementType.RECEIVE, 7));
+			status.setRollbackOnly();
+		});
+		String afterRollback = inventoryProjection.getRevision();
+
+		inventoryMovementService.addInventoryMovement(itemId, movementForm(InventoryMovementType.RECEIVE, 7));
+		String afterMovement = inventoryProjection.getRevision();
+
+		inventoryProjection.load();
+		String afterReload = inventoryProjection.getRevision();
+
+		// Assert
+		assertThat(afterRollback).isEqualTo(afterCreate);
+		assertThat(afterMovement).isNotEqualTo(afterCreate);
+		assertThat(afterReload).isNotIn(afterCreate, afterMovement);
+	}
+
+	@Test
+	@DisplayName("items created in a batch are added to the projection as the batch commits")
+	void createBatch_ShouldAddItemsToProjection() {
+		// Act
+		inventoryItemBatchService.createBatch(List.of(
+			new InventoryItemForm("Item A", "SKU-A", 5, "pcs"),
+			new InventoryItemForm("Item B", "SKU-B", 0, null)
+		));
+
+		// Assert
+		assertThat(inventoryProjection.getItemsByActiveStatus(true, PageRequest.of(0, 10)).getContent())
+			.extracting(InventoryDashboardItem::name, InventoryDashboardItem::currentQuantity)
+			.containsExactly(tuple("Item A", 0L), tuple("Item B", 0L));
+		assertThat(inventoryProjection.getLowStockCount(true)).isOne();
+	}
+
+	@Test
+	@DisplayName("reloadAfterCommit should reload the projection in the background")
+	void reloadAfterCommit_ShouldReloadInBackground() throws InterruptedException {
+		// Arrange
+		InventoryItem item = inventoryItemRepository.save(TestInventoryItemFactory.createDefaultItem());
+		inventoryMovementRepository.save(new InventoryMovement(item, 8, InventoryMovementType.RECEIVE, LocalDate.now(), user));
+
+		// Act
+		inventoryProjection.reloadAfterCommit();
+
+		// Assert
+		for (int i = 0; i < 100 && inventoryProjection.getQuantity(item.getId()).isEmpty(); i++) {
+			Thread.sleep(50);
+		}
+		assertThat(inventoryProjection.getQuantity(item.getId())).hasValue(8L);
+	}
+
+	@Test
+	@DisplayName("load should fall back to SQL reads when writes keep it from loading")
+	void load_ShouldUnpublish_WhenWritesKeepItFromLoading() {
+		// Arrange
+		Long itemId = inventoryItemService.createInventoryItem(
+			new InventoryItemForm("Item D", "SKU-D", 5, "pcs")
+		);
+
+		// Act
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			// A change waiting for this transaction to commit keeps every load attempt from publishing
+			inventoryProjection.recordMovement(itemId, 1);
+			inventoryProjection.load();
+		});
+
+		// Assert
+		assertThat(inventoryProjection.isReady()).isFalse();
+	}
+}
@@ -0,0 +1,84 @@
+package com.jakeclara.inventorytracker.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ItemOrderTest {
+
+	private static int[] slots(ItemOrder order, boolean isActive) {
+		return Arrays.copyOf(order.slots(isActive), order.size(isActive));
+	}
+
+	@Test
+	@DisplayName("sort should order the slots of each status and record their positions")
+	void sort_ShouldOrderSlotsOfEachStatus() {
+		// Arrange
+		int[] values = { 30, 10, 20, 5 };
+		boolean[] active = { true, true, true, false };
+		ItemOrder order = new ItemOrder(IntComparator.comparingInt(slot -> values[slot]), 0);
+
+		// Act
+		order.sort(values.length, slot -> active[slot]);
+
+		// Assert
+		assertThat(slots(order, true)).containsExactly(1, 2, 0);
+		assertThat(slots(order, false)).containsExactly(3);
+		assertThat(order.ranks()[0]).isEqualTo(2);
+		assertThat(order.ranks()[3]).isZero();
+	}
+
+	@Test
+	@DisplayName("insert, remove and reposition should keep the order sorted and the positions current")
+	void changes_ShouldKeepOrderSorted() {
+		// Arrange
+		Random random = new Random(42);
+		int[] values = new int[100];
+		boolean[] active = new boolean[values.length];
+		ItemOrder order = new ItemOrder(
+			IntComparator.comparingInt(slot -> values[slot]).thenComparing(Integer::compare), 4);
+		for (int slot = 0; slot < 50; slot++) {
+			values[slot] = random.nextInt(20);
+			active[slot] = random.nextBoolean();
+		}
+		order.sort(50, slot -> active[slot]);
+
+		// Act
+		for (int slot = 50; slot < values.length; slot++) {
+			values[slot] = random.nextInt(20);
+			active[slot] = random.nextBoolean();
+			order.insert(slot, active[slot]);
+		}
+		for (int i = 0; i < 500; i++) {
+			int slot = random.nextInt(values.length);
+			if (random.nextInt(5) == 0) {
+				order.remove(slot, active[slot]);
+				active[slot] = !active[slot];
+				order.insert(slot, active[slot]);
+			} else {
+				values[slot] = random.nextInt(20);
+				order.reposition(slot, active[slot]);
+			}
+		}
+
+		// Assert
+		for (boolean status : new boolean[] { true, false }) {
+			int[] expected = IntStream.range(0, values.length)
+				.filter(slot -> active[slot] == status)
+				.boxed()
+				.sorted(Comparator.<Integer>comparingInt(slot -> values[slot]).thenComparingInt(slot -> slot))
+				.mapToInt(Integer::intValue)
+				.toArray();
+			assertThat(slots(order, status)).containsExactly(expected);
+			for (int position = 0; position < expected.length; position++) {
+				assertThat(order.ranks()[expected[position]]).isEqualTo(position);
+			}
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package com.jakeclara.inventorytracker.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ItemSearchIndexTest {
+
+	// Ranks each slot by its number, so results come back in slot order within their kind
+	private static final int[] RANKS = IntStream.range(0, 64).toArray();
+	private static final int[] SLOTS_IN_ORDER = RANKS;
+
+	private ItemSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ItemSearchIndex(4);
+		index.put(0, "Gaming Laptop", "PC-LP-001");
+		index.put(1, "Laptop Stand", "ACC-ST-002");
+		index.put(2, "USB-C Cable", "ACC-CB-003");
+		index.put(3, "Wireless Mouse", "PC-MS-004");
+	}
+
+	private int[] search(String query) {
+		return index.search(query, 10, slot -> true, SLOTS_IN_ORDER, SLOTS_IN_ORDER.length, RANKS);
+	}
+
+	@Test
+	@DisplayName("search should match names and skus anywhere, ignoring case")
+	void search_ShouldMatchSubstrings_IgnoringCase() {
+		assertThat(search("LAPTOP")).containsExactly(1, 0);
+		assertThat(search("cb-0")).containsExactly(2);
+		assertThat(search("  mouse ")).containsExactly(3);
+	}
+
+	@Test
+	@DisplayName("search should rank prefix matches before other matches")
+	void search_ShouldRankPrefixMatchesFirst() {
+		assertThat(search("lap")).containsExactly(1, 0);
+		assertThat(search("pc-")).containsExactly(0, 3);
+		assertThat(search("acc-")).containsExactly(1, 2);
+	}
+
+	@Test
+	@DisplayName("search should only match prefixes for queries shorter than three characters")
+	void search_ShouldMatchOnlyPrefixes_WhenQueryIsShort() {
+		assertThat(search("la")).containsExactly(1);
+		assertThat(search("u")).containsExactly(2);
+		assertThat(search("op")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("search should not match trigrams that appear apart from each other")
+	void search_ShouldNotMatch_WhenTrigramsAreNotAdjacent() {
+		// "gam" and "top" are both in "gaming laptop", but "gamtop" is not
+		assertThat(search("gamtop")).isEmpty();
+		assertThat(search("xyz")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("search should return the best matches up to the limit and skip excluded slots")
+	void search_ShouldHonourLimitAndFilter() {
+		assertThat(index.search("acc", 1, slot -> true, SLOTS_IN_ORDER, SLOTS_IN_ORDER.length, RANKS)).containsExactly(1);
+		assertThat(index.search("acc", 10, slot -> slot != 1, SLOTS_IN_ORDER, SLOTS_IN_ORDER.length, RANKS)).containsExactly(2);
+	}
+
+	@Test
+	@DisplayName("put should replace the name and sku a slot was indexed with")
+	void put_ShouldReindexRenamedSlot() {
+		// Act
+		index.put(0, "Gaming Desktop", "PC-DT-001");
+
+		// Assert
+		assertThat(search("laptop")).containsExactly(1);
+		assertThat(search("desk")).containsExactly(0);
+		assertThat(search("pc-dt")).containsExactly(0);
+	}
+
+	@Test
+	@DisplayName("search should agree with a scan of every name and sku")
+	void search_ShouldAgreeWithScan() {
+		// Arrange
+		Random random = new Random(42);
+		ItemSearchIndex randomIndex = new ItemSearchIndex(0);
+		String[] names = new String[RANKS.length];
+		String[] skus = new String[RANKS.length];
+		for (int slot = 0; slot < RANKS.length; slot++) {
+			names[slot] = randomText(random, 8);
+			skus[slot] = randomText(random, 5);
+			randomIndex.put(slot, names[slot], skus[slot]);
+		}
+
+		// Act & Assert
+		for (int i = 0; i < 200; i++) {
+			String query = randomText(random, 1 + random.nextInt(4));
+			int[] expected = IntStream.range(0, RANKS.length)
+				.filter(slot -> names[slot].startsWith(query) || skus[slot].startsWith(query)
+					|| query.length() >= 3 && (names[slot].contains(query) || skus[slot].contains(query)))
+				.boxed()
+				.sorted((a, b) -> Boolean.compare(
+					!names[a].startsWith(query) && !skus[a].startsWith(query),
+					!names[b].startsWith(query) && !skus[b].startsWith(query)))
+				.mapToInt(Integer::intValue)
+				.toArray();
+
+			assertThat(randomIndex.search(query, RANKS.length, slot -> true, SLOTS_IN_ORDER, SLOTS_IN_ORDER.length, RANKS))
+				.as("query %s", query)
+				.containsExactly(expected);
+		}
+	}
+
+	// Text over a small alphabet, so random queries often match
+	private static String randomText(Random random, int length) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			text.append((char) ('a' + random.nextInt(3)));
+		}
+		return text.toString();
+	}
+}
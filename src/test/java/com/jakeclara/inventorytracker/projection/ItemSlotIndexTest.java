@@ -0,0 +1,65 @@
+package com.jakeclara.inventorytracker.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ItemSlotIndexTest {
+
+	@Test
+	@DisplayName("get should return -1 for unknown ids")
+	void get_ShouldReturnMinusOne_WhenIdIsUnknown() {
+		// Arrange
+		ItemSlotIndex index = new ItemSlotIndex(4);
+		index.put(1L, 0);
+
+		// Act & Assert
+		assertThat(index.get(2L)).isEqualTo(-1);
+	}
+
+	@Test
+	@DisplayName("put should keep every mapping while the index grows")
+	void put_ShouldKeepMappings_WhenIndexGrows() {
+		// Arrange
+		ItemSlotIndex index = new ItemSlotIndex(2);
+
+		// Act
+		for (int slot = 0; slot < 1000; slot++) {
+			index.put(slot * 31L + 1, slot);
+		}
+
+		// Assert
+		assertThat(index.size()).isEqualTo(1000);
+		for (int slot = 0; slot < 1000; slot++) {
+			assertThat(index.get(slot * 31L + 1)).isEqualTo(slot);
+		}
+	}
+
+	@Test
+	@DisplayName("put should replace the slot of an existing id")
+	void put_ShouldReplaceSlot_WhenIdExists() {
+		// Arrange
+		ItemSlotIndex index = new ItemSlotIndex(4);
+		index.put(7L, 0);
+
+		// Act
+		index.put(7L, 3);
+
+		// Assert
+		assertThat(index.get(7L)).isEqualTo(3);
+		assertThat(index.size()).isOne();
+	}
+
+	@Test
+	@DisplayName("put should reject ids that are not positive")
+	void put_ShouldThrow_WhenIdIsNotPositive() {
+		// Arrange
+		ItemSlotIndex index = new ItemSlotIndex(4);
+
+		// Act & Assert
+		assertThatThrownBy(() -> index.put(0L, 0))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,278 @@
+package com.jakeclara.inventorytracker.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
+import com.jakeclara.inventorytracker.dto.InventoryDashboardQuery;
+import com.jakeclara.inventorytracker.dto.InventorySortField;
+
+class ItemTableTest {
+
+	@Test
+	@DisplayName("addQuantity should update quantity and low-stock count")
+	void addQuantity_ShouldUpdateQuantityAndLowStockCount() {
+		// Arrange
+		ItemTable table = new ItemTable(0);
+		table.putItem(1L, "Item A", "SKU-A", "pcs", 5, true);
+
+		// Act
+		boolean applied = table.addQuantity(1L, 10);
+
+		// Assert
+		assertThat(applied).isTrue();
+		assertThat(table.quantity(1L)).hasValue(10L);
+		assertThat(table.lowStockCount(true)).isZero();
+
+		table.addQuantity(1L, -6);
+		assertThat(table.lowStockCount(true)).isOne();
+	}
+
+	@Test
+	@DisplayName("addQuantity should return false for unknown items")
+	void addQuantity_ShouldReturnFalse_WhenItemIsUnknown() {
+		// Arrange
+		ItemTable table = new ItemTable(0);
+
+		// Act & Assert
+		assertThat(table.addQuantity(1L, 10)).isFalse();
+		assertThat(table.quantity(1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("setQuantity should replace the quantity and keep the low-stock count and quantity order")
+	void setQuantity_ShouldReplaceQuantity() {
+		// Arrange
+		ItemTable table = new ItemTable(0);
+		table.putItem(1L, "Item A", "SKU-A", "pcs", 5, true);
+		table.putItem(2L, "Item B", "SKU-B", "pcs", 5, true);
+		table.sortItems();
+		table.addQuantity(2L, 3);
+
+		// Act
+		boolean applied = table.setQuantity(1L, 10);
+
+		// Assert
+		assertThat(applied).isTrue();
+		assertThat(table.quantity(1L)).hasValue(10L);
+		assertThat(table.lowStockCount(true)).isOne();
+		assertThat(table.items(true, new InventoryDashboardQuery(InventorySortField.QUANTITY, null, false, null), 0, 10))
+			.extracting(InventoryDashboardItem::id)
+			.containsExactly(2L, 1L);
+		assertThat(table.setQuantity(3L, 1)).isFalse();
+	}
+
+	@Test
+	@DisplayName("putItem should keep the quantity and move low-stock counts between statuses")
+	void putItem_ShouldKeepQuantity_WhenItemChanges() {
+		// Arrange
+		ItemTable table = new ItemTable(0);
+		table.putItem(1L, "Item A", "SKU-A", "pcs", 5, true);
+		table.addQuantity(1L, 3);
+
+		// Act
+		table.putItem(1L, "Item A", "SKU-A", "pcs", 5, false);
+
+		// Assert
+		assertThat(table.quantity(1L)).hasValue(3L);
+		assertThat(table.lowStockCount(true)).isZero();
+		assertThat(table.lowStockCount(false)).isOne();
+	}
+
+	@Test
+	@DisplayName("items should page items of one status in name order")
+	void items_ShouldPageItemsInNameOrder() {
+		// Arrange
+		ItemTable table = new ItemTable(0);
+		table.putItem(1L, "Charlie", "SKU-C", "pcs", 5, true);
+		table.putItem(2L, "Alpha", "SKU-A", "pcs", 5, true);
+		table.putItem(3L, "Bravo", "SKU-B", "pcs", 5, true);
+		table.putItem(4L, "Aardvark", "SKU-D", "pcs", 5, false);
+		table.sortItems();
+
+		// Act & Assert
+		assertThat(table.count(true)).isEqualTo(3);
+		assertThat(table.items(true, InventoryDashboardQuery.BY_NAME, 0, 2))
+			.extracting(InventoryDashboardItem::name)
+			.containsExactly("Alpha", "Bravo");
+		assertThat(table.items(true, InventoryDashboardQuery.BY_NAME, 2, 2))
+			.extracting(InventoryDashboardItem::name)
+			.containsExactly("Charlie");
+		assertThat(table.items(true, InventoryDashboardQuery.BY_NAME, 10, 2)).isEmpty();
+		assertThat(table.items(false, InventoryDashboardQuery.BY_NAME, 0, 10))
+			.extracting(InventoryDashboardItem::id)
+			.containsExactly(4L);
+	}
+
+	@Test
+	@DisplayName("search should return items of one status, prefix matches first, each in name order")
+	void search_ShouldRankPrefixMatchesFirst_InNameOrder() {
+		// Arrange
+		ItemTable table = new ItemTable(0);
+		table.putItem(1L, "Wireless Mouse", "PC-MS-004", "pcs", 5, true);
+		table.putItem(2L, "Mouse Pad", "ACC-MP-001", "pcs", 5, true);
+		table.putItem(3L, "Gaming Mouse", "PC-GM-002", "pcs", 5, true);
+		table.putItem(4L, "Mouse Bungee", "ACC-MB-003", "pcs", 5, false);
+		table.sortItems();
+		table.addQuantity(3L, 7);
+
+		// Act & Assert
+		assertThat(table.search(true, "mouse", 10))
+			.extracting(InventoryDashboardItem::id, InventoryDashboardItem::currentQuantity)
+			.containsExactly(
+				tuple(2L, 0L),
+				tuple(3L, 7L),
+				tuple(1L, 0L)
+			);
+		assertThat(table.search(false, "mouse", 10))
+			.extracting(InventoryDashboardItem::id)
+			.containsExactly(4L);
+	}
+
+	@Test
+	@DisplayName("search should find an item by its new name after it is renamed")
+	void search_ShouldFindRenamedItem() {
+		// Arrange
+		ItemTable table = new ItemTable(0);
+		table.putItem(1L, "Gaming Laptop", "PC-LP-001", "pcs", 5, true);
+		table.sortItems();
+
+		// Act
+		table.putItem(1L, "Gaming Desktop", "PC-LP-001", "pcs", 5, true);
+		table.sortItems();
+
+		// Assert
+		assertThat(table.search(true, "laptop", 10)).isEmpty();
+		assertThat(table.search(true, "desktop", 10))
+			.extracting(InventoryDashboardItem::name)
+			.containsExactly("Gaming Desktop");
+	}
+
+	@Test
+	@DisplayName("items should sort by the requested column, breaking ties by name in the same direction")
+	void items_ShouldSortByRequestedColumn() {
+		// Arrange
+		ItemTable table = new ItemTable(0);
+		table.putItem(1L, "Charlie", "SKU-A", "box", 5, true);
+		table.putItem(2L, "Alpha", "SKU-C", null, 5, true);
+		table.putItem(3L, "Bravo", "SKU-B", "box", 5, true);
+		table.sortItems();
+		table.addQuantity(1L, 4);
+		table.addQuantity(2L, 9);
+		table.addQuantity(3L, 4);
+
+		// Act & Assert
+		assertThat(ids(table, new InventoryDashboardQuery(InventorySortField.SKU, null, false, null)))
+			.containsExactly(1L, 3L, 2L);
+		assertThat(ids(table, new InventoryDashboardQuery(InventorySortField.QUANTITY, null, false, null)))
+			.containsExactly(3L, 1L, 2L);
+		assertThat(ids(table, new InventoryDashboardQuery(InventorySortField.QUANTITY, Sort.Direction.DESC, false, null)))
+			.containsExactly(2L, 1L, 3L);
+		assertThat(ids(table, new InventoryDashboardQuery(InventorySortField.UNIT, null, false, null)))
+			.containsExactly(3L, 1L, 2L);
+		assertThat(ids(table, new InventoryDashboardQuery(InventorySortField.UNIT, Sort.Direction.DESC, false, null)))
+			.containsExactly(2L, 1L, 3L);
+	}
+
+	@Test
+	@DisplayName("items and count should only include low-stock items and items in the unit when filtered")
+	void items_ShouldApplyFilters() {
+		// Arrange
+		ItemTable table = new ItemTable(0);
+		table.putItem(1L, "Charlie", "SKU-C", "box", 5, true);
+		table.putItem(2L, "Alpha", "SKU-A", "pcs", 5, true);
+		table.putItem(3L, "Bravo", "SKU-B", "box", 5, true);
+		table.putItem(4L, "Delta", "SKU-D", "box", 5, true);
+		table.sortItems();
+		table.addQuantity(3L, 10);
+		table.addQuantity(4L, 2);
+
+		InventoryDashboardQuery lowStock = new InventoryDashboardQuery(InventorySortField.QUANTITY, null, true, null);
+		InventoryDashboardQuery inBoxes = new InventoryDashboardQuery(null, null, false, "box");
+		InventoryDashboardQuery lowStockInBoxes = new InventoryDashboardQuery(InventorySortField.SKU, null, true, "box");
+
+		// Act & Assert
+		assertThat(ids(table, lowStock)).containsExactly(2L, 1L, 4L);
+		assertThat(table.count(true, lowStock)).isEqualTo(3);
+		assertThat(ids(table, inBoxes)).containsExactly(3L, 1L, 4L);
+		assertThat(table.count(true, inBoxes)).isEqualTo(3);
+		assertThat(ids(table, lowStockInBoxes)).containsExactly(1L, 4L);
+		assertThat(table.count(true, lowStockInBoxes)).isEqualTo(2);
+		assertThat(table.items(true, lowStockInBoxes, 1, 10))
+			.extracting(InventoryDashboardItem::id)
+			.containsExactly(4L);
+	}
+
+	@Test
+	@DisplayName("items should agree with sorting every item after random changes")
+	void items_ShouldAgreeWithSort_AfterChanges() {
+		// Arrange
+		Random random = new Random(42);
+		ItemTable table = new ItemTable(0);
+		String[] units = { "box", "pcs", null };
+		for (long id = 1; id <= 50; id++) {
+			table.putItem(id, "Item " + random.nextInt(20) + "-" + id, "SKU-" + id, units[random.nextInt(3)], 5, true);
+			table.addQuantity(id, random.nextInt(10));
+		}
+		table.sortItems();
+
+		// Act
+		for (int i = 0; i < 500; i++) {
+			long id = 1 + random.nextInt(60);
+			if (random.nextBoolean() && table.quantity(id).isPresent()) {
+				table.addQuantity(id, random.nextInt(11) - 5);
+			} else {
+				table.putItem(id, "Item " + random.nextInt(20) + "-" + id, "SKU-" + random.nextInt(1_000) + "-" + id,
+					units[random.nextInt(3)], random.nextInt(10), random.nextInt(4) > 0);
+			}
+		}
+
+		// Assert
+		List<InventoryDashboardItem> activeItems = table.items(true, InventoryDashboardQuery.BY_NAME, 0, 100);
+		for (InventorySortField sort : InventorySortField.values()) {
+			for (Sort.Direction direction : Sort.Direction.values()) {
+				for (boolean lowStockOnly : new boolean[] { false, true }) {
+					InventoryDashboardQuery query = new InventoryDashboardQuery(sort, direction, lowStockOnly, "box");
+					InventoryDashboardQuery anyUnit = new InventoryDashboardQuery(sort, direction, lowStockOnly, null);
+					assertThat(ids(table, query)).as("%s", query).containsExactlyElementsOf(
+						expectedIds(activeItems, query));
+					assertThat(ids(table, anyUnit)).as("%s", anyUnit).containsExactlyElementsOf(
+						expectedIds(activeItems, anyUnit));
+					assertThat(table.count(true, query)).isEqualTo(expectedIds(activeItems, query).size());
+				}
+			}
+		}
+	}
+
+	private static List<Long> ids(ItemTable table, InventoryDashboardQuery query) {
+		return table.items(true, query, 0, 100).stream().map(InventoryDashboardItem::id).toList();
+	}
+
+	private static List<Long> expectedIds(List<InventoryDashboardItem> items, InventoryDashboardQuery query) {
+		Predicate<InventoryDashboardItem> matches = item ->
+			(!query.lowStockOnly() || item.currentQuantity() < item.reorderThreshold())
+				&& (query.unit() == null || query.unit().equals(item.unit()));
+		Comparator<InventoryDashboardItem> byName = Comparator.comparing(InventoryDashboardItem::name);
+		Comparator<InventoryDashboardItem> order = switch (query.sort()) {
+			case NAME -> byName;
+			case SKU -> Comparator.comparing(InventoryDashboardItem::sku).thenComparing(byName);
+			case QUANTITY -> Comparator.comparingLong(InventoryDashboardItem::currentQuantity).thenComparing(byName);
+			case UNIT -> Comparator.comparing(InventoryDashboardItem::unit, Comparator.nullsLast(Comparator.naturalOrder()))
+				.thenComparing(byName);
+		};
+		return items.stream()
+			.filter(matches)
+			.sorted(query.direction().isDescending() ? order.reversed() : order)
+			.map(InventoryDashboardItem::id)
+			.toList();
+	}
+}
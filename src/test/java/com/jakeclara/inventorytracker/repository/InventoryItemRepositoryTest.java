@@ -5,8 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
 import com.jakeclara.inventorytracker.model.InventoryItem;
@@ -18,6 +21,7 @@ import com.jakeclara.inventorytracker.util.TestInventoryMovementFactory;
 import com.jakeclara.inventorytracker.util.TestUserFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
 
@@ -29,6 +33,7 @@ import java.util.List;
 class InventoryItemRepositoryTest {
 
 	private static final int PAGE_SIZE = 10;
+	private static final PageRequest BY_NAME = PageRequest.of(0, PAGE_SIZE, Sort.by("name"));
 
 	@Autowired
 	private TestEntityManager entityManager;
@@ -36,81 +41,113 @@ class InventoryItemRepositoryTest {
 	@Autowired
 	private InventoryItemRepository inventoryItemRepository;
 
+	// Persists a movement and applies it to the item's quantity on hand, as the service does
+	private void persistMovement(InventoryMovement movement) {
+		movement.getItem().applyQuantityChange(
+			movement.getMovementType().apply(movement.getQuantity())
+		);
+		entityManager.persist(movement);
+	}
+
 	@Test
-	@DisplayName("existsByName returns true when an item with name exists")
-	void existsByName_ReturnsTrue_WhenItemWithNameExists() {
+	@DisplayName("findNamesIn and findSkusIn return only the values that are taken")
+	void findNamesInAndSkusIn_ReturnTakenValues() {
 		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
 		entityManager.persistAndFlush(item);
 		entityManager.clear();
 
-		boolean exists = inventoryItemRepository.existsByName(item.getName());
-		assertThat(exists).isTrue();
+		assertThat(inventoryItemRepository.findNamesIn(List.of(item.getName(), "Other Item")))
+			.containsExactly(item.getName());
+		assertThat(inventoryItemRepository.findSkusIn(List.of("OTHER-SKU", item.getSku())))
+			.containsExactly(item.getSku());
 	}
 
 	@Test
-	@DisplayName("existsByName returns false when no item with name exists")
-	void existsByName_ReturnsFalse_WhenNoItemWithNameExists() {
-		boolean exists = inventoryItemRepository.existsByName("NonExistentItem");
-		assertThat(exists).isFalse();
-	}
+	@DisplayName("insertAll writes every item in one batch with a zero quantity and revision and returns their ids")
+	void insertAll_WritesAllItems() {
+		// Arrange
+		InventoryItem itemA = TestInventoryItemFactory.createItem("Item A", "SKU-A", 5);
+		itemA.setUnit("boxes");
+		InventoryItem itemB = TestInventoryItemFactory.createItem("Item B", "SKU-B", 0);
 
-	@Test
-	@DisplayName("existsByNameAndIdNot returns false when same id")
-	void existsByNameAndIdNot_ReturnsFalse_WhenSameId() {
-		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
-		entityManager.persistAndFlush(item);
+		// Act
+		List<Long> ids = inventoryItemRepository.insertAll(List.of(itemA, itemB));
 		entityManager.clear();
 
-		boolean exists = inventoryItemRepository.existsByNameAndIdNot(item.getName(), item.getId());
-		assertThat(exists).isFalse();
+		// Assert
+		assertThat(inventoryItemRepository.findAll())
+			.extracting(
+				InventoryItem::getName,
+				InventoryItem::getSku,
+				InventoryItem::getUnit,
+				InventoryItem::isActive,
+				InventoryItem::getQuantityOnHand,
+				InventoryItem::getRevision
+			)
+			.containsExactlyInAnyOrder(
+				tuple("Item A", "SKU-A", "boxes", true, 0L, 0L),
+				tuple("Item B", "SKU-B", null, true, 0L, 0L)
+			);
+		assertThat(inventoryItemRepository.findAll()).allMatch(item -> item.getCreatedAt() != null);
+		assertThat(ids).hasSize(2);
+		assertThat(inventoryItemRepository.findById(ids.get(0))).get().extracting(InventoryItem::getSku).isEqualTo("SKU-A");
+		assertThat(inventoryItemRepository.findById(ids.get(1))).get().extracting(InventoryItem::getSku).isEqualTo("SKU-B");
 	}
 
 	@Test
-	@DisplayName("existsByNameAndIdNot returns false when name does not exist")
-	void existsByNameAndIdNot_ReturnsFalse_WhenNameDoesNotExist() {
+	@DisplayName("insertAll names the violated unique constraint when a sku is taken")
+	void insertAll_NamesViolatedConstraint_WhenSkuIsTaken() {
+		// Arrange
 		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
 		entityManager.persistAndFlush(item);
-		entityManager.clear();
 
-		boolean exists = inventoryItemRepository.existsByNameAndIdNot("NonExistentItem", item.getId());
-		assertThat(exists).isFalse();
+		// Act & Assert
+		assertThatThrownBy(() -> inventoryItemRepository.insertAll(List.of(
+			TestInventoryItemFactory.createItem("Other Item", item.getSku(), 5)
+		)))
+			.isInstanceOf(DataIntegrityViolationException.class)
+			.satisfies(e -> assertThat(e.getMessage()).containsIgnoringCase(InventoryItem.SKU_CONSTRAINT));
 	}
 
 	@Test
-	@DisplayName("existsByNameAndIdNot returns true when another item has same name")
-	void existsByNameAndIdNot_ReturnsTrue_WhenDifferentItemHasSameName() {
-		InventoryItem itemA = TestInventoryItemFactory.createDefaultItem();
-		entityManager.persistAndFlush(itemA);
-		
-
-		InventoryItem itemB = TestInventoryItemFactory.createItem(
-			"MacBook Air", 
-			"MBA-123", 
-			5
-		);
-		entityManager.persistAndFlush(itemB);
+	@DisplayName("searchByActiveStatus returns active matches, prefix matches first, then by name")
+	void searchByActiveStatus_ReturnsPrefixMatchesFirst() {
+		// Arrange
+		entityManager.persist(TestInventoryItemFactory.createItem("Wireless Mouse", "PC-MS-004", 5));
+		entityManager.persist(TestInventoryItemFactory.createItem("Mouse Pad", "ACC-MP-001", 5));
+		entityManager.persist(TestInventoryItemFactory.createItem("Gaming Mouse", "PC-GM-002", 5));
+		InventoryItem inactiveItem = TestInventoryItemFactory.createItem("Mouse Bungee", "ACC-MB-003", 5);
+		inactiveItem.setIsActive(false);
+		entityManager.persist(inactiveItem);
+		entityManager.flush();
 		entityManager.clear();
 
-		boolean exists = inventoryItemRepository.existsByNameAndIdNot(itemA.getName(), itemB.getId());
-		assertThat(exists).isTrue();
+		// Act
+		List<InventoryDashboardItem> items =
+			inventoryItemRepository.searchByActiveStatus(true, "%mouse%", "mouse%", Limit.of(10));
+
+		// Assert
+		assertThat(items)
+			.extracting(InventoryDashboardItem::name)
+			.containsExactly("Mouse Pad", "Gaming Mouse", "Wireless Mouse");
 	}
 
 	@Test
-	@DisplayName("existsBySku returns true when an item with sku exists")
-	void existsBySku_ReturnsTrue_WhenItemWithSkuExists() {
-		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
-		entityManager.persistAndFlush(item);
+	@DisplayName("searchByActiveStatus treats escaped wildcards in the search text literally")
+	void searchByActiveStatus_MatchesEscapedWildcardsLiterally() {
+		// Arrange
+		entityManager.persist(TestInventoryItemFactory.createItem("Cable 100% copper", "CB-100", 5));
+		entityManager.persist(TestInventoryItemFactory.createItem("Cable 1000 m", "CB_1000", 5));
+		entityManager.flush();
 		entityManager.clear();
 
-		boolean exists = inventoryItemRepository.existsBySku(item.getSku());
-		assertThat(exists).isTrue();
-	}
-
-	@Test
-	@DisplayName("existsBySku returns false when no item with sku exists")
-	void existsBySku_ReturnsFalse_WhenNoItemWithSkuExists() {
-		boolean exists = inventoryItemRepository.existsBySku("NON-EXISTENT-SKU");
-		assertThat(exists).isFalse();
+		// Act & Assert
+		assertThat(inventoryItemRepository.searchByActiveStatus(true, "%100\\%%", "100\\%%", Limit.of(10)))
+			.extracting(InventoryDashboardItem::name)
+			.containsExactly("Cable 100% copper");
+		assertThat(inventoryItemRepository.searchByActiveStatus(true, "cb\\_%", "cb\\_%", Limit.of(10)))
+			.extracting(InventoryDashboardItem::sku)
+			.containsExactly("CB_1000");
 	}
 
 	@Test
@@ -124,7 +161,7 @@ class InventoryItemRepositoryTest {
 		Page<InventoryDashboardItem> page = 
 			inventoryItemRepository.findInventoryByActiveStatusWithQuantity(
 				true,
-				PageRequest.of(0, PAGE_SIZE)
+				BY_NAME
 			);
 		
 		// Act
@@ -166,8 +203,8 @@ class InventoryItemRepositoryTest {
 				user
 			);
 
-		entityManager.persist(receiveMovement);
-		entityManager.persist(saleMovement);
+		persistMovement(receiveMovement);
+		persistMovement(saleMovement);
 		entityManager.flush();
 		entityManager.clear();
 
@@ -175,7 +212,7 @@ class InventoryItemRepositoryTest {
 		Page<InventoryDashboardItem> page = 
 			inventoryItemRepository.findInventoryByActiveStatusWithQuantity(
 				true,
-				PageRequest.of(0, PAGE_SIZE)
+				BY_NAME
 			);
 		
 		List<InventoryDashboardItem> results = page.getContent();
@@ -239,10 +276,10 @@ class InventoryItemRepositoryTest {
 				user
 			);
 
-		entityManager.persist(receiveMovementA);
-		entityManager.persist(saleMovementA);
-		entityManager.persist(receiveMovementB);
-		entityManager.persist(saleMovementB);
+		persistMovement(receiveMovementA);
+		persistMovement(saleMovementA);
+		persistMovement(receiveMovementB);
+		persistMovement(saleMovementB);
 		entityManager.flush();
 		entityManager.clear();
 
@@ -250,7 +287,7 @@ class InventoryItemRepositoryTest {
 		Page<InventoryDashboardItem> page = 
 			inventoryItemRepository.findInventoryByActiveStatusWithQuantity(
 				true,
-				PageRequest.of(0, PAGE_SIZE)
+				BY_NAME
 			);
 		
 		List<InventoryDashboardItem> results = page.getContent();
@@ -299,7 +336,7 @@ class InventoryItemRepositoryTest {
 		Page<InventoryDashboardItem> page = 
 			inventoryItemRepository.findInventoryByActiveStatusWithQuantity(
 				true,
-				PageRequest.of(0, PAGE_SIZE)
+				BY_NAME
 			);
 		
 		List<InventoryDashboardItem> results = page.getContent();
@@ -339,7 +376,7 @@ class InventoryItemRepositoryTest {
 		Page<InventoryDashboardItem> page = 
 			inventoryItemRepository.findInventoryByActiveStatusWithQuantity(
 				true,
-				PageRequest.of(0, PAGE_SIZE)
+				BY_NAME
 			);
 		
 		List<InventoryDashboardItem> results = page.getContent();
@@ -393,8 +430,8 @@ class InventoryItemRepositoryTest {
 				user
 		);
 
-		entityManager.persist(receiveMovementA);
-		entityManager.persist(receiveMovementB);
+		persistMovement(receiveMovementA);
+		persistMovement(receiveMovementB);
 		entityManager.flush();
 		entityManager.clear();
 
@@ -402,7 +439,7 @@ class InventoryItemRepositoryTest {
 		Page<InventoryDashboardItem> page = 
 			inventoryItemRepository.findInventoryByActiveStatusWithQuantity(
 				false, 
-				PageRequest.of(0, PAGE_SIZE)
+				BY_NAME
 			);
 		
 		List<InventoryDashboardItem> results = page.getContent();
@@ -441,7 +478,7 @@ class InventoryItemRepositoryTest {
 				user
 		);
 
-		entityManager.persist(receiveMovement);
+		persistMovement(receiveMovement);
 		entityManager.flush();
 		entityManager.clear();
 
@@ -475,7 +512,7 @@ class InventoryItemRepositoryTest {
 				user
 		);
 
-		entityManager.persist(receiveMovement);
+		persistMovement(receiveMovement);
 		entityManager.flush();
 		entityManager.clear();
 
@@ -526,8 +563,8 @@ class InventoryItemRepositoryTest {
 				user
 			);
 
-		entityManager.persist(movementA);
-		entityManager.persist(movementB);
+		persistMovement(movementA);
+		persistMovement(movementB);
 		entityManager.flush();
 		entityManager.clear();
 
@@ -635,10 +672,10 @@ class InventoryItemRepositoryTest {
 				user
 			);
 
-		entityManager.persist(receiveMovement);
-		entityManager.persist(saleMovement);
-		entityManager.persist(adjustInMovement);
-		entityManager.persist(adjustOutMovement);
+		persistMovement(receiveMovement);
+		persistMovement(saleMovement);
+		persistMovement(adjustInMovement);
+		persistMovement(adjustOutMovement);
 		entityManager.flush();
 		entityManager.clear();
 
@@ -685,8 +722,8 @@ class InventoryItemRepositoryTest {
 				user
 			);
 
-		entityManager.persist(receiveMovementA);
-		entityManager.persist(receiveMovementB);
+		persistMovement(receiveMovementA);
+		persistMovement(receiveMovementB);
 		entityManager.flush();
 		entityManager.clear();
 
@@ -694,4 +731,293 @@ class InventoryItemRepositoryTest {
 		assertThat(inventoryItemRepository.findCurrentQuantityByItemId(itemA.getId()))
 			.isEqualTo(50L);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("findInventoryByActiveStatusWithQuantity sorts by quantity, breaking ties by name")
+	void findInventoryByActiveStatusWithQuantity_SortsByQuantity() {
+		// Arrange
+		InventoryItem itemA = TestInventoryItemFactory.createItem("A item", "SKU-123", 10);
+		InventoryItem itemB = TestInventoryItemFactory.createItem("B item", "SKU-456", 10);
+		InventoryItem itemC = TestInventoryItemFactory.createItem("C item", "SKU-789", 10);
+		itemA.applyQuantityChange(5);
+		itemB.applyQuantityChange(20);
+		itemC.applyQuantityChange(5);
+
+		entityManager.persist(itemA);
+		entityManager.persist(itemB);
+		entityManager.persist(itemC);
+		entityManager.flush();
+		entityManager.clear();
+
+		// Act
+		Page<InventoryDashboardItem> page = 
+			inventoryItemRepository.findInventoryByActiveStatusWithQuantity(
+				true,
+				PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "quantityOnHand", "name"))
+			);
+		
+		// Assert
+		assertThat(page.getContent())
+			.extracting(InventoryDashboardItem::name)
+			.containsExactly("B item", "C item", "A item");
+	}
+
+	@Test
+	@DisplayName("low-stock and unit queries return only the items passing their filters")
+	void filteredInventoryQueries_ReturnOnlyMatchingItems() {
+		// Arrange
+		InventoryItem lowInBoxes = TestInventoryItemFactory.createItem("A item", "SKU-123", 10);
+		InventoryItem stockedInBoxes = TestInventoryItemFactory.createItem("B item", "SKU-456", 10);
+		InventoryItem lowInPieces = TestInventoryItemFactory.createItem("C item", "SKU-789", 10);
+		InventoryItem inactiveLowInBoxes = TestInventoryItemFactory.createItem("D item", "SKU-012", 10);
+		lowInBoxes.setUnit("box");
+		stockedInBoxes.setUnit("box");
+		lowInPieces.setUnit("pcs");
+		inactiveLowInBoxes.setUnit("box");
+		stockedInBoxes.applyQuantityChange(10);
+		inactiveLowInBoxes.setIsActive(false);
+
+		entityManager.persist(lowInBoxes);
+		entityManager.persist(stockedInBoxes);
+		entityManager.persist(lowInPieces);
+		entityManager.persist(inactiveLowInBoxes);
+		entityManager.flush();
+		entityManager.clear();
+
+		// Act
+		Page<InventoryDashboardItem> lowStock =
+			inventoryItemRepository.findLowStockInventoryByActiveStatus(true, BY_NAME);
+		Page<InventoryDashboardItem> inBoxes =
+			inventoryItemRepository.findInventoryByActiveStatusAndUnit(true, "box", BY_NAME);
+		Page<InventoryDashboardItem> lowStockInBoxes =
+			inventoryItemRepository.findLowStockInventoryByActiveStatusAndUnit(true, "box", BY_NAME);
+
+		// Assert
+		assertThat(lowStock.getContent())
+			.extracting(InventoryDashboardItem::name)
+			.containsExactly("A item", "C item");
+		assertThat(lowStock.getTotalElements()).isEqualTo(2);
+
+		assertThat(inBoxes.getContent())
+			.extracting(InventoryDashboardItem::name)
+			.containsExactly("A item", "B item");
+
+		assertThat(lowStockInBoxes.getContent())
+			.extracting(InventoryDashboardItem::name)
+			.containsExactly("A item");
+		assertThat(lowStockInBoxes.getTotalElements()).isOne();
+	}
+
+	@Test
+	@DisplayName("refreshLowStock recomputes the low-stock flag of items whose quantity was rebuilt")
+	void refreshLowStock_RecomputesOutdatedFlags() {
+		// Arrange
+		InventoryItem item = entityManager.persist(TestInventoryItemFactory.createDefaultItem());
+		User user = entityManager.persist(TestUserFactory.createDefaultUser());
+
+		// A movement persisted without touching the materialized quantity or flag
+		entityManager.persist(
+			TestInventoryMovementFactory.createInventoryMovement(
+				item,
+				item.getReorderThreshold() + 5,
+				InventoryMovementType.RECEIVE,
+				LocalDate.now(),
+				user
+			)
+		);
+		entityManager.flush();
+		entityManager.clear();
+		inventoryItemRepository.rebuildQuantityOnHand();
+
+		// Act
+		int updated = inventoryItemRepository.refreshLowStock();
+
+		// Assert
+		assertThat(updated).isOne();
+		assertThat(entityManager.find(InventoryItem.class, item.getId()).isLowStock()).isFalse();
+		assertThat(inventoryItemRepository.refreshLowStock()).isZero();
+	}
+
+	@Test
+	@DisplayName("refreshLowStockByItemId only recomputes the low-stock flag of the given item")
+	void refreshLowStockByItemId_OnlyRecomputesGivenItem() {
+		// Arrange
+		InventoryItem itemA = entityManager.persist(TestInventoryItemFactory.createDefaultItem());
+		InventoryItem itemB = entityManager.persist(
+			TestInventoryItemFactory.createItem(
+				"Other item",
+				"SKU-456",
+				10
+			)
+		);
+		User user = entityManager.persist(TestUserFactory.createDefaultUser());
+
+		// Movements persisted without touching the materialized quantities or flags
+		entityManager.persist(
+			TestInventoryMovementFactory.createInventoryMovement(
+				itemA,
+				itemA.getReorderThreshold() + 5,
+				InventoryMovementType.RECEIVE,
+				LocalDate.now(),
+				user
+			)
+		);
+		entityManager.persist(
+			TestInventoryMovementFactory.createInventoryMovement(
+				itemB,
+				itemB.getReorderThreshold() + 5,
+				InventoryMovementType.RECEIVE,
+				LocalDate.now(),
+				user
+			)
+		);
+		entityManager.flush();
+		entityManager.clear();
+		inventoryItemRepository.rebuildQuantityOnHand();
+
+		// Act
+		int updated = inventoryItemRepository.refreshLowStockByItemId(itemA.getId());
+
+		// Assert
+		assertThat(updated).isOne();
+		assertThat(entityManager.find(InventoryItem.class, itemA.getId()).isLowStock()).isFalse();
+		assertThat(entityManager.find(InventoryItem.class, itemB.getId()).isLowStock()).isTrue();
+	}
+
+	@Test
+	@DisplayName("rebuildQuantityOnHand sets quantity on hand from the movement ledger")
+	void rebuildQuantityOnHand_SetsQuantityFromLedger() {
+		// Arrange
+		InventoryItem itemA = entityManager.persist(TestInventoryItemFactory.createDefaultItem());
+		InventoryItem itemB = entityManager.persist(
+			TestInventoryItemFactory.createItem(
+				"Other item",
+				"SKU-456",
+				10
+			)
+		);
+
+		User user = entityManager.persist(TestUserFactory.createDefaultUser());
+
+		// Movements persisted without touching the materialized quantity
+		entityManager.persist(
+			TestInventoryMovementFactory.createInventoryMovement(
+				itemA,
+				20,
+				InventoryMovementType.RECEIVE,
+				LocalDate.now(),
+				user
+			)
+		);
+		entityManager.persist(
+			TestInventoryMovementFactory.createInventoryMovement(
+				itemA,
+				7,
+				InventoryMovementType.SALE,
+				LocalDate.now(),
+				user
+			)
+		);
+		entityManager.flush();
+		entityManager.clear();
+
+		// Act
+		int updated = inventoryItemRepository.rebuildQuantityOnHand();
+
+		// Assert
+		assertThat(updated).isEqualTo(2);
+		assertThat(entityManager.find(InventoryItem.class, itemA.getId()).getQuantityOnHand())
+			.isEqualTo(13L);
+		assertThat(entityManager.find(InventoryItem.class, itemB.getId()).getQuantityOnHand())
+			.isZero();
+	}
+
+	@Test
+	@DisplayName("rebuildQuantityOnHandByItemId only rebuilds the given item")
+	void rebuildQuantityOnHandByItemId_OnlyRebuildsGivenItem() {
+		// Arrange
+		InventoryItem itemA = entityManager.persist(TestInventoryItemFactory.createDefaultItem());
+		InventoryItem itemB = entityManager.persist(
+			TestInventoryItemFactory.createItem(
+				"Other item",
+				"SKU-456",
+				10
+			)
+		);
+
+		User user = entityManager.persist(TestUserFactory.createDefaultUser());
+
+		entityManager.persist(
+			TestInventoryMovementFactory.createInventoryMovement(
+				itemA,
+				15,
+				InventoryMovementType.RECEIVE,
+				LocalDate.now(),
+				user
+			)
+		);
+		entityManager.persist(
+			TestInventoryMovementFactory.createInventoryMovement(
+				itemB,
+				30,
+				InventoryMovementType.RECEIVE,
+				LocalDate.now(),
+				user
+			)
+		);
+		entityManager.flush();
+		entityManager.clear();
+
+		// Act
+		int updated = inventoryItemRepository.rebuildQuantityOnHandByItemId(itemA.getId());
+
+		// Assert
+		assertThat(updated).isOne();
+		assertThat(entityManager.find(InventoryItem.class, itemA.getId()).getQuantityOnHand())
+			.isEqualTo(15L);
+		assertThat(entityManager.find(InventoryItem.class, itemB.getId()).getQuantityOnHand())
+			.isZero();
+		assertThat(entityManager.find(InventoryItem.class, itemA.getId()).getRevision()).isOne();
+		assertThat(entityManager.find(InventoryItem.class, itemB.getId()).getRevision()).isZero();
+	}
+
+	@Test
+	@DisplayName("revision is incremented by each flushed update of an item")
+	void revision_IncrementsOnEachUpdate() {
+		// Arrange
+		InventoryItem item = entityManager.persistAndFlush(TestInventoryItemFactory.createDefaultItem());
+		assertThat(item.getRevision()).isZero();
+
+		// Act
+		item.applyQuantityChange(5);
+		entityManager.flush();
+		item.rename("Renamed item");
+		item.updateReorderThreshold(3);
+		entityManager.flush();
+		entityManager.clear();
+
+		// Assert
+		assertThat(entityManager.find(InventoryItem.class, item.getId()).getRevision()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("findInventoryRevision changes when an item is added or updated")
+	void findInventoryRevision_ChangesWithEveryItemChange() {
+		// Arrange
+		InventoryItem item = entityManager.persistAndFlush(TestInventoryItemFactory.createDefaultItem());
+		long afterCreate = inventoryItemRepository.findInventoryRevision();
+
+		// Act
+		item.applyQuantityChange(1);
+		entityManager.flush();
+		long afterUpdate = inventoryItemRepository.findInventoryRevision();
+
+		entityManager.persistAndFlush(TestInventoryItemFactory.createItem("Other item", "SKU-456", 10));
+		long afterSecondCreate = inventoryItemRepository.findInventoryRevision();
+
+		// Assert
+		assertThat(afterCreate).isOne();
+		assertThat(afterUpdate).isEqualTo(2L);
+		assertThat(afterSecondCreate).isEqualTo(3L);
+	}
+}
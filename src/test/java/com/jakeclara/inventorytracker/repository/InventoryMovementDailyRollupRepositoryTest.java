@@ -0,0 +1,140 @@
+package com.jakeclara.inventorytracker.repository;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+import com.jakeclara.inventorytracker.dto.MovementReportRow;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryMovementDailyRollup;
+import com.jakeclara.inventorytracker.model.InventoryMovementDailyRollupId;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
+import com.jakeclara.inventorytracker.util.TestInventoryMovementFactory;
+import com.jakeclara.inventorytracker.util.TestUserFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+class InventoryMovementDailyRollupRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 4);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private InventoryMovementDailyRollupRepository rollupRepository;
+
+    @Test
+    @DisplayName("addToRollup creates the rollup, then adds to it")
+    void addToRollup_CreatesThenIncrementsRollup() {
+        // Act
+        rollupRepository.addToRollup(1L, DAY, InventoryMovementType.SALE.name(), 1, 4);
+        rollupRepository.addToRollup(1L, DAY, InventoryMovementType.SALE.name(), 2, 6);
+        rollupRepository.addToRollup(1L, DAY, InventoryMovementType.RECEIVE.name(), 1, 20);
+        entityManager.clear();
+
+        // Assert
+        InventoryMovementDailyRollup sales = rollupRepository
+            .findById(new InventoryMovementDailyRollupId(1L, DAY, InventoryMovementType.SALE))
+            .orElseThrow();
+
+        assertThat(sales.getMovementCount()).isEqualTo(3);
+        assertThat(sales.getTotalQuantity()).isEqualTo(10);
+        assertThat(rollupRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("findDailyTotals sums every item per day and type, within the range and types")
+    void findDailyTotals_SumsItemsPerDayAndType() {
+        // Arrange
+        rollupRepository.addToRollup(1L, DAY, InventoryMovementType.SALE.name(), 2, 5);
+        rollupRepository.addToRollup(2L, DAY, InventoryMovementType.SALE.name(), 1, 3);
+        rollupRepository.addToRollup(2L, DAY, InventoryMovementType.RECEIVE.name(), 1, 50);
+        rollupRepository.addToRollup(1L, DAY.plusDays(1), InventoryMovementType.SALE.name(), 1, 1);
+        rollupRepository.addToRollup(1L, DAY.plusDays(7), InventoryMovementType.SALE.name(), 1, 9);
+
+        // Act
+        List<MovementReportRow> totals = rollupRepository.findDailyTotals(
+            DAY,
+            DAY.plusDays(6),
+            EnumSet.of(InventoryMovementType.SALE)
+        );
+
+        // Assert
+        assertThat(totals).containsExactly(
+            new MovementReportRow(DAY, InventoryMovementType.SALE, 3, 8),
+            new MovementReportRow(DAY.plusDays(1), InventoryMovementType.SALE, 1, 1)
+        );
+    }
+
+    @Test
+    @DisplayName("findDailyTotalsForItem returns only the given item's rollups")
+    void findDailyTotalsForItem_ReturnsOnlyThatItem() {
+        // Arrange
+        rollupRepository.addToRollup(1L, DAY, InventoryMovementType.SALE.name(), 2, 5);
+        rollupRepository.addToRollup(1L, DAY, InventoryMovementType.RECEIVE.name(), 1, 10);
+        rollupRepository.addToRollup(2L, DAY, InventoryMovementType.SALE.name(), 1, 3);
+
+        // Act
+        List<MovementReportRow> totals = rollupRepository.findDailyTotalsForItem(
+            1L,
+            DAY,
+            DAY,
+            EnumSet.allOf(InventoryMovementType.class)
+        );
+
+        // Assert
+        assertThat(totals)
+            .extracting(MovementReportRow::movementType, MovementReportRow::totalQuantity)
+            .containsExactly(
+                tuple(InventoryMovementType.RECEIVE, 10L),
+                tuple(InventoryMovementType.SALE, 5L)
+            );
+    }
+
+    @Test
+    @DisplayName("insertFromLedger aggregates the movements of the item range from the given date")
+    void insertFromLedger_AggregatesItemRangeFromDate() {
+        // Arrange
+        User user = entityManager.persist(TestUserFactory.createDefaultUser());
+        InventoryItem itemA = entityManager.persist(TestInventoryItemFactory.createDefaultItem());
+        InventoryItem itemB = entityManager.persist(
+            TestInventoryItemFactory.createItem("Item B", "Description B", 25)
+        );
+
+        entityManager.persist(TestInventoryMovementFactory.createInventoryMovement(
+            itemA, 10, InventoryMovementType.RECEIVE, DAY.minusDays(1), user));
+        entityManager.persist(TestInventoryMovementFactory.createInventoryMovement(
+            itemA, 2, InventoryMovementType.SALE, DAY, user));
+        entityManager.persist(TestInventoryMovementFactory.createInventoryMovement(
+            itemA, 3, InventoryMovementType.SALE, DAY, user));
+        entityManager.persist(TestInventoryMovementFactory.createInventoryMovement(
+            itemB, 7, InventoryMovementType.RECEIVE, DAY, user));
+        entityManager.flush();
+
+        // Act
+        int inserted = rollupRepository.insertFromLedger(itemA.getId(), itemA.getId(), DAY);
+        entityManager.clear();
+
+        // Assert
+        assertThat(inserted).isEqualTo(1);
+        assertThat(rollupRepository.findAll())
+            .extracting(
+                rollup -> rollup.getId().getItemId(),
+                rollup -> rollup.getId().getMovementType(),
+                InventoryMovementDailyRollup::getMovementCount,
+                InventoryMovementDailyRollup::getTotalQuantity
+            )
+            .containsExactly(tuple(itemA.getId(), InventoryMovementType.SALE, 2L, 5L));
+    }
+}
@@ -8,8 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Limit;
 
 import com.jakeclara.inventorytracker.model.InventoryItem;
 import com.jakeclara.inventorytracker.model.InventoryMovement;
@@ -20,6 +19,7 @@ import com.jakeclara.inventorytracker.util.TestInventoryMovementFactory;
 import com.jakeclara.inventorytracker.util.TestUserFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 class InventoryMovementRepositoryTest {
@@ -31,26 +31,22 @@ class InventoryMovementRepositoryTest {
     private InventoryMovementRepository inventoryMovementRepository;
 
     @Test
-    @DisplayName("findByItemIdOrderByMovementDateDesc returns empty list when no movements exist for given item ID")
-    void findByItemIdOrderByMovementDateDesc_ReturnsEmptyList_WhenNoMovementsExist() {
+    @DisplayName("findLatestByItemId returns empty list when no movements exist for given item ID")
+    void findLatestByItemId_ReturnsEmptyList_WhenNoMovementsExist() {
         // Arrange
         Long nonexistentItemId = 999L;
         
         // Act
-        Page<InventoryMovement> page = 
-            inventoryMovementRepository.findByItemIdOrderByMovementDateDesc(
-                nonexistentItemId,
-                PageRequest.of(0, 10)
-            );
+        List<InventoryMovement> movements = 
+            inventoryMovementRepository.findLatestByItemId(nonexistentItemId, Limit.of(10));
         
         // Assert
-        assertThat(page).isEmpty();
-        assertThat(page.getTotalElements()).isZero();
+        assertThat(movements).isEmpty();
     }
 
     @Test
-    @DisplayName("findByItemIdOrderByMovementDateDesc returns movements ordered by date descending")
-    void findByItemIdOrderByMovementDateDesc_ReturnsMovementsOrderedByDateDesc() {
+    @DisplayName("findLatestByItemId returns movements ordered by date descending")
+    void findLatestByItemId_ReturnsMovementsOrderedByDateDesc() {
         // Arrange
         User user = entityManager.persist(TestUserFactory.createDefaultUser());
         InventoryItem itemA = entityManager.persist(TestInventoryItemFactory.createDefaultItem());
@@ -88,17 +84,10 @@ class InventoryMovementRepositoryTest {
         entityManager.clear();
 
         // Act
-        Page<InventoryMovement> page = 
-            inventoryMovementRepository.findByItemIdOrderByMovementDateDesc(
-                itemA.getId(),
-                PageRequest.of(0, 10)
-            );
-        
-        List<InventoryMovement> movements = page.getContent();
+        List<InventoryMovement> movements = 
+            inventoryMovementRepository.findLatestByItemId(itemA.getId(), Limit.of(10));
 
         // Assert
-        assertThat(page.getTotalElements()).isEqualTo(2);
-        
         assertThat(movements).hasSize(2);
         
         assertThat(movements.get(0).getMovementDate())
@@ -108,4 +97,227 @@ class InventoryMovementRepositoryTest {
             .extracting(movement -> movement.getItem().getId())
             .containsOnly(itemA.getId());
     }
+
+    @Test
+    @DisplayName("findByItemIdBefore continues after the cursor and breaks date ties by id")
+    void findByItemIdBefore_ContinuesAfterCursor_AndBreaksDateTiesById() {
+        // Arrange
+        User user = entityManager.persist(TestUserFactory.createDefaultUser());
+        InventoryItem item = entityManager.persist(TestInventoryItemFactory.createDefaultItem());
+        LocalDate sameDate = LocalDate.now().minusDays(2);
+
+        List<InventoryMovement> persisted = List.of(
+            TestInventoryMovementFactory.createInventoryMovement(
+                item, 1, InventoryMovementType.RECEIVE, LocalDate.now().minusDays(5), user),
+            TestInventoryMovementFactory.createInventoryMovement(
+                item, 2, InventoryMovementType.RECEIVE, sameDate, user),
+            TestInventoryMovementFactory.createInventoryMovement(
+                item, 3, InventoryMovementType.RECEIVE, sameDate, user),
+            TestInventoryMovementFactory.createInventoryMovement(
+                item, 4, InventoryMovementType.RECEIVE, sameDate, user),
+            TestInventoryMovementFactory.createInventoryMovement(
+                item, 5, InventoryMovementType.RECEIVE, LocalDate.now(), user)
+        );
+        persisted.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<InventoryMovement> firstPage =
+            inventoryMovementRepository.findLatestByItemId(item.getId(), Limit.of(2));
+
+        InventoryMovement lastSeen = firstPage.get(firstPage.size() - 1);
+        List<InventoryMovement> secondPage =
+            inventoryMovementRepository.findByItemIdBefore(
+                item.getId(),
+                lastSeen.getMovementDate(),
+                lastSeen.getId(),
+                Limit.of(10)
+            );
+
+        // Assert
+        assertThat(firstPage)
+            .extracting(InventoryMovement::getQuantity)
+            .containsExactly(5, 4);
+
+        assertThat(secondPage)
+            .extracting(InventoryMovement::getQuantity)
+            .containsExactly(3, 2, 1);
+    }
+
+    @Test
+    @DisplayName("insertAll writes every movement in one batch")
+    void insertAll_WritesAllMovements() {
+        // Arrange
+        User user = entityManager.persist(TestUserFactory.createDefaultUser());
+        InventoryItem item = entityManager.persist(TestInventoryItemFactory.createDefaultItem());
+        entityManager.flush();
+
+        InventoryMovement receiveMovement = 
+            TestInventoryMovementFactory.createInventoryMovement(
+                item,
+                10,
+                InventoryMovementType.RECEIVE,
+                LocalDate.now().minusDays(1),
+                user
+            );
+        receiveMovement.setReference("invoice 1");
+
+        InventoryMovement saleMovement = 
+            TestInventoryMovementFactory.createInventoryMovement(
+                item,
+                4,
+                InventoryMovementType.SALE,
+                LocalDate.now(),
+                user
+            );
+        saleMovement.setNote("counter sale");
+
+        // Act
+        inventoryMovementRepository.insertAll(List.of(receiveMovement, saleMovement));
+        entityManager.clear();
+
+        // Assert
+        List<InventoryMovement> movements = 
+            inventoryMovementRepository.findLatestByItemId(item.getId(), Limit.of(10));
+
+        assertThat(movements)
+            .extracting(
+                InventoryMovement::getMovementType,
+                InventoryMovement::getQuantity,
+                InventoryMovement::getReference,
+                InventoryMovement::getNote
+            )
+            .containsExactly(
+                tuple(InventoryMovementType.SALE, 4, null, "counter sale"),
+                tuple(InventoryMovementType.RECEIVE, 10, "invoice 1", null)
+            );
+
+        assertThat(movements)
+            .extracting(movement -> movement.getCreatedBy().getId())
+            .containsOnly(user.getId());
+    }
+
+    @Test
+    @DisplayName("findBalanceAsOf returns the balance after the last movement on or before the date")
+    void findBalanceAsOf_ReturnsBalanceOfLastMovementByDate() {
+        // Arrange
+        User user = entityManager.persist(TestUserFactory.createDefaultUser());
+        InventoryItem item = entityManager.persist(TestInventoryItemFactory.createDefaultItem());
+        LocalDate today = LocalDate.now();
+
+        persistWithBalance(item, user, 10, InventoryMovementType.RECEIVE, today.minusDays(5), 10);
+        persistWithBalance(item, user, 3, InventoryMovementType.SALE, today.minusDays(2), 7);
+        persistWithBalance(item, user, 1, InventoryMovementType.SALE, today.minusDays(2), 6);
+        persistWithBalance(item, user, 4, InventoryMovementType.RECEIVE, today, 10);
+        entityManager.flush();
+
+        // Act & Assert
+        assertThat(inventoryMovementRepository.findBalanceAsOf(item.getId(), today.minusDays(6), Limit.of(1)))
+            .isEmpty();
+        assertThat(inventoryMovementRepository.findBalanceAsOf(item.getId(), today.minusDays(3), Limit.of(1)))
+            .containsExactly(10L);
+        assertThat(inventoryMovementRepository.findBalanceAsOf(item.getId(), today.minusDays(1), Limit.of(1)))
+            .containsExactly(6L);
+        assertThat(inventoryMovementRepository.findBalanceAsOf(item.getId(), today, Limit.of(1)))
+            .containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("shiftBalancesAfter shifts only the movements dated after the given date")
+    void shiftBalancesAfter_ShiftsLaterMovementsOnly() {
+        // Arrange
+        User user = entityManager.persist(TestUserFactory.createDefaultUser());
+        InventoryItem item = entityManager.persist(TestInventoryItemFactory.createDefaultItem());
+        InventoryItem otherItem = entityManager.persist(
+            TestInventoryItemFactory.createItem("Item B", "Description B", 25)
+        );
+        LocalDate today = LocalDate.now();
+
+        persistWithBalance(item, user, 10, InventoryMovementType.RECEIVE, today.minusDays(5), 10);
+        persistWithBalance(item, user, 4, InventoryMovementType.RECEIVE, today.minusDays(1), 14);
+        persistWithBalance(otherItem, user, 7, InventoryMovementType.RECEIVE, today, 7);
+        entityManager.flush();
+
+        // Act
+        int shifted = inventoryMovementRepository.shiftBalancesAfter(item.getId(), today.minusDays(3), -2);
+        entityManager.clear();
+
+        // Assert
+        assertThat(shifted).isEqualTo(1);
+        assertThat(inventoryMovementRepository.findAll())
+            .extracting(InventoryMovement::getQuantity, InventoryMovement::getBalanceAfter)
+            .containsExactlyInAnyOrder(
+                tuple(10, 10L),
+                tuple(4, 12L),
+                tuple(7, 7L)
+            );
+    }
+
+    @Test
+    @DisplayName("rebalanceFrom recomputes balances from the date on, starting from the balance before it")
+    void rebalanceFrom_RecomputesBalancesFromDate() {
+        // Arrange
+        User user = entityManager.persist(TestUserFactory.createDefaultUser());
+        InventoryItem item = entityManager.persist(TestInventoryItemFactory.createDefaultItem());
+        LocalDate today = LocalDate.now();
+
+        persistWithBalance(item, user, 10, InventoryMovementType.RECEIVE, today.minusDays(5), 10);
+        persistWithBalance(item, user, 3, InventoryMovementType.SALE, today.minusDays(3), 0);
+        persistWithBalance(item, user, 4, InventoryMovementType.RECEIVE, today, 4);
+        entityManager.flush();
+
+        // Act
+        int updated = inventoryMovementRepository.rebalanceFrom(item.getId(), today.minusDays(3));
+        entityManager.clear();
+
+        // Assert
+        assertThat(updated).isEqualTo(2);
+        assertThat(inventoryMovementRepository.findLatestByItemId(item.getId(), Limit.of(10)))
+            .extracting(InventoryMovement::getBalanceAfter)
+            .containsExactly(11L, 7L, 10L);
+    }
+
+    @Test
+    @DisplayName("rebuildBalances recomputes every item's balances from its whole ledger")
+    void rebuildBalances_RecomputesEveryItem() {
+        // Arrange
+        User user = entityManager.persist(TestUserFactory.createDefaultUser());
+        InventoryItem itemA = entityManager.persist(TestInventoryItemFactory.createDefaultItem());
+        InventoryItem itemB = entityManager.persist(
+            TestInventoryItemFactory.createItem("Item B", "Description B", 25)
+        );
+        LocalDate today = LocalDate.now();
+
+        persistWithBalance(itemA, user, 10, InventoryMovementType.RECEIVE, today.minusDays(2), 0);
+        persistWithBalance(itemA, user, 4, InventoryMovementType.SALE, today, 0);
+        persistWithBalance(itemB, user, 6, InventoryMovementType.RECEIVE, today, 0);
+        entityManager.flush();
+
+        // Act
+        inventoryMovementRepository.rebuildBalances();
+        entityManager.clear();
+
+        // Assert
+        assertThat(inventoryMovementRepository.findLatestByItemId(itemA.getId(), Limit.of(10)))
+            .extracting(InventoryMovement::getBalanceAfter)
+            .containsExactly(6L, 10L);
+        assertThat(inventoryMovementRepository.findLatestByItemId(itemB.getId(), Limit.of(10)))
+            .extracting(InventoryMovement::getBalanceAfter)
+            .containsExactly(6L);
+    }
+
+    private void persistWithBalance(
+        InventoryItem item,
+        User user,
+        int quantity,
+        InventoryMovementType movementType,
+        LocalDate movementDate,
+        long balanceAfter
+    ) {
+        InventoryMovement movement = TestInventoryMovementFactory.createInventoryMovement(
+            item, quantity, movementType, movementDate, user);
+        movement.setBalanceAfter(balanceAfter);
+        entityManager.persist(movement);
+    }
 }
@@ -0,0 +1,72 @@
+package com.jakeclara.inventorytracker.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+import com.jakeclara.inventorytracker.model.LowStockCounter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class LowStockCounterRepositoryTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private LowStockCounterRepository lowStockCounterRepository;
+
+	@Test
+	@DisplayName("adjustLowStockCount adds the delta to the counter of the given status only")
+	void adjustLowStockCount_AddsDelta_ToCounterOfGivenStatus() {
+		// Arrange
+		entityManager.persist(new LowStockCounter(true, 5));
+		entityManager.persist(new LowStockCounter(false, 2));
+		entityManager.flush();
+		entityManager.clear();
+
+		// Act
+		int updated = lowStockCounterRepository.adjustLowStockCount(true, -1);
+		lowStockCounterRepository.adjustLowStockCount(true, 3);
+		entityManager.clear();
+
+		// Assert
+		assertThat(updated).isOne();
+		assertThat(lowStockCounterRepository.findById(true))
+			.get()
+			.extracting(LowStockCounter::getLowStockCount)
+			.isEqualTo(7L);
+		assertThat(lowStockCounterRepository.findById(false))
+			.get()
+			.extracting(LowStockCounter::getLowStockCount)
+			.isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("adjustLowStockCount updates nothing when the counter does not exist")
+	void adjustLowStockCount_UpdatesNothing_WhenCounterDoesNotExist() {
+		// Act
+		int updated = lowStockCounterRepository.adjustLowStockCount(true, 1);
+
+		// Assert
+		assertThat(updated).isZero();
+	}
+
+	@Test
+	@DisplayName("findByIdForUpdate returns the counter of the given status")
+	void findByIdForUpdate_ReturnsCounter() {
+		// Arrange
+		entityManager.persistAndFlush(new LowStockCounter(false, 4));
+		entityManager.clear();
+
+		// Act & Assert
+		assertThat(lowStockCounterRepository.findByIdForUpdate(false))
+			.get()
+			.extracting(LowStockCounter::getLowStockCount)
+			.isEqualTo(4L);
+		assertThat(lowStockCounterRepository.findByIdForUpdate(true)).isEmpty();
+	}
+}
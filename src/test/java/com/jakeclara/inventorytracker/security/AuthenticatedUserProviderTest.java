@@ -1,5 +1,8 @@
 package com.jakeclara.inventorytracker.security;
 
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -16,8 +19,10 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.model.UserRole;
 import com.jakeclara.inventorytracker.repository.UserRepository;
 import com.jakeclara.inventorytracker.util.TestUserFactory;
 
@@ -95,4 +100,66 @@ class AuthenticatedUserProviderTest {
 			.isInstanceOf(IllegalStateException.class)
 			.hasMessage("Authenticated user not found");
 	}
+
+	private void authenticateAsPrincipal(InventoryUserDetails principal) {
+		SecurityContextHolder.getContext().setAuthentication(
+			UsernamePasswordAuthenticationToken.authenticated(
+				principal,
+				null,
+				principal.getAuthorities()
+			)
+		);
+	}
+
+	@Test
+	@DisplayName("getAuthenticatedUser should return a reference by id when principal carries the user id")
+	void getAuthenticatedUser_ShouldReturnReference_WhenPrincipalCarriesUserId() {
+		// Arrange
+		User user = TestUserFactory.createDefaultUser();
+		ReflectionTestUtils.setField(user, "id", 7L);
+		authenticateAsPrincipal(InventoryUserDetails.from(user));
+
+		when(userRepository.getReferenceById(7L))
+			.thenReturn(user);
+
+		// Act
+		User authenticatedUser = authenticatedUserProvider.getAuthenticatedUser();
+
+		// Assert
+		assertThat(authenticatedUser).isEqualTo(user);
+		verify(userRepository, never()).findByUsername(user.getUsername());
+	}
+
+	@Test
+	@DisplayName("getAuthenticatedRole should read the role from the principal without querying users")
+	void getAuthenticatedRole_ShouldReadRoleFromPrincipal() {
+		// Arrange
+		authenticateAsPrincipal(
+			new InventoryUserDetails(7L, "admin", "hash", UserRole.ADMIN, true)
+		);
+
+		// Act
+		UserRole role = authenticatedUserProvider.getAuthenticatedRole();
+
+		// Assert
+		assertThat(role).isEqualTo(UserRole.ADMIN);
+		verifyNoInteractions(userRepository);
+	}
+
+	@Test
+	@DisplayName("getAuthenticatedRole should look up the user when principal only carries a username")
+	void getAuthenticatedRole_ShouldLookUpUser_WhenPrincipalIsUsername() {
+		// Arrange
+		User user = TestUserFactory.createDefaultUser();
+
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(user.getUsername(), null, List.of())
+		);
+
+		when(userRepository.findByUsername(user.getUsername()))
+			.thenReturn(Optional.of(user));
+
+		// Act & Assert
+		assertThat(authenticatedUserProvider.getAuthenticatedRole()).isEqualTo(user.getRole());
+	}
 }
@@ -48,6 +48,8 @@ class JpaUserDetailsServiceTest {
 		assertThat(userDetails.isEnabled()).isTrue();
 		assertThat(userDetails.getAuthorities())
 			.extracting("authority").containsExactly("ROLE_" +user.getRole().name());
+		assertThat(userDetails).isInstanceOf(InventoryUserDetails.class);
+		assertThat(((InventoryUserDetails) userDetails).getRole()).isEqualTo(user.getRole());
 		
 		verify(userRepository).findByUsername(user.getUsername());
 		
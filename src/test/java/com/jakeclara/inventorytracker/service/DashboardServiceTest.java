@@ -1,7 +1,10 @@
 package com.jakeclara.inventorytracker.service;
 
 import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
+import com.jakeclara.inventorytracker.dto.InventoryDashboardQuery;
 import com.jakeclara.inventorytracker.dto.InventoryDashboardView;
+import com.jakeclara.inventorytracker.dto.InventorySortField;
+import com.jakeclara.inventorytracker.projection.InventoryProjection;
 import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,8 +14,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,10 +28,17 @@ import java.util.List;
 class DashboardServiceTest {
 
 	private static final int DEFAULT_PAGE_SIZE = 10;
+	private static final PageRequest BY_NAME = PageRequest.of(0, DEFAULT_PAGE_SIZE, Sort.by("name"));
 
 	@Mock
 	private InventoryItemRepository inventoryItemRepository;
 
+	@Mock
+	private LowStockCounterService lowStockCounterService;
+
+	@Mock
+	private InventoryProjection inventoryProjection;
+
 	@InjectMocks
 	private DashboardService dashboardService;
 
@@ -45,18 +57,18 @@ class DashboardServiceTest {
 			);
 
 		Page<InventoryDashboardItem> page =
-			new PageImpl<>(List.of(item), PageRequest.of(0, DEFAULT_PAGE_SIZE), 1);
+			new PageImpl<>(List.of(item), BY_NAME, 1);
 
 		when(inventoryItemRepository
-			.findInventoryByActiveStatusWithQuantity(true, PageRequest.of(0, DEFAULT_PAGE_SIZE)))
+			.findInventoryByActiveStatusWithQuantity(true, BY_NAME))
 			.thenReturn(page);
 
-		when(inventoryItemRepository.countLowStockByActiveStatus(true))
+		when(lowStockCounterService.getLowStockCount(true))
 			.thenReturn(1L);
 
 		// Act
 		InventoryDashboardView result =
-			dashboardService.getInventoryDashboard(0);
+			dashboardService.getInventoryDashboard(0, InventoryDashboardQuery.BY_NAME);
 
 		// Assert
 		assertThat(result.inventoryItems()).hasSize(1);
@@ -69,10 +81,10 @@ class DashboardServiceTest {
 
 
 		verify(inventoryItemRepository)
-			.findInventoryByActiveStatusWithQuantity(true, PageRequest.of(0, DEFAULT_PAGE_SIZE));
+			.findInventoryByActiveStatusWithQuantity(true, BY_NAME);
 
-		verify(inventoryItemRepository)
-			.countLowStockByActiveStatus(true);
+		verify(lowStockCounterService)
+			.getLowStockCount(true);
 	}
 
 	@Test
@@ -80,24 +92,24 @@ class DashboardServiceTest {
 	void getInventoryDashboard_ClampsNegativePageToZero() {
 		// Arrange
 		Page<InventoryDashboardItem> page =
-			new PageImpl<>(List.of(), PageRequest.of(0, DEFAULT_PAGE_SIZE), 0);
+			new PageImpl<>(List.of(), BY_NAME, 0);
 
 		when(inventoryItemRepository
-			.findInventoryByActiveStatusWithQuantity(true, PageRequest.of(0, DEFAULT_PAGE_SIZE)))
+			.findInventoryByActiveStatusWithQuantity(true, BY_NAME))
 			.thenReturn(page);
 
-		when(inventoryItemRepository.countLowStockByActiveStatus(true))
+		when(lowStockCounterService.getLowStockCount(true))
 			.thenReturn(0L);
 
 		// Act
 		InventoryDashboardView result =
-			dashboardService.getInventoryDashboard(-5);
+			dashboardService.getInventoryDashboard(-5, InventoryDashboardQuery.BY_NAME);
 
 		// Assert
 		assertThat(result.pagination().currentPage()).isZero();
 
 		verify(inventoryItemRepository)
-			.findInventoryByActiveStatusWithQuantity(true, PageRequest.of(0, DEFAULT_PAGE_SIZE));
+			.findInventoryByActiveStatusWithQuantity(true, BY_NAME);
 	}
 
 	@Test
@@ -105,21 +117,142 @@ class DashboardServiceTest {
 	void getInventoryDashboard_ReturnsEmptyDashboard_WhenNoItemsFound() {
 		// Arrange
 		Page<InventoryDashboardItem> page =
-			new PageImpl<>(List.of(), PageRequest.of(0, DEFAULT_PAGE_SIZE), 0);
+			new PageImpl<>(List.of(), BY_NAME, 0);
 
 		when(inventoryItemRepository
-			.findInventoryByActiveStatusWithQuantity(true, PageRequest.of(0, DEFAULT_PAGE_SIZE)))
+			.findInventoryByActiveStatusWithQuantity(true, BY_NAME))
 			.thenReturn(page);
 
-		when(inventoryItemRepository.countLowStockByActiveStatus(true))
+		when(lowStockCounterService.getLowStockCount(true))
 			.thenReturn(0L);
 
 		// Act
 		InventoryDashboardView result =
-			dashboardService.getInventoryDashboard(0);
+			dashboardService.getInventoryDashboard(0, InventoryDashboardQuery.BY_NAME);
 
 		// Assert
 		assertThat(result.inventoryItems()).isEmpty();
 		assertThat(result.lowStockCount()).isZero();
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("getInventoryDashboard reads from the projection when it is loaded")
+	void getInventoryDashboard_ReadsFromProjection_WhenReady() {
+		// Arrange
+		InventoryDashboardItem item =
+			new InventoryDashboardItem(
+				1L,
+				"Item A",
+				"SKU-123",
+				5L,
+				10,
+				"pcs"
+			);
+
+		Page<InventoryDashboardItem> page =
+			new PageImpl<>(List.of(item), BY_NAME, 1);
+
+		when(inventoryProjection.isReady())
+			.thenReturn(true);
+
+		when(inventoryProjection.getItemsByActiveStatus(true, InventoryDashboardQuery.BY_NAME, BY_NAME))
+			.thenReturn(page);
+
+		when(inventoryProjection.getLowStockCount(true))
+			.thenReturn(1L);
+
+		// Act
+		InventoryDashboardView result =
+			dashboardService.getInventoryDashboard(0, InventoryDashboardQuery.BY_NAME);
+
+		// Assert
+		assertThat(result.inventoryItems()).containsExactly(item);
+		assertThat(result.lowStockCount()).isOne();
+
+		verifyNoInteractions(inventoryItemRepository);
+		verifyNoInteractions(lowStockCounterService);
+	}
+
+	@Test
+	@DisplayName("getInventoryDashboard sorts by the requested column, breaking ties by name in the same direction")
+	void getInventoryDashboard_SortsByRequestedColumn() {
+		// Arrange
+		InventoryDashboardQuery query =
+			new InventoryDashboardQuery(InventorySortField.QUANTITY, Sort.Direction.DESC, false, null);
+		PageRequest byQuantity = PageRequest.of(
+			0,
+			DEFAULT_PAGE_SIZE,
+			Sort.by(Sort.Direction.DESC, "quantityOnHand").and(Sort.by(Sort.Direction.DESC, "name"))
+		);
+
+		when(inventoryItemRepository.findInventoryByActiveStatusWithQuantity(true, byQuantity))
+			.thenReturn(new PageImpl<>(List.of(), byQuantity, 0));
+
+		// Act
+		dashboardService.getInventoryDashboard(0, query);
+
+		// Assert
+		verify(inventoryItemRepository).findInventoryByActiveStatusWithQuantity(true, byQuantity);
+	}
+
+	@Test
+	@DisplayName("getInventoryDashboard reads the query matching the low-stock and unit filters")
+	void getInventoryDashboard_ReadsQueryMatchingFilters() {
+		// Arrange
+		PageRequest bySku = PageRequest.of(0, DEFAULT_PAGE_SIZE, Sort.by("sku"));
+		Page<InventoryDashboardItem> empty = new PageImpl<>(List.of(), bySku, 0);
+
+		when(inventoryItemRepository.findLowStockInventoryByActiveStatus(true, bySku)).thenReturn(empty);
+		when(inventoryItemRepository.findInventoryByActiveStatusAndUnit(true, "box", bySku)).thenReturn(empty);
+		when(inventoryItemRepository.findLowStockInventoryByActiveStatusAndUnit(true, "box", bySku)).thenReturn(empty);
+
+		// Act
+		dashboardService.getInventoryDashboard(0, new InventoryDashboardQuery(InventorySortField.SKU, null, true, null));
+		dashboardService.getInventoryDashboard(0, new InventoryDashboardQuery(InventorySortField.SKU, null, false, "box"));
+		dashboardService.getInventoryDashboard(0, new InventoryDashboardQuery(InventorySortField.SKU, null, true, "box"));
+
+		// Assert
+		verify(inventoryItemRepository).findLowStockInventoryByActiveStatus(true, bySku);
+		verify(inventoryItemRepository).findInventoryByActiveStatusAndUnit(true, "box", bySku);
+		verify(inventoryItemRepository).findLowStockInventoryByActiveStatusAndUnit(true, "box", bySku);
+	}
+
+	@Test
+	@DisplayName("getDashboardRevision uses the projection revision when it is loaded")
+	void getDashboardRevision_UsesProjection_WhenReady() {
+		// Arrange
+		when(inventoryProjection.isReady())
+			.thenReturn(true);
+
+		when(inventoryProjection.getRevision())
+			.thenReturn("1700000000000-1-42");
+
+		// Act
+		String revision = dashboardService.getDashboardRevision();
+
+		// Assert
+		assertThat(revision).isEqualTo("p1700000000000-1-42");
+
+		verifyNoInteractions(inventoryItemRepository);
+		verifyNoInteractions(lowStockCounterService);
+	}
+
+	@Test
+	@DisplayName("getDashboardRevision reads the inventory revision and low-stock count until the projection is loaded")
+	void getDashboardRevision_ReadsInventoryRevision_WhenProjectionNotReady() {
+		// Arrange
+		when(lowStockCounterService.getInventoryRevision())
+			.thenReturn(17L);
+
+		when(lowStockCounterService.getLowStockCount(true))
+			.thenReturn(2L);
+
+		// Act
+		String revision = dashboardService.getDashboardRevision();
+
+		// Assert
+		assertThat(revision).isEqualTo("s17-2");
+
+		verifyNoInteractions(inventoryItemRepository);
+	}
+}
@@ -0,0 +1,305 @@
+package com.jakeclara.inventorytracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardStreamServiceTest {
+
+	private static final int BUFFER_SIZE = 2;
+
+	@Mock
+	DashboardService dashboardService;
+
+	private SimpleMeterRegistry meterRegistry;
+	private DashboardStreamService dashboardStreamService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		dashboardStreamService = new DashboardStreamService(dashboardService, BUFFER_SIZE, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		dashboardStreamService.closeAll();
+	}
+
+	// Item with the default reorder threshold of 10 after movements totalling the quantity
+	private static InventoryItem item(long id, int quantity) {
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		ReflectionTestUtils.setField(item, "id", id);
+		item.applyQuantityChange(quantity);
+		return item;
+	}
+
+	private static void completeTransaction(int status) {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+	}
+
+	private double connections() {
+		return meterRegistry.get("inventory.dashboard.stream.connections").gauge().value();
+	}
+
+	@Test
+	@DisplayName("recordMovement should send the item's quantity, low-stock status and revision once the transaction commits")
+	void recordMovement_ShouldSendUpdate_AfterCommit() throws Exception {
+		// Arrange
+		RecordingEmitter emitter = new RecordingEmitter();
+		dashboardStreamService.register(emitter, Set.of(1L));
+		TransactionSynchronizationManager.initSynchronization();
+
+		// Act
+		dashboardStreamService.recordMovement(item(1L, 12), false);
+
+		// Assert
+		assertThat(emitter.next(100)).isNull();
+
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(emitter.next(5_000))
+			.startsWith("event:item\n")
+			.contains("InventoryQuantityUpdate[itemId=1, quantity=12, lowStock=false, revision=0]");
+	}
+
+	@Test
+	@DisplayName("recordMovement should send nothing when the transaction rolls back")
+	void recordMovement_ShouldSendNothing_WhenRolledBack() throws Exception {
+		// Arrange
+		RecordingEmitter emitter = new RecordingEmitter();
+		dashboardStreamService.register(emitter, Set.of());
+		TransactionSynchronizationManager.initSynchronization();
+
+		// Act
+		dashboardStreamService.recordMovement(item(1L, 12), false);
+		completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		// Assert
+		assertThat(emitter.next(200)).isNull();
+	}
+
+	@Test
+	@DisplayName("recordMovement should only send item updates to connections following the item")
+	void recordMovement_ShouldSendToFollowingConnectionsOnly() throws Exception {
+		// Arrange
+		RecordingEmitter otherItem = new RecordingEmitter();
+		RecordingEmitter everyItem = new RecordingEmitter();
+		dashboardStreamService.register(otherItem, Set.of(2L));
+		dashboardStreamService.register(everyItem, Set.of());
+
+		// Act
+		dashboardStreamService.recordMovement(item(1L, 12), false);
+
+		// Assert
+		assertThat(everyItem.next(5_000)).contains("itemId=1");
+		assertThat(otherItem.next(200)).isNull();
+	}
+
+	@Test
+	@DisplayName("recordMovement should send the low-stock count when the item crossed its reorder threshold")
+	void recordMovement_ShouldSendLowStockCount_WhenThresholdCrossed() throws Exception {
+		// Arrange
+		RecordingEmitter emitter = new RecordingEmitter();
+		dashboardStreamService.register(emitter, Set.of(2L));
+		when(dashboardService.getLowStockCount()).thenReturn(3L);
+
+		// Act
+		dashboardStreamService.recordMovement(item(1L, 4), false);
+
+		// Assert
+		assertThat(emitter.next(5_000)).isEqualTo("event:low-stock-count\ndata:3\n\n");
+	}
+
+	@Test
+	@DisplayName("recordChange should send the low-stock count when a low-stock item was deactivated")
+	void recordChange_ShouldSendLowStockCount_WhenLowStockItemDeactivated() throws Exception {
+		// Arrange
+		RecordingEmitter emitter = new RecordingEmitter();
+		dashboardStreamService.register(emitter, Set.of(2L));
+		when(dashboardService.getLowStockCount()).thenReturn(2L);
+		InventoryItem item = item(1L, 4);
+		item.setIsActive(false);
+
+		// Act
+		dashboardStreamService.recordChange(item, true, true);
+
+		// Assert
+		assertThat(emitter.next(5_000)).isEqualTo("event:low-stock-count\ndata:2\n\n");
+	}
+
+	@Test
+	@DisplayName("recordRebuildAll should send every connection a resync once the transaction commits and close it")
+	void recordRebuildAll_ShouldResyncEveryConnection_AfterCommit() throws Exception {
+		// Arrange
+		RecordingEmitter emitter = new RecordingEmitter();
+		dashboardStreamService.register(emitter, Set.of(1L));
+		TransactionSynchronizationManager.initSynchronization();
+
+		// Act
+		dashboardStreamService.recordRebuildAll();
+
+		// Assert
+		assertThat(emitter.next(100)).isNull();
+
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(emitter.next(5_000)).isEqualTo("event:resync\ndata:reload\n\n");
+		assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(connections()).isZero();
+	}
+
+	@Test
+	@DisplayName("a slow connection should receive only the latest of the updates to an item it has not been sent yet")
+	void slowConnection_ShouldReceiveLatestUpdatePerItem() throws Exception {
+		// Arrange
+		CountDownLatch released = new CountDownLatch(1);
+		RecordingEmitter emitter = new RecordingEmitter(released);
+		dashboardStreamService.register(emitter, Set.of());
+
+		// Act
+		dashboardStreamService.recordMovement(item(1L, 11), false);
+		dashboardStreamService.recordMovement(item(1L, 12), false);
+		dashboardStreamService.recordMovement(item(1L, 13), false);
+		released.countDown();
+
+		// Assert
+		List<String> sent = new ArrayList<>();
+		for (String event = emitter.next(1_000); event != null; event = emitter.next(200)) {
+			sent.add(event);
+		}
+		assertThat(sent).hasSizeBetween(1, 2);
+		assertThat(sent).noneMatch(event -> event.contains("quantity=12"));
+		assertThat(sent.getLast()).contains("quantity=13");
+	}
+
+	@Test
+	@DisplayName("a connection whose buffer overflows should be sent a resync and closed")
+	void overflowingConnection_ShouldBeSentResyncAndClosed() throws Exception {
+		// Arrange
+		CountDownLatch released = new CountDownLatch(1);
+		RecordingEmitter emitter = new RecordingEmitter(released);
+		dashboardStreamService.register(emitter, Set.of());
+
+		// Act
+		for (long itemId = 1; itemId <= BUFFER_SIZE + 3; itemId++) {
+			dashboardStreamService.recordMovement(item(itemId, 12), false);
+		}
+		released.countDown();
+
+		// Assert
+		assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+		List<String> sent = new ArrayList<>();
+		emitter.events.drainTo(sent);
+		assertThat(sent.getLast()).isEqualTo("event:resync\ndata:reload\n\n");
+		assertThat(meterRegistry.get("inventory.dashboard.stream.overflows").counter().count()).isEqualTo(1);
+		assertThat(connections()).isZero();
+	}
+
+	@Test
+	@DisplayName("a connection that fails to send should be dropped")
+	void failingConnection_ShouldBeDropped() throws Exception {
+		// Arrange
+		RecordingEmitter emitter = new RecordingEmitter();
+		emitter.failing = true;
+		dashboardStreamService.register(emitter, Set.of());
+
+		// Act
+		dashboardStreamService.sendHeartbeats();
+
+		// Assert
+		for (int attempt = 0; attempt < 50 && connections() > 0; attempt++) {
+			Thread.sleep(100);
+		}
+		assertThat(connections()).isZero();
+	}
+
+	@Test
+	@DisplayName("sendHeartbeats should send a comment to every connection")
+	void sendHeartbeats_ShouldSendComment() throws Exception {
+		// Arrange
+		RecordingEmitter emitter = new RecordingEmitter();
+		dashboardStreamService.register(emitter, Set.of(1L));
+
+		// Act
+		dashboardStreamService.sendHeartbeats();
+
+		// Assert
+		assertThat(emitter.next(5_000)).isEqualTo(":heartbeat\n\n");
+	}
+
+	// Records each event with its data objects in place of their JSON, and can hold sends back to act as a slow client
+	private static class RecordingEmitter extends SseEmitter {
+
+		private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+		private final CountDownLatch completed = new CountDownLatch(1);
+		private final CountDownLatch released;
+		private volatile boolean failing;
+
+		RecordingEmitter() {
+			this(new CountDownLatch(0));
+		}
+
+		RecordingEmitter(CountDownLatch released) {
+			this.released = released;
+		}
+
+		String next(long timeoutMillis) throws InterruptedException {
+			return events.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			if (failing) {
+				throw new IOException("Broken pipe");
+			}
+			try {
+				released.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			}
+
+			StringBuilder event = new StringBuilder();
+			for (DataWithMediaType part : builder.build()) {
+				event.append(part.getData());
+			}
+			events.add(event.toString());
+		}
+
+		@Override
+		public void complete() {
+			completed.countDown();
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package com.jakeclara.inventorytracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.jakeclara.inventorytracker.exception.InvalidReportRangeException;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.model.UserRole;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
+import com.jakeclara.inventorytracker.repository.UserRepository;
+import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
+import com.jakeclara.inventorytracker.util.TestInventoryMovementFactory;
+
+@SpringBootTest
+class InventoryExportServiceTest {
+
+	private static final LocalDate DAY = LocalDate.of(2024, 3, 4);
+
+	@Autowired
+	private InventoryExportService inventoryExportService;
+
+	@Autowired
+	private InventoryItemRepository inventoryItemRepository;
+
+	@Autowired
+	private InventoryMovementRepository inventoryMovementRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private User user;
+	private InventoryItem itemA;
+	private InventoryItem itemB;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(new User("export_admin", "TestPassword123!", UserRole.ADMIN));
+		itemA = inventoryItemRepository.save(TestInventoryItemFactory.createItem("Item A", "SKU-A", 5));
+		itemB = inventoryItemRepository.save(TestInventoryItemFactory.createItem("Item B", "SKU-B", 5));
+	}
+
+	@AfterEach
+	void tearDown() {
+		inventoryMovementRepository.deleteAll();
+		inventoryItemRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	private InventoryMovement movement(InventoryItem item, InventoryMovementType type, int quantity, LocalDate date) {
+		return TestInventoryMovementFactory.createInventoryMovement(item, quantity, type, date, user);
+	}
+
+	private static List<String> lines(ByteArrayOutputStream output) {
+		return output.toString(StandardCharsets.UTF_8).lines().toList();
+	}
+
+	@Test
+	@DisplayName("writeMovementsForItem should write the item's movements oldest first, quoting text that needs it")
+	void writeMovementsForItem_ShouldWriteMovementsOldestFirst() {
+		// Arrange
+		InventoryMovement sale = movement(itemA, InventoryMovementType.SALE, 2, DAY.plusDays(1));
+		sale.setNote("Order 12, \"rush\"");
+		inventoryMovementRepository.saveAll(List.of(
+			sale,
+			movement(itemA, InventoryMovementType.RECEIVE, 10, DAY),
+			movement(itemB, InventoryMovementType.RECEIVE, 7, DAY)
+		));
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		// Act
+		long written = inventoryExportService.writeMovementsForItem(itemA.getId(), output);
+
+		// Assert
+		assertThat(written).isEqualTo(2);
+		assertThat(lines(output)).hasSize(3);
+		assertThat(lines(output).get(0)).isEqualTo(InventoryExportService.MOVEMENT_HEADER);
+		assertThat(lines(output).get(1)).contains(",2024-03-04," + itemA.getId() + ",").contains(",RECEIVE,10,");
+		assertThat(lines(output).get(2))
+			.contains(",2024-03-05,")
+			.contains(",SALE,2,")
+			.endsWith(",\"Order 12, \"\"rush\"\"\",export_admin");
+	}
+
+	@Test
+	@DisplayName("writeMovementsBetween should write every item's movements within the range, across cleared batches")
+	void writeMovementsBetween_ShouldWriteMovementsWithinRange() {
+		// Arrange
+		List<InventoryMovement> movements = new ArrayList<>();
+		for (int i = 0; i < 2_500; i++) {
+			movements.add(movement(i % 2 == 0 ? itemA : itemB, InventoryMovementType.RECEIVE, 1, DAY));
+		}
+		movements.add(movement(itemA, InventoryMovementType.RECEIVE, 1, DAY.minusDays(1)));
+		movements.add(movement(itemA, InventoryMovementType.RECEIVE, 1, DAY.plusDays(1)));
+		inventoryMovementRepository.saveAll(movements);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		// Act
+		long written = inventoryExportService.writeMovementsBetween(DAY, DAY, output);
+
+		// Assert
+		assertThat(written).isEqualTo(2_500);
+		assertThat(lines(output)).hasSize(2_501);
+		assertThat(lines(output).subList(1, 2_501)).allMatch(line -> line.contains(",2024-03-04,"));
+	}
+
+	@Test
+	@DisplayName("writeMovementsBetween should throw when the range ends before it starts")
+	void writeMovementsBetween_ShouldThrow_WhenRangeIsReversed() {
+		// Act & Assert
+		assertThatThrownBy(() -> inventoryExportService.writeMovementsBetween(
+			DAY, DAY.minusDays(1), new ByteArrayOutputStream()
+		)).isInstanceOf(InvalidReportRangeException.class);
+	}
+
+	@Test
+	@DisplayName("writeInventorySnapshot should write the active items by name with their quantity on hand")
+	void writeInventorySnapshot_ShouldWriteActiveItems() {
+		// Arrange
+		InventoryItem inactive = TestInventoryItemFactory.createItem("Item C", "SKU-C", 5);
+		inactive.setIsActive(false);
+		inventoryItemRepository.save(inactive);
+		itemB.applyQuantityChange(9);
+		inventoryItemRepository.save(itemB);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		// Act
+		long written = inventoryExportService.writeInventorySnapshot(output);
+
+		// Assert
+		assertThat(written).isEqualTo(2);
+		assertThat(lines(output)).containsExactly(
+			InventoryExportService.INVENTORY_HEADER,
+			itemA.getId() + ",SKU-A,Item A,,0,5,true",
+			itemB.getId() + ",SKU-B,Item B,,9,5,false"
+		);
+	}
+}
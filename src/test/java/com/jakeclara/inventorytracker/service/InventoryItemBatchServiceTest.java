@@ -0,0 +1,146 @@
+package com.jakeclara.inventorytracker.service;
+
+import com.jakeclara.inventorytracker.dto.InventoryItemBatchError;
+import com.jakeclara.inventorytracker.dto.InventoryItemBatchResult;
+import com.jakeclara.inventorytracker.dto.InventoryItemForm;
+import com.jakeclara.inventorytracker.exception.DuplicateSkuException;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.projection.InventoryProjection;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryItemBatchServiceTest {
+
+	@Mock
+	InventoryItemRepository inventoryItemRepository;
+
+	@Mock
+	LowStockCounterService lowStockCounterService;
+
+	@Mock
+	InventoryProjection inventoryProjection;
+
+	@InjectMocks
+	InventoryItemBatchService inventoryItemBatchService;
+
+	private InventoryItemForm form(String name, String sku, Integer reorderThreshold) {
+		return new InventoryItemForm(name, sku, reorderThreshold, null);
+	}
+
+	@Test
+	@DisplayName("createBatch should insert the accepted items with one batch and report rejected items by index")
+	void createBatch_ShouldInsertAcceptedItems_AndReportRejectedItems() {
+		// Arrange
+		List<InventoryItemForm> forms = List.of(
+			form(" Item A ", "SKU-A", 5),
+			form("Item A", "SKU-B", 5),
+			form("Item C", " SKU-A", 5),
+			form("Item D", "SKU-D", null),
+			form("Taken Name", "SKU-E", 5),
+			form("Item F", "TAKEN-SKU", 5),
+			form("Item G", "SKU-G", 0)
+		);
+
+		when(inventoryItemRepository.findNamesIn(anyList())).thenReturn(List.of("Taken Name"));
+		when(inventoryItemRepository.findSkusIn(anyList())).thenReturn(List.of("TAKEN-SKU"));
+		when(inventoryItemRepository.insertAll(anyList())).thenReturn(List.of(11L, 12L));
+
+		// Act
+		InventoryItemBatchResult result = inventoryItemBatchService.createBatch(forms);
+
+		// Assert
+		assertThat(result.createdItems()).isEqualTo(2);
+		assertThat(result.errors())
+			.extracting(InventoryItemBatchError::index, InventoryItemBatchError::message)
+			.containsExactly(
+				tuple(1, "Item with that name already exists"),
+				tuple(2, "Item with that SKU already exists"),
+				tuple(3, "Reorder threshold is required"),
+				tuple(4, "Item with that name already exists"),
+				tuple(5, "Item with that SKU already exists")
+			);
+
+		ArgumentCaptor<List<InventoryItem>> inserted = ArgumentCaptor.captor();
+		verify(inventoryItemRepository).insertAll(inserted.capture());
+		assertThat(inserted.getValue())
+			.extracting(InventoryItem::getName, InventoryItem::getSku)
+			.containsExactly(tuple("Item A", "SKU-A"), tuple("Item G", "SKU-G"));
+
+		verify(lowStockCounterService).recordNewItems(inserted.getValue());
+		verify(inventoryProjection).recordNewItems(inserted.getValue(), List.of(11L, 12L));
+	}
+
+	@Test
+	@DisplayName("createBatch should look up existing names and skus a thousand at a time")
+	void createBatch_ShouldLookUpExistingValuesInChunks() {
+		// Arrange
+		List<InventoryItemForm> forms = new ArrayList<>();
+		for (int i = 0; i < 2_500; i++) {
+			forms.add(form("Item " + i, "SKU-" + i, 5));
+		}
+
+		// Act
+		InventoryItemBatchResult result = inventoryItemBatchService.createBatch(forms);
+
+		// Assert
+		assertThat(result.createdItems()).isEqualTo(2_500);
+		assertThat(result.errors()).isEmpty();
+		verify(inventoryItemRepository, times(3)).findNamesIn(anyList());
+		verify(inventoryItemRepository, times(3)).findSkusIn(anyList());
+		verify(inventoryItemRepository).insertAll(anyList());
+	}
+
+	@Test
+	@DisplayName("createBatch should not touch the counters or projection when every item is rejected")
+	void createBatch_ShouldSkipCountersAndProjection_WhenNothingIsCreated() {
+		// Act
+		InventoryItemBatchResult result = inventoryItemBatchService.createBatch(List.of(form(" ", "SKU-A", 5)));
+
+		// Assert
+		assertThat(result.createdItems()).isZero();
+		assertThat(result.errors())
+			.extracting(InventoryItemBatchError::message)
+			.containsExactly("Name cannot be blank");
+		verifyNoInteractions(lowStockCounterService, inventoryProjection);
+	}
+
+	@Test
+	@DisplayName("createBatch should throw DuplicateSkuException when a sku is taken by a concurrent creation")
+	void createBatch_ShouldThrowDuplicateSkuException_WhenSkuTakenConcurrently() {
+		// Arrange
+		doThrow(new DuplicateKeyException(
+			"batch insert failed",
+			new SQLException("duplicate key value violates unique constraint \"" + InventoryItem.SKU_CONSTRAINT + "\"")
+		)).when(inventoryItemRepository).insertAll(any());
+
+		// Act & Assert
+		assertThatThrownBy(() -> inventoryItemBatchService.createBatch(List.of(form("Item A", "SKU-A", 5))))
+			.isInstanceOf(DuplicateSkuException.class);
+
+		verifyNoInteractions(lowStockCounterService, inventoryProjection);
+	}
+}
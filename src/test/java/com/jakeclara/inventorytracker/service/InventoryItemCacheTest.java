@@ -0,0 +1,149 @@
+package com.jakeclara.inventorytracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.jakeclara.inventorytracker.dto.InventoryItemForm;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
+import com.jakeclara.inventorytracker.repository.UserRepository;
+import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
+import com.jakeclara.inventorytracker.util.TestUserFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class InventoryItemCacheTest {
+
+	private static final String ITEM_REGION = InventoryItem.class.getName();
+	private static final String USER_REGION = User.class.getName();
+
+	@Autowired
+	private InventoryItemService inventoryItemService;
+
+	@Autowired
+	private InventoryItemRepository inventoryItemRepository;
+
+	@Autowired
+	private InventoryMovementRepository inventoryMovementRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+		sessionFactory.getCache().evictAllRegions();
+		statistics = sessionFactory.getStatistics();
+		statistics.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		inventoryMovementRepository.deleteAll();
+		inventoryItemRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	private CacheRegionStatistics region(String regionName) {
+		return statistics.getDomainDataRegionStatistics(regionName);
+	}
+
+	@Test
+	@DisplayName("getInventoryItemById should serve repeated lookups from the second-level cache")
+	void getInventoryItemById_RepeatedLookups_ShouldHitCache() {
+		// Arrange
+		Long itemId = inventoryItemRepository.save(TestInventoryItemFactory.createDefaultItem()).getId();
+		inventoryItemService.getInventoryItemById(itemId);
+		long hitsBefore = region(ITEM_REGION).getHitCount();
+		long loadsBefore = statistics.getEntityLoadCount();
+
+		// Act
+		inventoryItemService.getInventoryItemById(itemId);
+		inventoryItemService.getInventoryItemById(itemId);
+
+		// Assert
+		assertThat(region(ITEM_REGION).getHitCount() - hitsBefore).isEqualTo(2);
+		assertThat(statistics.getEntityLoadCount()).isEqualTo(loadsBefore);
+	}
+
+	@Test
+	@DisplayName("cached items should reflect rename, reorder threshold and active status changes")
+	void cachedItem_ShouldReflectUpdates() {
+		// Arrange
+		Long itemId = inventoryItemService.createInventoryItem(
+			new InventoryItemForm("Old Name", "SKU-CACHE", 5, "each")
+		);
+		inventoryItemService.getInventoryItemById(itemId);
+
+		// Act
+		inventoryItemService.updateInventoryItem(itemId, new InventoryItemForm("New Name", "SKU-CACHE", 20, "box"));
+		inventoryItemService.deactivateInventoryItem(itemId);
+		long hitsBefore = region(ITEM_REGION).getHitCount();
+
+		InventoryItem item = inventoryItemService.getInventoryItemById(itemId);
+
+		// Assert
+		assertThat(region(ITEM_REGION).getHitCount() - hitsBefore).isEqualTo(1);
+		assertThat(item.getName()).isEqualTo("New Name");
+		assertThat(item.getReorderThreshold()).isEqualTo(20);
+		assertThat(item.getUnit()).isEqualTo("box");
+		assertThat(item.isActive()).isFalse();
+	}
+
+	@Test
+	@DisplayName("rebuilding quantities should evict cached items")
+	void rebuildQuantitiesOnHand_ShouldEvictCachedItems() {
+		// Arrange
+		InventoryItem saved = TestInventoryItemFactory.createDefaultItem();
+		saved.applyQuantityChange(7);
+		Long itemId = inventoryItemRepository.save(saved).getId();
+		inventoryItemService.getInventoryItemById(itemId);
+
+		// Act
+		inventoryItemService.rebuildQuantitiesOnHand();
+
+		// Assert
+		assertThat(inventoryItemService.getInventoryItemById(itemId).getQuantityOnHand()).isZero();
+	}
+
+	@Test
+	@DisplayName("users should be cached and cache requests published as metrics")
+	void userLookups_ShouldHitCache_AndPublishMetrics() {
+		// Arrange
+		Long userId = userRepository.save(TestUserFactory.createDefaultUser()).getId();
+
+		userRepository.findById(userId);
+
+		// Act
+		userRepository.findById(userId);
+
+		// Assert
+		assertThat(region(USER_REGION).getHitCount()).isEqualTo(1);
+		assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+			.tag("region", USER_REGION)
+			.tag("result", "hit")
+			.functionCounter())
+			.isNotNull();
+	}
+}
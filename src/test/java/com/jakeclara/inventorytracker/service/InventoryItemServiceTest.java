@@ -1,29 +1,40 @@
 package com.jakeclara.inventorytracker.service;
 
+import com.jakeclara.inventorytracker.dto.ArchivedInventoryMovement;
 import com.jakeclara.inventorytracker.dto.InventoryDashboardItem;
 import com.jakeclara.inventorytracker.dto.InventoryDashboardView;
 import com.jakeclara.inventorytracker.dto.InventoryItemDetailsView;
 import com.jakeclara.inventorytracker.dto.InventoryItemForm;
+import com.jakeclara.inventorytracker.dto.InventoryMovementCursor;
+import com.jakeclara.inventorytracker.exception.ArchivedLedgerException;
 import com.jakeclara.inventorytracker.exception.DuplicateNameException;
 import com.jakeclara.inventorytracker.exception.DuplicateSkuException;
 import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
 import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.projection.InventoryProjection;
 import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
 import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +42,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -43,10 +56,33 @@ class InventoryItemServiceTest {
 	
 	@Mock
 	private InventoryItemRepository inventoryItemRepository;
+
+	@Mock
+	private InventoryMovementRepository inventoryMovementRepository;
+
+	@Mock
+	private InventoryMovementArchive inventoryMovementArchive;
+
+	@Mock
+	private LowStockCounterService lowStockCounterService;
+
+	@Mock
+	private InventoryProjection inventoryProjection;
+
+	@Mock
+	private DashboardStreamService dashboardStreamService;
 	
 	@InjectMocks
 	private InventoryItemService inventoryItemService;
 
+	// The driver's message names the violated constraint; H2 names its backing index after it
+	private DataIntegrityViolationException uniqueViolation(String constraint) {
+		return new DataIntegrityViolationException(
+			"could not execute statement",
+			new SQLException("Unique index or primary key violation: \"PUBLIC." + constraint.toUpperCase() + "_INDEX_2\"")
+		);
+	}
+
 	// Helper method for creating a valid form
 	private InventoryItemForm validItemForm() {
         return new InventoryItemForm(
@@ -63,12 +99,6 @@ class InventoryItemServiceTest {
 		// Arrange
 		InventoryItemForm form = validItemForm();
 		
-		when(inventoryItemRepository.existsByName(form.getName()))
-			.thenReturn(false);
-		
-		when(inventoryItemRepository.existsBySku(form.getSku()))
-			.thenReturn(false);
-		
 		InventoryItem savedItem = new InventoryItem(
 			form.getName(), 
 			form.getSku(), 
@@ -80,7 +110,7 @@ class InventoryItemServiceTest {
 		ReflectionTestUtils.setField(savedItem, "id", 1L);
 		
 		// Match any instance because the service creates the entity
-		when(inventoryItemRepository.save(any(InventoryItem.class)))
+		when(inventoryItemRepository.saveAndFlush(any(InventoryItem.class)))
 			.thenReturn(savedItem);
 		
 		// Act
@@ -89,48 +119,56 @@ class InventoryItemServiceTest {
 		// Assert
 		assertThat(id).isEqualTo(1L);
 
-		verify(inventoryItemRepository).existsByName(form.getName());
-		verify(inventoryItemRepository).existsBySku(form.getSku());
-		verify(inventoryItemRepository).save(any(InventoryItem.class));
+		verify(inventoryItemRepository).saveAndFlush(any(InventoryItem.class));
+		verify(lowStockCounterService).recordNewItem(savedItem);
+		verify(inventoryProjection).recordItem(savedItem);
 	}
 
 	@Test
-	@DisplayName("createInventoryItem should throw DuplicateNameException when name already exists")
+	@DisplayName("createInventoryItem should throw DuplicateNameException when the name constraint is violated")
 	void createInventoryItem_ShouldThrowDuplicateNameException_WhenNameAlreadyExists() {
 		// Arrange
 		InventoryItemForm form = validItemForm();
 		
-		when(inventoryItemRepository.existsByName(form.getName()))
-			.thenReturn(true);
+		when(inventoryItemRepository.saveAndFlush(any(InventoryItem.class)))
+			.thenThrow(uniqueViolation(InventoryItem.NAME_CONSTRAINT));
 		
 		// Act & Assert
 		assertThatThrownBy(() -> inventoryItemService.createInventoryItem(form))
 			.isInstanceOf(DuplicateNameException.class);
 		
-		verify(inventoryItemRepository).existsByName(form.getName());
-		verify(inventoryItemRepository, never()).existsBySku(form.getSku());
-		verify(inventoryItemRepository, never()).save(any());
+		verifyNoInteractions(lowStockCounterService, inventoryProjection);
 	}
 
 	@Test
-	@DisplayName("createInventoryItem should throw DuplicateSkuException when sku already exists")
+	@DisplayName("createInventoryItem should throw DuplicateSkuException when the sku constraint is violated")
 	void createInventoryItem_ShouldThrowDuplicateSkuException_WhenSkuAlreadyExists() {
 		// Arrange
 		InventoryItemForm form = validItemForm();
 		
-		when(inventoryItemRepository.existsByName(form.getName()))
-			.thenReturn(false);
-		
-		when(inventoryItemRepository.existsBySku(form.getSku()))
-			.thenReturn(true);
+		when(inventoryItemRepository.saveAndFlush(any(InventoryItem.class)))
+			.thenThrow(uniqueViolation(InventoryItem.SKU_CONSTRAINT));
 		
 		// Act & Assert
 		assertThatThrownBy(() -> inventoryItemService.createInventoryItem(form))
 			.isInstanceOf(DuplicateSkuException.class);
 		
-		verify(inventoryItemRepository).existsByName(form.getName());
-		verify(inventoryItemRepository).existsBySku(form.getSku());
-		verify(inventoryItemRepository, never()).save(any());
+		verifyNoInteractions(lowStockCounterService, inventoryProjection);
+	}
+
+	@Test
+	@DisplayName("createInventoryItem should rethrow violations of other constraints")
+	void createInventoryItem_ShouldRethrow_WhenOtherConstraintIsViolated() {
+		// Arrange
+		InventoryItemForm form = validItemForm();
+		DataIntegrityViolationException violation = uniqueViolation("inventory_item_pkey");
+		
+		when(inventoryItemRepository.saveAndFlush(any(InventoryItem.class)))
+			.thenThrow(violation);
+		
+		// Act & Assert
+		assertThatThrownBy(() -> inventoryItemService.createInventoryItem(form))
+			.isSameAs(violation);
 	}
 
 	@Test
@@ -144,7 +182,7 @@ class InventoryItemServiceTest {
 		// Ensure item is inactive
 		item.setIsActive(false);
 		
-		when(inventoryItemRepository.findById(id))
+		when(inventoryItemRepository.findByIdForUpdate(id))
 			.thenReturn(Optional.of(item));
 		
 		// Act
@@ -153,7 +191,10 @@ class InventoryItemServiceTest {
 		// Assert
 		assertThat(item.isActive()).isTrue();
 
-		verify(inventoryItemRepository).findById(id);
+		verify(inventoryItemRepository).findByIdForUpdate(id);
+		verify(lowStockCounterService).recordChange(item, false, true);
+		verify(inventoryProjection).recordItem(item);
+		verify(dashboardStreamService).recordChange(item, false, true);
 	}
 
 	@Test
@@ -162,14 +203,14 @@ class InventoryItemServiceTest {
 		// Arrange
 		Long id = 999L;
 		
-		when(inventoryItemRepository.findById(id))
+		when(inventoryItemRepository.findByIdForUpdate(id))
 			.thenReturn(Optional.empty());
 		
 		// Act & Assert
 		assertThatThrownBy(() -> inventoryItemService.activateInventoryItem(id))
 			.isInstanceOf(ResourceNotFoundException.class);
 		
-		verify(inventoryItemRepository).findById(id);
+		verify(inventoryItemRepository).findByIdForUpdate(id);
 	}
 
 	@Test
@@ -183,7 +224,7 @@ class InventoryItemServiceTest {
 		// Ensure item is active
 		item.setIsActive(true);
 		
-		when(inventoryItemRepository.findById(id))
+		when(inventoryItemRepository.findByIdForUpdate(id))
 			.thenReturn(Optional.of(item));
 		
 		// Act
@@ -192,7 +233,10 @@ class InventoryItemServiceTest {
 		// Assert
 		assertThat(item.isActive()).isFalse();
 
-		verify(inventoryItemRepository).findById(id);
+		verify(inventoryItemRepository).findByIdForUpdate(id);
+		verify(lowStockCounterService).recordChange(item, true, true);
+		verify(inventoryProjection).recordItem(item);
+		verify(dashboardStreamService).recordChange(item, true, true);
 	}
 
 	@Test
@@ -201,14 +245,14 @@ class InventoryItemServiceTest {
 		// Arrange
 		Long id = 999L;
 		
-		when(inventoryItemRepository.findById(id))
+		when(inventoryItemRepository.findByIdForUpdate(id))
 			.thenReturn(Optional.empty());
 		
 		// Act & Assert
 		assertThatThrownBy(() -> inventoryItemService.deactivateInventoryItem(id))
 			.isInstanceOf(ResourceNotFoundException.class);
 		
-		verify(inventoryItemRepository).findById(id);
+		verify(inventoryItemRepository).findByIdForUpdate(id);
 	}
 
 	@Test
@@ -228,12 +272,9 @@ class InventoryItemServiceTest {
 			"boxes"
 		);
 		
-		when(inventoryItemRepository.findById(id))
+		when(inventoryItemRepository.findByIdForUpdate(id))
 			.thenReturn(Optional.of(existingItem));
 		
-		when(inventoryItemRepository.existsByNameAndIdNot(form.getName(), id))
-			.thenReturn(false);
-		
 		// Act
 		inventoryItemService.updateInventoryItem(id, form);
 		
@@ -243,8 +284,11 @@ class InventoryItemServiceTest {
 		assertThat(existingItem.getReorderThreshold()).isEqualTo(form.getReorderThreshold());
 		assertThat(existingItem.getUnit()).isEqualTo(form.getUnit());
 		
-		verify(inventoryItemRepository).findById(id);
-		verify(inventoryItemRepository).existsByNameAndIdNot(form.getName(), id);
+		verify(inventoryItemRepository).findByIdForUpdate(id);
+		verify(inventoryItemRepository).flush();
+		verify(lowStockCounterService).recordChange(existingItem, true, true);
+		verify(inventoryProjection).recordItem(existingItem);
+		verify(dashboardStreamService).recordChange(existingItem, true, true);
 	}
 
 	@Test
@@ -257,18 +301,18 @@ class InventoryItemServiceTest {
 		
 		InventoryItemForm form = validItemForm();
 		
-		when(inventoryItemRepository.findById(id))
+		when(inventoryItemRepository.findByIdForUpdate(id))
 			.thenReturn(Optional.of(existingItem));
 		
-		when(inventoryItemRepository.existsByNameAndIdNot(form.getName(), id))
-			.thenReturn(true);
+		doThrow(uniqueViolation(InventoryItem.NAME_CONSTRAINT))
+			.when(inventoryItemRepository).flush();
 		
 		// Act & Assert
 		assertThatThrownBy(() -> inventoryItemService.updateInventoryItem(id, form))
 			.isInstanceOf(DuplicateNameException.class);
 		
-		verify(inventoryItemRepository).findById(id);
-		verify(inventoryItemRepository).existsByNameAndIdNot(form.getName(), id);
+		verify(inventoryItemRepository).findByIdForUpdate(id);
+		verifyNoInteractions(lowStockCounterService, inventoryProjection);
 	}
 
 	@Test
@@ -278,15 +322,61 @@ class InventoryItemServiceTest {
 		Long id = 999L;
 		InventoryItemForm form = validItemForm();
 		
-		when(inventoryItemRepository.findById(id))
+		when(inventoryItemRepository.findByIdForUpdate(id))
 			.thenReturn(Optional.empty());
 		
 		// Act & Assert
 		assertThatThrownBy(() -> inventoryItemService.updateInventoryItem(id, form))
 			.isInstanceOf(ResourceNotFoundException.class);
 		
-		verify(inventoryItemRepository).findById(id);
-		verify(inventoryItemRepository, never()).existsByNameAndIdNot(any(), any());
+		verify(inventoryItemRepository).findByIdForUpdate(id);
+		verify(inventoryItemRepository, never()).flush();
+	}
+
+	@Test
+	@DisplayName("searchItems should search the projection when it is loaded")
+	void searchItems_ShouldUseProjection_WhenReady() {
+		// Arrange
+		List<InventoryDashboardItem> items = List.of(
+			new InventoryDashboardItem(1L, "Mouse Pad", "ACC-MP-001", 3L, 5, null)
+		);
+		when(inventoryProjection.isReady()).thenReturn(true);
+		when(inventoryProjection.searchItems(true, "mouse", 10)).thenReturn(items);
+
+		// Act
+		List<InventoryDashboardItem> result = inventoryItemService.searchItems(" mouse ");
+
+		// Assert
+		assertThat(result).isEqualTo(items);
+		verifyNoInteractions(inventoryItemRepository);
+	}
+
+	@Test
+	@DisplayName("searchItems should query with escaped substring and prefix patterns when the projection is not loaded")
+	void searchItems_ShouldQueryWithEscapedPatterns_WhenProjectionNotReady() {
+		// Act
+		inventoryItemService.searchItems("10%_Off");
+
+		// Assert
+		verify(inventoryItemRepository).searchByActiveStatus(true, "%10\\%\\_off%", "10\\%\\_off%", Limit.of(10));
+	}
+
+	@Test
+	@DisplayName("searchItems should only match prefixes for queries shorter than three characters")
+	void searchItems_ShouldMatchPrefixOnly_WhenQueryIsShort() {
+		// Act
+		inventoryItemService.searchItems("Mo");
+
+		// Assert
+		verify(inventoryItemRepository).searchByActiveStatus(true, "mo%", "mo%", Limit.of(10));
+	}
+
+	@Test
+	@DisplayName("searchItems should return nothing for a blank query")
+	void searchItems_ShouldReturnEmpty_WhenQueryIsBlank() {
+		// Act & Assert
+		assertThat(inventoryItemService.searchItems("  ")).isEmpty();
+		verifyNoInteractions(inventoryItemRepository, inventoryProjection);
 	}
 
 	@Test
@@ -326,23 +416,244 @@ class InventoryItemServiceTest {
 	}
 
 	@Test
-	@DisplayName("getCurrentQuantity should return correct quantity")
-	void getCurrentQuantity_ShouldReturnCorrectQuantity() {
+	@DisplayName("getInventoryItemForUpdate should return locked item when it exists")
+	void getInventoryItemForUpdate_ShouldReturnItem_WhenItemExists() {
+		// Arrange
+		Long id = 1L;
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		ReflectionTestUtils.setField(item, "id", id);
+		
+		when(inventoryItemRepository.findByIdForUpdate(id))
+			.thenReturn(Optional.of(item));
+		
+		// Act
+		InventoryItem result = inventoryItemService.getInventoryItemForUpdate(id);
+		
+		// Assert
+		assertThat(result).isSameAs(item);
+		
+		verify(inventoryItemRepository).findByIdForUpdate(id);
+		verify(inventoryItemRepository, never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("getInventoryItemForUpdate should throw ResourceNotFoundException when item does not exist")
+	void getInventoryItemForUpdate_ShouldThrowResourceNotFoundException_WhenItemDoesNotExist() {
+		// Arrange
+		Long id = 999L;
+		
+		when(inventoryItemRepository.findByIdForUpdate(id))
+			.thenReturn(Optional.empty());
+		
+		// Act & Assert
+		assertThatThrownBy(() -> inventoryItemService.getInventoryItemForUpdate(id))
+			.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	@Test
+	@DisplayName("getCurrentQuantity should return materialized quantity on hand")
+	void getCurrentQuantity_ShouldReturnQuantityOnHand() {
 		// Arrange
 		Long itemId = 1L;
-		Long quantity = 25L;
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		ReflectionTestUtils.setField(item, "id", itemId);
+		item.applyQuantityChange(25);
 
-		when(inventoryItemRepository.findCurrentQuantityByItemId(itemId))
-			.thenReturn(quantity);
+		when(inventoryItemRepository.findById(itemId))
+			.thenReturn(Optional.of(item));
 
 		// Act
 		Long result = inventoryItemService.getCurrentQuantity(itemId);
 
 		// Assert
-		assertThat(result).isEqualTo(quantity);
+		assertThat(result).isEqualTo(25L);
 
-		verify(inventoryItemRepository)
-			.findCurrentQuantityByItemId(itemId);
+		verify(inventoryItemRepository).findById(itemId);
+		verify(inventoryItemRepository, never()).findCurrentQuantityByItemId(any());
+	}
+
+	@Test
+	@DisplayName("getCurrentQuantity should read from the projection when it is loaded")
+	void getCurrentQuantity_ShouldReadFromProjection_WhenReady() {
+		// Arrange
+		Long itemId = 1L;
+
+		when(inventoryProjection.isReady())
+			.thenReturn(true);
+		when(inventoryProjection.getQuantity(itemId))
+			.thenReturn(OptionalLong.of(25L));
+
+		// Act
+		Long result = inventoryItemService.getCurrentQuantity(itemId);
+
+		// Assert
+		assertThat(result).isEqualTo(25L);
+
+		verify(inventoryItemRepository, never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("getCurrentQuantity should throw ResourceNotFoundException when item does not exist")
+	void getCurrentQuantity_ShouldThrowResourceNotFoundException_WhenItemDoesNotExist() {
+		// Arrange
+		Long itemId = 999L;
+
+		when(inventoryItemRepository.findById(itemId))
+			.thenReturn(Optional.empty());
+
+		// Act & Assert
+		assertThatThrownBy(() -> inventoryItemService.getCurrentQuantity(itemId))
+			.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	@Test
+	@DisplayName("rebuildQuantitiesOnHand should rebuild all items from the ledger")
+	void rebuildQuantitiesOnHand_ShouldRebuildAllItems() {
+		// Arrange
+		when(inventoryItemRepository.rebuildQuantityOnHand())
+			.thenReturn(3);
+
+		// Act
+		int result = inventoryItemService.rebuildQuantitiesOnHand();
+
+		// Assert
+		assertThat(result).isEqualTo(3);
+
+		verify(inventoryMovementRepository).rebuildBalances();
+		verify(inventoryItemRepository).rebuildQuantityOnHand();
+		verify(lowStockCounterService).recordInventoryChange();
+		verify(inventoryProjection).reloadAfterCommit();
+		verify(dashboardStreamService).recordRebuildAll();
+	}
+
+	@Test
+	@DisplayName("getQuantityAsOf should return the balance after the last movement by that date")
+	void getQuantityAsOf_ShouldReturnBalanceOfLastMovement() {
+		// Arrange
+		Long itemId = 1L;
+		LocalDate asOf = LocalDate.of(2024, 1, 31);
+
+		when(inventoryItemRepository.findById(itemId))
+			.thenReturn(Optional.of(TestInventoryItemFactory.createDefaultItem()));
+		when(inventoryMovementRepository.findBalanceAsOf(eq(itemId), eq(asOf), any(Limit.class)))
+			.thenReturn(List.of(17L));
+
+		// Act
+		long result = inventoryItemService.getQuantityAsOf(itemId, asOf);
+
+		// Assert
+		assertThat(result).isEqualTo(17L);
+		verifyNoInteractions(inventoryMovementArchive);
+	}
+
+	@Test
+	@DisplayName("getQuantityAsOf should read the archive when the date predates the live ledger")
+	void getQuantityAsOf_ShouldReadArchive_WhenDatePredatesLedger() {
+		// Arrange
+		Long itemId = 1L;
+		LocalDate asOf = LocalDate.of(2022, 6, 30);
+
+		when(inventoryItemRepository.findById(itemId))
+			.thenReturn(Optional.of(TestInventoryItemFactory.createDefaultItem()));
+		when(inventoryMovementRepository.findBalanceAsOf(eq(itemId), eq(asOf), any(Limit.class)))
+			.thenReturn(List.of());
+		when(inventoryMovementArchive.findBefore(itemId, new InventoryMovementCursor(asOf.plusDays(1), 0L), 1))
+			.thenReturn(List.of(new ArchivedInventoryMovement(
+				9L, asOf, InventoryMovementType.SALE, 2, null, null, "test_user", 8L
+			)));
+
+		// Act
+		long result = inventoryItemService.getQuantityAsOf(itemId, asOf);
+
+		// Assert
+		assertThat(result).isEqualTo(8L);
+	}
+
+	@Test
+	@DisplayName("getQuantityAsOf should return zero when the item had no movements by that date")
+	void getQuantityAsOf_ShouldReturnZero_WhenNoMovementsByDate() {
+		// Arrange
+		Long itemId = 1L;
+		LocalDate asOf = LocalDate.of(2022, 6, 30);
+
+		when(inventoryItemRepository.findById(itemId))
+			.thenReturn(Optional.of(TestInventoryItemFactory.createDefaultItem()));
+		when(inventoryMovementRepository.findBalanceAsOf(eq(itemId), eq(asOf), any(Limit.class)))
+			.thenReturn(List.of());
+
+		// Act
+		long result = inventoryItemService.getQuantityAsOf(itemId, asOf);
+
+		// Assert
+		assertThat(result).isZero();
+	}
+
+	@Test
+	@DisplayName("getQuantityAsOf should reject a date before movements detached by a partition archive")
+	void getQuantityAsOf_ShouldThrow_WhenDatePredatesPartitionArchive() {
+		// Arrange
+		Long itemId = 1L;
+		LocalDate asOf = LocalDate.of(2022, 6, 30);
+
+		when(inventoryItemRepository.findById(itemId))
+			.thenReturn(Optional.of(TestInventoryItemFactory.createDefaultItem()));
+		when(inventoryMovementRepository.findBalanceAsOf(eq(itemId), eq(asOf), any(Limit.class)))
+			.thenReturn(List.of());
+		when(inventoryMovementRepository.findOldestReference(eq(itemId), any(Limit.class)))
+			.thenReturn(List.of("archive"));
+
+		// Act + Assert
+		assertThatThrownBy(() -> inventoryItemService.getQuantityAsOf(itemId, asOf))
+			.isInstanceOf(ArchivedLedgerException.class);
+	}
+
+	@Test
+	@DisplayName("rebuildQuantityOnHand should return rebuilt quantity when item exists")
+	void rebuildQuantityOnHand_ShouldReturnRebuiltQuantity_WhenItemExists() {
+		// Arrange
+		Long itemId = 1L;
+		InventoryItem lockedItem = TestInventoryItemFactory.createDefaultItem();
+		ReflectionTestUtils.setField(lockedItem, "id", itemId);
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		ReflectionTestUtils.setField(item, "id", itemId);
+		item.applyQuantityChange(12);
+
+		when(inventoryItemRepository.findByIdForUpdate(itemId))
+			.thenReturn(Optional.of(lockedItem));
+
+		when(inventoryItemRepository.findById(itemId))
+			.thenReturn(Optional.of(item));
+
+		// Act
+		Long result = inventoryItemService.rebuildQuantityOnHand(itemId);
+
+		// Assert
+		assertThat(result).isEqualTo(12L);
+
+		verify(inventoryItemRepository).rebuildQuantityOnHandByItemId(itemId);
+		verify(inventoryItemRepository).refreshLowStockByItemId(itemId);
+		verify(inventoryItemRepository, never()).refreshLowStock();
+		verify(lowStockCounterService).recordChange(item, true, true);
+		verify(lowStockCounterService, never()).reconcile();
+		verify(inventoryProjection).recordQuantity(itemId, 12L);
+		verify(inventoryProjection, never()).reloadAfterCommit();
+		verify(dashboardStreamService).recordRebuild(item);
+	}
+
+	@Test
+	@DisplayName("rebuildQuantityOnHand should throw ResourceNotFoundException when item does not exist")
+	void rebuildQuantityOnHand_ShouldThrowResourceNotFoundException_WhenItemDoesNotExist() {
+		// Arrange
+		Long itemId = 999L;
+
+		when(inventoryItemRepository.findByIdForUpdate(itemId))
+			.thenReturn(Optional.empty());
+
+		// Act & Assert
+		assertThatThrownBy(() -> inventoryItemService.rebuildQuantityOnHand(itemId))
+			.isInstanceOf(ResourceNotFoundException.class);
+
+		verify(inventoryItemRepository, never()).rebuildQuantityOnHandByItemId(any());
 	}
 
 	@Test
@@ -360,12 +671,10 @@ class InventoryItemServiceTest {
 		ReflectionTestUtils.setField(item, "createdAt", createdAt);
 		
 		Long quantity = 25L;
+		item.applyQuantityChange(quantity.intValue());
 
 		when(inventoryItemRepository.findById(id))
 			.thenReturn(Optional.of(item));
-
-		when(inventoryItemRepository.findCurrentQuantityByItemId(id))
-			.thenReturn(quantity);
 		
 		// Act
 		InventoryItemDetailsView result = inventoryItemService.getItemDetails(id);
@@ -384,7 +693,7 @@ class InventoryItemServiceTest {
 		assertThat(result.createdAt()).isEqualTo(expectedCreatedAt);
 		
 		verify(inventoryItemRepository).findById(id);
-		verify(inventoryItemRepository).findCurrentQuantityByItemId(id);
+		verify(inventoryItemRepository, never()).findCurrentQuantityByItemId(any());
 	}
 
 	@Test
@@ -404,6 +713,20 @@ class InventoryItemServiceTest {
 		verify(inventoryItemRepository, never()).findCurrentQuantityByItemId(any());
 	}
 
+	@Test
+	@DisplayName("getItemRevision should return the item's revision")
+	void getItemRevision_ShouldReturnRevision() {
+		// Arrange
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		ReflectionTestUtils.setField(item, "revision", 4L);
+
+		when(inventoryItemRepository.findById(1L))
+			.thenReturn(Optional.of(item));
+
+		// Act & Assert
+		assertThat(inventoryItemService.getItemRevision(1L)).isEqualTo(4L);
+	}
+
 	@Test
 	@DisplayName("getInactiveItems should return paginated inactive items with low stock count")
 	void getInactiveItems_ShouldReturnPaginatedInactiveItems() {
@@ -437,7 +760,7 @@ class InventoryItemServiceTest {
 			.findInventoryByActiveStatusWithQuantity(eq(false), any(PageRequest.class)))
 			.thenReturn(itemPage);
 
-		when(inventoryItemRepository.countLowStockByActiveStatus(false))
+		when(lowStockCounterService.getLowStockCount(false))
 			.thenReturn(1L);
 
 		// Act
@@ -453,8 +776,8 @@ class InventoryItemServiceTest {
 		verify(inventoryItemRepository)
 			.findInventoryByActiveStatusWithQuantity(eq(false), any(PageRequest.class));
 
-		verify(inventoryItemRepository)
-			.countLowStockByActiveStatus(false);
+		verify(lowStockCounterService)
+			.getLowStockCount(false);
 	}
 
 	@Test
@@ -465,7 +788,7 @@ class InventoryItemServiceTest {
 			.findInventoryByActiveStatusWithQuantity(eq(false), any(PageRequest.class)))
 			.thenReturn(Page.empty());
 
-		when(inventoryItemRepository.countLowStockByActiveStatus(false))
+		when(lowStockCounterService.getLowStockCount(false))
 			.thenReturn(0L);
 
 		// Act
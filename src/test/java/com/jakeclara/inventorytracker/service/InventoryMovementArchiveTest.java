@@ -0,0 +1,143 @@
+package com.jakeclara.inventorytracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jakeclara.inventorytracker.dto.ArchivedInventoryMovement;
+import com.jakeclara.inventorytracker.dto.InventoryMovementCursor;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+
+class InventoryMovementArchiveTest {
+
+	@TempDir
+	Path directory;
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private static void completeTransaction(int status) {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+	}
+
+	private long fileCount() throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			return files.filter(Files::isRegularFile).count();
+		}
+	}
+
+	private ArchivedInventoryMovement movement(long id, LocalDate date, String reference, String note) {
+		return new ArchivedInventoryMovement(id, date, InventoryMovementType.RECEIVE, 1, reference, note, "test_user", id);
+	}
+
+	@Test
+	@DisplayName("findBefore should return what was written, including quoted fields")
+	void findBefore_ShouldReturnWrittenMovements() {
+		// Arrange
+		InventoryMovementArchive archive = new InventoryMovementArchive(directory);
+		ArchivedInventoryMovement quoted = movement(2L, LocalDate.of(2024, 1, 2), "order, 42", "says \"hi\"");
+		ArchivedInventoryMovement empty = movement(1L, LocalDate.of(2024, 1, 1), null, null);
+
+		// Act
+		archive.write(7L, LocalDate.of(2024, 2, 1), List.of(quoted, empty));
+
+		// Assert
+		assertThat(archive.hasArchive(7L)).isTrue();
+		assertThat(archive.hasArchive(8L)).isFalse();
+		assertThat(archive.findBefore(7L, null, 10)).containsExactly(quoted, empty);
+	}
+
+	@Test
+	@DisplayName("findBefore should merge archive files newest first and continue after the cursor")
+	void findBefore_ShouldMergeFilesAfterCursor() {
+		// Arrange
+		InventoryMovementArchive archive = new InventoryMovementArchive(directory);
+		ArchivedInventoryMovement oldest = movement(1L, LocalDate.of(2024, 1, 1), null, null);
+		ArchivedInventoryMovement middle = movement(2L, LocalDate.of(2024, 1, 15), null, null);
+		ArchivedInventoryMovement newest = movement(3L, LocalDate.of(2024, 2, 10), null, null);
+
+		archive.write(7L, LocalDate.of(2024, 2, 1), List.of(middle, oldest));
+		archive.write(7L, LocalDate.of(2024, 3, 1), List.of(newest));
+
+		// Act
+		List<ArchivedInventoryMovement> firstPage = archive.findBefore(7L, null, 2);
+		List<ArchivedInventoryMovement> nextPage = archive.findBefore(
+			7L,
+			new InventoryMovementCursor(middle.movementDate(), middle.id()),
+			2
+		);
+
+		// Assert
+		assertThat(firstPage).containsExactly(newest, middle);
+		assertThat(nextPage).containsExactly(oldest);
+	}
+
+	@Test
+	@DisplayName("write should move the archive into place only once the transaction commits")
+	void write_ShouldMoveArchiveIntoPlace_AfterCommit() throws IOException {
+		// Arrange
+		InventoryMovementArchive archive = new InventoryMovementArchive(directory);
+		ArchivedInventoryMovement movement = movement(1L, LocalDate.of(2024, 1, 1), null, null);
+		TransactionSynchronizationManager.initSynchronization();
+
+		// Act
+		Path archiveFile = archive.write(7L, LocalDate.of(2024, 2, 1), List.of(movement));
+
+		// Assert
+		assertThat(archive.hasArchive(7L)).isFalse();
+
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(archiveFile).exists();
+		assertThat(archive.findBefore(7L, null, 10)).containsExactly(movement);
+		assertThat(fileCount()).isOne();
+	}
+
+	@Test
+	@DisplayName("write should delete the temporary file when the transaction rolls back")
+	void write_ShouldDeleteTemporaryFile_WhenRolledBack() throws IOException {
+		// Arrange
+		InventoryMovementArchive archive = new InventoryMovementArchive(directory);
+		TransactionSynchronizationManager.initSynchronization();
+
+		// Act
+		archive.write(7L, LocalDate.of(2024, 2, 1), List.of(movement(1L, LocalDate.of(2024, 1, 1), null, null)));
+		completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		// Assert
+		assertThat(archive.hasArchive(7L)).isFalse();
+		assertThat(fileCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("findLatestCutoff should return the latest cutoff an item was compacted before")
+	void findLatestCutoff_ShouldReturnLatestCompactionCutoff() {
+		// Arrange
+		InventoryMovementArchive archive = new InventoryMovementArchive(directory);
+
+		archive.write(7L, LocalDate.of(2024, 3, 1), List.of(movement(2L, LocalDate.of(2024, 2, 10), null, null)));
+		archive.write(7L, LocalDate.of(2024, 2, 1), List.of(movement(1L, LocalDate.of(2024, 1, 1), null, null)));
+
+		// Act + Assert
+		assertThat(archive.findLatestCutoff(7L)).contains(LocalDate.of(2024, 3, 1));
+		assertThat(archive.findLatestCutoff(8L)).isEmpty();
+	}
+}
@@ -0,0 +1,237 @@
+package com.jakeclara.inventorytracker.service;
+
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportError;
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportLine;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.projection.InventoryProjection;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
+import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
+import com.jakeclara.inventorytracker.util.TestUserFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryMovementBatchServiceTest {
+
+	@Mock
+	InventoryItemRepository inventoryItemRepository;
+
+	@Mock
+	InventoryMovementRepository inventoryMovementRepository;
+
+	@Mock
+	LowStockCounterService lowStockCounterService;
+
+	@Mock
+	InventoryProjection inventoryProjection;
+
+	@Mock
+	MovementRollupService movementRollupService;
+
+	@Mock
+	DashboardStreamService dashboardStreamService;
+
+	@Mock
+	LedgerCompactionService ledgerCompactionService;
+
+	@InjectMocks
+	InventoryMovementBatchService inventoryMovementBatchService;
+
+	private InventoryMovementImportLine line(long lineNumber, String sku, InventoryMovementType type, int quantity) {
+		return new InventoryMovementImportLine(
+			lineNumber,
+			sku,
+			type,
+			quantity,
+			LocalDate.now(),
+			null,
+			null
+		);
+	}
+
+	private InventoryItem item(Long id, String name, String sku) {
+		InventoryItem item = TestInventoryItemFactory.createItem(name, sku, 5);
+		ReflectionTestUtils.setField(item, "id", id);
+		return item;
+	}
+
+	@Test
+	@DisplayName("recordBatch should apply lines per item in order and insert accepted movements")
+	void recordBatch_ShouldApplyLinesInOrder_AndInsertAcceptedMovements() {
+		// Arrange
+		User user = TestUserFactory.createDefaultUser();
+		InventoryItem itemA = item(1L, "Item A", "SKU-A");
+		InventoryItem itemB = item(2L, "Item B", "SKU-B");
+		itemB.applyQuantityChange(2);
+
+		when(inventoryItemRepository.findAllBySkuInForUpdate(anyCollection()))
+			.thenReturn(List.of(itemA, itemB));
+
+		List<InventoryMovementImportLine> lines = List.of(
+			line(2, "SKU-A", InventoryMovementType.RECEIVE, 10),
+			line(3, "SKU-B", InventoryMovementType.SALE, 5),
+			line(4, "SKU-A", InventoryMovementType.SALE, 4),
+			line(5, "SKU-A", InventoryMovementType.SALE, 7),
+			line(6, "SKU-B", InventoryMovementType.SALE, 2)
+		);
+
+		// Act
+		List<InventoryMovementImportError> errors =
+			inventoryMovementBatchService.recordBatch(lines, user);
+
+		// Assert
+		assertThat(errors)
+			.extracting(InventoryMovementImportError::lineNumber)
+			.containsExactly(3L, 5L);
+		assertThat(errors.get(0).message()).contains("Insufficient stock");
+
+		assertThat(itemA.getQuantityOnHand()).isEqualTo(6L);
+		assertThat(itemB.getQuantityOnHand()).isZero();
+
+		verify(lowStockCounterService).recordChange(itemA, true, true);
+		verify(lowStockCounterService).recordChange(itemB, true, true);
+		verify(inventoryProjection).recordMovement(1L, 6L);
+		verify(inventoryProjection).recordMovement(2L, -2L);
+		verify(dashboardStreamService).recordMovement(itemA, true);
+		verify(dashboardStreamService).recordMovement(itemB, true);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<InventoryMovement>> movementsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(inventoryMovementRepository).insertAll(movementsCaptor.capture());
+
+		assertThat(movementsCaptor.getValue())
+			.extracting(movement -> movement.getItem().getSku(), InventoryMovement::getQuantity)
+			.containsExactly(
+				tuple("SKU-A", 10),
+				tuple("SKU-A", 4),
+				tuple("SKU-B", 2)
+			);
+		verify(movementRollupService).recordMovements(movementsCaptor.getValue());
+	}
+
+	@Test
+	@DisplayName("recordBatch should record running balances and rebalance items from their earliest back-dated line")
+	void recordBatch_ShouldRebalanceItemsFromEarliestBackDatedLine() {
+		// Arrange
+		User user = TestUserFactory.createDefaultUser();
+		InventoryItem itemA = item(1L, "Item A", "SKU-A");
+		InventoryItem itemB = item(2L, "Item B", "SKU-B");
+		LocalDate today = LocalDate.now();
+
+		when(inventoryItemRepository.findAllBySkuInForUpdate(anyCollection()))
+			.thenReturn(List.of(itemA, itemB));
+
+		List<InventoryMovementImportLine> lines = List.of(
+			new InventoryMovementImportLine(2, "SKU-A", InventoryMovementType.RECEIVE, 10, today.minusDays(3), null, null),
+			new InventoryMovementImportLine(3, "SKU-A", InventoryMovementType.RECEIVE, 2, today.minusDays(7), null, null),
+			line(4, "SKU-B", InventoryMovementType.RECEIVE, 5)
+		);
+
+		// Act
+		inventoryMovementBatchService.recordBatch(lines, user);
+
+		// Assert
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<InventoryMovement>> movementsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(inventoryMovementRepository).insertAll(movementsCaptor.capture());
+
+		assertThat(movementsCaptor.getValue())
+			.extracting(InventoryMovement::getBalanceAfter)
+			.containsExactly(10L, 12L, 5L);
+
+		verify(inventoryMovementRepository).rebalanceFrom(1L, today.minusDays(7));
+		verify(inventoryMovementRepository, never()).rebalanceFrom(eq(2L), any());
+	}
+
+	@Test
+	@DisplayName("recordBatch should reject lines for unknown and inactive items")
+	void recordBatch_ShouldRejectUnknownAndInactiveItems() {
+		// Arrange
+		User user = TestUserFactory.createDefaultUser();
+		InventoryItem inactiveItem = item(1L, "Inactive Item", "SKU-I");
+		inactiveItem.setIsActive(false);
+
+		when(inventoryItemRepository.findAllBySkuInForUpdate(anyCollection()))
+			.thenReturn(List.of(inactiveItem));
+
+		List<InventoryMovementImportLine> lines = List.of(
+			line(2, "SKU-MISSING", InventoryMovementType.RECEIVE, 1),
+			line(3, "SKU-I", InventoryMovementType.RECEIVE, 1)
+		);
+
+		// Act
+		List<InventoryMovementImportError> errors =
+			inventoryMovementBatchService.recordBatch(lines, user);
+
+		// Assert
+		assertThat(errors)
+			.extracting(InventoryMovementImportError::message)
+			.containsExactly(
+				"Inventory item not found for SKU SKU-MISSING",
+				"Item Inactive Item is inactive"
+			);
+
+		assertThat(inactiveItem.getQuantityOnHand()).isZero();
+		verify(inventoryMovementRepository).insertAll(List.of());
+	}
+
+	@Test
+	@DisplayName("recordBatch should reject lines that fail movement validation")
+	void recordBatch_ShouldRejectInvalidMovements() {
+		// Arrange
+		User user = TestUserFactory.createDefaultUser();
+		InventoryItem itemA = item(1L, "Item A", "SKU-A");
+
+		when(inventoryItemRepository.findAllBySkuInForUpdate(anyCollection()))
+			.thenReturn(List.of(itemA));
+
+		InventoryMovementImportLine futureLine = new InventoryMovementImportLine(
+			2,
+			"SKU-A",
+			InventoryMovementType.RECEIVE,
+			1,
+			LocalDate.now().plusDays(1),
+			null,
+			null
+		);
+
+		// Act
+		List<InventoryMovementImportError> errors =
+			inventoryMovementBatchService.recordBatch(
+				List.of(futureLine, line(3, "SKU-A", InventoryMovementType.RECEIVE, 0)),
+				user
+			);
+
+		// Assert
+		assertThat(errors)
+			.extracting(InventoryMovementImportError::message)
+			.containsExactly(
+				"Movement date cannot be in the future",
+				"Quantity cannot be less than 1"
+			);
+		assertThat(itemA.getQuantityOnHand()).isZero();
+	}
+}
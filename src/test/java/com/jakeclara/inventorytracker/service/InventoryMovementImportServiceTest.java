@@ -0,0 +1,234 @@
+package com.jakeclara.inventorytracker.service;
+
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportError;
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportLine;
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportResult;
+import com.jakeclara.inventorytracker.exception.InvalidImportFileException;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.security.AuthenticatedUserProvider;
+import com.jakeclara.inventorytracker.util.TestUserFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryMovementImportServiceTest {
+
+	private static final String HEADER = InventoryMovementImportService.EXPECTED_HEADER;
+
+	@Mock
+	InventoryMovementBatchService inventoryMovementBatchService;
+
+	@Mock
+	InventoryMovementService inventoryMovementService;
+
+	@Mock
+	AuthenticatedUserProvider authenticatedUserProvider;
+
+	@InjectMocks
+	InventoryMovementImportService inventoryMovementImportService;
+
+	private InputStream csv(String... lines) {
+		return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private User stubAuthenticatedUser(List<InventoryMovementType> allowedTypes) {
+		User user = TestUserFactory.createDefaultUser();
+		when(authenticatedUserProvider.getAuthenticatedUser()).thenReturn(user);
+		when(inventoryMovementService.getAllowedMovementTypes()).thenReturn(allowedTypes);
+		return user;
+	}
+
+	@Test
+	@DisplayName("importMovements should parse lines and record them as one batch")
+	void importMovements_ShouldParseLinesAndRecordBatch() throws Exception {
+		// Arrange
+		User user = stubAuthenticatedUser(List.of(InventoryMovementType.values()));
+
+		when(inventoryMovementBatchService.recordBatch(anyList(), eq(user)))
+			.thenReturn(List.of());
+
+		// Act
+		InventoryMovementImportResult result = inventoryMovementImportService.importMovements(csv(
+			HEADER,
+			"SKU-1,RECEIVE,10,2024-01-10,invoice 1,",
+			"SKU-1,sale,3,2024-01-11,\"order, 42\",\"says \"\"hi\"\"\""
+		));
+
+		// Assert
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<InventoryMovementImportLine>> batchCaptor =
+			ArgumentCaptor.forClass(List.class);
+
+		verify(inventoryMovementBatchService).recordBatch(batchCaptor.capture(), eq(user));
+
+		assertThat(batchCaptor.getValue())
+			.extracting(
+				InventoryMovementImportLine::lineNumber,
+				InventoryMovementImportLine::sku,
+				InventoryMovementImportLine::movementType,
+				InventoryMovementImportLine::quantity,
+				InventoryMovementImportLine::movementDate,
+				InventoryMovementImportLine::reference,
+				InventoryMovementImportLine::note
+			)
+			.containsExactly(
+				tuple(2L, "SKU-1", InventoryMovementType.RECEIVE, 10, LocalDate.of(2024, 1, 10), "invoice 1", ""),
+				tuple(3L, "SKU-1", InventoryMovementType.SALE, 3, LocalDate.of(2024, 1, 11), "order, 42", "says \"hi\"")
+			);
+
+		assertThat(result.processedLines()).isEqualTo(2);
+		assertThat(result.importedLines()).isEqualTo(2);
+		assertThat(result.hasErrors()).isFalse();
+	}
+
+	@Test
+	@DisplayName("importMovements should report unparseable lines without aborting the file")
+	void importMovements_ShouldReportParseErrors_WithoutAborting() throws Exception {
+		// Arrange
+		User user = stubAuthenticatedUser(List.of(InventoryMovementType.SALE, InventoryMovementType.RECEIVE));
+
+		when(inventoryMovementBatchService.recordBatch(anyList(), eq(user)))
+			.thenReturn(List.of());
+
+		// Act
+		InventoryMovementImportResult result = inventoryMovementImportService.importMovements(csv(
+			HEADER,
+			"SKU-1,RECEIVE,ten,2024-01-10,,",
+			"SKU-1,TELEPORT,1,2024-01-10,,",
+			"SKU-1,ADJUST_IN,1,2024-01-10,,",
+			"SKU-1,RECEIVE,1,01/10/2024,,",
+			",RECEIVE,1,2024-01-10,,",
+			"SKU-1,RECEIVE,1",
+			"",
+			"SKU-1,RECEIVE,5,2024-01-10,,"
+		));
+
+		// Assert
+		assertThat(result.processedLines()).isEqualTo(7);
+		assertThat(result.importedLines()).isEqualTo(1);
+		assertThat(result.errorCount()).isEqualTo(6);
+		assertThat(result.errors())
+			.extracting(InventoryMovementImportError::lineNumber, InventoryMovementImportError::message)
+			.containsExactly(
+				tuple(2L, "Invalid quantity: ten"),
+				tuple(3L, "Unknown movement type: TELEPORT"),
+				tuple(4L, "Unauthorized movement type: ADJUST_IN"),
+				tuple(5L, "Invalid movement date: 01/10/2024"),
+				tuple(6L, "SKU is required"),
+				tuple(7L, "Expected 6 columns but found 3")
+			);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<InventoryMovementImportLine>> batchCaptor =
+			ArgumentCaptor.forClass(List.class);
+
+		verify(inventoryMovementBatchService).recordBatch(batchCaptor.capture(), eq(user));
+		assertThat(batchCaptor.getValue())
+			.extracting(InventoryMovementImportLine::lineNumber)
+			.containsExactly(9L);
+	}
+
+	@Test
+	@DisplayName("importMovements should include errors reported by the batch writer")
+	void importMovements_ShouldIncludeBatchErrors() throws Exception {
+		// Arrange
+		User user = stubAuthenticatedUser(List.of(InventoryMovementType.values()));
+
+		when(inventoryMovementBatchService.recordBatch(anyList(), eq(user)))
+			.thenReturn(List.of(new InventoryMovementImportError(3L, "Insufficient stock")));
+
+		// Act
+		InventoryMovementImportResult result = inventoryMovementImportService.importMovements(csv(
+			HEADER,
+			"SKU-1,RECEIVE,1,2024-01-10,,",
+			"SKU-1,SALE,5,2024-01-10,,"
+		));
+
+		// Assert
+		assertThat(result.processedLines()).isEqualTo(2);
+		assertThat(result.importedLines()).isEqualTo(1);
+		assertThat(result.errors())
+			.extracting(InventoryMovementImportError::lineNumber)
+			.containsExactly(3L);
+	}
+
+	@Test
+	@DisplayName("importMovements should record large files in fixed size batches")
+	void importMovements_ShouldRecordInBatches() throws Exception {
+		// Arrange
+		User user = stubAuthenticatedUser(List.of(InventoryMovementType.values()));
+
+		when(inventoryMovementBatchService.recordBatch(anyList(), eq(user)))
+			.thenReturn(List.of());
+
+		int lineCount = InventoryMovementImportService.BATCH_SIZE * 2 + 1;
+		List<String> lines = new ArrayList<>();
+		lines.add(HEADER);
+		for (int i = 0; i < lineCount; i++) {
+			lines.add("SKU-" + (i % 7) + ",RECEIVE,1,2024-01-10,,");
+		}
+
+		// Act
+		InventoryMovementImportResult result =
+			inventoryMovementImportService.importMovements(csv(lines.toArray(String[]::new)));
+
+		// Assert
+		verify(inventoryMovementBatchService, times(3)).recordBatch(anyList(), eq(user));
+		assertThat(result.importedLines()).isEqualTo(lineCount);
+	}
+
+	@Test
+	@DisplayName("importMovements should throw InvalidImportFileException when header is wrong")
+	void importMovements_ShouldThrow_WhenHeaderIsWrong() {
+		// Arrange
+		stubAuthenticatedUser(List.of(InventoryMovementType.values()));
+
+		// Act & Assert
+		assertThatThrownBy(() -> inventoryMovementImportService.importMovements(csv(
+			"item,type,qty",
+			"SKU-1,RECEIVE,1"
+		)))
+			.isInstanceOf(InvalidImportFileException.class);
+
+		verifyNoInteractions(inventoryMovementBatchService);
+	}
+
+	@Test
+	@DisplayName("importMovements should throw InvalidImportFileException when file is empty")
+	void importMovements_ShouldThrow_WhenFileIsEmpty() {
+		// Arrange
+		stubAuthenticatedUser(List.of(InventoryMovementType.values()));
+
+		// Act & Assert
+		assertThatThrownBy(() -> inventoryMovementImportService.importMovements(csv()))
+			.isInstanceOf(InvalidImportFileException.class)
+			.hasMessage("Import file is empty");
+
+		verify(inventoryMovementBatchService, times(0)).recordBatch(any(), any());
+	}
+}
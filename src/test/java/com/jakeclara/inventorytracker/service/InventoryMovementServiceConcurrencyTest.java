@@ -0,0 +1,176 @@
+package com.jakeclara.inventorytracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.jakeclara.inventorytracker.dto.InventoryMovementForm;
+import com.jakeclara.inventorytracker.exception.InsufficientStockException;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
+import com.jakeclara.inventorytracker.repository.UserRepository;
+import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
+import com.jakeclara.inventorytracker.util.TestUserFactory;
+
+@SpringBootTest
+class InventoryMovementServiceConcurrencyTest {
+
+	private static final int INITIAL_STOCK = 10;
+	private static final int CONCURRENT_SALES = 25;
+
+	@Autowired
+	private InventoryMovementService inventoryMovementService;
+
+	@Autowired
+	private InventoryItemRepository inventoryItemRepository;
+
+	@Autowired
+	private InventoryMovementRepository inventoryMovementRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private LowStockCounterService lowStockCounterService;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(TestUserFactory.createDefaultUser());
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		inventoryMovementRepository.deleteAll();
+		inventoryItemRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	private void authenticate() {
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(
+				user.getUsername(),
+				null,
+				List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+			)
+		);
+	}
+
+	private InventoryMovementForm movementForm(InventoryMovementType type, int quantity) {
+		return new InventoryMovementForm(
+			quantity,
+			type,
+			LocalDate.now(),
+			null,
+			null
+		);
+	}
+
+	@Test
+	@DisplayName("concurrent sales against the same item never drive stock negative")
+	void addInventoryMovement_ConcurrentSales_NeverDriveStockNegative() throws Exception {
+		// Arrange
+		Long itemId = inventoryItemRepository.save(TestInventoryItemFactory.createDefaultItem()).getId();
+
+		authenticate();
+		inventoryMovementService.addInventoryMovement(
+			itemId,
+			movementForm(InventoryMovementType.RECEIVE, INITIAL_STOCK)
+		);
+
+		ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_SALES);
+		CountDownLatch startSignal = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		Callable<Boolean> sale = () -> {
+			authenticate();
+			startSignal.await();
+			try {
+				inventoryMovementService.addInventoryMovement(
+					itemId,
+					movementForm(InventoryMovementType.SALE, 1)
+				);
+				return true;
+			} catch (InsufficientStockException e) {
+				return false;
+			} finally {
+				SecurityContextHolder.clearContext();
+			}
+		};
+
+		for (int i = 0; i < CONCURRENT_SALES; i++) {
+			results.add(executor.submit(sale));
+		}
+
+		// Act
+		startSignal.countDown();
+
+		int successfulSales = 0;
+		for (Future<Boolean> result : results) {
+			if (result.get(30, TimeUnit.SECONDS)) {
+				successfulSales++;
+			}
+		}
+
+		executor.shutdown();
+
+		// Assert
+		InventoryItem item = inventoryItemRepository.findById(itemId).orElseThrow();
+
+		assertThat(successfulSales).isEqualTo(INITIAL_STOCK);
+		assertThat(item.getQuantityOnHand()).isZero();
+		assertThat(inventoryItemRepository.findCurrentQuantityByItemId(itemId)).isZero();
+		assertThat(inventoryMovementRepository.count()).isEqualTo(INITIAL_STOCK + 1);
+	}
+
+	@Test
+	@DisplayName("each committed movement increments the inventory revision once and a rejected one leaves it")
+	void addInventoryMovement_IncrementsInventoryRevision_OncePerCommit() {
+		// Arrange
+		Long itemId = inventoryItemRepository.save(TestInventoryItemFactory.createDefaultItem()).getId();
+		long revisionBefore = lowStockCounterService.getInventoryRevision();
+
+		authenticate();
+
+		// Act
+		inventoryMovementService.addInventoryMovement(
+			itemId,
+			movementForm(InventoryMovementType.RECEIVE, INITIAL_STOCK)
+		);
+		long revisionAfterReceive = lowStockCounterService.getInventoryRevision();
+
+		assertThatThrownBy(() -> inventoryMovementService.addInventoryMovement(
+			itemId,
+			movementForm(InventoryMovementType.SALE, INITIAL_STOCK + 1)
+		)).isInstanceOf(InsufficientStockException.class);
+		long revisionAfterRejectedSale = lowStockCounterService.getInventoryRevision();
+
+		// Assert
+		assertThat(revisionAfterReceive).isEqualTo(revisionBefore + 1);
+		assertThat(revisionAfterRejectedSale).isEqualTo(revisionAfterReceive);
+	}
+}
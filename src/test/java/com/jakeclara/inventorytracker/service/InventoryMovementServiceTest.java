@@ -1,9 +1,14 @@
 package com.jakeclara.inventorytracker.service;
 
+import com.jakeclara.inventorytracker.dto.ArchivedInventoryMovement;
+import com.jakeclara.inventorytracker.dto.InventoryMovementCursor;
 import com.jakeclara.inventorytracker.dto.InventoryMovementForm;
+import com.jakeclara.inventorytracker.dto.InventoryMovementHistoryPage;
 import com.jakeclara.inventorytracker.dto.InventoryMovementView;
+import com.jakeclara.inventorytracker.exception.ArchivedLedgerException;
 import com.jakeclara.inventorytracker.exception.InactiveItemException;
 import com.jakeclara.inventorytracker.exception.InsufficientStockException;
+import com.jakeclara.inventorytracker.exception.InvalidCursorException;
 import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
 import com.jakeclara.inventorytracker.exception.UnauthorizedMovementTypeException;
 import com.jakeclara.inventorytracker.model.InventoryItem;
@@ -11,6 +16,7 @@ import com.jakeclara.inventorytracker.model.InventoryMovement;
 import com.jakeclara.inventorytracker.model.InventoryMovementType;
 import com.jakeclara.inventorytracker.model.User;
 import com.jakeclara.inventorytracker.model.UserRole;
+import com.jakeclara.inventorytracker.projection.InventoryProjection;
 import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
 import com.jakeclara.inventorytracker.security.AuthenticatedUserProvider;
 import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
@@ -21,15 +27,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,12 +46,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +67,27 @@ class InventoryMovementServiceTest {
 	@Mock
 	AuthenticatedUserProvider authenticatedUserProvider;
 	
+	@Mock
+	LowStockCounterService lowStockCounterService;
+
+	@Mock
+	InventoryProjection inventoryProjection;
+
+	@Mock
+	InventoryMovementArchive inventoryMovementArchive;
+
+	@Mock
+	MovementRollupService movementRollupService;
+
+	@Mock
+	DashboardStreamService dashboardStreamService;
+
+	@Mock
+	LedgerCompactionService ledgerCompactionService;
+
+	@Spy
+	SimpleMeterRegistry meterRegistry;
+
 	@InjectMocks
 	InventoryMovementService inventoryMovementService;
 
@@ -89,9 +120,12 @@ class InventoryMovementServiceTest {
 			"note"
 		);
 		
-		when(inventoryItemService.getInventoryItemById(id))
+		when(inventoryItemService.getInventoryItemForUpdate(id))
 			.thenReturn(item);
 		
+		when(authenticatedUserProvider.getAuthenticatedRole())
+			.thenReturn(user.getRole());
+
 		when(authenticatedUserProvider.getAuthenticatedUser())
 			.thenReturn(user);
 
@@ -114,13 +148,19 @@ class InventoryMovementServiceTest {
 		assertThat(movement.getMovementType()).isEqualTo(form.movementType());
 		assertThat(movement.getMovementDate()).isEqualTo(form.movementDate());
 		assertThat(movement.getCreatedBy()).isEqualTo(user);
+		assertThat(item.getQuantityOnHand()).isEqualTo(form.quantity());
+		verify(movementRollupService).recordMovement(movement);
+		verify(lowStockCounterService).recordChange(item, true, true);
+		verify(inventoryProjection).recordMovement(id, form.quantity());
+		verify(dashboardStreamService).recordMovement(item, true);
 
 		// Optional fields should be set
 		assertThat(movement.getReference()).isEqualTo(form.reference());
 		assertThat(movement.getNote()).isEqualTo(form.note());
 
-		verify(inventoryItemService).getInventoryItemById(id);
-		verify(authenticatedUserProvider, times(2)).getAuthenticatedUser();
+		verify(inventoryItemService).getInventoryItemForUpdate(id);
+		verify(authenticatedUserProvider).getAuthenticatedRole();
+		verify(authenticatedUserProvider).getAuthenticatedUser();
 	}
 
 	@Test
@@ -136,9 +176,12 @@ class InventoryMovementServiceTest {
 
 		InventoryMovementForm form = validMovementForm();
 		
-		when(inventoryItemService.getInventoryItemById(id))
+		when(inventoryItemService.getInventoryItemForUpdate(id))
 			.thenReturn(item);
 		
+		when(authenticatedUserProvider.getAuthenticatedRole())
+			.thenReturn(user.getRole());
+
 		when(authenticatedUserProvider.getAuthenticatedUser())
 			.thenReturn(user);
 
@@ -161,13 +204,132 @@ class InventoryMovementServiceTest {
 		assertThat(movement.getMovementType()).isEqualTo(form.movementType());
 		assertThat(movement.getMovementDate()).isEqualTo(form.movementDate());
 		assertThat(movement.getCreatedBy()).isEqualTo(user);
+		assertThat(item.getQuantityOnHand()).isEqualTo(form.quantity());
 
 		// Optional fields should be null
 		assertThat(movement.getReference()).isNull();
 		assertThat(movement.getNote()).isNull();
 
-		verify(inventoryItemService).getInventoryItemById(id);
-		verify(authenticatedUserProvider, times(2)).getAuthenticatedUser();
+		verify(inventoryItemService).getInventoryItemForUpdate(id);
+		verify(authenticatedUserProvider).getAuthenticatedRole();
+		verify(authenticatedUserProvider).getAuthenticatedUser();
+	}
+
+	@Test
+	@DisplayName("addInventoryMovement should build the balance on the quantity on hand when dated today")
+	void addInventoryMovement_ShouldRecordBalanceFromQuantityOnHand_WhenDatedToday() {
+		// Arrange
+		Long id = 1L;
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		ReflectionTestUtils.setField(item, "id", id);
+		item.setIsActive(true);
+		item.applyQuantityChange(5);
+
+		User user = TestUserFactory.createDefaultUser();
+
+		when(inventoryItemService.getInventoryItemForUpdate(id))
+			.thenReturn(item);
+		when(authenticatedUserProvider.getAuthenticatedRole())
+			.thenReturn(user.getRole());
+		when(authenticatedUserProvider.getAuthenticatedUser())
+			.thenReturn(user);
+		when(inventoryMovementRepository.save(any()))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+
+		// Act
+		inventoryMovementService.addInventoryMovement(id, validMovementForm());
+
+		// Assert
+		ArgumentCaptor<InventoryMovement> movementCaptor =
+			ArgumentCaptor.forClass(InventoryMovement.class);
+
+		verify(inventoryMovementRepository).save(movementCaptor.capture());
+
+		assertThat(movementCaptor.getValue().getBalanceAfter()).isEqualTo(15L);
+		verify(inventoryMovementRepository, never()).findBalanceAsOf(any(), any(), any());
+		verify(inventoryMovementRepository, never()).shiftBalancesAfter(any(), any(), anyLong());
+	}
+
+	@Test
+	@DisplayName("addInventoryMovement should build on the balance at its date and shift later balances when back-dated")
+	void addInventoryMovement_ShouldShiftLaterBalances_WhenBackDated() {
+		// Arrange
+		Long id = 1L;
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		ReflectionTestUtils.setField(item, "id", id);
+		item.setIsActive(true);
+		item.applyQuantityChange(20);
+
+		User user = TestUserFactory.createDefaultUser();
+		LocalDate movementDate = LocalDate.now().minusDays(10);
+
+		InventoryMovementForm form = new InventoryMovementForm(
+			4,
+			InventoryMovementType.SALE,
+			movementDate,
+			null,
+			null
+		);
+
+		when(inventoryItemService.getInventoryItemForUpdate(id))
+			.thenReturn(item);
+		when(authenticatedUserProvider.getAuthenticatedRole())
+			.thenReturn(user.getRole());
+		when(authenticatedUserProvider.getAuthenticatedUser())
+			.thenReturn(user);
+		when(inventoryMovementRepository.findBalanceAsOf(eq(id), eq(movementDate), any(Limit.class)))
+			.thenReturn(List.of(8L));
+		when(inventoryMovementRepository.save(any()))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+
+		// Act
+		inventoryMovementService.addInventoryMovement(id, form);
+
+		// Assert
+		ArgumentCaptor<InventoryMovement> movementCaptor =
+			ArgumentCaptor.forClass(InventoryMovement.class);
+
+		verify(inventoryMovementRepository).save(movementCaptor.capture());
+
+		assertThat(movementCaptor.getValue().getBalanceAfter()).isEqualTo(4L);
+		verify(inventoryMovementRepository).shiftBalancesAfter(id, movementDate, -4);
+		assertThat(item.getQuantityOnHand()).isEqualTo(16);
+	}
+
+	@Test
+	@DisplayName("addInventoryMovement should reject a movement back-dated on or before the carried-forward balance")
+	void addInventoryMovement_ShouldThrow_WhenBackDatedPastCarryForward() {
+		// Arrange
+		Long id = 1L;
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		ReflectionTestUtils.setField(item, "id", id);
+		item.setIsActive(true);
+		item.applyQuantityChange(20);
+
+		User user = TestUserFactory.createDefaultUser();
+		LocalDate carriedForwardThrough = LocalDate.now().minusMonths(1);
+
+		InventoryMovementForm form = new InventoryMovementForm(
+			4,
+			InventoryMovementType.SALE,
+			carriedForwardThrough,
+			null,
+			null
+		);
+
+		when(inventoryItemService.getInventoryItemForUpdate(id))
+			.thenReturn(item);
+		when(authenticatedUserProvider.getAuthenticatedRole())
+			.thenReturn(user.getRole());
+		when(ledgerCompactionService.findCarriedForwardThrough(id))
+			.thenReturn(Optional.of(carriedForwardThrough));
+
+		// Act + Assert
+		assertThatThrownBy(() -> inventoryMovementService.addInventoryMovement(id, form))
+			.isInstanceOf(ArchivedLedgerException.class);
+
+		verify(inventoryMovementRepository, never()).save(any());
+		assertThat(item.getQuantityOnHand()).isEqualTo(20);
 	}
 
 	@Test
@@ -189,24 +351,24 @@ class InventoryMovementServiceTest {
 			null
 		);
 		
-		when(inventoryItemService.getInventoryItemById(id))
+		when(inventoryItemService.getInventoryItemForUpdate(id))
 			.thenReturn(item);
 		
-		when(authenticatedUserProvider.getAuthenticatedUser())
-			.thenReturn(user);
+		when(authenticatedUserProvider.getAuthenticatedRole())
+			.thenReturn(user.getRole());
 
 		// Stock is 5 and movement asks for -10
-		when(inventoryItemService.getCurrentQuantity(id))
-			.thenReturn(5L);
+		item.applyQuantityChange(5);
 		
 		// Act & Assert
 		assertThatThrownBy(() -> inventoryMovementService.addInventoryMovement(id, form))
 			.isInstanceOf(InsufficientStockException.class);
 		
-		verify(inventoryItemService).getInventoryItemById(id);
-		verify(inventoryItemService).getCurrentQuantity(id);
+		verify(inventoryItemService).getInventoryItemForUpdate(id);
 
 		verifyNoInteractions(inventoryMovementRepository);
+		verifyNoInteractions(inventoryProjection);
+		assertThat(item.getQuantityOnHand()).isEqualTo(5L);
 	}
 
 	@Test
@@ -220,14 +382,14 @@ class InventoryMovementServiceTest {
 
 		InventoryMovementForm form = validMovementForm();
 		
-		when(inventoryItemService.getInventoryItemById(id))
+		when(inventoryItemService.getInventoryItemForUpdate(id))
 			.thenReturn(item);
 		
 		// Act & Assert
 		assertThatThrownBy(() -> inventoryMovementService.addInventoryMovement(id, form))
 			.isInstanceOf(InactiveItemException.class);
 		
-		verify(inventoryItemService).getInventoryItemById(id);
+		verify(inventoryItemService).getInventoryItemForUpdate(id);
 
 		// These should not be called
 		verify(inventoryItemService, never()).getCurrentQuantity(any());
@@ -243,14 +405,14 @@ class InventoryMovementServiceTest {
 
 		InventoryMovementForm form = validMovementForm();
 
-		when(inventoryItemService.getInventoryItemById(id))
+		when(inventoryItemService.getInventoryItemForUpdate(id))
 			.thenThrow(new ResourceNotFoundException("not found"));
 		
 		// Act & Assert
 		assertThatThrownBy(() -> inventoryMovementService.addInventoryMovement(id, form))
 			.isInstanceOf(ResourceNotFoundException.class);
 		
-		verify(inventoryItemService).getInventoryItemById(id);
+		verify(inventoryItemService).getInventoryItemForUpdate(id);
 		verifyNoInteractions(inventoryMovementRepository);
 		verifyNoInteractions(authenticatedUserProvider);
 	}
@@ -274,17 +436,17 @@ class InventoryMovementServiceTest {
 			null
 		);
 		
-		when(inventoryItemService.getInventoryItemById(id))
+		when(inventoryItemService.getInventoryItemForUpdate(id))
 			.thenReturn(item);
 		
-		when(authenticatedUserProvider.getAuthenticatedUser())
-			.thenReturn(nonAdminUser);
+		when(authenticatedUserProvider.getAuthenticatedRole())
+			.thenReturn(nonAdminUser.getRole());
 
 		// Act & Assert
 		assertThatThrownBy(() -> inventoryMovementService.addInventoryMovement(id, form))
 			.isInstanceOf(UnauthorizedMovementTypeException.class);
 		
-		verify(inventoryItemService).getInventoryItemById(id);
+		verify(inventoryItemService).getInventoryItemForUpdate(id);
     	verify(inventoryItemService, never()).getCurrentQuantity(any());
     	verify(inventoryMovementRepository, never()).save(any());
 	}
@@ -294,7 +456,6 @@ class InventoryMovementServiceTest {
 	void getMovementsForItem_ShouldReturnMappedMovementsForItem() {
 		// Arrange
 		Long id = 1L;
-		int page = 0;
 
 		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
 		ReflectionTestUtils.setField(item, "id", id);
@@ -312,21 +473,20 @@ class InventoryMovementServiceTest {
 
 		when(inventoryItemService.getInventoryItemById(id))
 			.thenReturn(item);
-		
-		Page<InventoryMovement> movementPage = new PageImpl<>(List.of(movement));
 
-		when(inventoryMovementRepository
-			.findByItemIdOrderByMovementDateDesc(eq(id), any(PageRequest.class)))
-			.thenReturn(movementPage);
+		when(inventoryMovementRepository.findLatestByItemId(eq(id), any(Limit.class)))
+			.thenReturn(List.of(movement));
 		
 		// Act
-		Page<InventoryMovementView> result = 
-			inventoryMovementService.getMovementsForItem(id, page);
+		InventoryMovementHistoryPage result = 
+			inventoryMovementService.getMovementsForItem(id, null);
 		
 		// Assert
-		assertThat(result.getContent()).hasSize(1);
+		assertThat(result.movements()).hasSize(1);
+		assertThat(result.firstPage()).isTrue();
+		assertThat(result.hasNext()).isFalse();
 
-		InventoryMovementView view = result.getContent().get(0);
+		InventoryMovementView view = result.movements().get(0);
 		assertThat(view.movementType()).isEqualTo(movement.getMovementType());
 		assertThat(view.quantity()).isEqualTo(movement.getQuantity());
 		assertThat(view.movementDate()).isEqualTo(movement.getMovementDate());
@@ -334,34 +494,60 @@ class InventoryMovementServiceTest {
 		assertThat(view.createdBy()).isEqualTo(createdBy.getUsername());
 
 		verify(inventoryItemService).getInventoryItemById(id);
-		verify(inventoryMovementRepository)
-			.findByItemIdOrderByMovementDateDesc(eq(id), any(PageRequest.class));
+		verify(inventoryMovementRepository).findLatestByItemId(eq(id), any(Limit.class));
 	}
 
 	@Test
-	@DisplayName("getMovementsForItem should throw ResourceNotFoundException when item does not exist")
-	void getMovementsForItem_ShouldThrow_WhenItemDoesNotExist() {
+	@DisplayName("getMovementsForItem should return cursor of last movement when more movements exist")
+	void getMovementsForItem_ShouldReturnNextCursor_WhenMoreMovementsExist() {
 		// Arrange
-		Long id = 999L;
-		
+		Long id = 1L;
+
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		ReflectionTestUtils.setField(item, "id", id);
+
+		User createdBy = TestUserFactory.createDefaultUser();
+
+		List<InventoryMovement> movements = new ArrayList<>();
+		for (long movementId = 11; movementId > 0; movementId--) {
+			InventoryMovement movement = TestInventoryMovementFactory.createInventoryMovement(
+				item,
+				1,
+				InventoryMovementType.RECEIVE,
+				LocalDate.now(),
+				createdBy
+			);
+			ReflectionTestUtils.setField(movement, "id", movementId);
+			movements.add(movement);
+		}
+
 		when(inventoryItemService.getInventoryItemById(id))
-			.thenThrow(new ResourceNotFoundException("not found"));
-		
-		// Act & Assert
-		assertThatThrownBy(() -> inventoryMovementService.getMovementsForItem(id, 0))
-			.isInstanceOf(ResourceNotFoundException.class);
-		
-		verify(inventoryItemService).getInventoryItemById(id);
-		
-		verify(inventoryMovementRepository, never())
-			.findByItemIdOrderByMovementDateDesc(any(), any());
+			.thenReturn(item);
+
+		when(inventoryMovementRepository.findLatestByItemId(eq(id), any(Limit.class)))
+			.thenReturn(movements);
+
+		// Act
+		InventoryMovementHistoryPage result =
+			inventoryMovementService.getMovementsForItem(id, "");
+
+		// Assert
+		ArgumentCaptor<Limit> limitCaptor = ArgumentCaptor.forClass(Limit.class);
+		verify(inventoryMovementRepository).findLatestByItemId(eq(id), limitCaptor.capture());
+
+		assertThat(limitCaptor.getValue().max()).isEqualTo(11);
+		assertThat(result.movements()).hasSize(10);
+		assertThat(result.hasNext()).isTrue();
+		assertThat(InventoryMovementCursor.decode(result.nextCursor()))
+			.isEqualTo(new InventoryMovementCursor(LocalDate.now(), 2L));
 	}
 
 	@Test
-	@DisplayName("getMovementsForItem should use page 0 when negative page provided")
-	void getMovementsForItem_ShouldDefaultToZero_WhenNegativePageProvided() {
+	@DisplayName("getMovementsForItem should seek past the decoded cursor")
+	void getMovementsForItem_ShouldSeekPastCursor() {
 		// Arrange
 		Long id = 1L;
+		LocalDate cursorDate = LocalDate.of(2024, 3, 1);
 
 		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
 		ReflectionTestUtils.setField(item, "id", id);
@@ -370,69 +556,179 @@ class InventoryMovementServiceTest {
 			.thenReturn(item);
 
 		when(inventoryMovementRepository
-			.findByItemIdOrderByMovementDateDesc(eq(id), any(PageRequest.class)))
-			.thenReturn(Page.empty());
+			.findByItemIdBefore(eq(id), eq(cursorDate), eq(42L), any(Limit.class)))
+			.thenReturn(List.of());
+
+		String cursor = new InventoryMovementCursor(cursorDate, 42L).encode();
+
+		// Act
+		InventoryMovementHistoryPage result =
+			inventoryMovementService.getMovementsForItem(id, cursor);
+
+		// Assert
+		assertThat(result.firstPage()).isFalse();
+		assertThat(result.movements()).isEmpty();
+		assertThat(result.hasNext()).isFalse();
+
+		verify(inventoryMovementRepository, never()).findLatestByItemId(any(), any());
+	}
+
+	@Test
+	@DisplayName("getMovementsForItem should offer an archived cursor on the last page when the item has an archive")
+	void getMovementsForItem_ShouldReturnArchivedCursor_WhenLedgerEndsAndArchiveExists() {
+		// Arrange
+		Long id = 1L;
+
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		ReflectionTestUtils.setField(item, "id", id);
+
+		InventoryMovement movement = TestInventoryMovementFactory.createInventoryMovement(
+			item,
+			5,
+			InventoryMovementType.OPENING_BALANCE,
+			LocalDate.of(2024, 2, 29),
+			TestUserFactory.createDefaultUser()
+		);
+		ReflectionTestUtils.setField(movement, "id", 50L);
+
+		when(inventoryItemService.getInventoryItemById(id))
+			.thenReturn(item);
+
+		when(inventoryMovementRepository.findLatestByItemId(eq(id), any(Limit.class)))
+			.thenReturn(List.of(movement));
+
+		when(inventoryMovementArchive.hasArchive(id))
+			.thenReturn(true);
 
 		// Act
-		inventoryMovementService.getMovementsForItem(id, -5);
+		InventoryMovementHistoryPage result =
+			inventoryMovementService.getMovementsForItem(id, null);
 
-		ArgumentCaptor<PageRequest> pageCaptor =
-			ArgumentCaptor.forClass(PageRequest.class);
+		// Assert
+		assertThat(result.hasNext()).isFalse();
+		assertThat(result.hasArchived()).isTrue();
+		assertThat(InventoryMovementCursor.decode(result.archivedCursor()))
+			.isEqualTo(new InventoryMovementCursor(LocalDate.of(2024, 2, 29), 50L, true));
+		verify(inventoryMovementArchive, never()).findBefore(any(), any(), anyInt());
+	}
 
-		verify(inventoryMovementRepository)
-			.findByItemIdOrderByMovementDateDesc(eq(id), pageCaptor.capture());
+	@Test
+	@DisplayName("getMovementsForItem should continue into the archive when given an archived cursor")
+	void getMovementsForItem_ShouldPageIntoArchive_WhenCursorIsArchived() {
+		// Arrange
+		Long id = 1L;
+		InventoryMovementCursor position = new InventoryMovementCursor(LocalDate.of(2024, 2, 29), 50L, true);
+
+		when(inventoryItemService.getInventoryItemById(id))
+			.thenReturn(TestInventoryItemFactory.createDefaultItem());
+
+		when(inventoryMovementRepository
+			.findByItemIdBefore(eq(id), eq(position.movementDate()), eq(50L), any(Limit.class)))
+			.thenReturn(List.of());
+
+		List<ArchivedInventoryMovement> archived = new ArrayList<>();
+		for (long movementId = 11; movementId > 0; movementId--) {
+			archived.add(new ArchivedInventoryMovement(
+				movementId,
+				LocalDate.of(2024, 1, 15),
+				InventoryMovementType.RECEIVE,
+				1,
+				null,
+				null,
+				"archived-user",
+				movementId
+			));
+		}
+
+		when(inventoryMovementArchive.findBefore(id, position, 11))
+			.thenReturn(archived);
+
+		// Act
+		InventoryMovementHistoryPage result =
+			inventoryMovementService.getMovementsForItem(id, position.encode());
 
 		// Assert
-		assertThat(pageCaptor.getValue().getPageNumber()).isZero();
+		assertThat(result.movements()).hasSize(10);
+		assertThat(result.movements().get(0).createdBy()).isEqualTo("archived-user");
+		assertThat(result.hasArchived()).isFalse();
+		assertThat(InventoryMovementCursor.decode(result.nextCursor()))
+			.isEqualTo(new InventoryMovementCursor(LocalDate.of(2024, 1, 15), 2L, true));
+	}
+
+	@Test
+	@DisplayName("getMovementsForItem should throw InvalidCursorException when cursor is malformed")
+	void getMovementsForItem_ShouldThrow_WhenCursorIsMalformed() {
+		// Arrange
+		Long id = 1L;
+
+		when(inventoryItemService.getInventoryItemById(id))
+			.thenReturn(TestInventoryItemFactory.createDefaultItem());
+
+		// Act & Assert
+		assertThatThrownBy(() -> inventoryMovementService.getMovementsForItem(id, "not-a-cursor"))
+			.isInstanceOf(InvalidCursorException.class);
+
+		verifyNoInteractions(inventoryMovementRepository);
+	}
+
+	@Test
+	@DisplayName("getMovementsForItem should throw ResourceNotFoundException when item does not exist")
+	void getMovementsForItem_ShouldThrow_WhenItemDoesNotExist() {
+		// Arrange
+		Long id = 999L;
+		
+		when(inventoryItemService.getInventoryItemById(id))
+			.thenThrow(new ResourceNotFoundException("not found"));
+		
+		// Act & Assert
+		assertThatThrownBy(() -> inventoryMovementService.getMovementsForItem(id, null))
+			.isInstanceOf(ResourceNotFoundException.class);
+		
+		verify(inventoryItemService).getInventoryItemById(id);
+		
+		verifyNoInteractions(inventoryMovementRepository);
 	}
 
 	@Test
 	@DisplayName("ensureSufficientStock should not throw when stock is sufficient")
 	void ensureSufficientStock_ShouldNotThrow_WhenStockIsSufficient() {
 		// Arrange
-		Long itemId = 1L;
-		Long currentQuantity = 25L;
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		item.applyQuantityChange(25);
 		int quantityDelta = -5;
-
-		when(inventoryItemService.getCurrentQuantity(itemId))
-			.thenReturn(currentQuantity);
 		
 		// Act & Assert
 		assertThatCode(() -> 
-			inventoryMovementService.ensureSufficientStock(itemId, quantityDelta))
+			inventoryMovementService.ensureSufficientStock(item, quantityDelta))
 			.doesNotThrowAnyException();
 
-		verify(inventoryItemService).getCurrentQuantity(itemId);
+		verifyNoInteractions(inventoryItemService);
 	}
 
 	@Test
 	@DisplayName("ensureSufficientStock should throw when stock is insufficient")
 	void ensureSufficientStock_ShouldThrow_WhenStockIsInsufficient() {
 		// Arrange
-		Long itemId = 999L;
-		Long currentQuantity = 5L;
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		item.applyQuantityChange(5);
 		int quantityDelta = -10;
-
-		when(inventoryItemService.getCurrentQuantity(itemId))
-			.thenReturn(currentQuantity);
 		
 		// Act & Assert
 		assertThatThrownBy(() -> 
-			inventoryMovementService.ensureSufficientStock(itemId, quantityDelta))
+			inventoryMovementService.ensureSufficientStock(item, quantityDelta))
 			.isInstanceOf(InsufficientStockException.class)
 			.hasMessageContaining("current stock is 5")
 			.hasMessageContaining("requested quantity is -10");
-
-		verify(inventoryItemService).getCurrentQuantity(itemId);
+		assertThat(meterRegistry.get("inventory.stock.rejections").counter().count()).isOne();
 	}
 
 	@Test
-	@DisplayName("getAllowedMovementTypes should return all types for ADMIN")
+	@DisplayName("getAllowedMovementTypes should return all manual types for ADMIN")
 	void getAllowedMovementTypes_ShouldReturnAllTypes_WhenAdmin() {
 		// Arrange
 		User admin = new User("username", "password", UserRole.ADMIN);
-		when(authenticatedUserProvider.getAuthenticatedUser())
-			.thenReturn(admin);
+		when(authenticatedUserProvider.getAuthenticatedRole())
+			.thenReturn(admin.getRole());
 
 		// Act
 		List<InventoryMovementType> result =
@@ -440,9 +736,15 @@ class InventoryMovementServiceTest {
 
 		// Assert
 		assertThat(result)
-			.containsExactlyInAnyOrder(InventoryMovementType.values());
+			.containsExactlyInAnyOrder(
+				InventoryMovementType.SALE,
+				InventoryMovementType.RECEIVE,
+				InventoryMovementType.ADJUST_IN,
+				InventoryMovementType.ADJUST_OUT
+			);
 
-		verify(authenticatedUserProvider).getAuthenticatedUser();
+		verify(authenticatedUserProvider).getAuthenticatedRole();
+		verify(authenticatedUserProvider, never()).getAuthenticatedUser();
 	}
 
 	@Test
@@ -451,8 +753,8 @@ class InventoryMovementServiceTest {
 		// Arrange
 		User user = new User("username", "password", UserRole.USER);
 
-		when(authenticatedUserProvider.getAuthenticatedUser())
-			.thenReturn(user);
+		when(authenticatedUserProvider.getAuthenticatedRole())
+			.thenReturn(user.getRole());
 
 		// Act
 		List<InventoryMovementType> result =
@@ -465,6 +767,7 @@ class InventoryMovementServiceTest {
 				InventoryMovementType.RECEIVE
 			);
 
-		verify(authenticatedUserProvider).getAuthenticatedUser();
+		verify(authenticatedUserProvider).getAuthenticatedRole();
+		verify(authenticatedUserProvider, never()).getAuthenticatedUser();
 	}
 }
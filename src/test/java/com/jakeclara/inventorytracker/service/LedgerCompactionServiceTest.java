@@ -0,0 +1,238 @@
+package com.jakeclara.inventorytracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.util.FileSystemUtils;
+
+import com.jakeclara.inventorytracker.dto.ArchivedInventoryMovement;
+import com.jakeclara.inventorytracker.dto.InventoryMovementHistoryPage;
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportError;
+import com.jakeclara.inventorytracker.dto.InventoryMovementImportLine;
+import com.jakeclara.inventorytracker.dto.InventoryMovementView;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.model.UserRole;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
+import com.jakeclara.inventorytracker.repository.UserRepository;
+import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
+import com.jakeclara.inventorytracker.util.TestInventoryMovementFactory;
+
+@SpringBootTest(properties = "inventory.ledger-archive.directory=" + LedgerCompactionServiceTest.ARCHIVE_DIRECTORY)
+class LedgerCompactionServiceTest {
+
+	static final String ARCHIVE_DIRECTORY = "target/test-ledger-archive";
+
+	private static final LocalDate CUTOFF = LocalDate.of(2024, 3, 1);
+
+	@Autowired
+	private LedgerCompactionService ledgerCompactionService;
+
+	@Autowired
+	private InventoryMovementService inventoryMovementService;
+
+	@Autowired
+	private InventoryMovementBatchService inventoryMovementBatchService;
+
+	@Autowired
+	private InventoryMovementArchive inventoryMovementArchive;
+
+	@Autowired
+	private InventoryItemRepository inventoryItemRepository;
+
+	@Autowired
+	private InventoryMovementRepository inventoryMovementRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private InventoryItem item;
+
+	@BeforeEach
+	void setUp() {
+		User admin = userRepository.save(new User("compaction_admin", "TestPassword123!", UserRole.ADMIN));
+		item = TestInventoryItemFactory.createDefaultItem();
+		item.applyQuantityChange(12);
+		item = inventoryItemRepository.save(item);
+
+		inventoryMovementRepository.saveAll(List.of(
+			movement(admin, InventoryMovementType.RECEIVE, 10, LocalDate.of(2024, 1, 5)),
+			movement(admin, InventoryMovementType.SALE, 3, LocalDate.of(2024, 1, 20)),
+			movement(admin, InventoryMovementType.RECEIVE, 5, LocalDate.of(2024, 3, 10))
+		));
+	}
+
+	@AfterEach
+	void tearDown() {
+		inventoryMovementRepository.deleteAll();
+		inventoryItemRepository.deleteAll();
+		userRepository.deleteAll();
+		FileSystemUtils.deleteRecursively(Path.of(ARCHIVE_DIRECTORY).toFile());
+	}
+
+	private InventoryMovement movement(User createdBy, InventoryMovementType type, int quantity, LocalDate date) {
+		return TestInventoryMovementFactory.createInventoryMovement(item, quantity, type, date, createdBy);
+	}
+
+	private long archiveFileCount() throws IOException {
+		try (Stream<Path> files = Files.walk(Path.of(ARCHIVE_DIRECTORY))) {
+			return files.filter(Files::isRegularFile).count();
+		}
+	}
+
+	@Test
+	@DisplayName("compactBefore should replace older movements with an opening balance and keep the quantity")
+	void compactBefore_ShouldCarryBalanceForward_AndKeepQuantity() throws IOException {
+		// Act
+		int compactedItems = ledgerCompactionService.compactBefore(CUTOFF);
+
+		// Assert
+		assertThat(compactedItems).isEqualTo(1);
+		assertThat(inventoryMovementRepository.findAll())
+			.extracting(InventoryMovement::getMovementType, InventoryMovement::getQuantity, InventoryMovement::getMovementDate)
+			.containsExactlyInAnyOrder(
+				tuple(InventoryMovementType.OPENING_BALANCE, 7, CUTOFF.minusDays(1)),
+				tuple(InventoryMovementType.RECEIVE, 5, LocalDate.of(2024, 3, 10))
+			);
+		assertThat(inventoryMovementRepository.findBalanceAsOf(item.getId(), CUTOFF.minusDays(1), Limit.of(1)))
+			.containsExactly(7L);
+		assertThat(inventoryItemRepository.findCurrentQuantityByItemId(item.getId())).isEqualTo(12L);
+		assertThat(archiveFileCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("compactBefore should skip items already compacted at the same cutoff")
+	void compactBefore_ShouldBeIdempotent() throws IOException {
+		// Arrange
+		ledgerCompactionService.compactBefore(CUTOFF);
+
+		// Act
+		int compactedItems = ledgerCompactionService.compactBefore(CUTOFF);
+
+		// Assert
+		assertThat(compactedItems).isZero();
+		assertThat(inventoryMovementRepository.count()).isEqualTo(2);
+		assertThat(archiveFileCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("compactBefore should carry an earlier compaction forward without archiving it again")
+	void compactBefore_ShouldNotArchiveEarlierCarryForward_WhenCompactingAgain() throws IOException {
+		// Arrange
+		LocalDate laterCutoff = CUTOFF.plusMonths(1);
+		ledgerCompactionService.compactBefore(CUTOFF);
+
+		// Act
+		int compactedItems = ledgerCompactionService.compactBefore(laterCutoff);
+
+		// Assert
+		assertThat(compactedItems).isEqualTo(1);
+		assertThat(inventoryMovementRepository.findAll())
+			.extracting(InventoryMovement::getMovementType, InventoryMovement::getQuantity, InventoryMovement::getMovementDate)
+			.containsExactly(tuple(InventoryMovementType.OPENING_BALANCE, 12, laterCutoff.minusDays(1)));
+		assertThat(inventoryMovementRepository.findBalanceAsOf(item.getId(), laterCutoff.minusDays(1), Limit.of(1)))
+			.containsExactly(12L);
+		assertThat(inventoryMovementArchive.findBefore(item.getId(), null, Integer.MAX_VALUE))
+			.extracting(ArchivedInventoryMovement::movementType, ArchivedInventoryMovement::quantity)
+			.containsExactly(
+				tuple(InventoryMovementType.RECEIVE, 5),
+				tuple(InventoryMovementType.SALE, 3),
+				tuple(InventoryMovementType.RECEIVE, 10)
+			);
+		assertThat(archiveFileCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("compactBefore should archive and sum a history longer than one fetched batch")
+	void compactBefore_ShouldCompactHistoryLongerThanOneBatch() throws IOException {
+		// Arrange
+		User admin = userRepository.findFirstByRoleOrderByIdAsc(UserRole.ADMIN).orElseThrow();
+		List<InventoryMovement> history = new ArrayList<>();
+		for (int day = 0; day < 1_500; day++) {
+			history.add(movement(admin, InventoryMovementType.RECEIVE, 1, LocalDate.of(2019, 1, 1).plusDays(day)));
+		}
+		inventoryMovementRepository.saveAll(history);
+
+		// Act
+		int compactedItems = ledgerCompactionService.compactBefore(CUTOFF);
+
+		// Assert
+		assertThat(compactedItems).isEqualTo(1);
+		assertThat(inventoryMovementRepository.findBalanceAsOf(item.getId(), CUTOFF.minusDays(1), Limit.of(1)))
+			.containsExactly(1_507L);
+		assertThat(inventoryMovementArchive.findBefore(item.getId(), null, Integer.MAX_VALUE)).hasSize(1_502);
+		assertThat(archiveFileCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("recordBatch should reject movements back-dated before a compaction and keep later ones")
+	void recordBatch_ShouldRejectMovementsBackDatedPastCompaction() {
+		// Arrange
+		ledgerCompactionService.compactBefore(CUTOFF);
+		User admin = userRepository.findFirstByRoleOrderByIdAsc(UserRole.ADMIN).orElseThrow();
+
+		List<InventoryMovementImportLine> lines = List.of(
+			new InventoryMovementImportLine(2, item.getSku(), InventoryMovementType.SALE, 2, LocalDate.of(2024, 2, 10), null, null),
+			new InventoryMovementImportLine(3, item.getSku(), InventoryMovementType.SALE, 2, CUTOFF.minusDays(1), null, null),
+			new InventoryMovementImportLine(4, item.getSku(), InventoryMovementType.SALE, 2, CUTOFF, null, null)
+		);
+
+		// Act
+		List<InventoryMovementImportError> errors = inventoryMovementBatchService.recordBatch(lines, admin);
+
+		// Assert
+		assertThat(errors)
+			.extracting(InventoryMovementImportError::lineNumber)
+			.containsExactly(2L, 3L);
+		assertThat(inventoryMovementRepository.findBalanceAsOf(item.getId(), CUTOFF, Limit.of(1)))
+			.containsExactly(5L);
+		assertThat(inventoryItemRepository.findCurrentQuantityByItemId(item.getId())).isEqualTo(10L);
+	}
+
+	@Test
+	@DisplayName("getMovementsForItem should page from the ledger into the archive through the archived cursor")
+	void getMovementsForItem_ShouldPageIntoArchive_AfterCompaction() {
+		// Arrange
+		ledgerCompactionService.compactBefore(CUTOFF);
+
+		// Act
+		InventoryMovementHistoryPage ledgerPage = inventoryMovementService.getMovementsForItem(item.getId(), null);
+		InventoryMovementHistoryPage archivePage =
+			inventoryMovementService.getMovementsForItem(item.getId(), ledgerPage.archivedCursor());
+
+		// Assert
+		List<InventoryMovementView> history = new ArrayList<>(ledgerPage.movements());
+		history.addAll(archivePage.movements());
+
+		assertThat(ledgerPage.hasNext()).isFalse();
+		assertThat(ledgerPage.hasArchived()).isTrue();
+		assertThat(archivePage.hasNext()).isFalse();
+		assertThat(archivePage.hasArchived()).isFalse();
+		assertThat(history)
+			.extracting(InventoryMovementView::movementType, InventoryMovementView::quantity)
+			.containsExactly(
+				tuple(InventoryMovementType.RECEIVE, 5),
+				tuple(InventoryMovementType.OPENING_BALANCE, 7),
+				tuple(InventoryMovementType.SALE, 3),
+				tuple(InventoryMovementType.RECEIVE, 10)
+			);
+	}
+}
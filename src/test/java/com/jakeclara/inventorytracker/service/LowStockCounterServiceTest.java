@@ -0,0 +1,255 @@
+package com.jakeclara.inventorytracker.service;
+
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryRevision;
+import com.jakeclara.inventorytracker.model.LowStockCounter;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryRevisionRepository;
+import com.jakeclara.inventorytracker.repository.LowStockCounterRepository;
+import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LowStockCounterServiceTest {
+
+	@Mock
+	LowStockCounterRepository lowStockCounterRepository;
+
+	@Mock
+	InventoryRevisionRepository inventoryRevisionRepository;
+
+	@Mock
+	InventoryItemRepository inventoryItemRepository;
+
+	@InjectMocks
+	LowStockCounterService lowStockCounterService;
+
+	// Default item has a positive reorder threshold, so it starts low stock
+	private InventoryItem lowStockItem() {
+		return TestInventoryItemFactory.createDefaultItem();
+	}
+
+	private InventoryItem stockedItem() {
+		InventoryItem item = TestInventoryItemFactory.createDefaultItem();
+		item.applyQuantityChange(item.getReorderThreshold());
+		return item;
+	}
+
+	@Test
+	@DisplayName("getLowStockCount should return the maintained counter when it exists")
+	void getLowStockCount_ShouldReturnCounter_WhenItExists() {
+		// Arrange
+		when(lowStockCounterRepository.findById(true))
+			.thenReturn(Optional.of(new LowStockCounter(true, 7)));
+
+		// Act
+		long result = lowStockCounterService.getLowStockCount(true);
+
+		// Assert
+		assertThat(result).isEqualTo(7L);
+		verifyNoInteractions(inventoryItemRepository);
+	}
+
+	@Test
+	@DisplayName("getLowStockCount should count items when the counter does not exist yet")
+	void getLowStockCount_ShouldCountItems_WhenCounterMissing() {
+		// Arrange
+		when(lowStockCounterRepository.findById(false))
+			.thenReturn(Optional.empty());
+		when(inventoryItemRepository.countLowStockByActiveStatus(false))
+			.thenReturn(3L);
+
+		// Act
+		long result = lowStockCounterService.getLowStockCount(false);
+
+		// Assert
+		assertThat(result).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("getInventoryRevision should return the maintained revision when it exists")
+	void getInventoryRevision_ShouldReturnRevision_WhenItExists() {
+		// Arrange
+		when(inventoryRevisionRepository.findById(InventoryRevision.ID))
+			.thenReturn(Optional.of(new InventoryRevision(42)));
+
+		// Act
+		long result = lowStockCounterService.getInventoryRevision();
+
+		// Assert
+		assertThat(result).isEqualTo(42L);
+		verifyNoInteractions(inventoryItemRepository);
+	}
+
+	@Test
+	@DisplayName("getInventoryRevision should aggregate the item revisions when it does not exist yet")
+	void getInventoryRevision_ShouldAggregateItems_WhenRevisionMissing() {
+		// Arrange
+		when(inventoryRevisionRepository.findById(InventoryRevision.ID))
+			.thenReturn(Optional.empty());
+		when(inventoryItemRepository.findInventoryRevision())
+			.thenReturn(17L);
+
+		// Act
+		long result = lowStockCounterService.getInventoryRevision();
+
+		// Assert
+		assertThat(result).isEqualTo(17L);
+	}
+
+	@Test
+	@DisplayName("recordNewItem should count the item when it starts below threshold")
+	void recordNewItem_ShouldCount_WhenItemStartsLowStock() {
+		// Act
+		lowStockCounterService.recordNewItem(lowStockItem());
+
+		// Assert
+		verify(lowStockCounterRepository).adjustLowStockCount(true, 1);
+	}
+
+	@Test
+	@DisplayName("recordNewItem should not count the item when its threshold is zero")
+	void recordNewItem_ShouldNotCount_WhenThresholdIsZero() {
+		// Act
+		lowStockCounterService.recordNewItem(TestInventoryItemFactory.createItem("Item B", "SKU-B", 0));
+
+		// Assert
+		verifyNoInteractions(lowStockCounterRepository);
+	}
+
+	@Test
+	@DisplayName("recordNewItems should count the items that start below threshold with one update")
+	void recordNewItems_ShouldCountLowStockItemsOnce() {
+		// Act
+		lowStockCounterService.recordNewItems(List.of(
+			lowStockItem(),
+			TestInventoryItemFactory.createItem("Item B", "SKU-B", 0),
+			TestInventoryItemFactory.createItem("Item C", "SKU-C", 3)
+		));
+
+		// Assert
+		verify(lowStockCounterRepository).adjustLowStockCount(true, 2);
+		verifyNoMoreInteractions(lowStockCounterRepository);
+	}
+
+	@Test
+	@DisplayName("recordChange should only count the change in the inventory revision when neither status changed")
+	void recordChange_ShouldOnlyIncrementRevision_WhenStatusUnchanged() {
+		// Act
+		lowStockCounterService.recordChange(lowStockItem(), true, true);
+
+		// Assert
+		verifyNoInteractions(lowStockCounterRepository);
+		verify(inventoryRevisionRepository).increment();
+	}
+
+	@Test
+	@DisplayName("recordChange should decrement when a movement lifts the item above threshold")
+	void recordChange_ShouldDecrement_WhenItemIsRestocked() {
+		// Act
+		lowStockCounterService.recordChange(stockedItem(), true, true);
+
+		// Assert
+		verify(lowStockCounterRepository).adjustLowStockCount(true, -1);
+		verify(lowStockCounterRepository, never()).adjustLowStockCount(true, 1);
+	}
+
+	@Test
+	@DisplayName("recordChange should increment when the item drops below threshold")
+	void recordChange_ShouldIncrement_WhenItemDropsBelowThreshold() {
+		// Act
+		lowStockCounterService.recordChange(lowStockItem(), true, false);
+
+		// Assert
+		verify(lowStockCounterRepository).adjustLowStockCount(true, 1);
+	}
+
+	@Test
+	@DisplayName("recordChange should move a low-stock item between counters when it is deactivated")
+	void recordChange_ShouldMoveBetweenCounters_WhenDeactivated() {
+		// Arrange
+		InventoryItem item = lowStockItem();
+		item.setIsActive(false);
+
+		// Act
+		lowStockCounterService.recordChange(item, true, true);
+
+		// Assert
+		verify(lowStockCounterRepository).adjustLowStockCount(true, -1);
+		verify(lowStockCounterRepository).adjustLowStockCount(false, 1);
+	}
+
+	@Test
+	@DisplayName("reconcile should correct counters that drifted")
+	void reconcile_ShouldCorrectDriftedCounters() {
+		// Arrange
+		LowStockCounter activeCounter = new LowStockCounter(true, 9);
+		LowStockCounter inactiveCounter = new LowStockCounter(false, 1);
+
+		when(lowStockCounterRepository.findByIdForUpdate(true))
+			.thenReturn(Optional.of(activeCounter));
+		when(lowStockCounterRepository.findByIdForUpdate(false))
+			.thenReturn(Optional.of(inactiveCounter));
+		when(inventoryItemRepository.countLowStockByActiveStatus(true))
+			.thenReturn(4L);
+		when(inventoryItemRepository.countLowStockByActiveStatus(false))
+			.thenReturn(1L);
+
+		// Act
+		lowStockCounterService.reconcile();
+
+		// Assert
+		assertThat(activeCounter.getLowStockCount()).isEqualTo(4L);
+		assertThat(inactiveCounter.getLowStockCount()).isOne();
+		verify(lowStockCounterRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("reconcile should create counters that do not exist yet")
+	void reconcile_ShouldCreateMissingCounters() {
+		// Arrange
+		when(lowStockCounterRepository.findByIdForUpdate(anyBoolean()))
+			.thenReturn(Optional.empty());
+		when(inventoryItemRepository.countLowStockByActiveStatus(true))
+			.thenReturn(2L);
+		when(inventoryItemRepository.countLowStockByActiveStatus(false))
+			.thenReturn(0L);
+
+		// Act
+		lowStockCounterService.reconcile();
+
+		// Assert
+		verify(inventoryRevisionRepository).save(any(InventoryRevision.class));
+
+		ArgumentCaptor<LowStockCounter> counterCaptor = ArgumentCaptor.forClass(LowStockCounter.class);
+		verify(lowStockCounterRepository, times(2)).save(counterCaptor.capture());
+
+		assertThat(counterCaptor.getAllValues())
+			.extracting(LowStockCounter::isActive, LowStockCounter::getLowStockCount)
+			.containsExactly(
+				tuple(true, 2L),
+				tuple(false, 0L)
+			);
+	}
+}
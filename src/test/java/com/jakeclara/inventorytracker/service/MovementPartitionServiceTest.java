@@ -0,0 +1,52 @@
+package com.jakeclara.inventorytracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MovementPartitionServiceTest {
+
+	@Mock
+	JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("createFuturePartitions should create partitions for the configured months ahead")
+	void createFuturePartitions_ShouldCreatePartitions_WhenEnabled() {
+		// Arrange
+		MovementPartitionService service = new MovementPartitionService(jdbcTemplate, true, 3);
+		when(jdbcTemplate.queryForObject(
+			eq("SELECT inventory_movement_create_partitions(?)"),
+			eq(Integer.class),
+			eq(3)
+		)).thenReturn(1);
+
+		// Act
+		int created = service.createFuturePartitions();
+
+		// Assert
+		assertThat(created).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("createFuturePartitions should not touch the database when disabled")
+	void createFuturePartitions_ShouldDoNothing_WhenDisabled() {
+		// Arrange
+		MovementPartitionService service = new MovementPartitionService(jdbcTemplate, false, 3);
+
+		// Act
+		int created = service.createFuturePartitions();
+
+		// Assert
+		assertThat(created).isZero();
+		verifyNoInteractions(jdbcTemplate);
+	}
+}
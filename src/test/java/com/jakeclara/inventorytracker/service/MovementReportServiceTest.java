@@ -0,0 +1,136 @@
+package com.jakeclara.inventorytracker.service;
+
+import com.jakeclara.inventorytracker.dto.MovementReportPeriod;
+import com.jakeclara.inventorytracker.dto.MovementReportRow;
+import com.jakeclara.inventorytracker.exception.InvalidReportRangeException;
+import com.jakeclara.inventorytracker.exception.ResourceNotFoundException;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.repository.InventoryMovementDailyRollupRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MovementReportServiceTest {
+
+	// A Monday
+	private static final LocalDate WEEK_START = LocalDate.of(2024, 3, 4);
+
+	@Mock
+	InventoryMovementDailyRollupRepository rollupRepository;
+
+	@Mock
+	InventoryItemService inventoryItemService;
+
+	@InjectMocks
+	MovementReportService movementReportService;
+
+	@Test
+	@DisplayName("getMovementTotals should return the daily rollups of every item and type by default")
+	void getMovementTotals_ShouldReturnDailyTotals() {
+		// Arrange
+		List<MovementReportRow> daily = List.of(
+			new MovementReportRow(WEEK_START, InventoryMovementType.SALE, 2, 5)
+		);
+		when(rollupRepository.findDailyTotals(WEEK_START, WEEK_START, List.of(InventoryMovementType.values())))
+			.thenReturn(daily);
+
+		// Act
+		List<MovementReportRow> result = movementReportService.getMovementTotals(
+			WEEK_START, WEEK_START, MovementReportPeriod.DAY, List.of(), null
+		);
+
+		// Assert
+		assertThat(result).isEqualTo(daily);
+		verifyNoInteractions(inventoryItemService);
+	}
+
+	@Test
+	@DisplayName("getMovementTotals should add up the days of each week per movement type")
+	void getMovementTotals_ShouldTotalPerWeek() {
+		// Arrange
+		LocalDate to = WEEK_START.plusDays(13);
+		List<InventoryMovementType> types = List.of(InventoryMovementType.SALE, InventoryMovementType.RECEIVE);
+
+		when(rollupRepository.findDailyTotals(WEEK_START, to, types))
+			.thenReturn(List.of(
+				new MovementReportRow(WEEK_START, InventoryMovementType.SALE, 2, 5),
+				new MovementReportRow(WEEK_START.plusDays(2), InventoryMovementType.RECEIVE, 1, 40),
+				new MovementReportRow(WEEK_START.plusDays(6), InventoryMovementType.SALE, 1, 3),
+				new MovementReportRow(WEEK_START.plusDays(7), InventoryMovementType.SALE, 4, 4)
+			));
+
+		// Act
+		List<MovementReportRow> result = movementReportService.getMovementTotals(
+			WEEK_START, to, MovementReportPeriod.WEEK, types, null
+		);
+
+		// Assert
+		assertThat(result).containsExactly(
+			new MovementReportRow(WEEK_START, InventoryMovementType.RECEIVE, 1, 40),
+			new MovementReportRow(WEEK_START, InventoryMovementType.SALE, 3, 8),
+			new MovementReportRow(WEEK_START.plusDays(7), InventoryMovementType.SALE, 4, 4)
+		);
+	}
+
+	@Test
+	@DisplayName("getMovementTotals should read one item's rollups after checking it exists")
+	void getMovementTotals_ShouldReadItemRollups_WhenItemGiven() {
+		// Arrange
+		List<InventoryMovementType> types = List.of(InventoryMovementType.SALE);
+
+		when(rollupRepository.findDailyTotalsForItem(7L, WEEK_START, WEEK_START.plusDays(40), types))
+			.thenReturn(List.of(
+				new MovementReportRow(WEEK_START.minusDays(3), InventoryMovementType.SALE, 1, 1),
+				new MovementReportRow(WEEK_START.plusDays(30), InventoryMovementType.SALE, 1, 2)
+			));
+
+		// Act
+		List<MovementReportRow> result = movementReportService.getMovementTotals(
+			WEEK_START, WEEK_START.plusDays(40), MovementReportPeriod.MONTH, types, 7L
+		);
+
+		// Assert
+		assertThat(result)
+			.extracting(MovementReportRow::periodStart)
+			.containsExactly(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 1));
+		verify(inventoryItemService).getInventoryItemById(7L);
+	}
+
+	@Test
+	@DisplayName("getMovementTotals should throw when the item does not exist")
+	void getMovementTotals_ShouldThrow_WhenItemDoesNotExist() {
+		// Arrange
+		when(inventoryItemService.getInventoryItemById(99L))
+			.thenThrow(new ResourceNotFoundException("Inventory item not found 99"));
+
+		// Act & Assert
+		assertThatThrownBy(() -> movementReportService.getMovementTotals(
+			WEEK_START, WEEK_START, MovementReportPeriod.DAY, List.of(), 99L
+		)).isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	@Test
+	@DisplayName("getMovementTotals should throw when the range ends before it starts")
+	void getMovementTotals_ShouldThrow_WhenRangeIsReversed() {
+		// Act & Assert
+		assertThatThrownBy(() -> movementReportService.getMovementTotals(
+			WEEK_START, WEEK_START.minusDays(1), MovementReportPeriod.DAY, List.of(), null
+		)).isInstanceOf(InvalidReportRangeException.class);
+
+		verifyNoInteractions(rollupRepository);
+	}
+}
@@ -0,0 +1,135 @@
+package com.jakeclara.inventorytracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.jakeclara.inventorytracker.dto.MovementReportRow;
+import com.jakeclara.inventorytracker.model.InventoryItem;
+import com.jakeclara.inventorytracker.model.InventoryMovement;
+import com.jakeclara.inventorytracker.model.InventoryMovementType;
+import com.jakeclara.inventorytracker.model.User;
+import com.jakeclara.inventorytracker.model.UserRole;
+import com.jakeclara.inventorytracker.repository.InventoryItemRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementDailyRollupRepository;
+import com.jakeclara.inventorytracker.repository.InventoryMovementRepository;
+import com.jakeclara.inventorytracker.repository.UserRepository;
+import com.jakeclara.inventorytracker.util.TestInventoryItemFactory;
+import com.jakeclara.inventorytracker.util.TestInventoryMovementFactory;
+
+// One item per range, so the ranges are rebuilt in parallel
+@SpringBootTest(properties = "inventory.movement-rollup.rebuild-chunk-size=1")
+class MovementRollupServiceTest {
+
+	private static final LocalDate DAY = LocalDate.of(2024, 3, 4);
+
+	@Autowired
+	private MovementRollupService movementRollupService;
+
+	@Autowired
+	private InventoryMovementDailyRollupRepository rollupRepository;
+
+	@Autowired
+	private InventoryItemRepository inventoryItemRepository;
+
+	@Autowired
+	private InventoryMovementRepository inventoryMovementRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private User user;
+	private List<InventoryItem> items;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(new User("rollup_admin", "TestPassword123!", UserRole.ADMIN));
+		items = inventoryItemRepository.saveAll(List.of(
+			TestInventoryItemFactory.createItem("Item A", "Description A", 5),
+			TestInventoryItemFactory.createItem("Item B", "Description B", 5),
+			TestInventoryItemFactory.createItem("Item C", "Description C", 5)
+		));
+	}
+
+	@AfterEach
+	void tearDown() {
+		rollupRepository.deleteAll();
+		inventoryMovementRepository.deleteAll();
+		inventoryItemRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	private InventoryMovement movement(InventoryItem item, InventoryMovementType type, int quantity, LocalDate date) {
+		return TestInventoryMovementFactory.createInventoryMovement(item, quantity, type, date, user);
+	}
+
+	private List<MovementReportRow> dailyTotals() {
+		return rollupRepository.findDailyTotals(
+			LocalDate.of(2000, 1, 1),
+			LocalDate.now(),
+			EnumSet.allOf(InventoryMovementType.class)
+		);
+	}
+
+	@Test
+	@DisplayName("rebuild should recompute every item's rollups from the ledger")
+	void rebuild_ShouldRecomputeRollupsFromLedger() {
+		// Arrange
+		inventoryMovementRepository.saveAll(List.of(
+			movement(items.get(0), InventoryMovementType.RECEIVE, 10, DAY),
+			movement(items.get(1), InventoryMovementType.RECEIVE, 5, DAY),
+			movement(items.get(2), InventoryMovementType.SALE, 2, DAY),
+			movement(items.get(2), InventoryMovementType.SALE, 1, DAY.plusDays(1))
+		));
+		// Drifted rollup, to be replaced
+		movementRollupService.recordMovement(movement(items.get(0), InventoryMovementType.RECEIVE, 70, DAY));
+
+		// Act
+		int rebuilt = movementRollupService.rebuild();
+
+		// Assert
+		assertThat(rebuilt).isEqualTo(4);
+		assertThat(dailyTotals())
+			.extracting(MovementReportRow::periodStart, MovementReportRow::movementType, MovementReportRow::totalQuantity)
+			.containsExactly(
+				tuple(DAY, InventoryMovementType.RECEIVE, 15L),
+				tuple(DAY, InventoryMovementType.SALE, 2L),
+				tuple(DAY.plusDays(1), InventoryMovementType.SALE, 1L)
+			);
+	}
+
+	@Test
+	@DisplayName("rebuild should keep the rollups of movements compacted out of the ledger")
+	void rebuild_ShouldKeepRollupsBeforeCarryForward() {
+		// Arrange
+		InventoryMovement carriedForward = movement(items.get(0), InventoryMovementType.OPENING_BALANCE, 8, DAY);
+		carriedForward.setReference(LedgerCompactionService.COMPACTION_REFERENCE);
+		inventoryMovementRepository.saveAll(List.of(
+			carriedForward,
+			movement(items.get(0), InventoryMovementType.SALE, 3, DAY.plusDays(2))
+		));
+		// Rollup of a movement compacted into the carried-forward balance
+		movementRollupService.recordMovement(movement(items.get(0), InventoryMovementType.RECEIVE, 8, DAY.minusDays(20)));
+
+		// Act
+		movementRollupService.rebuild();
+
+		// Assert
+		assertThat(dailyTotals())
+			.extracting(MovementReportRow::periodStart, MovementReportRow::movementType, MovementReportRow::totalQuantity)
+			.containsExactly(
+				tuple(DAY.minusDays(20), InventoryMovementType.RECEIVE, 8L),
+				tuple(DAY.plusDays(2), InventoryMovementType.SALE, 3L)
+			);
+	}
+}